@@ -0,0 +1,57 @@
+package com.barangay.application.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-request outcome of a bulk document request status change.
+ */
+public class BulkStatusUpdateResultDto {
+    private final List<Item> items;
+
+    public BulkStatusUpdateResultDto(List<Item> items) {
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    /**
+     * One entry per distinct requested ID, in the order given
+     */
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public long getUpdatedCount() {
+        return items.stream().filter(Item::isUpdated).count();
+    }
+
+    public long getSkippedCount() {
+        return items.size() - getUpdatedCount();
+    }
+
+    /**
+     * Outcome for one request; skipped requests carry the reason.
+     */
+    public static class Item {
+        private final String requestId;
+        private final boolean updated;
+        private final String message;
+
+        public Item(String requestId, boolean updated, String message) {
+            this.requestId = requestId;
+            this.updated = updated;
+            this.message = message;
+        }
+
+        public String getRequestId() {
+            return requestId;
+        }
+
+        public boolean isUpdated() {
+            return updated;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.barangay.application.dto;
+
+import com.barangay.domain.entities.UserRole;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Every number shown on the staff dashboard, read in one go.
+ */
+public class DashboardSummaryDto {
+    private final ResidentStatisticsDto residents;
+    private final DocumentStatisticsDto documents;
+    private final DocumentRequestCountsDto documentRequests;
+    private final int pendingApplications;
+    private final int scheduledApplications;
+    private final int verifiedApplications;
+    private final Map<UserRole, Integer> usersByRole;
+
+    public DashboardSummaryDto(ResidentStatisticsDto residents, DocumentStatisticsDto documents,
+            DocumentRequestCountsDto documentRequests, int pendingApplications,
+            int scheduledApplications, int verifiedApplications, Map<UserRole, Integer> usersByRole) {
+        this.residents = residents;
+        this.documents = documents;
+        this.documentRequests = documentRequests;
+        this.pendingApplications = pendingApplications;
+        this.scheduledApplications = scheduledApplications;
+        this.verifiedApplications = verifiedApplications;
+        this.usersByRole = Collections.unmodifiableMap(new EnumMap<>(usersByRole));
+    }
+
+    public ResidentStatisticsDto getResidents() {
+        return residents;
+    }
+
+    public DocumentStatisticsDto getDocuments() {
+        return documents;
+    }
+
+    public DocumentRequestCountsDto getDocumentRequests() {
+        return documentRequests;
+    }
+
+    public int getPendingApplications() {
+        return pendingApplications;
+    }
+
+    public int getScheduledApplications() {
+        return scheduledApplications;
+    }
+
+    public int getVerifiedApplications() {
+        return verifiedApplications;
+    }
+
+    public int getUserCount(UserRole role) {
+        return usersByRole.getOrDefault(role, 0);
+    }
+}
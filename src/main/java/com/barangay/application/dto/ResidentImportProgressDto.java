@@ -0,0 +1,87 @@
+package com.barangay.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the progress of a resident import, reported after each committed
+ * batch and returned when the run ends. Row counts include rows committed
+ * by earlier runs of the same file; the rate covers this run only.
+ */
+public class ResidentImportProgressDto {
+    private final long rowsProcessed;
+    private final long imported;
+    private final long duplicates;
+    private final long rejected;
+    private final long resumedFromRow;
+    private final long elapsedMillis;
+    private final List<String> errors;
+    private final boolean finished;
+    private final boolean cancelled;
+
+    public ResidentImportProgressDto(long rowsProcessed, long imported, long duplicates, long rejected,
+            long resumedFromRow, long elapsedMillis, List<String> errors, boolean finished, boolean cancelled) {
+        this.rowsProcessed = rowsProcessed;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.resumedFromRow = resumedFromRow;
+        this.elapsedMillis = elapsedMillis;
+        this.errors = List.copyOf(errors);
+        this.finished = finished;
+        this.cancelled = cancelled;
+    }
+
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Data rows skipped because an earlier run already committed them.
+     */
+    public long getResumedFromRow() {
+        return resumedFromRow;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        long rows = rowsProcessed - resumedFromRow;
+        return elapsedMillis == 0 ? 0 : rows * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * Reasons for rejected rows, by line number; capped so a badly
+     * formatted file cannot exhaust memory.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rows=%d, imported=%d, duplicates=%d, rejected=%d, rowsPerSecond=%.0f",
+                rowsProcessed, imported, duplicates, rejected, getRowsPerSecond());
+    }
+}
@@ -1,5 +1,9 @@
 package com.barangay.application.dto;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * DTO for resident statistics
  * Module 7: Reports & Analytics
@@ -10,14 +14,29 @@ public class ResidentStatisticsDto {
     private final int maleCount;
     private final int femaleCount;
     private final int registeredVoters;
+    private final Map<String, Integer> activeByPurok;
+    private final Map<String, Integer> activeByAgeBracket;
 
     public ResidentStatisticsDto(int totalResidents, int activeResidents,
             int maleCount, int femaleCount, int registeredVoters) {
+        this(totalResidents, activeResidents, maleCount, femaleCount, registeredVoters,
+                Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * @param activeByPurok      active residents per purok, in purok order
+     * @param activeByAgeBracket active residents per age bracket label, youngest first
+     */
+    public ResidentStatisticsDto(int totalResidents, int activeResidents,
+            int maleCount, int femaleCount, int registeredVoters,
+            Map<String, Integer> activeByPurok, Map<String, Integer> activeByAgeBracket) {
         this.totalResidents = totalResidents;
         this.activeResidents = activeResidents;
         this.maleCount = maleCount;
         this.femaleCount = femaleCount;
         this.registeredVoters = registeredVoters;
+        this.activeByPurok = Collections.unmodifiableMap(new LinkedHashMap<>(activeByPurok));
+        this.activeByAgeBracket = Collections.unmodifiableMap(new LinkedHashMap<>(activeByAgeBracket));
     }
 
     public int getTotalResidents() {
@@ -39,4 +58,12 @@ public class ResidentStatisticsDto {
     public int getRegisteredVoters() {
         return registeredVoters;
     }
+
+    public Map<String, Integer> getActiveByPurok() {
+        return activeByPurok;
+    }
+
+    public Map<String, Integer> getActiveByAgeBracket() {
+        return activeByAgeBracket;
+    }
 }
@@ -0,0 +1,7 @@
+package com.barangay.application.events;
+
+/**
+ * The barangay information, seal or dashboard images were updated.
+ */
+public class BarangayInfoChangedEvent extends DomainEvent {
+}
@@ -0,0 +1,33 @@
+package com.barangay.application.events;
+
+import com.barangay.domain.entities.ResidentId;
+
+/**
+ * A document was issued, possibly fulfilling a document request.
+ */
+public class DocumentIssuedEvent extends DomainEvent {
+    private final String reference;
+    private final ResidentId residentId;
+    private final String requestId;
+
+    public DocumentIssuedEvent(String reference, ResidentId residentId, String requestId) {
+        this.reference = reference;
+        this.residentId = residentId;
+        this.requestId = requestId;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+
+    /**
+     * The request marked issued along with the document, or {@code null}.
+     */
+    public String getRequestId() {
+        return requestId;
+    }
+}
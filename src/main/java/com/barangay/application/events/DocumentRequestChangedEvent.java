@@ -0,0 +1,31 @@
+package com.barangay.application.events;
+
+import com.barangay.domain.entities.DocumentRequestStatus;
+import com.barangay.domain.entities.ResidentId;
+
+/**
+ * A document request was submitted or changed status.
+ */
+public class DocumentRequestChangedEvent extends DomainEvent {
+    private final String requestId;
+    private final ResidentId residentId;
+    private final DocumentRequestStatus status;
+
+    public DocumentRequestChangedEvent(String requestId, ResidentId residentId, DocumentRequestStatus status) {
+        this.requestId = requestId;
+        this.residentId = residentId;
+        this.status = status;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+
+    public DocumentRequestStatus getStatus() {
+        return status;
+    }
+}
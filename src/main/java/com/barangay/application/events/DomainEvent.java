@@ -0,0 +1,16 @@
+package com.barangay.application.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Base class of the change notifications published by use cases after
+ * their changes are saved. Events carry identifiers, not entities;
+ * subscribers load whatever they need.
+ */
+public abstract class DomainEvent {
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
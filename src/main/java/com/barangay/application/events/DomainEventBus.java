@@ -0,0 +1,89 @@
+package com.barangay.application.events;
+
+import com.barangay.application.ports.IUnitOfWork;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-process publish/subscribe for {@link DomainEvent}s. Use cases publish
+ * after their changes are saved; screens and caches subscribe to keep up
+ * without reloading everything.
+ * <p>
+ * Handlers run synchronously on the publishing thread, usually a use case
+ * worker, so UI subscribers must hand off to the FX thread. A failing
+ * handler is logged and does not affect the publisher or other handlers.
+ * Events published inside a unit of work are held until it commits and
+ * dropped if it rolls back.
+ */
+public class DomainEventBus {
+    private static final Logger LOGGER = Logger.getLogger(DomainEventBus.class.getName());
+
+    private final List<Handler<?>> handlers = new CopyOnWriteArrayList<>();
+    private final IUnitOfWork unitOfWork;
+
+    /**
+     * Bus that delivers every event as soon as it is published.
+     */
+    public DomainEventBus() {
+        this(null);
+    }
+
+    public DomainEventBus(IUnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
+    }
+
+    /**
+     * Call {@code handler} for every published event of {@code type},
+     * including subclasses; {@code DomainEvent.class} receives all events.
+     */
+    public <E extends DomainEvent> Subscription subscribe(Class<E> type, Consumer<? super E> handler) {
+        Handler<E> entry = new Handler<>(type, handler);
+        handlers.add(entry);
+        return () -> handlers.remove(entry);
+    }
+
+    public void publish(DomainEvent event) {
+        if (unitOfWork != null) {
+            unitOfWork.afterCommit(() -> dispatch(event));
+        } else {
+            dispatch(event);
+        }
+    }
+
+    private void dispatch(DomainEvent event) {
+        for (Handler<?> handler : handlers) {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Event handler failed for " + event.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    /**
+     * Handle to stop receiving events, e.g. when a screen is discarded.
+     */
+    public interface Subscription {
+        void cancel();
+    }
+
+    private static final class Handler<E extends DomainEvent> {
+        private final Class<E> type;
+        private final Consumer<? super E> consumer;
+
+        Handler(Class<E> type, Consumer<? super E> consumer) {
+            this.type = type;
+            this.consumer = consumer;
+        }
+
+        void accept(DomainEvent event) {
+            if (type.isInstance(event)) {
+                consumer.accept(type.cast(event));
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.barangay.application.events;
+
+/**
+ * An official was registered, edited or ended their term, or their photo
+ * changed.
+ */
+public class OfficialChangedEvent extends DomainEvent {
+    private final String officialId;
+
+    public OfficialChangedEvent(String officialId) {
+        this.officialId = officialId;
+    }
+
+    public String getOfficialId() {
+        return officialId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.barangay.application.events;
+
+import com.barangay.domain.entities.ResidentId;
+
+/**
+ * A resident was registered, edited, deactivated or reactivated, or became
+ * a registered voter.
+ */
+public class ResidentChangedEvent extends DomainEvent {
+    private final ResidentId residentId;
+
+    public ResidentChangedEvent(ResidentId residentId) {
+        this.residentId = residentId;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.barangay.application.events;
+
+/**
+ * A batch of residents was added by a bulk import. Published once per
+ * committed batch rather than once per resident.
+ */
+public class ResidentsImportedEvent extends DomainEvent {
+    private final int count;
+
+    public ResidentsImportedEvent(int count) {
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,19 @@
+package com.barangay.application.events;
+
+import com.barangay.domain.valueobjects.UserId;
+
+/**
+ * A user account was created, deactivated, reactivated or changed role or
+ * profile.
+ */
+public class UserChangedEvent extends DomainEvent {
+    private final UserId userId;
+
+    public UserChangedEvent(UserId userId) {
+        this.userId = userId;
+    }
+
+    public UserId getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.barangay.application.events;
+
+import com.barangay.domain.entities.ApplicationStatus;
+import com.barangay.domain.entities.ResidentId;
+
+/**
+ * A voter application was submitted, reviewed, scheduled or verified.
+ */
+public class VoterApplicationChangedEvent extends DomainEvent {
+    private final String applicationId;
+    private final ResidentId residentId;
+    private final ApplicationStatus status;
+
+    public VoterApplicationChangedEvent(String applicationId, ResidentId residentId, ApplicationStatus status) {
+        this.applicationId = applicationId;
+        this.residentId = residentId;
+        this.status = status;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,50 @@
+package com.barangay.application.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV in UTF-8 with a byte order mark, so spreadsheet programs
+ * keep accented names intact. Files written here can be read back by
+ * {@link com.barangay.application.services.CsvReader}.
+ */
+class CsvTableWriter implements TableWriter {
+    private final Writer writer;
+
+    CsvTableWriter(OutputStream out) throws IOException {
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(List<String> cells) throws IOException {
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCell(cells.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeCell(String cell) throws IOException {
+        boolean quote = cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0
+                || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(cell);
+            return;
+        }
+        writer.write('"');
+        writer.write(cell.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,36 @@
+package com.barangay.application.export;
+
+import java.util.function.Function;
+
+/**
+ * One column an export can include: its header and how to read the cell
+ * text from a row. A {@code null} cell is written empty.
+ *
+ * @param <T> row type
+ */
+public class ExportColumn<T> {
+    private final String header;
+    private final Function<? super T, ?> value;
+
+    public ExportColumn(String header, Function<? super T, ?> value) {
+        this.header = header;
+        this.value = value;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public String valueOf(T row) {
+        Object cell = value.apply(row);
+        if (cell == null) {
+            return "";
+        }
+        return cell instanceof Enum ? ((Enum<?>) cell).name() : cell.toString();
+    }
+
+    @Override
+    public String toString() {
+        return header;
+    }
+}
@@ -0,0 +1,29 @@
+package com.barangay.application.export;
+
+import java.util.Locale;
+
+/**
+ * File formats an export can be written in.
+ */
+public enum ExportFormat {
+    CSV("csv"),
+    XLSX("xlsx");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * The format matching the file name's extension; CSV when it has none
+     * that is known.
+     */
+    public static ExportFormat fromFileName(String fileName) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith("." + XLSX.extension) ? XLSX : CSV;
+    }
+}
@@ -0,0 +1,78 @@
+package com.barangay.application.export;
+
+import com.barangay.application.services.AtomicFileWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes rows pushed by a repository cursor straight to a file, one row at
+ * a time, so memory use does not depend on how many rows are exported.
+ * Output goes through {@link AtomicFileWriter}, so a failed export leaves
+ * no partial file.
+ */
+public final class TableExporter {
+    private static final int PROGRESS_INTERVAL_ROWS = 250;
+
+    private TableExporter() {
+    }
+
+    /**
+     * Called on the exporting thread as rows are written.
+     */
+    public interface ProgressListener {
+        void onProgress(long rowsWritten, long totalRows);
+    }
+
+    /**
+     * Export the rows {@code source} passes to its consumer.
+     *
+     * @param totalRows expected row count for progress, e.g. from a count
+     *                  query with the same filter
+     * @return number of rows written, not counting the header
+     */
+    public static <T> long export(Path target, ExportFormat format, List<ExportColumn<T>> columns,
+            long totalRows, Consumer<Consumer<T>> source, ProgressListener progress) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Select at least one column to export");
+        }
+        long[] written = { 0 };
+
+        try {
+            AtomicFileWriter.write(target, out -> {
+                try (TableWriter writer = TableWriter.open(out, format)) {
+                    List<String> cells = new ArrayList<>(columns.size());
+                    for (ExportColumn<T> column : columns) {
+                        cells.add(column.getHeader());
+                    }
+                    writer.writeRow(cells);
+                    progress.onProgress(0, totalRows);
+
+                    source.accept(row -> {
+                        cells.clear();
+                        for (ExportColumn<T> column : columns) {
+                            cells.add(column.valueOf(row));
+                        }
+                        try {
+                            writer.writeRow(cells);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        if (++written[0] % PROGRESS_INTERVAL_ROWS == 0) {
+                            progress.onProgress(written[0], Math.max(totalRows, written[0]));
+                        }
+                    });
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Failed to write export file", e);
+        }
+
+        progress.onProgress(written[0], written[0]);
+        return written[0];
+    }
+}
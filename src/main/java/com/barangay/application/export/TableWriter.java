@@ -0,0 +1,18 @@
+package com.barangay.application.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes rows of text cells to a stream one at a time, without keeping
+ * earlier rows. Closing finishes the file and closes the stream.
+ */
+public interface TableWriter extends Closeable {
+    void writeRow(List<String> cells) throws IOException;
+
+    static TableWriter open(OutputStream out, ExportFormat format) throws IOException {
+        return format == ExportFormat.XLSX ? new XlsxTableWriter(out) : new CsvTableWriter(out);
+    }
+}
@@ -0,0 +1,83 @@
+package com.barangay.application.ports;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Layout-independent content of an issued document, composed by an
+ * {@link IDocumentGenerator} and laid out by a renderer such as the PDF
+ * one: a title, the reference, body paragraphs, labelled fields and the
+ * issuing officer.
+ */
+public class DocumentContent {
+    private final String title;
+    private final String referenceLabel;
+    private final String reference;
+    private final List<String> paragraphs;
+    private final List<Field> fields;
+    private final String issuedBy;
+    private final boolean signatureLine;
+
+    public DocumentContent(String title, String referenceLabel, String reference, List<String> paragraphs,
+            List<Field> fields, String issuedBy, boolean signatureLine) {
+        this.title = title;
+        this.referenceLabel = referenceLabel;
+        this.reference = reference;
+        this.paragraphs = Collections.unmodifiableList(paragraphs);
+        this.fields = Collections.unmodifiableList(fields);
+        this.issuedBy = issuedBy;
+        this.signatureLine = signatureLine;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getReferenceLabel() {
+        return referenceLabel;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public List<String> getParagraphs() {
+        return paragraphs;
+    }
+
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    public String getIssuedBy() {
+        return issuedBy;
+    }
+
+    /**
+     * Whether the document ends with a line for the authorized signature
+     */
+    public boolean hasSignatureLine() {
+        return signatureLine;
+    }
+
+    /**
+     * Labelled value, e.g. "Valid Until".
+     */
+    public static class Field {
+        private final String label;
+        private final String value;
+
+        public Field(String label, String value) {
+            this.label = label;
+            this.value = value;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.barangay.application.ports;
+
+import com.barangay.domain.entities.Document;
+import com.barangay.domain.entities.Resident;
+
+/**
+ * An issued document together with the resident it was issued to, ready
+ * for rendering.
+ */
+public class DocumentRenderJob {
+    private final Document document;
+    private final Resident resident;
+
+    public DocumentRenderJob(Document document, Resident resident) {
+        this.document = document;
+        this.resident = resident;
+    }
+
+    public Document getDocument() {
+        return document;
+    }
+
+    public Resident getResident() {
+        return resident;
+    }
+}
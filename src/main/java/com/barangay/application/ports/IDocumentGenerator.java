@@ -13,6 +13,12 @@ public interface IDocumentGenerator {
      */
     String generateContent(Document document, Resident resident);
 
+    /**
+     * Same content as {@link #generateContent}, structured for layout by a
+     * renderer
+     */
+    DocumentContent compose(Document document, Resident resident);
+
     /**
      * Validate document-specific requirements
      */
@@ -0,0 +1,35 @@
+package com.barangay.application.ports;
+
+import com.barangay.domain.entities.BarangayInfo;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Port interface for printable renderings of issued documents, laid out
+ * from the content their {@link IDocumentGenerator} composes under the
+ * barangay letterhead ({@code null} for a plain header).
+ */
+public interface IDocumentRenderer {
+    /**
+     * Render one document as PDF into {@code out}, which is left open
+     */
+    void render(DocumentRenderJob job, BarangayInfo letterhead, OutputStream out);
+
+    /**
+     * Render the documents in parallel and write them, in the order given,
+     * to one PDF; the target is replaced only once the whole file is written
+     *
+     * @return number of documents written
+     */
+    int renderMerged(List<DocumentRenderJob> jobs, BarangayInfo letterhead, Path target);
+
+    /**
+     * Render the documents in parallel, one PDF per document named after its
+     * reference, into {@code directory}
+     *
+     * @return number of documents written
+     */
+    int renderToDirectory(List<DocumentRenderJob> jobs, BarangayInfo letterhead, Path directory);
+}
@@ -0,0 +1,24 @@
+package com.barangay.application.ports;
+
+import java.util.Optional;
+
+/**
+ * Port interface for remembering how far an import got, so a failed or
+ * cancelled run can resume after its last committed batch.
+ */
+public interface IImportCheckpointStore {
+    /**
+     * The checkpoint recorded for the source, if a run did not finish
+     */
+    Optional<ImportCheckpoint> find(String sourceKey);
+
+    /**
+     * Record progress after a batch has been committed
+     */
+    void save(ImportCheckpoint checkpoint);
+
+    /**
+     * Forget the source once its import has finished
+     */
+    void delete(String sourceKey);
+}
@@ -0,0 +1,43 @@
+package com.barangay.application.ports;
+
+import java.util.function.Supplier;
+
+/**
+ * Port interface for running several repository calls as one atomic unit.
+ * Repositories used inside the unit share its transaction; it commits once
+ * when the work returns and rolls back if the work throws. A unit started
+ * inside another one joins the outer unit.
+ */
+public interface IUnitOfWork {
+    /**
+     * Run {@code work} in a unit and return its result
+     */
+    <T> T execute(Supplier<T> work);
+
+    /**
+     * Run {@code work} in a unit
+     */
+    default void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Whether the calling thread is inside a unit
+     */
+    boolean isActive();
+
+    /**
+     * Run {@code action} once the current unit has committed; dropped if it
+     * rolls back. Runs immediately outside a unit
+     */
+    void afterCommit(Runnable action);
+
+    /**
+     * Run {@code action} once the current unit has committed or rolled
+     * back. Runs immediately outside a unit
+     */
+    void afterCompletion(Runnable action);
+}
@@ -0,0 +1,50 @@
+package com.barangay.application.ports;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of an import as of its last committed batch: how many data rows
+ * of the source have been handled and what became of them.
+ */
+public class ImportCheckpoint {
+    private final String sourceKey;
+    private final long rowsCommitted;
+    private final long imported;
+    private final long duplicates;
+    private final long rejected;
+    private final LocalDateTime updatedAt;
+
+    public ImportCheckpoint(String sourceKey, long rowsCommitted, long imported, long duplicates, long rejected,
+            LocalDateTime updatedAt) {
+        this.sourceKey = sourceKey;
+        this.rowsCommitted = rowsCommitted;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getSourceKey() {
+        return sourceKey;
+    }
+
+    public long getRowsCommitted() {
+        return rowsCommitted;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -1,6 +1,6 @@
 package com.barangay.application.services;
 
-import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
@@ -13,11 +13,9 @@ import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.InvalidPathException;
-import java.nio.file.Path;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
@@ -26,17 +24,38 @@ import java.util.Objects;
 
 /**
  * Generates a PDF appointment slip using iText.
+ * Decoded seal images come from a shared {@link ImageDataCache}.
  */
 public class AppointmentSlipGenerator {
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy");
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("h:mm a");
     private static final float SEAL_MAX_SIZE_POINTS = 105f; // ~1.5 inches at 72 DPI
 
+    private final ImageDataCache sealImages;
+
+    public AppointmentSlipGenerator(ImageDataCache sealImages) {
+        this.sealImages = sealImages;
+    }
+
+    /**
+     * Render the slip into memory, for previews; files should be written with
+     * {@link #generate(AppointmentSlipData, OutputStream)} instead
+     */
     public byte[] generate(AppointmentSlipData data) {
-        Objects.requireNonNull(data, "Appointment slip data is required");
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (PdfWriter writer = new PdfWriter(out);
-                PdfDocument pdf = new PdfDocument(writer);
+        generate(data, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Render the slip straight into {@code out}, which is left open
+     */
+    public void generate(AppointmentSlipData data, OutputStream out) {
+        Objects.requireNonNull(data, "Appointment slip data is required");
+        Objects.requireNonNull(out, "Output stream is required");
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
+        try (PdfDocument pdf = new PdfDocument(writer);
                 Document document = new Document(pdf)) {
             document.setMargins(40, 40, 40, 40);
 
@@ -44,10 +63,18 @@ public class AppointmentSlipGenerator {
             addApplicantSection(document, data);
             addAppointmentSection(document, data);
             addReminders(document, data);
-        } catch (IOException ex) {
+        } catch (PdfException ex) {
             throw new IllegalStateException("Failed to generate appointment slip PDF", ex);
         }
-        return out.toByteArray();
+    }
+
+    /**
+     * Render the slip straight into {@code channel}, which is left open
+     */
+    public void generate(AppointmentSlipData data, WritableByteChannel channel) {
+        Objects.requireNonNull(channel, "Channel is required");
+        // Not closed: closing a channel stream closes the channel as well
+        generate(data, Channels.newOutputStream(channel));
     }
 
     private void addHeader(Document document, AppointmentSlipData data) {
@@ -93,65 +120,7 @@ public class AppointmentSlipGenerator {
     }
 
     private Image loadBarangaySeal(String sealPath) {
-        if (sealPath == null) {
-            return null;
-        }
-        String normalized = sealPath.trim();
-        if (normalized.isEmpty()) {
-            return null;
-        }
-
-        Image fileImage = tryLoadFromFile(normalized);
-        if (fileImage != null) {
-            return fileImage;
-        }
-
-        Image image = tryLoadImage(normalized);
-        if (image == null && !normalized.startsWith("/")) {
-            image = tryLoadImage("/" + normalized);
-        }
-        if (image == null && normalized.startsWith("/")) {
-            image = tryLoadImage(normalized.substring(1));
-        }
-        return image;
-    }
-
-    private Image tryLoadFromFile(String pathValue) {
-        try {
-            Path path = Path.of(pathValue);
-            if (!Files.exists(path)) {
-                return null;
-            }
-            return new Image(ImageDataFactory.create(path.toAbsolutePath().toString()));
-        } catch (InvalidPathException | IOException ex) {
-            return null;
-        }
-    }
-
-    private Image tryLoadImage(String resourcePath) {
-        if (resourcePath == null || resourcePath.isEmpty()) {
-            return null;
-        }
-        InputStream stream = AppointmentSlipGenerator.class.getResourceAsStream(resourcePath);
-        if (stream == null) {
-            ClassLoader loader = Thread.currentThread().getContextClassLoader();
-            if (loader == null) {
-                loader = AppointmentSlipGenerator.class.getClassLoader();
-            }
-            if (loader != null) {
-                String trimmed = resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath;
-                stream = loader.getResourceAsStream(trimmed);
-            }
-        }
-        if (stream == null) {
-            return null;
-        }
-        try (InputStream ignored = stream) {
-            byte[] imageBytes = stream.readAllBytes();
-            return new Image(ImageDataFactory.create(imageBytes));
-        } catch (IOException ex) {
-            return null;
-        }
+        return sealImages.get(sealPath).map(Image::new).orElse(null);
     }
 
     private void addApplicantSection(Document document, AppointmentSlipData data) {
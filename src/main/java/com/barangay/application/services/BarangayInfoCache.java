@@ -0,0 +1,78 @@
+package com.barangay.application.services;
+
+import com.barangay.domain.entities.BarangayInfo;
+import com.barangay.domain.repositories.IBarangayInfoRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds the barangay information row in memory. It is read by most screens
+ * and every appointment slip but changes only through
+ * {@link com.barangay.application.usecases.UpdateBarangayInfoUseCase}, which
+ * calls {@link #invalidate()} after saving.
+ * <p>
+ * Callers get their own copy, so editing it does not touch the cached row.
+ * Listeners drop anything derived from the row, such as decoded seal and
+ * dashboard images. Thread-safe.
+ */
+public class BarangayInfoCache {
+    private final IBarangayInfoRepository barangayInfoRepository;
+    private final List<Runnable> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    private Optional<BarangayInfo> cached;
+    // Bumped by invalidate() so a load that raced with it is not kept
+    private long generation;
+
+    public BarangayInfoCache(IBarangayInfoRepository barangayInfoRepository) {
+        this.barangayInfoRepository = barangayInfoRepository;
+    }
+
+    /**
+     * The barangay information, loaded on first use and after each
+     * invalidation; empty until it has been configured.
+     */
+    public Optional<BarangayInfo> get() {
+        long loadGeneration;
+        synchronized (this) {
+            if (cached != null) {
+                return cached.map(BarangayInfoCache::copy);
+            }
+            loadGeneration = generation;
+        }
+        Optional<BarangayInfo> loaded = barangayInfoRepository.get();
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                cached = loaded.map(BarangayInfoCache::copy);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Forget the cached row and notify listeners; the next {@link #get()}
+     * reads the database again.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            cached = null;
+            generation++;
+        }
+        invalidationListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Run {@code listener} after every invalidation, on the invalidating
+     * thread.
+     */
+    public void addInvalidationListener(Runnable listener) {
+        invalidationListeners.add(listener);
+    }
+
+    private static BarangayInfo copy(BarangayInfo info) {
+        return new BarangayInfo(info.getId(), info.getBarangayName(), info.getCity(), info.getProvince(),
+                info.getRegion(), info.getAddress(), info.getContactNumber(), info.getEmail(),
+                info.getSealPath(), info.getUpdatedAt(), info.getDashboardImages());
+    }
+}
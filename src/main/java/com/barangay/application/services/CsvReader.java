@@ -0,0 +1,130 @@
+package com.barangay.application.services;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV one record at a time, so a file of any size is read
+ * with constant memory. Quoted fields may contain commas, doubled quotes
+ * and line breaks; a leading byte order mark and blank lines are skipped.
+ * Not thread-safe.
+ */
+public class CsvReader implements Closeable {
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private int lookahead = NONE;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * The next record's fields, or {@code null} at the end of the input.
+     */
+    public List<String> readRecord() throws IOException {
+        if (!started) {
+            started = true;
+            if (peek() == '\uFEFF') {
+                read();
+            }
+        }
+        // Skip blank lines between records
+        while (peek() == '\r' || peek() == '\n') {
+            readLineBreak(read());
+        }
+        if (peek() == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLineNumber);
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        field.append((char) read());
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '\r' || c == '\n') {
+                    field.append(readLineBreak(c));
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    readLineBreak(c);
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Line on which the last record returned by {@link #readRecord()} began,
+     * counting from 1.
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (lookahead != NONE) {
+            int c = lookahead;
+            lookahead = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == NONE) {
+            lookahead = reader.read();
+        }
+        return lookahead;
+    }
+
+    /**
+     * Finish the line break that began with {@code c}, counting the line,
+     * and return it as read.
+     */
+    private String readLineBreak(int c) throws IOException {
+        lineNumber++;
+        if (c == '\r' && peek() == '\n') {
+            read();
+            return "\r\n";
+        }
+        return String.valueOf((char) c);
+    }
+}
@@ -0,0 +1,101 @@
+package com.barangay.application.services;
+
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded PDF images by path, shared by the PDF generators so the seal is
+ * read and decoded once rather than on every render. A path is tried as a
+ * file first and then as a classpath resource. Entries are kept until
+ * {@link #clear()}.
+ * <p>
+ * {@link ImageData} is immutable and safe to share across threads; wrap it
+ * in a new layout {@code Image} per document, as elements carry layout
+ * state.
+ */
+public class ImageDataCache {
+    private final Map<String, Optional<ImageData>> images = new ConcurrentHashMap<>();
+
+    /**
+     * The decoded image, or empty when the path is blank or cannot be read.
+     */
+    public Optional<ImageData> get(String path) {
+        if (path == null) {
+            return Optional.empty();
+        }
+        String normalized = path.trim();
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        return images.computeIfAbsent(normalized, key -> Optional.ofNullable(decode(key)));
+    }
+
+    /**
+     * Forget decoded images, e.g. after the barangay information changed.
+     */
+    public void clear() {
+        images.clear();
+    }
+
+    private ImageData decode(String normalized) {
+        ImageData fileImage = tryLoadFromFile(normalized);
+        if (fileImage != null) {
+            return fileImage;
+        }
+
+        ImageData image = tryLoadImage(normalized);
+        if (image == null && !normalized.startsWith("/")) {
+            image = tryLoadImage("/" + normalized);
+        }
+        if (image == null && normalized.startsWith("/")) {
+            image = tryLoadImage(normalized.substring(1));
+        }
+        return image;
+    }
+
+    private ImageData tryLoadFromFile(String pathValue) {
+        try {
+            Path path = Path.of(pathValue);
+            if (!Files.exists(path)) {
+                return null;
+            }
+            return ImageDataFactory.create(path.toAbsolutePath().toString());
+        } catch (InvalidPathException | IOException ex) {
+            return null;
+        }
+    }
+
+    private ImageData tryLoadImage(String resourcePath) {
+        if (resourcePath == null || resourcePath.isEmpty()) {
+            return null;
+        }
+        InputStream stream = ImageDataCache.class.getResourceAsStream(resourcePath);
+        if (stream == null) {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            if (loader == null) {
+                loader = ImageDataCache.class.getClassLoader();
+            }
+            if (loader != null) {
+                String trimmed = resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath;
+                stream = loader.getResourceAsStream(trimmed);
+            }
+        }
+        if (stream == null) {
+            return null;
+        }
+        try (InputStream in = stream) {
+            return ImageDataFactory.create(in.readAllBytes());
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
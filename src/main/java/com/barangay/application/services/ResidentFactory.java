@@ -0,0 +1,81 @@
+package com.barangay.application.services;
+
+import com.barangay.application.dto.RegisterResidentInputDto;
+import com.barangay.domain.entities.BarangayInfo;
+import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.valueobjects.Address;
+
+/**
+ * Builds residents from registration input, shared by manual registration
+ * and CSV import so both map fields the same way.
+ */
+public final class ResidentFactory {
+
+    private ResidentFactory() {
+    }
+
+    public static Resident create(ResidentId residentId, RegisterResidentInputDto input) {
+        return create(residentId, input, null);
+    }
+
+    /**
+     * @param addressDefaults barangay, city and province used where the input
+     *                        has none, or {@code null} for no defaults
+     */
+    public static Resident create(ResidentId residentId, RegisterResidentInputDto input,
+            BarangayInfo addressDefaults) {
+        Resident resident = new Resident(
+                residentId,
+                input.getFirstName(),
+                input.getLastName(),
+                input.getBirthDate(),
+                input.getGender());
+
+        resident.setMiddleName(input.getMiddleName());
+        resident.setSuffix(input.getSuffix());
+        resident.setBirthPlace(input.getBirthPlace());
+        resident.setCivilStatus(input.getCivilStatus());
+        resident.setNationality(input.getNationality());
+        resident.setContact(input.getContact());
+        resident.setOccupation(input.getOccupation());
+        resident.setEmployment(input.getEmployment());
+        resident.setIncomeBracket(input.getIncomeBracket());
+        resident.setEducationLevel(input.getEducationLevel());
+
+        Address address = toAddress(input, addressDefaults);
+        if (address != null) {
+            resident.setAddress(address);
+        }
+        return resident;
+    }
+
+    /**
+     * The input's address, or {@code null} when it has no barangay, city or
+     * province even after applying the defaults.
+     */
+    public static Address toAddress(RegisterResidentInputDto input, BarangayInfo addressDefaults) {
+        String barangay = input.getBarangay();
+        String city = input.getCity();
+        String province = input.getProvince();
+        if (addressDefaults != null) {
+            barangay = orDefault(barangay, addressDefaults.getBarangayName());
+            city = orDefault(city, addressDefaults.getCity());
+            province = orDefault(province, addressDefaults.getProvince());
+        }
+        if (barangay == null && city == null && province == null) {
+            return null;
+        }
+        return new Address(
+                input.getHouseNumber(),
+                input.getStreet(),
+                input.getPurok(),
+                barangay,
+                city,
+                province);
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -9,7 +9,7 @@ import com.barangay.domain.entities.UserRole;
  */
 public class SessionManager {
     private static SessionManager instance;
-    private User currentUser;
+    private volatile User currentUser;
 
     private SessionManager() {
     }
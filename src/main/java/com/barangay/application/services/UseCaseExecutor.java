@@ -0,0 +1,281 @@
+package com.barangay.application.services;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs use cases on a bounded worker pool so database and hashing work never
+ * blocks the UI thread. Results and errors are handed to the callback
+ * executor supplied by the presentation layer, which keeps this class free
+ * of any UI toolkit.
+ * <p>
+ * Calls submitted under the same key supersede each other: when a newer
+ * call starts, the older one is cancelled and its result is dropped even if
+ * it already finished. Every call records its queue wait and run time under
+ * its name.
+ */
+public class UseCaseExecutor {
+    private static final Logger LOGGER = Logger.getLogger(UseCaseExecutor.class.getName());
+
+    private final ThreadPoolExecutor workers;
+    private final Executor callbackExecutor;
+    private final long slowCallMillis;
+    private final Map<Object, Call<?>> latestByKey = new ConcurrentHashMap<>();
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+
+    public UseCaseExecutor(int workerCount, int queueCapacity, long slowCallMillis, Executor callbackExecutor) {
+        if (workerCount < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Worker count and queue capacity must be at least 1");
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "use-case-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.callbackExecutor = callbackExecutor;
+        this.slowCallMillis = slowCallMillis;
+    }
+
+    /**
+     * Sized from {@code barangay.executor.workers}, {@code barangay.executor.queueCapacity}
+     * and {@code barangay.executor.slowCallMillis}.
+     */
+    public static UseCaseExecutor fromSystemProperties(Executor callbackExecutor) {
+        int defaultWorkers = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        return new UseCaseExecutor(
+                Integer.getInteger("barangay.executor.workers", defaultWorkers),
+                Integer.getInteger("barangay.executor.queueCapacity", 256),
+                Long.getLong("barangay.executor.slowCallMillis", 500L),
+                callbackExecutor);
+    }
+
+    /**
+     * Run {@code work} in the background and deliver the outcome on the
+     * callback executor.
+     */
+    public <T> Call<T> submit(String name, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return submit(null, name, work, onSuccess, onError);
+    }
+
+    /**
+     * Variant of {@link #submit(String, Callable, Consumer, Consumer)} for use
+     * cases that return nothing.
+     */
+    public Call<Void> execute(String name, Runnable work, Runnable onSuccess, Consumer<Throwable> onError) {
+        return submit(null, name, () -> {
+            work.run();
+            return null;
+        }, ignored -> {
+            if (onSuccess != null) {
+                onSuccess.run();
+            }
+        }, onError);
+    }
+
+    /**
+     * Like {@link #submit(String, Callable, Consumer, Consumer)}, but cancels
+     * any earlier call made with the same key that has not delivered yet.
+     * Use one key per screen region, e.g. the controller's table load.
+     */
+    public <T> Call<T> submit(Object key, String name, Callable<T> work, Consumer<T> onSuccess,
+            Consumer<Throwable> onError) {
+        Call<T> call = new Call<>(key);
+        if (key != null) {
+            Call<?> previous = latestByKey.put(key, call);
+            if (previous != null) {
+                previous.cancel();
+            }
+        }
+        call.future = supply(name, work);
+        call.future.whenComplete((result, error) -> {
+            if (call.isCancelled()) {
+                return;
+            }
+            callbackExecutor.execute(() -> deliver(call, result, error, onSuccess, onError));
+        });
+        return call;
+    }
+
+    /**
+     * Run {@code work} in the background for composition with other calls,
+     * e.g. loading several sections of one screen in parallel. The returned
+     * future completes on a worker thread.
+     */
+    public <T> CompletableFuture<T> supply(String name, Callable<T> work) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return work.call();
+                } catch (RuntimeException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    throw new CompletionException(ex);
+                } finally {
+                    record(name, startedAt - queuedAt, System.nanoTime() - startedAt);
+                }
+            }, workers);
+        } catch (RejectedExecutionException ex) {
+            CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(new IllegalStateException(
+                    "Too many background tasks are queued; please try again", ex));
+            return rejected;
+        }
+    }
+
+    /**
+     * Per-name latency snapshot, sorted by name.
+     */
+    public Map<String, LatencyStats> getLatencyStats() {
+        Map<String, LatencyStats> stats = new TreeMap<>();
+        latencies.forEach((name, latency) -> stats.put(name, latency.snapshot()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+        if (!latencies.isEmpty()) {
+            LOGGER.info(() -> "Use case latency: " + getLatencyStats());
+        }
+    }
+
+    private <T> void deliver(Call<T> call, T result, Throwable error, Consumer<T> onSuccess,
+            Consumer<Throwable> onError) {
+        if (call.isCancelled()) {
+            return;
+        }
+        if (call.key != null) {
+            latestByKey.remove(call.key, call);
+        }
+        if (error == null) {
+            if (onSuccess != null) {
+                onSuccess.accept(result);
+            }
+            return;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        if (onError != null) {
+            onError.accept(cause);
+        } else {
+            LOGGER.log(Level.WARNING, "Background use case failed", cause);
+        }
+    }
+
+    private void record(String name, long waitNanos, long runNanos) {
+        latencies.computeIfAbsent(name, ignored -> new Latency()).add(waitNanos, runNanos);
+        long runMillis = TimeUnit.NANOSECONDS.toMillis(runNanos);
+        if (runMillis >= slowCallMillis) {
+            LOGGER.warning(() -> String.format("Slow use case '%s': ran %d ms after waiting %d ms",
+                    name, runMillis, TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+        }
+    }
+
+    /**
+     * Handle to a submitted call.
+     */
+    public static class Call<T> {
+        private final Object key;
+        private volatile boolean cancelled;
+        private volatile CompletableFuture<T> future;
+
+        private Call(Object key) {
+            this.key = key;
+        }
+
+        /**
+         * Drop the result. Work that is still queued is skipped; work that is
+         * already running finishes, but nothing is delivered.
+         */
+        public void cancel() {
+            cancelled = true;
+            CompletableFuture<T> running = future;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static class Latency {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong totalRunNanos = new AtomicLong();
+        private final AtomicLong maxRunNanos = new AtomicLong();
+
+        void add(long waitNanos, long runNanos) {
+            calls.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            totalRunNanos.addAndGet(runNanos);
+            maxRunNanos.accumulateAndGet(runNanos, Math::max);
+        }
+
+        LatencyStats snapshot() {
+            long count = calls.get();
+            return new LatencyStats(count,
+                    count == 0 ? 0 : totalWaitNanos.get() / count / 1_000,
+                    count == 0 ? 0 : totalRunNanos.get() / count / 1_000,
+                    maxRunNanos.get() / 1_000);
+        }
+    }
+
+    /**
+     * Latency totals for one use case name, in microseconds.
+     */
+    public static class LatencyStats {
+        private final long calls;
+        private final long averageWaitMicros;
+        private final long averageRunMicros;
+        private final long maxRunMicros;
+
+        public LatencyStats(long calls, long averageWaitMicros, long averageRunMicros, long maxRunMicros) {
+            this.calls = calls;
+            this.averageWaitMicros = averageWaitMicros;
+            this.averageRunMicros = averageRunMicros;
+            this.maxRunMicros = maxRunMicros;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getAverageWaitMicros() {
+            return averageWaitMicros;
+        }
+
+        public long getAverageRunMicros() {
+            return averageRunMicros;
+        }
+
+        public long getMaxRunMicros() {
+            return maxRunMicros;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("calls=%d avgWait=%dus avgRun=%dus maxRun=%dus",
+                    calls, averageWaitMicros, averageRunMicros, maxRunMicros);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.UserChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
@@ -14,10 +16,13 @@ import com.barangay.domain.valueobjects.UserId;
 public class ChangeUserRoleUseCase {
     private final IUserRepository userRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
-    public ChangeUserRoleUseCase(IUserRepository userRepository, SessionManager sessionManager) {
+    public ChangeUserRoleUseCase(IUserRepository userRepository, SessionManager sessionManager,
+            DomainEventBus eventBus) {
         this.userRepository = userRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(String targetUserId, UserRole newRole) {
@@ -55,5 +60,6 @@ public class ChangeUserRoleUseCase {
 
         targetUser.updateRole(newRole);
         userRepository.save(targetUser);
+        eventBus.publish(new UserChangedEvent(targetUser.getId()));
     }
 }
@@ -1,6 +1,8 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.CreateUserInputDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.UserChangedEvent;
 import com.barangay.application.ports.IPasswordHasher;
 import com.barangay.application.services.PasswordValidator;
 import com.barangay.application.services.SessionManager;
@@ -23,17 +25,20 @@ public class CreateUserUseCase {
     private final IPasswordHasher passwordHasher;
     private final PasswordValidator passwordValidator;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
     public CreateUserUseCase(IUserRepository userRepository,
             IResidentRepository residentRepository,
             IPasswordHasher passwordHasher,
             PasswordValidator passwordValidator,
-            SessionManager sessionManager) {
+            SessionManager sessionManager,
+            DomainEventBus eventBus) {
         this.userRepository = userRepository;
         this.residentRepository = residentRepository;
         this.passwordHasher = passwordHasher;
         this.passwordValidator = passwordValidator;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public String execute(CreateUserInputDto input) {
@@ -90,6 +95,7 @@ public class CreateUserUseCase {
 
         // Save user
         userRepository.save(newUser);
+        eventBus.publish(new UserChangedEvent(newUser.getId()));
 
         return newUser.getId().getValue();
     }
@@ -1,5 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.ResidentChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.ResidentId;
@@ -16,10 +18,13 @@ import com.barangay.domain.repositories.IResidentRepository;
 public class DeactivateResidentUseCase {
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
-    public DeactivateResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager) {
+    public DeactivateResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager,
+            DomainEventBus eventBus) {
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(String residentIdStr, String reason) {
@@ -42,5 +47,6 @@ public class DeactivateResidentUseCase {
         // Deactivate
         resident.deactivate(reason);
         residentRepository.save(resident);
+        eventBus.publish(new ResidentChangedEvent(resident.getId()));
     }
 }
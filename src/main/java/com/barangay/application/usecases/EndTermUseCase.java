@@ -1,5 +1,8 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.OfficialChangedEvent;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.BarangayOfficial;
 import com.barangay.domain.entities.UserRole;
@@ -18,11 +21,15 @@ import java.time.LocalDate;
 public class EndTermUseCase {
     private final IOfficialRepository officialRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
     public EndTermUseCase(IOfficialRepository officialRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager, DomainEventBus eventBus, IUnitOfWork unitOfWork) {
         this.officialRepository = officialRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public void execute(String officialId) {
@@ -32,6 +39,10 @@ public class EndTermUseCase {
             throw new UnauthorizedException("Only ADMIN or SUPER_ADMIN can end official terms");
         }
 
+        unitOfWork.run(() -> endTerm(officialId));
+    }
+
+    private void endTerm(String officialId) {
         // Find official
         BarangayOfficial official = officialRepository.findById(officialId)
                 .orElseThrow(() -> new IllegalArgumentException("Official not found: " + officialId));
@@ -45,5 +56,6 @@ public class EndTermUseCase {
         official.setTermEnd(LocalDate.now());
 
         officialRepository.update(official);
+        eventBus.publish(new OfficialChangedEvent(official.getOfficialId()));
     }
 }
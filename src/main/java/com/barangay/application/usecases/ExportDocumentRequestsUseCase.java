@@ -0,0 +1,66 @@
+package com.barangay.application.usecases;
+
+import com.barangay.application.export.ExportColumn;
+import com.barangay.application.export.ExportFormat;
+import com.barangay.application.export.TableExporter;
+import com.barangay.application.services.SessionManager;
+import com.barangay.domain.entities.DocumentRequest;
+import com.barangay.domain.entities.DocumentRequestStatus;
+import com.barangay.domain.entities.User;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.exceptions.UnauthorizedOperationException;
+import com.barangay.domain.repositories.IDocumentRequestRepository;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Use Case: Export Document Requests
+ * Streams document requests, optionally of one status, newest first, to a
+ * CSV or XLSX file with the chosen columns.
+ */
+public class ExportDocumentRequestsUseCase {
+    public static final List<ExportColumn<DocumentRequest>> COLUMNS = List.of(
+            new ExportColumn<>("Request ID", DocumentRequest::getId),
+            new ExportColumn<>("Resident ID", DocumentRequest::getResidentId),
+            new ExportColumn<>("Document Type", DocumentRequest::getDocumentType),
+            new ExportColumn<>("Purpose", DocumentRequest::getPurpose),
+            new ExportColumn<>("Requested Valid Until", DocumentRequest::getRequestedValidUntil),
+            new ExportColumn<>("Status", DocumentRequest::getStatus),
+            new ExportColumn<>("Resident Notes", DocumentRequest::getResidentNotes),
+            new ExportColumn<>("Staff Notes", DocumentRequest::getStaffNotes),
+            new ExportColumn<>("Handled By", DocumentRequest::getHandledBy),
+            new ExportColumn<>("Document Reference", DocumentRequest::getLinkedDocumentReference),
+            new ExportColumn<>("Created At", DocumentRequest::getCreatedAt),
+            new ExportColumn<>("Updated At", DocumentRequest::getUpdatedAt));
+
+    private final IDocumentRequestRepository documentRequestRepository;
+    private final SessionManager sessionManager;
+
+    public ExportDocumentRequestsUseCase(IDocumentRequestRepository documentRequestRepository,
+            SessionManager sessionManager) {
+        this.documentRequestRepository = documentRequestRepository;
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * @param status only requests in this status, or {@code null} for all
+     * @return number of requests written
+     */
+    public long execute(DocumentRequestStatus status, List<ExportColumn<DocumentRequest>> columns, Path target,
+            ExportFormat format, TableExporter.ProgressListener progress) {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+        if (currentUser.getRole() == UserRole.RESIDENT) {
+            throw new UnauthorizedOperationException("You are not authorized to export document requests");
+        }
+
+        int total = status == null
+                ? documentRequestRepository.countByStatuses(DocumentRequestStatus.values())
+                : documentRequestRepository.countByStatuses(status);
+        return TableExporter.export(target, format, columns, total,
+                action -> documentRequestRepository.forEach(status, action), progress);
+    }
+}
@@ -0,0 +1,60 @@
+package com.barangay.application.usecases;
+
+import com.barangay.application.export.ExportColumn;
+import com.barangay.application.export.ExportFormat;
+import com.barangay.application.export.TableExporter;
+import com.barangay.application.services.SessionManager;
+import com.barangay.domain.entities.Document;
+import com.barangay.domain.entities.User;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.exceptions.UnauthorizedOperationException;
+import com.barangay.domain.repositories.IDocumentRepository;
+import com.barangay.domain.valueobjects.DocumentFilter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Use Case: Export Documents
+ * Streams the issued documents matching a filter, newest first, to a CSV or
+ * XLSX file with the chosen columns.
+ */
+public class ExportDocumentsUseCase {
+    public static final List<ExportColumn<Document>> COLUMNS = List.of(
+            new ExportColumn<>("Reference", Document::getReference),
+            new ExportColumn<>("Resident ID", Document::getResidentId),
+            new ExportColumn<>("Type", Document::getType),
+            new ExportColumn<>("Purpose", Document::getPurpose),
+            new ExportColumn<>("Issued Date", Document::getIssuedDate),
+            new ExportColumn<>("Valid Until", Document::getValidUntil),
+            new ExportColumn<>("Issued By", Document::getIssuedBy),
+            new ExportColumn<>("Additional Info", Document::getAdditionalInfo),
+            new ExportColumn<>("Request ID", Document::getOriginRequestId),
+            new ExportColumn<>("Created At", Document::getCreatedAt));
+
+    private final IDocumentRepository documentRepository;
+    private final SessionManager sessionManager;
+
+    public ExportDocumentsUseCase(IDocumentRepository documentRepository, SessionManager sessionManager) {
+        this.documentRepository = documentRepository;
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * @return number of documents written
+     */
+    public long execute(DocumentFilter filter, List<ExportColumn<Document>> columns, Path target,
+            ExportFormat format, TableExporter.ProgressListener progress) {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+        if (currentUser.getRole() == UserRole.RESIDENT) {
+            throw new UnauthorizedOperationException("You are not authorized to export documents");
+        }
+
+        int total = documentRepository.count(filter);
+        return TableExporter.export(target, format, columns, total,
+                action -> documentRepository.forEach(filter, action), progress);
+    }
+}
@@ -0,0 +1,82 @@
+package com.barangay.application.usecases;
+
+import com.barangay.application.export.ExportColumn;
+import com.barangay.application.export.ExportFormat;
+import com.barangay.application.export.TableExporter;
+import com.barangay.application.services.SessionManager;
+import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.User;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.exceptions.UnauthorizedOperationException;
+import com.barangay.domain.repositories.IResidentRepository;
+import com.barangay.domain.valueobjects.Address;
+import com.barangay.domain.valueobjects.ResidentFilter;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Use Case: Export Residents
+ * Streams the residents matching a list filter to a CSV or XLSX file with
+ * the chosen columns. The headers match the resident import columns, so an
+ * exported CSV can be imported again.
+ */
+public class ExportResidentsUseCase {
+    public static final List<ExportColumn<Resident>> COLUMNS = List.of(
+            new ExportColumn<>("Resident ID", Resident::getId),
+            new ExportColumn<>("First Name", Resident::getFirstName),
+            new ExportColumn<>("Middle Name", Resident::getMiddleName),
+            new ExportColumn<>("Last Name", Resident::getLastName),
+            new ExportColumn<>("Suffix", Resident::getSuffix),
+            new ExportColumn<>("Birth Date", Resident::getBirthDate),
+            new ExportColumn<>("Birth Place", Resident::getBirthPlace),
+            new ExportColumn<>("Gender", Resident::getGender),
+            new ExportColumn<>("Civil Status", Resident::getCivilStatus),
+            new ExportColumn<>("Nationality", Resident::getNationality),
+            new ExportColumn<>("Contact", Resident::getContact),
+            new ExportColumn<>("House Number", address(Address::getHouseNumber)),
+            new ExportColumn<>("Street", address(Address::getStreet)),
+            new ExportColumn<>("Purok", address(Address::getPurok)),
+            new ExportColumn<>("Barangay", address(Address::getBarangay)),
+            new ExportColumn<>("City", address(Address::getCity)),
+            new ExportColumn<>("Province", address(Address::getProvince)),
+            new ExportColumn<>("Occupation", Resident::getOccupation),
+            new ExportColumn<>("Employment", Resident::getEmployment),
+            new ExportColumn<>("Income Bracket", Resident::getIncomeBracket),
+            new ExportColumn<>("Education Level", Resident::getEducationLevel),
+            new ExportColumn<>("Voter", Resident::isVoter),
+            new ExportColumn<>("Active", Resident::isActive),
+            new ExportColumn<>("Deactivation Reason", Resident::getDeactivationReason),
+            new ExportColumn<>("Registered At", Resident::getRegisteredAt));
+
+    private final IResidentRepository residentRepository;
+    private final SessionManager sessionManager;
+
+    public ExportResidentsUseCase(IResidentRepository residentRepository, SessionManager sessionManager) {
+        this.residentRepository = residentRepository;
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * @return number of residents written
+     */
+    public long execute(ResidentFilter filter, List<ExportColumn<Resident>> columns, Path target,
+            ExportFormat format, TableExporter.ProgressListener progress) {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+        if (currentUser.getRole() == UserRole.RESIDENT) {
+            throw new UnauthorizedOperationException("You are not authorized to export residents");
+        }
+
+        int total = residentRepository.count(filter);
+        return TableExporter.export(target, format, columns, total,
+                action -> residentRepository.forEach(filter, action), progress);
+    }
+
+    private static Function<Resident, String> address(Function<Address, String> field) {
+        return resident -> resident.getAddress() == null ? null : field.apply(resident.getAddress());
+    }
+}
@@ -2,6 +2,7 @@ package com.barangay.application.usecases;
 
 import com.barangay.application.dto.AppointmentSlipOutputDto;
 import com.barangay.application.services.AppointmentSlipGenerator;
+import com.barangay.application.services.BarangayInfoCache;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.BarangayInfo;
 import com.barangay.domain.entities.Resident;
@@ -10,10 +11,11 @@ import com.barangay.domain.entities.UserRole;
 import com.barangay.domain.entities.VoterApplication;
 import com.barangay.domain.entities.ApplicationStatus;
 import com.barangay.domain.exceptions.UnauthorizedOperationException;
-import com.barangay.domain.repositories.IBarangayInfoRepository;
 import com.barangay.domain.repositories.IResidentRepository;
 import com.barangay.domain.repositories.IVoterApplicationRepository;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.List;
 
@@ -23,21 +25,59 @@ import java.util.List;
 public class GenerateAppointmentSlipUseCase {
     private final IVoterApplicationRepository applicationRepository;
     private final IResidentRepository residentRepository;
-    private final IBarangayInfoRepository barangayInfoRepository;
+    private final BarangayInfoCache barangayInfoCache;
     private final SessionManager sessionManager;
     private final AppointmentSlipGenerator slipGenerator;
 
     public GenerateAppointmentSlipUseCase(IVoterApplicationRepository applicationRepository,
-            IResidentRepository residentRepository, IBarangayInfoRepository barangayInfoRepository,
+            IResidentRepository residentRepository, BarangayInfoCache barangayInfoCache,
             SessionManager sessionManager, AppointmentSlipGenerator slipGenerator) {
         this.applicationRepository = applicationRepository;
         this.residentRepository = residentRepository;
-        this.barangayInfoRepository = barangayInfoRepository;
+        this.barangayInfoCache = barangayInfoCache;
         this.sessionManager = sessionManager;
         this.slipGenerator = slipGenerator;
     }
 
+    /**
+     * Generate the slip in memory, for previews; use
+     * {@link #writeTo(String, OutputStream)} to save it
+     */
     public AppointmentSlipOutputDto execute(String applicationId) {
+        byte[] pdf = slipGenerator.generate(loadSlipData(applicationId));
+        return new AppointmentSlipOutputDto(suggestedFileName(applicationId), pdf);
+    }
+
+    /**
+     * Stream the slip into {@code out}, which is left open. Access and
+     * schedule are checked before anything is written.
+     */
+    public void writeTo(String applicationId, OutputStream out) {
+        slipGenerator.generate(loadSlipData(applicationId), out);
+    }
+
+    /**
+     * Stream the slip into {@code channel}, which is left open
+     */
+    public void writeTo(String applicationId, WritableByteChannel channel) {
+        slipGenerator.generate(loadSlipData(applicationId), channel);
+    }
+
+    /**
+     * Run the access and schedule checks without generating anything, e.g.
+     * before asking where to save the slip.
+     *
+     * @return suggested file name for the slip
+     */
+    public String checkAvailable(String applicationId) {
+        return suggestedFileName(loadSchedulableApplication(applicationId).getId());
+    }
+
+    public static String suggestedFileName(String applicationId) {
+        return "AppointmentSlip_" + applicationId + ".pdf";
+    }
+
+    private VoterApplication loadSchedulableApplication(String applicationId) {
         if (applicationId == null || applicationId.isBlank()) {
             throw new IllegalArgumentException("Application ID is required");
         }
@@ -48,13 +88,17 @@ public class GenerateAppointmentSlipUseCase {
 
         ensureAccess(currentUser, application);
         ensureSchedulable(application);
+        return application;
+    }
 
+    private AppointmentSlipGenerator.AppointmentSlipData loadSlipData(String applicationId) {
+        VoterApplication application = loadSchedulableApplication(applicationId);
         Resident resident = residentRepository.findById(application.getResidentId())
                 .orElseThrow(() -> new IllegalStateException("Resident record not found"));
 
-        BarangayInfo barangayInfo = barangayInfoRepository.get().orElse(null);
+        BarangayInfo barangayInfo = barangayInfoCache.get().orElse(null);
 
-        AppointmentSlipGenerator.AppointmentSlipData data = new AppointmentSlipGenerator.AppointmentSlipData(
+        return new AppointmentSlipGenerator.AppointmentSlipData(
                 barangayInfo != null ? barangayInfo.getBarangayName() : "Barangay Management Office",
                 buildBarangayAddress(barangayInfo),
                 barangayInfo != null ? barangayInfo.getContactNumber() : null,
@@ -70,10 +114,6 @@ public class GenerateAppointmentSlipUseCase {
                 application.getAppointmentVenue(),
                 application.getAppointmentSlipReference(),
                 defaultReminders());
-
-        byte[] pdf = slipGenerator.generate(data);
-        String suggestedFileName = "AppointmentSlip_" + application.getId() + ".pdf";
-        return new AppointmentSlipOutputDto(suggestedFileName, pdf);
     }
 
     private User requireLoggedInUser() {
@@ -1,7 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.services.BarangayInfoCache;
 import com.barangay.domain.entities.BarangayInfo;
-import com.barangay.domain.repositories.IBarangayInfoRepository;
 
 /**
  * Use Case: Get barangay information
@@ -10,16 +10,17 @@ import com.barangay.domain.repositories.IBarangayInfoRepository;
  * SOLID Principles:
  * - SRP: Single responsibility - retrieving barangay info
  * - DIP: Depends on repository abstraction
+ * Served from {@link BarangayInfoCache}; the row rarely changes.
  */
 public class GetBarangayInfoUseCase {
-    private final IBarangayInfoRepository barangayInfoRepository;
+    private final BarangayInfoCache barangayInfoCache;
 
-    public GetBarangayInfoUseCase(IBarangayInfoRepository barangayInfoRepository) {
-        this.barangayInfoRepository = barangayInfoRepository;
+    public GetBarangayInfoUseCase(BarangayInfoCache barangayInfoCache) {
+        this.barangayInfoCache = barangayInfoCache;
     }
 
     public BarangayInfo execute() {
-        return barangayInfoRepository.get().orElseThrow(
+        return barangayInfoCache.get().orElseThrow(
                 () -> new IllegalStateException("Barangay information not found"));
     }
 }
@@ -0,0 +1,80 @@
+package com.barangay.application.usecases;
+
+import com.barangay.application.dto.DashboardSummaryDto;
+import com.barangay.application.dto.DocumentRequestCountsDto;
+import com.barangay.application.dto.DocumentStatisticsDto;
+import com.barangay.application.dto.ResidentStatisticsDto;
+import com.barangay.application.services.SessionManager;
+import com.barangay.domain.entities.ApplicationStatus;
+import com.barangay.domain.entities.DocumentRequestStatus;
+import com.barangay.domain.entities.DocumentType;
+import com.barangay.domain.entities.User;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.exceptions.UnauthorizedOperationException;
+import com.barangay.domain.repositories.IDashboardCounterRepository;
+import com.barangay.domain.valueobjects.DashboardCounters;
+import com.barangay.domain.valueobjects.DocumentStatistics;
+import com.barangay.domain.valueobjects.ResidentStatistics;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * Use Case: Read the staff dashboard numbers from the maintained counters.
+ * Module 7: Reports & Analytics
+ */
+public class GetDashboardSummaryUseCase {
+    private static final EnumSet<UserRole> STAFF_ROLES = EnumSet.of(UserRole.CLERK, UserRole.ADMIN,
+            UserRole.SUPER_ADMIN);
+
+    private final IDashboardCounterRepository dashboardCounterRepository;
+    private final SessionManager sessionManager;
+
+    public GetDashboardSummaryUseCase(IDashboardCounterRepository dashboardCounterRepository,
+            SessionManager sessionManager) {
+        this.dashboardCounterRepository = dashboardCounterRepository;
+        this.sessionManager = sessionManager;
+    }
+
+    public DashboardSummaryDto execute() {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+        if (!STAFF_ROLES.contains(currentUser.getRole())) {
+            throw new UnauthorizedOperationException("Only staff users can view the dashboard summary");
+        }
+
+        DashboardCounters counters = dashboardCounterRepository.load();
+        ResidentStatistics residents = counters.getResidents();
+        DocumentStatistics documents = counters.getDocuments();
+
+        Map<UserRole, Integer> usersByRole = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            usersByRole.put(role, counters.getUsers(role));
+        }
+
+        return new DashboardSummaryDto(
+                new ResidentStatisticsDto(
+                        residents.getTotalResidents(),
+                        residents.getActiveResidents(),
+                        residents.getMaleCount(),
+                        residents.getFemaleCount(),
+                        residents.getRegisteredVoters()),
+                new DocumentStatisticsDto(
+                        documents.getTotalDocuments(),
+                        documents.getIssuedToday(),
+                        documents.getIssuedThisMonth(),
+                        documents.getCount(DocumentType.BARANGAY_ID),
+                        documents.getCount(DocumentType.BARANGAY_CLEARANCE),
+                        documents.getCount(DocumentType.CERTIFICATE_OF_RESIDENCY)),
+                new DocumentRequestCountsDto(
+                        counters.getDocumentRequests(DocumentRequestStatus.PENDING),
+                        counters.getDocumentRequests(DocumentRequestStatus.UNDER_REVIEW),
+                        counters.getDocumentRequests(DocumentRequestStatus.APPROVED)),
+                counters.getVoterApplications(ApplicationStatus.PENDING),
+                counters.getVoterApplications(ApplicationStatus.SCHEDULED),
+                counters.getVoterApplications(ApplicationStatus.VERIFIED),
+                usersByRole);
+    }
+}
@@ -1,10 +1,11 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.ResidentStatisticsDto;
-import com.barangay.domain.entities.Gender;
-import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.AgeBracket;
 import com.barangay.domain.repositories.IResidentRepository;
-import java.util.List;
+import com.barangay.domain.valueobjects.ResidentStatistics;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Use Case: Get resident statistics
@@ -22,32 +23,20 @@ public class GetResidentStatisticsUseCase {
     }
 
     public ResidentStatisticsDto execute() {
-        List<Resident> allResidents = residentRepository.findAll();
+        ResidentStatistics stats = residentRepository.getStatistics();
 
-        long activeResidents = allResidents.stream()
-                .filter(Resident::isActive)
-                .count();
-
-        long maleCount = allResidents.stream()
-                .filter(Resident::isActive)
-                .filter(r -> r.getGender() == Gender.MALE)
-                .count();
-
-        long femaleCount = allResidents.stream()
-                .filter(Resident::isActive)
-                .filter(r -> r.getGender() == Gender.FEMALE)
-                .count();
-
-        long registeredVoters = allResidents.stream()
-                .filter(Resident::isActive)
-                .filter(Resident::isVoter)
-                .count();
+        Map<String, Integer> byAgeBracket = new LinkedHashMap<>();
+        for (Map.Entry<AgeBracket, Integer> entry : stats.getActiveByAgeBracket().entrySet()) {
+            byAgeBracket.put(entry.getKey().toString(), entry.getValue());
+        }
 
         return new ResidentStatisticsDto(
-                allResidents.size(),
-                (int) activeResidents,
-                (int) maleCount,
-                (int) femaleCount,
-                (int) registeredVoters);
+                stats.getTotalResidents(),
+                stats.getActiveResidents(),
+                stats.getMaleCount(),
+                stats.getFemaleCount(),
+                stats.getRegisteredVoters(),
+                stats.getActiveByPurok(),
+                byAgeBracket);
     }
 }
@@ -0,0 +1,388 @@
+package com.barangay.application.usecases;
+
+import com.barangay.application.dto.RegisterResidentInputDto;
+import com.barangay.application.dto.ResidentImportProgressDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.ResidentsImportedEvent;
+import com.barangay.application.ports.IImportCheckpointStore;
+import com.barangay.application.ports.ImportCheckpoint;
+import com.barangay.application.ports.IUnitOfWork;
+import com.barangay.application.services.BarangayInfoCache;
+import com.barangay.application.services.CsvReader;
+import com.barangay.application.services.ResidentFactory;
+import com.barangay.application.services.SessionManager;
+import com.barangay.domain.entities.BarangayInfo;
+import com.barangay.domain.entities.CivilStatus;
+import com.barangay.domain.entities.EducationLevel;
+import com.barangay.domain.entities.Gender;
+import com.barangay.domain.entities.IncomeBracket;
+import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.entities.User;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.exceptions.UnauthorizedOperationException;
+import com.barangay.domain.repositories.IResidentRepository;
+import com.barangay.domain.valueobjects.ResidentIdentity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Use Case: Import Residents from CSV
+ * Streams a census sheet one row at a time. Each batch of rows is staged
+ * (validated and checked for duplicates within the file and against the
+ * database), then its block of IDs, its rows and the checkpoint that
+ * follows it commit in one transaction, so a failed batch consumes no IDs
+ * and a failed or cancelled run resumes exactly after the last committed
+ * batch.
+ * <p>
+ * The first row names the columns, in any order: first_name, last_name,
+ * birth_date and gender are required; middle_name, suffix, birth_place,
+ * civil_status, nationality, contact, house_number, street, purok,
+ * barangay, city, province, occupation, employment, income_bracket and
+ * education_level are optional. A missing barangay, city or province is
+ * taken from the barangay information, as on the registration form.
+ */
+public class ImportResidentsUseCase {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<String> REQUIRED_COLUMNS = List.of("firstname", "lastname", "birthdate", "gender");
+    private static final DateTimeFormatter SLASH_DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+
+    private final IResidentRepository residentRepository;
+    private final IImportCheckpointStore checkpointStore;
+    private final BarangayInfoCache barangayInfoCache;
+    private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
+    private final int batchSize;
+
+    public ImportResidentsUseCase(IResidentRepository residentRepository, IImportCheckpointStore checkpointStore,
+            BarangayInfoCache barangayInfoCache, SessionManager sessionManager, DomainEventBus eventBus,
+            IUnitOfWork unitOfWork, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.residentRepository = residentRepository;
+        this.checkpointStore = checkpointStore;
+        this.barangayInfoCache = barangayInfoCache;
+        this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import {@code file}, resuming after the last committed batch of an
+     * earlier run of the same unchanged file.
+     *
+     * @param progress  called on the importing thread after each batch
+     * @param cancelled checked between batches; a cancelled run keeps its
+     *                  checkpoint so it can be resumed
+     */
+    public ResidentImportProgressDto execute(Path file, Consumer<ResidentImportProgressDto> progress,
+            BooleanSupplier cancelled) {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+
+        UserRole role = currentUser.getRole();
+        if (role != UserRole.CLERK && role != UserRole.ADMIN && role != UserRole.SUPER_ADMIN) {
+            throw new UnauthorizedOperationException("You are not authorized to register residents");
+        }
+
+        String sourceKey = sourceKey(file);
+        ImportCheckpoint checkpoint = checkpointStore.find(sourceKey)
+                .orElse(new ImportCheckpoint(sourceKey, 0, 0, 0, 0, LocalDateTime.now()));
+        Run run = new Run(checkpoint);
+        BarangayInfo addressDefaults = barangayInfoCache.get().orElse(null);
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("The file is empty");
+            }
+            Map<String, Integer> columns = mapColumns(header);
+
+            for (long skipped = 0; skipped < run.resumedFromRow; skipped++) {
+                if (reader.readRecord() == null) {
+                    break;
+                }
+            }
+
+            // Identities only, not rows, so memory grows slowly with the file
+            Set<ResidentIdentity> seen = new HashSet<>();
+            boolean more = true;
+            while (more) {
+                if (cancelled.getAsBoolean()) {
+                    return run.snapshot(false, true);
+                }
+
+                List<RegisterResidentInputDto> staged = new ArrayList<>(batchSize);
+                int rows = 0;
+                while (rows < batchSize) {
+                    List<String> record = reader.readRecord();
+                    if (record == null) {
+                        more = false;
+                        break;
+                    }
+                    rows++;
+                    stage(record, reader.getRecordLineNumber(), columns, seen, staged, run);
+                }
+                if (rows > 0) {
+                    commitBatch(sourceKey, staged, rows, addressDefaults, run);
+                    progress.accept(run.snapshot(false, false));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read import file", e);
+        }
+
+        checkpointStore.delete(sourceKey);
+        return run.snapshot(true, false);
+    }
+
+    private void stage(List<String> record, long line, Map<String, Integer> columns,
+            Set<ResidentIdentity> seen, List<RegisterResidentInputDto> staged, Run run) {
+        RegisterResidentInputDto input;
+        try {
+            input = parse(record, columns);
+        } catch (IllegalArgumentException e) {
+            run.reject(line, e.getMessage());
+            return;
+        }
+        if (!seen.add(identity(input))) {
+            run.duplicates++;
+            return;
+        }
+        staged.add(input);
+    }
+
+    private void commitBatch(String sourceKey, List<RegisterResidentInputDto> staged, int rows,
+            BarangayInfo addressDefaults, Run run) {
+        BatchResult result = unitOfWork.execute(() -> writeBatch(sourceKey, staged, rows, addressDefaults, run));
+        run.imported += result.imported;
+        run.duplicates += result.duplicates;
+        run.rowsProcessed += rows;
+    }
+
+    /**
+     * Leaves {@code run} untouched so a rolled-back batch does not count.
+     */
+    private BatchResult writeBatch(String sourceKey, List<RegisterResidentInputDto> staged, int rows,
+            BarangayInfo addressDefaults, Run run) {
+        List<ResidentIdentity> identities = new ArrayList<>(staged.size());
+        for (RegisterResidentInputDto input : staged) {
+            identities.add(identity(input));
+        }
+        Set<ResidentIdentity> existing = residentRepository.findExistingIdentities(identities);
+
+        List<RegisterResidentInputDto> accepted = new ArrayList<>(staged.size());
+        for (RegisterResidentInputDto input : staged) {
+            if (!existing.contains(identity(input))) {
+                accepted.add(input);
+            }
+        }
+        int duplicates = staged.size() - accepted.size();
+
+        if (!accepted.isEmpty()) {
+            List<ResidentId> ids = residentRepository.generateNextIds(accepted.size());
+            List<Resident> residents = new ArrayList<>(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                residents.add(ResidentFactory.create(ids.get(i), accepted.get(i), addressDefaults));
+            }
+            residentRepository.saveAll(residents);
+            // Delivered once the batch commits
+            eventBus.publish(new ResidentsImportedEvent(accepted.size()));
+        }
+
+        checkpointStore.save(new ImportCheckpoint(sourceKey, run.rowsProcessed + rows,
+                run.imported + accepted.size(), run.duplicates + duplicates, run.rejected, LocalDateTime.now()));
+        return new BatchResult(accepted.size(), duplicates);
+    }
+
+    private static Map<String, Integer> mapColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(normalizeColumn(header.get(i)), i);
+        }
+        List<String> missing = new ArrayList<>();
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                missing.add(required);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("The file is missing required columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static String normalizeColumn(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    private static RegisterResidentInputDto parse(List<String> record, Map<String, Integer> columns) {
+        String firstName = value(record, columns, "firstname");
+        String lastName = value(record, columns, "lastname");
+        if (firstName == null) {
+            throw new IllegalArgumentException("First name is required");
+        }
+        if (lastName == null) {
+            throw new IllegalArgumentException("Last name is required");
+        }
+
+        return new RegisterResidentInputDto(
+                firstName,
+                value(record, columns, "middlename"),
+                lastName,
+                value(record, columns, "suffix"),
+                parseBirthDate(value(record, columns, "birthdate")),
+                value(record, columns, "birthplace"),
+                parseGender(value(record, columns, "gender")),
+                parseEnum(CivilStatus.class, value(record, columns, "civilstatus"), "civil status"),
+                value(record, columns, "nationality"),
+                value(record, columns, "contact"),
+                value(record, columns, "housenumber"),
+                value(record, columns, "street"),
+                value(record, columns, "purok"),
+                value(record, columns, "barangay"),
+                value(record, columns, "city"),
+                value(record, columns, "province"),
+                value(record, columns, "occupation"),
+                value(record, columns, "employment"),
+                parseEnum(IncomeBracket.class, value(record, columns, "incomebracket"), "income bracket"),
+                parseEnum(EducationLevel.class, value(record, columns, "educationlevel"), "education level"));
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate parseBirthDate(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Birth date is required");
+        }
+        LocalDate birthDate;
+        try {
+            birthDate = value.contains("/") ? LocalDate.parse(value, SLASH_DATE) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Birth date must be YYYY-MM-DD or MM/DD/YYYY: " + value);
+        }
+        if (birthDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Birth date cannot be in the future: " + value);
+        }
+        return birthDate;
+    }
+
+    private static Gender parseGender(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Gender is required");
+        }
+        switch (value.toUpperCase(Locale.ROOT)) {
+            case "M":
+                return Gender.MALE;
+            case "F":
+                return Gender.FEMALE;
+            default:
+                return parseEnum(Gender.class, value, "gender");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String label) {
+        if (value == null) {
+            return null;
+        }
+        String name = value.toUpperCase(Locale.ROOT).replaceAll("[\\s-]+", "_");
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + label + ": " + value);
+        }
+    }
+
+    private static ResidentIdentity identity(RegisterResidentInputDto input) {
+        return new ResidentIdentity(input.getFirstName(), input.getLastName(), input.getBirthDate());
+    }
+
+    /**
+     * Identifies the file by path, size and modification time, so editing
+     * the file starts a fresh import instead of resuming at a stale row.
+     */
+    private static String sourceKey(Path file) {
+        try {
+            Path path = file.toAbsolutePath().normalize();
+            return path + "|" + Files.size(path) + "|" + Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read import file", e);
+        }
+    }
+
+    /**
+     * What one committed batch added to the counters.
+     */
+    private static final class BatchResult {
+        private final int imported;
+        private final int duplicates;
+
+        BatchResult(int imported, int duplicates) {
+            this.imported = imported;
+            this.duplicates = duplicates;
+        }
+    }
+
+    /**
+     * Counters for one execution, seeded from the checkpoint.
+     */
+    private static final class Run {
+        private final long resumedFromRow;
+        private final long startedAt = System.nanoTime();
+        private final List<String> errors = new ArrayList<>();
+        private long rowsProcessed;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+
+        Run(ImportCheckpoint checkpoint) {
+            this.resumedFromRow = checkpoint.getRowsCommitted();
+            this.rowsProcessed = checkpoint.getRowsCommitted();
+            this.imported = checkpoint.getImported();
+            this.duplicates = checkpoint.getDuplicates();
+            this.rejected = checkpoint.getRejected();
+        }
+
+        void reject(long line, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Line " + line + ": " + reason);
+            }
+        }
+
+        ResidentImportProgressDto snapshot(boolean finished, boolean cancelled) {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            return new ResidentImportProgressDto(rowsProcessed, imported, duplicates, rejected, resumedFromRow,
+                    elapsedMillis, errors, finished, cancelled);
+        }
+    }
+}
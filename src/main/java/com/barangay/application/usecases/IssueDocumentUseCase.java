@@ -1,6 +1,9 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.IssueDocumentInputDto;
+import com.barangay.application.events.DocumentIssuedEvent;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.*;
 import com.barangay.domain.exceptions.ResidentNotFoundException;
@@ -15,21 +18,28 @@ import java.time.LocalDate;
 /**
  * Use Case: Issue Document
  * Following SRP: Handles only document issuance logic.
+ * The reference, the document and the linked request commit together.
  */
 public class IssueDocumentUseCase {
     private final IDocumentRepository documentRepository;
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
     private final IDocumentRequestRepository documentRequestRepository;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
     public IssueDocumentUseCase(IDocumentRepository documentRepository,
             IResidentRepository residentRepository,
             SessionManager sessionManager,
-            IDocumentRequestRepository documentRequestRepository) {
+            IDocumentRequestRepository documentRequestRepository,
+            DomainEventBus eventBus,
+            IUnitOfWork unitOfWork) {
         this.documentRepository = documentRepository;
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
         this.documentRequestRepository = documentRequestRepository;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public String execute(IssueDocumentInputDto input) {
@@ -44,6 +54,10 @@ public class IssueDocumentUseCase {
             throw new UnauthorizedOperationException("You are not authorized to issue documents");
         }
 
+        return unitOfWork.execute(() -> issue(input, currentUser));
+    }
+
+    private String issue(IssueDocumentInputDto input, User currentUser) {
         // Validate resident exists and is active
         ResidentId residentId = ResidentId.fromString(input.getResidentId());
         Resident resident = residentRepository.findById(residentId)
@@ -101,6 +115,9 @@ public class IssueDocumentUseCase {
             documentRequestRepository.update(linkedRequest);
         }
 
+        eventBus.publish(new DocumentIssuedEvent(reference.getValue(), document.getResidentId(),
+                linkedRequest != null ? linkedRequest.getId() : null));
+
         return reference.getValue();
     }
 }
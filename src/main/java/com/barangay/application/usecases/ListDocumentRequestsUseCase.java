@@ -1,13 +1,13 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.services.SessionManager;
-import com.barangay.domain.entities.DocumentRequest;
 import com.barangay.domain.entities.DocumentRequestStatus;
 import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
 import com.barangay.domain.exceptions.UnauthorizedOperationException;
 import com.barangay.domain.repositories.IDocumentRequestRepository;
+import com.barangay.domain.valueobjects.DocumentRequestSummary;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
@@ -15,7 +15,7 @@ import java.util.stream.Collectors;
 /**
  * Use Case: List document requests.
  * Residents always receive their own records; staff can filter by status or
- * search term.
+ * search term. Rows are summaries; open a request with GetDocumentRequestUseCase.
  */
 public class ListDocumentRequestsUseCase {
     private final IDocumentRequestRepository documentRequestRepository;
@@ -27,7 +27,7 @@ public class ListDocumentRequestsUseCase {
         this.sessionManager = sessionManager;
     }
 
-    public List<DocumentRequest> execute(DocumentRequestStatus statusFilter, String searchTerm) {
+    public List<DocumentRequestSummary> execute(DocumentRequestStatus statusFilter, String searchTerm) {
         User currentUser = sessionManager.getCurrentUser();
         if (currentUser == null) {
             throw new UnauthorizedOperationException("No user logged in");
@@ -38,22 +38,18 @@ public class ListDocumentRequestsUseCase {
             if (residentId == null) {
                 throw new IllegalStateException("Resident user is not linked to a resident profile");
             }
-            List<DocumentRequest> requests = documentRequestRepository.findByResidentId(residentId);
+            List<DocumentRequestSummary> requests = documentRequestRepository.findSummariesByResidentId(residentId);
             return filterRequests(requests, statusFilter, searchTerm);
         }
 
         if (searchTerm != null && !searchTerm.isBlank()) {
-            return documentRequestRepository.search(searchTerm.trim());
+            return documentRequestRepository.searchSummaries(searchTerm.trim());
         }
 
-        if (statusFilter != null) {
-            return documentRequestRepository.findByStatus(statusFilter);
-        }
-
-        return documentRequestRepository.findAll();
+        return documentRequestRepository.findSummaries(statusFilter);
     }
 
-    private List<DocumentRequest> filterRequests(List<DocumentRequest> source,
+    private List<DocumentRequestSummary> filterRequests(List<DocumentRequestSummary> source,
             DocumentRequestStatus statusFilter,
             String searchTerm) {
         return source.stream()
@@ -62,7 +58,7 @@ public class ListDocumentRequestsUseCase {
                 .collect(Collectors.toList());
     }
 
-    private boolean matchesSearch(DocumentRequest request, String term) {
+    private boolean matchesSearch(DocumentRequestSummary request, String term) {
         if (term == null || term.isBlank()) {
             return true;
         }
@@ -1,5 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.ResidentChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.ResidentId;
@@ -15,10 +17,13 @@ import com.barangay.domain.repositories.IResidentRepository;
 public class ReactivateResidentUseCase {
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
-    public ReactivateResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager) {
+    public ReactivateResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager,
+            DomainEventBus eventBus) {
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(String residentIdStr) {
@@ -41,5 +46,6 @@ public class ReactivateResidentUseCase {
         // Reactivate
         resident.reactivate();
         residentRepository.save(resident);
+        eventBus.publish(new ResidentChangedEvent(resident.getId()));
     }
 }
@@ -1,5 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.UserChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.exceptions.UnauthorizedOperationException;
@@ -13,10 +15,13 @@ import com.barangay.domain.valueobjects.UserId;
 public class ReactivateUserUseCase {
     private final IUserRepository userRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
-    public ReactivateUserUseCase(IUserRepository userRepository, SessionManager sessionManager) {
+    public ReactivateUserUseCase(IUserRepository userRepository, SessionManager sessionManager,
+            DomainEventBus eventBus) {
         this.userRepository = userRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(String targetUserId) {
@@ -38,5 +43,6 @@ public class ReactivateUserUseCase {
         // Reactivate user
         targetUser.reactivate();
         userRepository.save(targetUser);
+        eventBus.publish(new UserChangedEvent(targetUser.getId()));
     }
 }
@@ -0,0 +1,32 @@
+package com.barangay.application.usecases;
+
+import com.barangay.domain.repositories.IDashboardCounterRepository;
+import java.util.List;
+
+/**
+ * Use Case: Check or repair the dashboard counters against a full recount.
+ * Module 8: System Administration
+ */
+public class RebuildDashboardCountersUseCase {
+    private final IDashboardCounterRepository dashboardCounterRepository;
+
+    public RebuildDashboardCountersUseCase(IDashboardCounterRepository dashboardCounterRepository) {
+        this.dashboardCounterRepository = dashboardCounterRepository;
+    }
+
+    /**
+     * @return one line per counter whose stored value differs from the recount
+     */
+    public List<String> verify() {
+        return dashboardCounterRepository.verify();
+    }
+
+    /**
+     * Replace the stored counters with a full recount.
+     *
+     * @return one line per counter that was corrected
+     */
+    public List<String> rebuild() {
+        return dashboardCounterRepository.rebuild();
+    }
+}
@@ -1,6 +1,9 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.RegisterOfficialInputDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.OfficialChangedEvent;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.BarangayOfficial;
 import com.barangay.domain.entities.Resident;
@@ -23,13 +26,19 @@ public class RegisterOfficialUseCase {
     private final IOfficialRepository officialRepository;
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
     public RegisterOfficialUseCase(IOfficialRepository officialRepository,
             IResidentRepository residentRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager,
+            DomainEventBus eventBus,
+            IUnitOfWork unitOfWork) {
         this.officialRepository = officialRepository;
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public String execute(RegisterOfficialInputDto input) {
@@ -39,6 +48,11 @@ public class RegisterOfficialUseCase {
             throw new UnauthorizedException("Only ADMIN or SUPER_ADMIN can register officials");
         }
 
+        // The position count check and the insert must not interleave with another registration
+        return unitOfWork.execute(() -> register(input));
+    }
+
+    private String register(RegisterOfficialInputDto input) {
         // Validate resident exists
         ResidentId residentId = ResidentId.fromString(input.getResidentId());
         Resident resident = residentRepository.findById(residentId)
@@ -80,6 +94,7 @@ public class RegisterOfficialUseCase {
                 input.isCurrent());
 
         officialRepository.save(official);
+        eventBus.publish(new OfficialChangedEvent(official.getOfficialId()));
 
         return official.getOfficialId();
     }
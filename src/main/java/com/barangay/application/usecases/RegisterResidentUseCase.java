@@ -1,6 +1,10 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.RegisterResidentInputDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.ResidentChangedEvent;
+import com.barangay.application.ports.IUnitOfWork;
+import com.barangay.application.services.ResidentFactory;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.ResidentId;
@@ -9,21 +13,26 @@ import com.barangay.domain.entities.UserRole;
 import com.barangay.domain.exceptions.DuplicateResidentException;
 import com.barangay.domain.exceptions.UnauthorizedOperationException;
 import com.barangay.domain.repositories.IResidentRepository;
-import com.barangay.domain.valueobjects.Address;
 
 import java.util.List;
 
 /**
  * Use Case: Register New Resident
  * Following SRP: Handles only resident registration logic.
+ * The resident ID and the resident row commit together.
  */
 public class RegisterResidentUseCase {
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
-    public RegisterResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager) {
+    public RegisterResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager,
+            DomainEventBus eventBus, IUnitOfWork unitOfWork) {
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public String execute(RegisterResidentInputDto input) {
@@ -64,43 +73,19 @@ public class RegisterResidentUseCase {
                     "A resident with the same name and birth date already exists");
         }
 
+        return unitOfWork.execute(() -> register(input));
+    }
+
+    private String register(RegisterResidentInputDto input) {
         // Generate resident ID
         ResidentId residentId = residentRepository.generateNextId();
 
         // Create resident entity
-        Resident resident = new Resident(
-                residentId,
-                input.getFirstName(),
-                input.getLastName(),
-                input.getBirthDate(),
-                input.getGender());
-
-        // Set optional fields
-        resident.setMiddleName(input.getMiddleName());
-        resident.setSuffix(input.getSuffix());
-        resident.setBirthPlace(input.getBirthPlace());
-        resident.setCivilStatus(input.getCivilStatus());
-        resident.setNationality(input.getNationality());
-        resident.setContact(input.getContact());
-        resident.setOccupation(input.getOccupation());
-        resident.setEmployment(input.getEmployment());
-        resident.setIncomeBracket(input.getIncomeBracket());
-        resident.setEducationLevel(input.getEducationLevel());
-
-        // Set address
-        if (input.getBarangay() != null || input.getCity() != null || input.getProvince() != null) {
-            Address address = new Address(
-                    input.getHouseNumber(),
-                    input.getStreet(),
-                    input.getPurok(),
-                    input.getBarangay(),
-                    input.getCity(),
-                    input.getProvince());
-            resident.setAddress(address);
-        }
+        Resident resident = ResidentFactory.create(residentId, input);
 
         // Save resident
         residentRepository.save(resident);
+        eventBus.publish(new ResidentChangedEvent(residentId));
 
         return residentId.getValue();
     }
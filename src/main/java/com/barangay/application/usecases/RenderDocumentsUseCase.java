@@ -0,0 +1,88 @@
+package com.barangay.application.usecases;
+
+import com.barangay.application.ports.DocumentRenderJob;
+import com.barangay.application.ports.IDocumentRenderer;
+import com.barangay.application.services.BarangayInfoCache;
+import com.barangay.application.services.SessionManager;
+import com.barangay.domain.entities.BarangayInfo;
+import com.barangay.domain.entities.Document;
+import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.User;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.exceptions.ResidentNotFoundException;
+import com.barangay.domain.exceptions.UnauthorizedOperationException;
+import com.barangay.domain.repositories.IDocumentRepository;
+import com.barangay.domain.repositories.IResidentRepository;
+import com.barangay.domain.valueobjects.DocumentReference;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Use Case: Render issued documents as PDF under the barangay letterhead,
+ * either merged into one file for printing or as one file per document.
+ */
+public class RenderDocumentsUseCase {
+    private final IDocumentRepository documentRepository;
+    private final IResidentRepository residentRepository;
+    private final BarangayInfoCache barangayInfoCache;
+    private final SessionManager sessionManager;
+    private final IDocumentRenderer documentRenderer;
+
+    public RenderDocumentsUseCase(IDocumentRepository documentRepository,
+            IResidentRepository residentRepository,
+            BarangayInfoCache barangayInfoCache,
+            SessionManager sessionManager,
+            IDocumentRenderer documentRenderer) {
+        this.documentRepository = documentRepository;
+        this.residentRepository = residentRepository;
+        this.barangayInfoCache = barangayInfoCache;
+        this.sessionManager = sessionManager;
+        this.documentRenderer = documentRenderer;
+    }
+
+    /**
+     * @return number of documents written
+     */
+    public int renderMerged(List<String> references, Path target) {
+        List<DocumentRenderJob> jobs = loadJobs(references);
+        return documentRenderer.renderMerged(jobs, letterhead(), target);
+    }
+
+    /**
+     * @return number of documents written
+     */
+    public int renderToDirectory(List<String> references, Path directory) {
+        List<DocumentRenderJob> jobs = loadJobs(references);
+        return documentRenderer.renderToDirectory(jobs, letterhead(), directory);
+    }
+
+    private List<DocumentRenderJob> loadJobs(List<String> references) {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+        if (currentUser.getRole() == UserRole.RESIDENT) {
+            throw new UnauthorizedOperationException("You are not authorized to print documents");
+        }
+        if (references == null || references.isEmpty()) {
+            throw new IllegalArgumentException("Select at least one document");
+        }
+
+        List<DocumentRenderJob> jobs = new ArrayList<>(references.size());
+        for (String reference : new LinkedHashSet<>(references)) {
+            Document document = documentRepository.findByReference(DocumentReference.fromString(reference))
+                    .orElseThrow(() -> new IllegalArgumentException("Document not found: " + reference));
+            Resident resident = residentRepository.findById(document.getResidentId())
+                    .orElseThrow(() -> new ResidentNotFoundException("Resident not found for " + reference));
+            jobs.add(new DocumentRenderJob(document, resident));
+        }
+        return jobs;
+    }
+
+    private BarangayInfo letterhead() {
+        return barangayInfoCache.get().orElse(null);
+    }
+}
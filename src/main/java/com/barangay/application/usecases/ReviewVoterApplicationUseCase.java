@@ -1,5 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.VoterApplicationChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
@@ -14,11 +16,13 @@ import com.barangay.domain.repositories.IVoterApplicationRepository;
 public class ReviewVoterApplicationUseCase {
     private final IVoterApplicationRepository applicationRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
     public ReviewVoterApplicationUseCase(IVoterApplicationRepository applicationRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager, DomainEventBus eventBus) {
         this.applicationRepository = applicationRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void approve(String applicationId, String notes) {
@@ -40,6 +44,7 @@ public class ReviewVoterApplicationUseCase {
         // Approve application
         application.approve(currentUser.getUsername(), notes);
         applicationRepository.save(application);
+        publishChanged(application);
     }
 
     public void reject(String applicationId, String notes) {
@@ -61,6 +66,7 @@ public class ReviewVoterApplicationUseCase {
         // Reject application
         application.reject(currentUser.getUsername(), notes);
         applicationRepository.save(application);
+        publishChanged(application);
     }
 
     public void setUnderReview(String applicationId) {
@@ -79,5 +85,11 @@ public class ReviewVoterApplicationUseCase {
 
         application.setUnderReview();
         applicationRepository.save(application);
+        publishChanged(application);
+    }
+
+    private void publishChanged(VoterApplication application) {
+        eventBus.publish(new VoterApplicationChangedEvent(application.getId(), application.getResidentId(),
+                application.getStatus()));
     }
 }
@@ -1,5 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.VoterApplicationChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
@@ -16,11 +18,13 @@ import java.util.UUID;
 public class ScheduleVerificationUseCase {
     private final IVoterApplicationRepository applicationRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
     public ScheduleVerificationUseCase(IVoterApplicationRepository applicationRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager, DomainEventBus eventBus) {
         this.applicationRepository = applicationRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(String applicationId, LocalDateTime appointmentDateTime, String venue) {
@@ -46,5 +50,11 @@ public class ScheduleVerificationUseCase {
         // Schedule verification
         application.schedule(appointmentDateTime, venue, slipReference);
         applicationRepository.save(application);
+        publishChanged(application);
+    }
+
+    private void publishChanged(VoterApplication application) {
+        eventBus.publish(new VoterApplicationChangedEvent(application.getId(), application.getResidentId(),
+                application.getStatus()));
     }
 }
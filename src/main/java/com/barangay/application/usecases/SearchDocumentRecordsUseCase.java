@@ -0,0 +1,47 @@
+package com.barangay.application.usecases;
+
+import com.barangay.application.services.SessionManager;
+import com.barangay.domain.entities.User;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.exceptions.UnauthorizedOperationException;
+import com.barangay.domain.repositories.IDocumentSearchRepository;
+import com.barangay.domain.valueobjects.DocumentSearchHit;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Use Case: Search issued documents and document requests together.
+ * Module 4: Document Issuance
+ */
+public class SearchDocumentRecordsUseCase {
+    private static final EnumSet<UserRole> STAFF_ROLES = EnumSet.of(UserRole.CLERK, UserRole.ADMIN,
+            UserRole.SUPER_ADMIN);
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final IDocumentSearchRepository documentSearchRepository;
+    private final SessionManager sessionManager;
+
+    public SearchDocumentRecordsUseCase(IDocumentSearchRepository documentSearchRepository,
+            SessionManager sessionManager) {
+        this.documentSearchRepository = documentSearchRepository;
+        this.sessionManager = sessionManager;
+    }
+
+    public List<DocumentSearchHit> execute(String query) {
+        return execute(query, DEFAULT_LIMIT);
+    }
+
+    public List<DocumentSearchHit> execute(String query, int limit) {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+        if (!STAFF_ROLES.contains(currentUser.getRole())) {
+            throw new UnauthorizedOperationException("Only staff users can search all documents and requests");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
+        return documentSearchRepository.search(query, limit);
+    }
+}
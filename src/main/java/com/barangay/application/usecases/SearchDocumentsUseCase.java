@@ -4,7 +4,10 @@ import com.barangay.domain.entities.Document;
 import com.barangay.domain.entities.DocumentType;
 import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.repositories.IDocumentRepository;
+import com.barangay.domain.valueobjects.DocumentPageCursor;
 import com.barangay.domain.valueobjects.DocumentReference;
+import com.barangay.domain.valueobjects.DocumentSummary;
+import com.barangay.domain.valueobjects.Page;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -43,4 +46,26 @@ public class SearchDocumentsUseCase {
     public List<Document> search(String query) {
         return documentRepository.search(query);
     }
+
+    /**
+     * List rows for the documents screen; see {@link IDocumentRepository#searchSummaries}.
+     */
+    public List<DocumentSummary> searchSummaries(String query) {
+        return documentRepository.searchSummaries(query);
+    }
+
+    public List<DocumentSummary> findSummariesByResident(ResidentId residentId) {
+        return documentRepository.findSummariesByResidentId(residentId);
+    }
+
+    /**
+     * Keyset page of documents, newest first; pass the previous page's next
+     * cursor, or {@code null} to start from the top.
+     */
+    public Page<Document, DocumentPageCursor> getPage(DocumentPageCursor after, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return documentRepository.findPage(after, pageSize);
+    }
 }
@@ -2,9 +2,15 @@ package com.barangay.application.usecases;
 
 import com.barangay.domain.entities.Gender;
 import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.repositories.IResidentRepository;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.ResidentFilter;
+import com.barangay.domain.valueobjects.ResidentPageCursor;
+import com.barangay.domain.valueobjects.ResidentSummary;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Use Case: Search and Filter Residents
@@ -16,6 +22,13 @@ public class SearchResidentsUseCase {
         this.residentRepository = residentRepository;
     }
 
+    /**
+     * The full record behind a list row, for viewing or editing it.
+     */
+    public Optional<Resident> findById(ResidentId id) {
+        return residentRepository.findById(id);
+    }
+
     public List<Resident> searchByName(String name) {
         return residentRepository.searchByName(name);
     }
@@ -36,4 +49,28 @@ public class SearchResidentsUseCase {
         int offset = (page - 1) * pageSize;
         return residentRepository.findWithPagination(offset, pageSize);
     }
+
+    /**
+     * Keyset page after {@code after}; pass the previous page's next cursor,
+     * or {@code null} to start from the top.
+     */
+    public Page<ResidentSummary, ResidentPageCursor> getPage(ResidentFilter filter, ResidentPageCursor after,
+            int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return residentRepository.findPage(filter, after, pageSize);
+    }
+
+    /**
+     * Cursor for starting a page at {@code position} without loading the
+     * rows before it, e.g. when the user drags the scrollbar far ahead.
+     */
+    public ResidentPageCursor getCursorBefore(ResidentFilter filter, int position) {
+        return residentRepository.findCursorBefore(filter, position);
+    }
+
+    public int count(ResidentFilter filter) {
+        return residentRepository.count(filter);
+    }
 }
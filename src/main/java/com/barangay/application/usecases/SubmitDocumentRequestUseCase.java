@@ -1,6 +1,9 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.SubmitDocumentRequestInputDto;
+import com.barangay.application.events.DocumentRequestChangedEvent;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.DocumentRequest;
 import com.barangay.domain.entities.DocumentType;
@@ -15,18 +18,25 @@ import com.barangay.domain.repositories.IResidentRepository;
 
 /**
  * Use Case: Resident submits an online document request (Module 5).
+ * The request ID and the request row commit together.
  */
 public class SubmitDocumentRequestUseCase {
     private final IDocumentRequestRepository documentRequestRepository;
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
     public SubmitDocumentRequestUseCase(IDocumentRequestRepository documentRequestRepository,
             IResidentRepository residentRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager,
+            DomainEventBus eventBus,
+            IUnitOfWork unitOfWork) {
         this.documentRequestRepository = documentRequestRepository;
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public String execute(SubmitDocumentRequestInputDto input) {
@@ -57,6 +67,10 @@ public class SubmitDocumentRequestUseCase {
             throw new IllegalStateException("Cannot request documents for inactive resident profiles");
         }
 
+        return unitOfWork.execute(() -> submit(input, residentId));
+    }
+
+    private String submit(SubmitDocumentRequestInputDto input, ResidentId residentId) {
         DocumentType documentType = input.getDocumentType();
         String requestId = documentRequestRepository.generateNextId();
 
@@ -70,6 +84,8 @@ public class SubmitDocumentRequestUseCase {
                 input.getAdditionalInfo());
 
         documentRequestRepository.save(request);
+        eventBus.publish(new DocumentRequestChangedEvent(request.getId(), request.getResidentId(),
+                request.getStatus()));
         return requestId;
     }
 }
@@ -1,6 +1,9 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.SubmitVoterApplicationInputDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.VoterApplicationChangedEvent;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.*;
 import com.barangay.domain.exceptions.ResidentNotFoundException;
@@ -11,18 +14,25 @@ import com.barangay.domain.repositories.IVoterApplicationRepository;
 /**
  * Use Case: Submit Voter Application
  * RESIDENT can submit their own voter application
+ * The application ID and the application row commit together.
  */
 public class SubmitVoterApplicationUseCase {
     private final IVoterApplicationRepository applicationRepository;
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
     public SubmitVoterApplicationUseCase(IVoterApplicationRepository applicationRepository,
             IResidentRepository residentRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager,
+            DomainEventBus eventBus,
+            IUnitOfWork unitOfWork) {
         this.applicationRepository = applicationRepository;
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public String execute(SubmitVoterApplicationInputDto input) {
@@ -49,6 +59,10 @@ public class SubmitVoterApplicationUseCase {
             throw new IllegalArgumentException("Valid ID (back) is required");
         }
 
+        return unitOfWork.execute(() -> submit(input, residentId));
+    }
+
+    private String submit(SubmitVoterApplicationInputDto input, ResidentId residentId) {
         // Generate application ID
         String applicationId = applicationRepository.generateNextId();
 
@@ -68,7 +82,13 @@ public class SubmitVoterApplicationUseCase {
 
         // Save application
         applicationRepository.save(application);
+        publishChanged(application);
 
         return applicationId;
     }
+
+    private void publishChanged(VoterApplication application) {
+        eventBus.publish(new VoterApplicationChangedEvent(application.getId(), application.getResidentId(),
+                application.getStatus()));
+    }
 }
@@ -1,6 +1,9 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.UpdateBarangayInfoInputDto;
+import com.barangay.application.events.BarangayInfoChangedEvent;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.services.BarangayInfoCache;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.BarangayInfo;
 import com.barangay.domain.entities.User;
@@ -15,17 +18,24 @@ import java.util.stream.Collectors;
 
 /**
  * Use Case: Update barangay information.
+ * Edits a fresh copy from the repository and invalidates
+ * {@link BarangayInfoCache} afterwards.
  */
 public class UpdateBarangayInfoUseCase {
 
     private static final String DEFAULT_INFO_ID = "BRGY_INFO";
 
     private final IBarangayInfoRepository barangayInfoRepository;
+    private final BarangayInfoCache barangayInfoCache;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
-    public UpdateBarangayInfoUseCase(IBarangayInfoRepository barangayInfoRepository, SessionManager sessionManager) {
+    public UpdateBarangayInfoUseCase(IBarangayInfoRepository barangayInfoRepository,
+            BarangayInfoCache barangayInfoCache, SessionManager sessionManager, DomainEventBus eventBus) {
         this.barangayInfoRepository = barangayInfoRepository;
+        this.barangayInfoCache = barangayInfoCache;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public BarangayInfo execute(UpdateBarangayInfoInputDto input) {
@@ -47,7 +57,13 @@ public class UpdateBarangayInfoUseCase {
                 .orElseGet(() -> new BarangayInfo(DEFAULT_INFO_ID));
 
         applyInput(info, input);
-        barangayInfoRepository.save(info);
+        try {
+            barangayInfoRepository.save(info);
+        } finally {
+            // Also after a failed save, whose outcome is unknown
+            barangayInfoCache.invalidate();
+        }
+        eventBus.publish(new BarangayInfoChangedEvent());
         return info;
     }
 
@@ -1,6 +1,10 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.dto.BulkStatusUpdateResultDto;
 import com.barangay.application.dto.UpdateDocumentRequestStatusInputDto;
+import com.barangay.application.events.DocumentRequestChangedEvent;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.DocumentRequest;
 import com.barangay.domain.entities.DocumentRequestStatus;
@@ -8,7 +12,13 @@ import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
 import com.barangay.domain.exceptions.UnauthorizedOperationException;
 import com.barangay.domain.repositories.IDocumentRequestRepository;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Use Case: Staff review and update document request statuses.
@@ -19,11 +29,15 @@ public class UpdateDocumentRequestStatusUseCase {
 
     private final IDocumentRequestRepository documentRequestRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
     public UpdateDocumentRequestStatusUseCase(IDocumentRequestRepository documentRequestRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager, DomainEventBus eventBus, IUnitOfWork unitOfWork) {
         this.documentRequestRepository = documentRequestRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public void execute(UpdateDocumentRequestStatusInputDto input) {
@@ -31,13 +45,7 @@ public class UpdateDocumentRequestStatusUseCase {
             throw new IllegalArgumentException("Input is required");
         }
 
-        User currentUser = sessionManager.getCurrentUser();
-        if (currentUser == null) {
-            throw new UnauthorizedOperationException("No user logged in");
-        }
-        if (!STAFF_ROLES.contains(currentUser.getRole())) {
-            throw new UnauthorizedOperationException("You are not allowed to review document requests");
-        }
+        User currentUser = requireStaff();
 
         DocumentRequest request = documentRequestRepository.findById(input.getRequestId())
                 .orElseThrow(() -> new IllegalArgumentException("Document request not found"));
@@ -47,20 +55,85 @@ public class UpdateDocumentRequestStatusUseCase {
             throw new IllegalArgumentException("Target status is required");
         }
 
+        applyTransition(request, targetStatus, currentUser.getUsername(), input.getStaffNotes());
+
+        documentRequestRepository.update(request);
+        eventBus.publish(new DocumentRequestChangedEvent(request.getId(), request.getResidentId(),
+                request.getStatus()));
+    }
+
+    /**
+     * Move several requests to {@code targetStatus} with the same notes.
+     * Every transition is checked before anything is written; requests that
+     * are missing or cannot make the transition are skipped and reported,
+     * and the rest are written together in one transaction.
+     */
+    public BulkStatusUpdateResultDto executeBatch(List<String> requestIds, DocumentRequestStatus targetStatus,
+            String staffNotes) {
+        if (requestIds == null || requestIds.isEmpty()) {
+            throw new IllegalArgumentException("Select at least one request");
+        }
+        if (targetStatus == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        User currentUser = requireStaff();
+
+        return unitOfWork.execute(() -> {
+            Map<String, DocumentRequest> requests = documentRequestRepository.findByIds(requestIds).stream()
+                    .collect(Collectors.toMap(DocumentRequest::getId, Function.identity()));
+
+            List<BulkStatusUpdateResultDto.Item> items = new ArrayList<>(requestIds.size());
+            List<DocumentRequest> changed = new ArrayList<>();
+            for (String id : new LinkedHashSet<>(requestIds)) {
+                DocumentRequest request = requests.remove(id);
+                if (request == null) {
+                    items.add(new BulkStatusUpdateResultDto.Item(id, false, "Document request not found"));
+                    continue;
+                }
+                try {
+                    applyTransition(request, targetStatus, currentUser.getUsername(), staffNotes);
+                } catch (IllegalStateException | IllegalArgumentException ex) {
+                    items.add(new BulkStatusUpdateResultDto.Item(id, false, ex.getMessage()));
+                    continue;
+                }
+                changed.add(request);
+                items.add(new BulkStatusUpdateResultDto.Item(id, true, null));
+            }
+
+            documentRequestRepository.updateAll(changed);
+            for (DocumentRequest request : changed) {
+                eventBus.publish(new DocumentRequestChangedEvent(request.getId(), request.getResidentId(),
+                        request.getStatus()));
+            }
+            return new BulkStatusUpdateResultDto(items);
+        });
+    }
+
+    private User requireStaff() {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new UnauthorizedOperationException("No user logged in");
+        }
+        if (!STAFF_ROLES.contains(currentUser.getRole())) {
+            throw new UnauthorizedOperationException("You are not allowed to review document requests");
+        }
+        return currentUser;
+    }
+
+    private static void applyTransition(DocumentRequest request, DocumentRequestStatus targetStatus,
+            String username, String staffNotes) {
         switch (targetStatus) {
             case UNDER_REVIEW:
-                request.markUnderReview(currentUser.getUsername(), input.getStaffNotes());
+                request.markUnderReview(username, staffNotes);
                 break;
             case APPROVED:
-                request.approve(currentUser.getUsername(), input.getStaffNotes());
+                request.approve(username, staffNotes);
                 break;
             case REJECTED:
-                request.reject(currentUser.getUsername(), input.getStaffNotes());
+                request.reject(username, staffNotes);
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported status transition");
         }
-
-        documentRequestRepository.update(request);
     }
 }
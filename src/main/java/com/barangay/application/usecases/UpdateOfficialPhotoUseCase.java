@@ -1,5 +1,7 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.OfficialChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.BarangayOfficial;
 import com.barangay.domain.entities.UserRole;
@@ -16,11 +18,13 @@ import java.nio.file.Paths;
 public class UpdateOfficialPhotoUseCase {
     private final IOfficialRepository officialRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
     public UpdateOfficialPhotoUseCase(IOfficialRepository officialRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager, DomainEventBus eventBus) {
         this.officialRepository = officialRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(String officialId, String photoPath) {
@@ -35,6 +39,7 @@ public class UpdateOfficialPhotoUseCase {
         String sanitizedPath = sanitizePath(photoPath);
         official.setPhotoPath(sanitizedPath);
         officialRepository.update(official);
+        eventBus.publish(new OfficialChangedEvent(official.getOfficialId()));
     }
 
     private String sanitizePath(String photoPath) {
@@ -1,6 +1,8 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.UpdateOfficialInputDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.OfficialChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.BarangayOfficial;
 import com.barangay.domain.entities.UserRole;
@@ -18,11 +20,13 @@ import com.barangay.domain.repositories.IOfficialRepository;
 public class UpdateOfficialUseCase {
     private final IOfficialRepository officialRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
     public UpdateOfficialUseCase(IOfficialRepository officialRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager, DomainEventBus eventBus) {
         this.officialRepository = officialRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(UpdateOfficialInputDto input) {
@@ -63,5 +67,6 @@ public class UpdateOfficialUseCase {
         official.setCurrent(input.isCurrent());
 
         officialRepository.update(official);
+        eventBus.publish(new OfficialChangedEvent(official.getOfficialId()));
     }
 }
@@ -1,6 +1,8 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.UpdateProfileInputDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.UserChangedEvent;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.ResidentId;
@@ -25,13 +27,16 @@ public class UpdateProfileUseCase {
     private final IUserRepository userRepository;
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
     public UpdateProfileUseCase(IUserRepository userRepository,
             IResidentRepository residentRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager,
+            DomainEventBus eventBus) {
         this.userRepository = userRepository;
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(UpdateProfileInputDto input) {
@@ -81,5 +86,6 @@ public class UpdateProfileUseCase {
         }
 
         userRepository.save(user);
+        eventBus.publish(new UserChangedEvent(user.getId()));
     }
 }
@@ -1,6 +1,9 @@
 package com.barangay.application.usecases;
 
 import com.barangay.application.dto.RegisterResidentInputDto;
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.ResidentChangedEvent;
+import com.barangay.application.services.ResidentFactory;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.ResidentId;
@@ -17,10 +20,13 @@ import com.barangay.domain.valueobjects.Address;
 public class UpdateResidentUseCase {
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
 
-    public UpdateResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager) {
+    public UpdateResidentUseCase(IResidentRepository residentRepository, SessionManager sessionManager,
+            DomainEventBus eventBus) {
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
     }
 
     public void execute(String residentIdStr, RegisterResidentInputDto input) {
@@ -57,18 +63,13 @@ public class UpdateResidentUseCase {
         resident.setEducationLevel(input.getEducationLevel());
 
         // Update address
-        if (input.getBarangay() != null || input.getCity() != null || input.getProvince() != null) {
-            Address address = new Address(
-                    input.getHouseNumber(),
-                    input.getStreet(),
-                    input.getPurok(),
-                    input.getBarangay(),
-                    input.getCity(),
-                    input.getProvince());
+        Address address = ResidentFactory.toAddress(input, null);
+        if (address != null) {
             resident.setAddress(address);
         }
 
         // Save changes
         residentRepository.save(resident);
+        eventBus.publish(new ResidentChangedEvent(resident.getId()));
     }
 }
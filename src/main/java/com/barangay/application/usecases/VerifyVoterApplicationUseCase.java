@@ -1,5 +1,9 @@
 package com.barangay.application.usecases;
 
+import com.barangay.application.events.DomainEventBus;
+import com.barangay.application.events.ResidentChangedEvent;
+import com.barangay.application.events.VoterApplicationChangedEvent;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.SessionManager;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.User;
@@ -12,19 +16,25 @@ import com.barangay.domain.repositories.IVoterApplicationRepository;
 
 /**
  * Use Case: Mark Application as Verified
- * Updates both application status and resident voter status
+ * Updates both application status and resident voter status in one transaction
  */
 public class VerifyVoterApplicationUseCase {
     private final IVoterApplicationRepository applicationRepository;
     private final IResidentRepository residentRepository;
     private final SessionManager sessionManager;
+    private final DomainEventBus eventBus;
+    private final IUnitOfWork unitOfWork;
 
     public VerifyVoterApplicationUseCase(IVoterApplicationRepository applicationRepository,
             IResidentRepository residentRepository,
-            SessionManager sessionManager) {
+            SessionManager sessionManager,
+            DomainEventBus eventBus,
+            IUnitOfWork unitOfWork) {
         this.applicationRepository = applicationRepository;
         this.residentRepository = residentRepository;
         this.sessionManager = sessionManager;
+        this.eventBus = eventBus;
+        this.unitOfWork = unitOfWork;
     }
 
     public void execute(String applicationId) {
@@ -39,6 +49,10 @@ public class VerifyVoterApplicationUseCase {
             throw new UnauthorizedOperationException("You are not authorized to verify applications");
         }
 
+        unitOfWork.run(() -> verify(applicationId));
+    }
+
+    private void verify(String applicationId) {
         // Find application
         VoterApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
@@ -53,5 +67,8 @@ public class VerifyVoterApplicationUseCase {
 
         resident.setVoter(true);
         residentRepository.save(resident);
+        eventBus.publish(new VoterApplicationChangedEvent(application.getId(), application.getResidentId(),
+                application.getStatus()));
+        eventBus.publish(new ResidentChangedEvent(resident.getId()));
     }
 }
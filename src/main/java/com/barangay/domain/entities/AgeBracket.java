@@ -0,0 +1,52 @@
+package com.barangay.domain.entities;
+
+/**
+ * Age groups used for population breakdowns.
+ */
+public enum AgeBracket {
+    CHILD(0, 12),
+    TEEN(13, 17),
+    ADULT(18, 59),
+    SENIOR(60, Integer.MAX_VALUE);
+
+    private final int minAge;
+    private final int maxAge;
+
+    AgeBracket(int minAge, int maxAge) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    public int getMinAge() {
+        return minAge;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    public static AgeBracket forAge(int age) {
+        for (AgeBracket bracket : values()) {
+            if (age >= bracket.minAge && age <= bracket.maxAge) {
+                return bracket;
+            }
+        }
+        return CHILD;
+    }
+
+    @Override
+    public String toString() {
+        switch (this) {
+            case CHILD:
+                return "Children (0-12)";
+            case TEEN:
+                return "Teens (13-17)";
+            case ADULT:
+                return "Adults (18-59)";
+            case SENIOR:
+                return "Seniors (60+)";
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.barangay.domain.repositories;
+
+import com.barangay.domain.valueobjects.DashboardCounters;
+import java.util.List;
+
+/**
+ * Repository interface for the dashboard counters kept current by the
+ * database on every insert, update and delete.
+ */
+public interface IDashboardCounterRepository {
+    /**
+     * Read the current counters
+     */
+    DashboardCounters load();
+
+    /**
+     * Recompute every counter from the source tables and report the ones
+     * that drifted, without changing anything
+     */
+    List<String> verify();
+
+    /**
+     * Recompute every counter from the source tables and replace the stored
+     * values; returns the counters that were corrected
+     */
+    List<String> rebuild();
+}
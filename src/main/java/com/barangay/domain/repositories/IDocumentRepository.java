@@ -3,10 +3,16 @@ package com.barangay.domain.repositories;
 import com.barangay.domain.entities.Document;
 import com.barangay.domain.entities.DocumentType;
 import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.valueobjects.DocumentFilter;
+import com.barangay.domain.valueobjects.DocumentPageCursor;
 import com.barangay.domain.valueobjects.DocumentReference;
+import com.barangay.domain.valueobjects.DocumentStatistics;
+import com.barangay.domain.valueobjects.DocumentSummary;
+import com.barangay.domain.valueobjects.Page;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for Document entity.
@@ -43,10 +49,41 @@ public interface IDocumentRepository {
     List<Document> findByDateRange(LocalDate startDate, LocalDate endDate);
 
     /**
-     * Search documents by reference or resident name
+     * Ranked search by reference, type, purpose, issuer or resident name;
+     * a blank query returns every document, newest first
      */
     List<Document> search(String query);
 
+    /**
+     * Same matches and order as {@link #search}, reading only the list
+     * columns; load a document with {@link #findByReference} to open it
+     */
+    List<DocumentSummary> searchSummaries(String query);
+
+    /**
+     * List columns of a resident's documents, newest first
+     */
+    List<DocumentSummary> findSummariesByResidentId(ResidentId residentId);
+
+    /**
+     * Next page of documents, newest issue date first, starting after
+     * {@code after} ({@code null} for the first page)
+     */
+    Page<Document, DocumentPageCursor> findPage(DocumentPageCursor after, int limit);
+
+    /**
+     * Count documents matching {@code filter}
+     */
+    int count(DocumentFilter filter);
+
+    /**
+     * Pass every document matching {@code filter} to {@code action}, newest
+     * issue date first, reading through a forward-only cursor so memory use
+     * does not grow with the table. The action runs on the calling thread
+     * while the cursor is open; an exception it throws stops the walk
+     */
+    void forEach(DocumentFilter filter, Consumer<? super Document> action);
+
     /**
      * Count documents issued today
      */
@@ -62,6 +99,11 @@ public interface IDocumentRepository {
      */
     int countByType(DocumentType type);
 
+    /**
+     * Total, today, this month and per-type counts from one grouped query
+     */
+    DocumentStatistics getStatistics();
+
     /**
      * Generate next document reference
      */
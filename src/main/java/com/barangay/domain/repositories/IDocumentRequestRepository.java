@@ -3,8 +3,13 @@ package com.barangay.domain.repositories;
 import com.barangay.domain.entities.DocumentRequest;
 import com.barangay.domain.entities.DocumentRequestStatus;
 import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.valueobjects.DocumentRequestSummary;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.TimestampPageCursor;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for document requests.
@@ -14,8 +19,20 @@ public interface IDocumentRequestRepository {
 
     void update(DocumentRequest request);
 
+    /**
+     * Update requests in one transaction using a single batched statement;
+     * either all are written or none are
+     */
+    void updateAll(List<DocumentRequest> requests);
+
     Optional<DocumentRequest> findById(String id);
 
+    /**
+     * The requests with the given IDs, in no particular order; unknown IDs
+     * are left out
+     */
+    List<DocumentRequest> findByIds(Collection<String> ids);
+
     List<DocumentRequest> findAll();
 
     List<DocumentRequest> findByStatus(DocumentRequestStatus status);
@@ -24,7 +41,35 @@ public interface IDocumentRequestRepository {
 
     List<DocumentRequest> search(String term);
 
+    /**
+     * List columns of every request, or of those in {@code status} when it
+     * is not {@code null}, newest first
+     */
+    List<DocumentRequestSummary> findSummaries(DocumentRequestStatus status);
+
+    List<DocumentRequestSummary> findSummariesByResidentId(ResidentId residentId);
+
+    /**
+     * Same matches and order as {@link #search}, reading only the list columns
+     */
+    List<DocumentRequestSummary> searchSummaries(String term);
+
+    /**
+     * Next page of requests, newest first, starting after {@code after}
+     * ({@code null} for the first page)
+     */
+    Page<DocumentRequest, TimestampPageCursor> findPage(TimestampPageCursor after, int limit);
+
     int countByStatuses(DocumentRequestStatus... statuses);
 
+    /**
+     * Pass every request, or those in {@code status} when it is not
+     * {@code null}, to {@code action}, newest first, reading through a
+     * forward-only cursor so memory use does not grow with the table. The
+     * action runs on the calling thread while the cursor is open; an
+     * exception it throws stops the walk
+     */
+    void forEach(DocumentRequestStatus status, Consumer<? super DocumentRequest> action);
+
     String generateNextId();
 }
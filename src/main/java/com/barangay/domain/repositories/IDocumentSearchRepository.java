@@ -0,0 +1,22 @@
+package com.barangay.domain.repositories;
+
+import com.barangay.domain.valueobjects.DocumentSearchHit;
+import java.util.List;
+
+/**
+ * Repository interface for the full-text index shared by issued documents
+ * and document requests.
+ */
+public interface IDocumentSearchRepository {
+    /**
+     * Ranked search across documents and requests by reference, type,
+     * purpose, notes, issuer and the resident's name or ID. Each word matches
+     * as a prefix; best matches come first
+     */
+    List<DocumentSearchHit> search(String query, int limit);
+
+    /**
+     * Rebuild the index from the source tables
+     */
+    void rebuild();
+}
@@ -3,9 +3,18 @@ package com.barangay.domain.repositories;
 import com.barangay.domain.entities.Gender;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.ResidentFilter;
+import com.barangay.domain.valueobjects.ResidentIdentity;
+import com.barangay.domain.valueobjects.ResidentPageCursor;
+import com.barangay.domain.valueobjects.ResidentStatistics;
+import com.barangay.domain.valueobjects.ResidentSummary;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for Resident entity.
@@ -16,6 +25,12 @@ public interface IResidentRepository {
      */
     void save(Resident resident);
 
+    /**
+     * Save residents in one transaction using a single batched statement;
+     * either all are written or none are
+     */
+    void saveAll(List<Resident> residents);
+
     /**
      * Find resident by ID
      */
@@ -32,7 +47,9 @@ public interface IResidentRepository {
     List<Resident> findActiveResidents();
 
     /**
-     * Search residents by name
+     * Ranked full-text search over active residents' names, contact and ID.
+     * Each word matches as a prefix and accents are ignored; best matches
+     * come first
      */
     List<Resident> searchByName(String name);
 
@@ -51,6 +68,12 @@ public interface IResidentRepository {
      */
     List<Resident> findPotentialDuplicates(String firstName, String lastName, LocalDate birthDate);
 
+    /**
+     * The subset of {@code candidates} already used by a resident, checked
+     * in as few queries as possible
+     */
+    Set<ResidentIdentity> findExistingIdentities(Collection<ResidentIdentity> candidates);
+
     /**
      * Count total residents
      */
@@ -66,13 +89,53 @@ public interface IResidentRepository {
      */
     int countVoters();
 
+    /**
+     * Aggregate resident counts with purok and age bracket breakdowns in one
+     * pass, without loading residents
+     */
+    ResidentStatistics getStatistics();
+
     /**
      * Generate next resident ID
      */
     ResidentId generateNextId();
 
     /**
-     * Find residents with pagination
+     * Reserve {@code count} consecutive resident IDs with one sequence update
+     */
+    List<ResidentId> generateNextIds(int count);
+
+    /**
+     * Find active residents with offset pagination; prefer {@link #findPage}
+     * for paging through the list
      */
     List<Resident> findWithPagination(int offset, int limit);
+
+    /**
+     * Next page of residents matching {@code filter}, ordered by last name,
+     * first name and ID, starting after {@code after} ({@code null} for the
+     * first page). Rows carry only the list columns; load the resident with
+     * {@link #findById} to open it
+     */
+    Page<ResidentSummary, ResidentPageCursor> findPage(ResidentFilter filter, ResidentPageCursor after, int limit);
+
+    /**
+     * Cursor that makes {@link #findPage} start at the given zero-based
+     * position of the filtered list, for jumping without loading the rows
+     * before it; {@code null} for position 0 or past the end
+     */
+    ResidentPageCursor findCursorBefore(ResidentFilter filter, int position);
+
+    /**
+     * Count residents matching {@code filter}
+     */
+    int count(ResidentFilter filter);
+
+    /**
+     * Pass every resident matching {@code filter} to {@code action} in list
+     * order, reading through a forward-only cursor so memory use does not
+     * grow with the table. The action runs on the calling thread while the
+     * cursor is open; an exception it throws stops the walk
+     */
+    void forEach(ResidentFilter filter, Consumer<? super Resident> action);
 }
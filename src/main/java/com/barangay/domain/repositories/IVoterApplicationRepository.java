@@ -3,6 +3,8 @@ package com.barangay.domain.repositories;
 import com.barangay.domain.entities.VoterApplication;
 import com.barangay.domain.entities.ApplicationStatus;
 import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.TimestampPageCursor;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +37,12 @@ public interface IVoterApplicationRepository {
      */
     List<VoterApplication> findAll();
 
+    /**
+     * Next page of applications, most recently submitted first, starting
+     * after {@code after} ({@code null} for the first page)
+     */
+    Page<VoterApplication, TimestampPageCursor> findPage(TimestampPageCursor after, int limit);
+
     /**
      * Count pending applications
      */
@@ -0,0 +1,61 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.ApplicationStatus;
+import com.barangay.domain.entities.DocumentRequestStatus;
+import com.barangay.domain.entities.UserRole;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Value Object: DashboardCounters
+ * Snapshot of the incrementally maintained dashboard counters. Resident
+ * statistics carry totals only; purok and age breakdowns are not tracked.
+ */
+public class DashboardCounters {
+    private final ResidentStatistics residents;
+    private final DocumentStatistics documents;
+    private final Map<ApplicationStatus, Integer> voterApplicationsByStatus;
+    private final Map<DocumentRequestStatus, Integer> documentRequestsByStatus;
+    private final Map<UserRole, Integer> usersByRole;
+
+    public DashboardCounters(ResidentStatistics residents, DocumentStatistics documents,
+            Map<ApplicationStatus, Integer> voterApplicationsByStatus,
+            Map<DocumentRequestStatus, Integer> documentRequestsByStatus,
+            Map<UserRole, Integer> usersByRole) {
+        this.residents = residents;
+        this.documents = documents;
+        this.voterApplicationsByStatus = fill(ApplicationStatus.class, voterApplicationsByStatus);
+        this.documentRequestsByStatus = fill(DocumentRequestStatus.class, documentRequestsByStatus);
+        this.usersByRole = fill(UserRole.class, usersByRole);
+    }
+
+    public ResidentStatistics getResidents() {
+        return residents;
+    }
+
+    public DocumentStatistics getDocuments() {
+        return documents;
+    }
+
+    public int getVoterApplications(ApplicationStatus status) {
+        return voterApplicationsByStatus.get(status);
+    }
+
+    public int getDocumentRequests(DocumentRequestStatus status) {
+        return documentRequestsByStatus.get(status);
+    }
+
+    public int getUsers(UserRole role) {
+        return usersByRole.get(role);
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> fill(Class<E> type, Map<E, Integer> counts) {
+        EnumMap<E, Integer> filled = new EnumMap<>(type);
+        for (E key : type.getEnumConstants()) {
+            filled.put(key, counts.getOrDefault(key, 0));
+        }
+        return Collections.unmodifiableMap(filled);
+    }
+}
@@ -0,0 +1,51 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.DocumentType;
+import java.time.LocalDate;
+
+/**
+ * Value Object: DocumentFilter
+ * Criteria for selecting issued documents. Unset criteria match everything.
+ */
+public class DocumentFilter {
+    private static final DocumentFilter ALL = new DocumentFilter(null, null, null, null);
+
+    private final DocumentType type;
+    private final LocalDate issuedFrom;
+    private final LocalDate issuedTo;
+    private final String searchText;
+
+    /**
+     * @param type       only this document type, or {@code null} for any
+     * @param issuedFrom first issue date to include, or {@code null}
+     * @param issuedTo   last issue date to include, or {@code null}
+     * @param searchText words matched as prefixes of reference, type, purpose,
+     *                   issuer or resident name, or blank for any
+     */
+    public DocumentFilter(DocumentType type, LocalDate issuedFrom, LocalDate issuedTo, String searchText) {
+        this.type = type;
+        this.issuedFrom = issuedFrom;
+        this.issuedTo = issuedTo;
+        this.searchText = searchText == null || searchText.isBlank() ? null : searchText.trim();
+    }
+
+    public static DocumentFilter all() {
+        return ALL;
+    }
+
+    public DocumentType getType() {
+        return type;
+    }
+
+    public LocalDate getIssuedFrom() {
+        return issuedFrom;
+    }
+
+    public LocalDate getIssuedTo() {
+        return issuedTo;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+}
@@ -0,0 +1,29 @@
+package com.barangay.domain.valueobjects;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object: DocumentPageCursor
+ * Position in the document list, which is ordered newest first by issue
+ * date and then reference.
+ */
+public class DocumentPageCursor {
+    private final LocalDate issuedDate;
+    private final DocumentReference reference;
+
+    public DocumentPageCursor(LocalDate issuedDate, DocumentReference reference) {
+        if (issuedDate == null || reference == null) {
+            throw new IllegalArgumentException("Document cursor needs issue date and reference");
+        }
+        this.issuedDate = issuedDate;
+        this.reference = reference;
+    }
+
+    public LocalDate getIssuedDate() {
+        return issuedDate;
+    }
+
+    public DocumentReference getReference() {
+        return reference;
+    }
+}
@@ -0,0 +1,68 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.DocumentRequestStatus;
+import com.barangay.domain.entities.DocumentType;
+import com.barangay.domain.entities.ResidentId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object: DocumentRequestSummary
+ * Read-only row of the document request lists. Notes, requested validity
+ * and handler are left out; load the DocumentRequest to show or act on them.
+ */
+public class DocumentRequestSummary {
+    private final String id;
+    private final ResidentId residentId;
+    private final DocumentType documentType;
+    private final String purpose;
+    private final DocumentRequestStatus status;
+    private final String linkedDocumentReference;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public DocumentRequestSummary(String id, ResidentId residentId, DocumentType documentType, String purpose,
+            DocumentRequestStatus status, String linkedDocumentReference, LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this.id = id;
+        this.residentId = residentId;
+        this.documentType = documentType;
+        this.purpose = purpose;
+        this.status = status;
+        this.linkedDocumentReference = linkedDocumentReference;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+
+    public DocumentType getDocumentType() {
+        return documentType;
+    }
+
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public DocumentRequestStatus getStatus() {
+        return status;
+    }
+
+    public String getLinkedDocumentReference() {
+        return linkedDocumentReference;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,77 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.DocumentType;
+import com.barangay.domain.entities.ResidentId;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object: DocumentSearchHit
+ * One issued document or document request matched by a full-text search,
+ * with enough detail to list it without loading the record.
+ */
+public class DocumentSearchHit {
+    /**
+     * The kind of record a hit points to.
+     */
+    public enum Kind {
+        DOCUMENT,
+        REQUEST
+    }
+
+    private final Kind kind;
+    private final String key;
+    private final DocumentType documentType;
+    private final ResidentId residentId;
+    private final String residentName;
+    private final LocalDate date;
+    private final String excerpt;
+
+    public DocumentSearchHit(Kind kind, String key, DocumentType documentType, ResidentId residentId,
+            String residentName, LocalDate date, String excerpt) {
+        this.kind = kind;
+        this.key = key;
+        this.documentType = documentType;
+        this.residentId = residentId;
+        this.residentName = residentName;
+        this.date = date;
+        this.excerpt = excerpt;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Document reference or request ID, depending on {@link #getKind()}.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public DocumentType getDocumentType() {
+        return documentType;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+
+    public String getResidentName() {
+        return residentName;
+    }
+
+    /**
+     * Issue date for documents, submission date for requests.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Matched text with the hit terms in square brackets.
+     */
+    public String getExcerpt() {
+        return excerpt;
+    }
+}
@@ -0,0 +1,53 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.DocumentType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Value Object: DocumentStatistics
+ * Aggregated issued-document counts computed by the repository.
+ */
+public class DocumentStatistics {
+    private final int totalDocuments;
+    private final int issuedToday;
+    private final int issuedThisMonth;
+    private final Map<DocumentType, Integer> countByType;
+
+    public DocumentStatistics(int totalDocuments, int issuedToday, int issuedThisMonth,
+            Map<DocumentType, Integer> countByType) {
+        this.totalDocuments = totalDocuments;
+        this.issuedToday = issuedToday;
+        this.issuedThisMonth = issuedThisMonth;
+        EnumMap<DocumentType, Integer> types = new EnumMap<>(DocumentType.class);
+        for (DocumentType type : DocumentType.values()) {
+            types.put(type, countByType.getOrDefault(type, 0));
+        }
+        this.countByType = Collections.unmodifiableMap(types);
+    }
+
+    public int getTotalDocuments() {
+        return totalDocuments;
+    }
+
+    public int getIssuedToday() {
+        return issuedToday;
+    }
+
+    public int getIssuedThisMonth() {
+        return issuedThisMonth;
+    }
+
+    /**
+     * Documents per type; every type is present.
+     */
+    public Map<DocumentType, Integer> getCountByType() {
+        return countByType;
+    }
+
+    public int getCount(DocumentType type) {
+        return countByType.get(type);
+    }
+}
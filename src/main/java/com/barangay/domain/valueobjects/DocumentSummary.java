@@ -0,0 +1,70 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.DocumentType;
+import com.barangay.domain.entities.ResidentId;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object: DocumentSummary
+ * Read-only row of the issued documents list. Additional info and the
+ * originating request are left out; load the Document to show them.
+ */
+public class DocumentSummary {
+    private final DocumentReference reference;
+    private final ResidentId residentId;
+    private final DocumentType type;
+    private final String purpose;
+    private final LocalDate issuedDate;
+    private final LocalDate validUntil;
+    private final String issuedBy;
+    private final String photoPath;
+
+    public DocumentSummary(DocumentReference reference, ResidentId residentId, DocumentType type, String purpose,
+            LocalDate issuedDate, LocalDate validUntil, String issuedBy, String photoPath) {
+        this.reference = reference;
+        this.residentId = residentId;
+        this.type = type;
+        this.purpose = purpose;
+        this.issuedDate = issuedDate;
+        this.validUntil = validUntil;
+        this.issuedBy = issuedBy;
+        this.photoPath = photoPath;
+    }
+
+    public DocumentReference getReference() {
+        return reference;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+
+    public DocumentType getType() {
+        return type;
+    }
+
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public LocalDate getIssuedDate() {
+        return issuedDate;
+    }
+
+    public LocalDate getValidUntil() {
+        return validUntil;
+    }
+
+    public String getIssuedBy() {
+        return issuedBy;
+    }
+
+    public String getPhotoPath() {
+        return photoPath;
+    }
+
+    public boolean hasPhoto() {
+        return photoPath != null && !photoPath.isBlank();
+    }
+}
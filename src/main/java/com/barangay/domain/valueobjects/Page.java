@@ -0,0 +1,38 @@
+package com.barangay.domain.valueobjects;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Value Object: Page
+ * One page of a keyset-paginated list plus the cursor that continues after
+ * its last row. Pages are stable while rows are inserted elsewhere in the
+ * list, and fetching page N costs the same as fetching page 1.
+ *
+ * @param <T> row type
+ * @param <C> cursor type of the list
+ */
+public class Page<T, C> {
+    private final List<T> items;
+    private final C nextCursor;
+
+    public Page(List<T> items, C nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Pass to the next {@code findPage} call; {@code null} on the last page.
+     */
+    public C getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.Gender;
+
+/**
+ * Value Object: ResidentFilter
+ * Criteria for browsing the resident list. Unset criteria match everything.
+ */
+public class ResidentFilter {
+    private static final ResidentFilter ALL = new ResidentFilter(null, null, null);
+
+    private final Gender gender;
+    private final Boolean active;
+    private final String searchText;
+
+    /**
+     * @param gender     only this gender, or {@code null} for any
+     * @param active     only active or only inactive residents, or {@code null} for both
+     * @param searchText words matched as prefixes of name, contact or ID, or blank for any
+     */
+    public ResidentFilter(Gender gender, Boolean active, String searchText) {
+        this.gender = gender;
+        this.active = active;
+        this.searchText = searchText == null || searchText.isBlank() ? null : searchText.trim();
+    }
+
+    public static ResidentFilter all() {
+        return ALL;
+    }
+
+    public Gender getGender() {
+        return gender;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+}
@@ -0,0 +1,58 @@
+package com.barangay.domain.valueobjects;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Value Object: ResidentIdentity
+ * First name, last name and birth date; two residents with the same
+ * identity are treated as potential duplicates.
+ */
+public class ResidentIdentity {
+    private final String firstName;
+    private final String lastName;
+    private final LocalDate birthDate;
+
+    public ResidentIdentity(String firstName, String lastName, LocalDate birthDate) {
+        if (firstName == null || lastName == null || birthDate == null) {
+            throw new IllegalArgumentException("Identity fields cannot be null");
+        }
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.birthDate = birthDate;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ResidentIdentity that = (ResidentIdentity) o;
+        return firstName.equals(that.firstName)
+                && lastName.equals(that.lastName)
+                && birthDate.equals(that.birthDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstName, lastName, birthDate);
+    }
+
+    @Override
+    public String toString() {
+        return firstName + " " + lastName + " (" + birthDate + ")";
+    }
+}
@@ -0,0 +1,35 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.ResidentId;
+
+/**
+ * Value Object: ResidentPageCursor
+ * Position in the resident list, which is ordered by last name, first name
+ * and ID.
+ */
+public class ResidentPageCursor {
+    private final String lastName;
+    private final String firstName;
+    private final ResidentId residentId;
+
+    public ResidentPageCursor(String lastName, String firstName, ResidentId residentId) {
+        if (lastName == null || firstName == null || residentId == null) {
+            throw new IllegalArgumentException("Resident cursor needs last name, first name and ID");
+        }
+        this.lastName = lastName;
+        this.firstName = firstName;
+        this.residentId = residentId;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public ResidentId getResidentId() {
+        return residentId;
+    }
+}
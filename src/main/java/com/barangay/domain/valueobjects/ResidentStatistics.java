@@ -0,0 +1,75 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.AgeBracket;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Value Object: ResidentStatistics
+ * Aggregated resident counts computed by the repository. Breakdowns cover
+ * active residents only.
+ */
+public class ResidentStatistics {
+    public static final String UNASSIGNED_PUROK = "Unassigned";
+
+    private final int totalResidents;
+    private final int activeResidents;
+    private final int maleCount;
+    private final int femaleCount;
+    private final int registeredVoters;
+    private final Map<String, Integer> activeByPurok;
+    private final Map<AgeBracket, Integer> activeByAgeBracket;
+
+    public ResidentStatistics(int totalResidents, int activeResidents, int maleCount, int femaleCount,
+            int registeredVoters, Map<String, Integer> activeByPurok,
+            Map<AgeBracket, Integer> activeByAgeBracket) {
+        this.totalResidents = totalResidents;
+        this.activeResidents = activeResidents;
+        this.maleCount = maleCount;
+        this.femaleCount = femaleCount;
+        this.registeredVoters = registeredVoters;
+        this.activeByPurok = Collections.unmodifiableMap(new LinkedHashMap<>(activeByPurok));
+        EnumMap<AgeBracket, Integer> brackets = new EnumMap<>(AgeBracket.class);
+        for (AgeBracket bracket : AgeBracket.values()) {
+            brackets.put(bracket, activeByAgeBracket.getOrDefault(bracket, 0));
+        }
+        this.activeByAgeBracket = Collections.unmodifiableMap(brackets);
+    }
+
+    public int getTotalResidents() {
+        return totalResidents;
+    }
+
+    public int getActiveResidents() {
+        return activeResidents;
+    }
+
+    public int getMaleCount() {
+        return maleCount;
+    }
+
+    public int getFemaleCount() {
+        return femaleCount;
+    }
+
+    public int getRegisteredVoters() {
+        return registeredVoters;
+    }
+
+    /**
+     * Active residents per purok, in purok order.
+     */
+    public Map<String, Integer> getActiveByPurok() {
+        return activeByPurok;
+    }
+
+    /**
+     * Active residents per age bracket; every bracket is present.
+     */
+    public Map<AgeBracket, Integer> getActiveByAgeBracket() {
+        return activeByAgeBracket;
+    }
+}
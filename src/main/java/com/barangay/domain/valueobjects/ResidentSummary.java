@@ -0,0 +1,80 @@
+package com.barangay.domain.valueobjects;
+
+import com.barangay.domain.entities.Gender;
+import com.barangay.domain.entities.ResidentId;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object: ResidentSummary
+ * Read-only row of the resident list: only the columns the list shows.
+ * Load the Resident itself to view or edit the full record.
+ */
+public class ResidentSummary {
+    private final ResidentId id;
+    private final String firstName;
+    private final String middleName;
+    private final String lastName;
+    private final String suffix;
+    private final Gender gender;
+    private final LocalDate birthDate;
+    private final String contact;
+    private final boolean active;
+
+    public ResidentSummary(ResidentId id, String firstName, String middleName, String lastName, String suffix,
+            Gender gender, LocalDate birthDate, String contact, boolean active) {
+        this.id = id;
+        this.firstName = firstName;
+        this.middleName = middleName;
+        this.lastName = lastName;
+        this.suffix = suffix;
+        this.gender = gender;
+        this.birthDate = birthDate;
+        this.contact = contact;
+        this.active = active;
+    }
+
+    public ResidentId getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Same format as {@code Resident.getFullName()}.
+     */
+    public String getFullName() {
+        StringBuilder fullName = new StringBuilder();
+        fullName.append(firstName);
+        if (middleName != null && !middleName.isEmpty()) {
+            fullName.append(" ").append(middleName);
+        }
+        fullName.append(" ").append(lastName);
+        if (suffix != null && !suffix.isEmpty()) {
+            fullName.append(" ").append(suffix);
+        }
+        return fullName.toString();
+    }
+
+    public Gender getGender() {
+        return gender;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public String getContact() {
+        return contact;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,29 @@
+package com.barangay.domain.valueobjects;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object: TimestampPageCursor
+ * Position in a list ordered newest first by a creation timestamp and then
+ * ID, such as document requests and voter applications.
+ */
+public class TimestampPageCursor {
+    private final LocalDateTime timestamp;
+    private final String id;
+
+    public TimestampPageCursor(LocalDateTime timestamp, String id) {
+        if (timestamp == null || id == null) {
+            throw new IllegalArgumentException("Timestamp cursor needs timestamp and ID");
+        }
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
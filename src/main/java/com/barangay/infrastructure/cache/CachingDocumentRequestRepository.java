@@ -0,0 +1,130 @@
+package com.barangay.infrastructure.cache;
+
+import com.barangay.application.ports.IUnitOfWork;
+import com.barangay.domain.entities.DocumentRequest;
+import com.barangay.domain.entities.DocumentRequestStatus;
+import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.repositories.IDocumentRequestRepository;
+import com.barangay.domain.valueobjects.DocumentRequestSummary;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.TimestampPageCursor;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Document request repository decorator that serves {@link #findById}
+ * from an LRU cache. Writes go through to the delegate first and then
+ * refresh the entry; list and count queries always read the database.
+ */
+public class CachingDocumentRequestRepository implements IDocumentRequestRepository {
+    private final IDocumentRequestRepository delegate;
+    private final EntityCache<String, DocumentRequest> cache;
+
+    public CachingDocumentRequestRepository(IDocumentRequestRepository delegate, int maxSize,
+            IUnitOfWork unitOfWork) {
+        this.delegate = delegate;
+        this.cache = new EntityCache<>("documentRequests", maxSize, EntityCopies::copy, unitOfWork);
+    }
+
+    public EntityCache<String, DocumentRequest> getCache() {
+        return cache;
+    }
+
+    @Override
+    public void save(DocumentRequest request) {
+        try {
+            delegate.save(request);
+        } catch (RuntimeException e) {
+            cache.invalidate(request.getId());
+            throw e;
+        }
+        cache.put(request.getId(), request);
+    }
+
+    @Override
+    public void update(DocumentRequest request) {
+        try {
+            delegate.update(request);
+        } catch (RuntimeException e) {
+            cache.invalidate(request.getId());
+            throw e;
+        }
+        cache.put(request.getId(), request);
+    }
+
+    @Override
+    public void updateAll(List<DocumentRequest> requests) {
+        try {
+            delegate.updateAll(requests);
+        } finally {
+            requests.forEach(request -> cache.invalidate(request.getId()));
+        }
+    }
+
+    @Override
+    public Optional<DocumentRequest> findById(String id) {
+        return cache.getOrLoad(id, delegate::findById);
+    }
+
+    @Override
+    public List<DocumentRequest> findByIds(Collection<String> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<DocumentRequest> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<DocumentRequest> findByStatus(DocumentRequestStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<DocumentRequest> findByResidentId(ResidentId residentId) {
+        return delegate.findByResidentId(residentId);
+    }
+
+    @Override
+    public List<DocumentRequest> search(String term) {
+        return delegate.search(term);
+    }
+
+    @Override
+    public List<DocumentRequestSummary> findSummaries(DocumentRequestStatus status) {
+        return delegate.findSummaries(status);
+    }
+
+    @Override
+    public List<DocumentRequestSummary> findSummariesByResidentId(ResidentId residentId) {
+        return delegate.findSummariesByResidentId(residentId);
+    }
+
+    @Override
+    public List<DocumentRequestSummary> searchSummaries(String term) {
+        return delegate.searchSummaries(term);
+    }
+
+    @Override
+    public Page<DocumentRequest, TimestampPageCursor> findPage(TimestampPageCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public int countByStatuses(DocumentRequestStatus... statuses) {
+        return delegate.countByStatuses(statuses);
+    }
+
+    @Override
+    public String generateNextId() {
+        return delegate.generateNextId();
+    }
+
+    @Override
+    public void forEach(DocumentRequestStatus status, Consumer<? super DocumentRequest> action) {
+        delegate.forEach(status, action);
+    }
+}
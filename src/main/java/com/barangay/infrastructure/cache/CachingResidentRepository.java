@@ -0,0 +1,159 @@
+package com.barangay.infrastructure.cache;
+
+import com.barangay.application.ports.IUnitOfWork;
+import com.barangay.domain.entities.Gender;
+import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.repositories.IResidentRepository;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.ResidentFilter;
+import com.barangay.domain.valueobjects.ResidentIdentity;
+import com.barangay.domain.valueobjects.ResidentPageCursor;
+import com.barangay.domain.valueobjects.ResidentStatistics;
+import com.barangay.domain.valueobjects.ResidentSummary;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.Set;
+
+/**
+ * Resident repository decorator that serves {@link #findById} from an LRU
+ * cache. Writes go through to the delegate first and then refresh the
+ * entry; list and count queries always read the database.
+ */
+public class CachingResidentRepository implements IResidentRepository {
+    private final IResidentRepository delegate;
+    private final EntityCache<ResidentId, Resident> cache;
+
+    public CachingResidentRepository(IResidentRepository delegate, int maxSize,
+            IUnitOfWork unitOfWork) {
+        this.delegate = delegate;
+        this.cache = new EntityCache<>("residents", maxSize, EntityCopies::copy, unitOfWork);
+    }
+
+    public EntityCache<ResidentId, Resident> getCache() {
+        return cache;
+    }
+
+    @Override
+    public void save(Resident resident) {
+        try {
+            delegate.save(resident);
+        } catch (RuntimeException e) {
+            cache.invalidate(resident.getId());
+            throw e;
+        }
+        cache.put(resident.getId(), resident);
+    }
+
+    /**
+     * Bulk writes drop the entries instead of filling the cache, so an import
+     * does not evict the residents people are actually looking at.
+     */
+    @Override
+    public void saveAll(List<Resident> residents) {
+        try {
+            delegate.saveAll(residents);
+        } finally {
+            residents.forEach(resident -> cache.invalidate(resident.getId()));
+        }
+    }
+
+    @Override
+    public Optional<Resident> findById(ResidentId id) {
+        return cache.getOrLoad(id, delegate::findById);
+    }
+
+    @Override
+    public List<Resident> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Resident> findActiveResidents() {
+        return delegate.findActiveResidents();
+    }
+
+    @Override
+    public List<Resident> searchByName(String name) {
+        return delegate.searchByName(name);
+    }
+
+    @Override
+    public List<Resident> findByGender(Gender gender) {
+        return delegate.findByGender(gender);
+    }
+
+    @Override
+    public List<Resident> findByAgeRange(int minAge, int maxAge) {
+        return delegate.findByAgeRange(minAge, maxAge);
+    }
+
+    @Override
+    public List<Resident> findPotentialDuplicates(String firstName, String lastName, LocalDate birthDate) {
+        return delegate.findPotentialDuplicates(firstName, lastName, birthDate);
+    }
+
+    @Override
+    public Set<ResidentIdentity> findExistingIdentities(Collection<ResidentIdentity> candidates) {
+        return delegate.findExistingIdentities(candidates);
+    }
+
+    @Override
+    public int countTotal() {
+        return delegate.countTotal();
+    }
+
+    @Override
+    public int countByGender(Gender gender) {
+        return delegate.countByGender(gender);
+    }
+
+    @Override
+    public int countVoters() {
+        return delegate.countVoters();
+    }
+
+    @Override
+    public ResidentStatistics getStatistics() {
+        return delegate.getStatistics();
+    }
+
+    @Override
+    public ResidentId generateNextId() {
+        return delegate.generateNextId();
+    }
+
+    @Override
+    public List<ResidentId> generateNextIds(int count) {
+        return delegate.generateNextIds(count);
+    }
+
+    @Override
+    public List<Resident> findWithPagination(int offset, int limit) {
+        return delegate.findWithPagination(offset, limit);
+    }
+
+    @Override
+    public Page<ResidentSummary, ResidentPageCursor> findPage(ResidentFilter filter, ResidentPageCursor after,
+            int limit) {
+        return delegate.findPage(filter, after, limit);
+    }
+
+    @Override
+    public ResidentPageCursor findCursorBefore(ResidentFilter filter, int position) {
+        return delegate.findCursorBefore(filter, position);
+    }
+
+    @Override
+    public int count(ResidentFilter filter) {
+        return delegate.count(filter);
+    }
+
+    @Override
+    public void forEach(ResidentFilter filter, Consumer<? super Resident> action) {
+        delegate.forEach(filter, action);
+    }
+}
@@ -0,0 +1,77 @@
+package com.barangay.infrastructure.cache;
+
+import com.barangay.application.ports.IUnitOfWork;
+import com.barangay.domain.entities.ApplicationStatus;
+import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.entities.VoterApplication;
+import com.barangay.domain.repositories.IVoterApplicationRepository;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.TimestampPageCursor;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Voter application repository decorator that serves {@link #findById}
+ * from an LRU cache. Writes go through to the delegate first and then
+ * refresh the entry; list and count queries always read the database.
+ */
+public class CachingVoterApplicationRepository implements IVoterApplicationRepository {
+    private final IVoterApplicationRepository delegate;
+    private final EntityCache<String, VoterApplication> cache;
+
+    public CachingVoterApplicationRepository(IVoterApplicationRepository delegate, int maxSize,
+            IUnitOfWork unitOfWork) {
+        this.delegate = delegate;
+        this.cache = new EntityCache<>("voterApplications", maxSize, EntityCopies::copy, unitOfWork);
+    }
+
+    public EntityCache<String, VoterApplication> getCache() {
+        return cache;
+    }
+
+    @Override
+    public void save(VoterApplication application) {
+        try {
+            delegate.save(application);
+        } catch (RuntimeException e) {
+            cache.invalidate(application.getId());
+            throw e;
+        }
+        cache.put(application.getId(), application);
+    }
+
+    @Override
+    public Optional<VoterApplication> findById(String id) {
+        return cache.getOrLoad(id, delegate::findById);
+    }
+
+    @Override
+    public List<VoterApplication> findByResidentId(ResidentId residentId) {
+        return delegate.findByResidentId(residentId);
+    }
+
+    @Override
+    public List<VoterApplication> findByStatus(ApplicationStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<VoterApplication> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<VoterApplication, TimestampPageCursor> findPage(TimestampPageCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public int countPending() {
+        return delegate.countPending();
+    }
+
+    @Override
+    public String generateNextId() {
+        return delegate.generateNextId();
+    }
+}
@@ -0,0 +1,196 @@
+package com.barangay.infrastructure.cache;
+
+import com.barangay.application.ports.IUnitOfWork;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Size-bounded LRU map of entities by ID, shared by the caching repository
+ * decorators. Entities are mutable, so the cache keeps its own copy of each
+ * entry and hands out copies: a use case that changes an entity and then
+ * fails never leaves the change behind in the cache.
+ * <p>
+ * Inside a unit of work the cache is bypassed: loads go to the database,
+ * and writes drop the entry now and again when the unit completes, so
+ * uncommitted or rolled-back state is never served to other threads.
+ * <p>
+ * Thread-safe; use cases run on several worker threads.
+ */
+public class EntityCache<K, V> {
+    private final String name;
+    private final int maxSize;
+    private final UnaryOperator<V> copier;
+    private final IUnitOfWork unitOfWork;
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    // Bumped by every write so a load that raced with one is not cached
+    private long writes;
+
+    public EntityCache(String name, int maxSize, UnaryOperator<V> copier, IUnitOfWork unitOfWork) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.copier = copier;
+        this.unitOfWork = unitOfWork;
+    }
+
+    /**
+     * A copy of the cached entity, loading and caching it on a miss. A load
+     * that overlaps a write is returned but not cached, as it may predate
+     * the write.
+     */
+    public Optional<V> getOrLoad(K key, Function<K, Optional<V>> loader) {
+        if (unitOfWork.isActive()) {
+            return loader.apply(key);
+        }
+        long writesBefore;
+        synchronized (entries) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Optional.of(copier.apply(cached));
+            }
+            writesBefore = writes;
+        }
+        misses.incrementAndGet();
+        Optional<V> loaded = loader.apply(key);
+        if (loaded.isPresent()) {
+            V copy = copier.apply(loaded.get());
+            synchronized (entries) {
+                if (writes == writesBefore) {
+                    store(key, copy);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Cache a copy of {@code value}, evicting the least recently used
+     * entries beyond the size bound.
+     */
+    public void put(K key, V value) {
+        if (unitOfWork.isActive()) {
+            invalidate(key);
+            return;
+        }
+        V copy = copier.apply(value);
+        synchronized (entries) {
+            writes++;
+            store(key, copy);
+        }
+    }
+
+    /**
+     * Drop the entry for {@code key}, e.g. after a failed write.
+     */
+    public void invalidate(K key) {
+        remove(key);
+        if (unitOfWork.isActive()) {
+            unitOfWork.afterCompletion(() -> remove(key));
+        }
+    }
+
+    private void remove(K key) {
+        synchronized (entries) {
+            writes++;
+            entries.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            writes++;
+            entries.clear();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void store(K key, V copy) {
+        entries.put(key, copy);
+        Iterator<K> eldest = entries.keySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Snapshot of the counters for diagnostics.
+     */
+    public Stats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(size, maxSize, hits.get(), misses.get(), evictions.get());
+    }
+
+    /**
+     * Point-in-time cache counters.
+     */
+    public static class Stats {
+        private final int size;
+        private final int maxSize;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        public Stats(int size, int maxSize, long hits, long misses, long evictions) {
+            this.size = size;
+            this.maxSize = maxSize;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Share of lookups served from the cache, between 0 and 1.
+         */
+        public double getHitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("size=%d/%d, hits=%d, misses=%d, evictions=%d, hitRatio=%.2f",
+                    size, maxSize, hits, misses, evictions, getHitRatio());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.barangay.infrastructure.cache;
+
+/**
+ * Settings for the entity caches in front of the repositories.
+ * Values can be overridden with system properties, e.g.
+ * {@code -Dbarangay.cache.enabled=false} to read every lookup from the
+ * database while debugging.
+ */
+public class EntityCacheConfig {
+    public static final int DEFAULT_RESIDENT_CACHE_SIZE = 2_000;
+    public static final int DEFAULT_VOTER_APPLICATION_CACHE_SIZE = 500;
+    public static final int DEFAULT_DOCUMENT_REQUEST_CACHE_SIZE = 500;
+
+    private final boolean enabled;
+    private final int residentCacheSize;
+    private final int voterApplicationCacheSize;
+    private final int documentRequestCacheSize;
+
+    public EntityCacheConfig(boolean enabled, int residentCacheSize, int voterApplicationCacheSize,
+            int documentRequestCacheSize) {
+        if (residentCacheSize < 1 || voterApplicationCacheSize < 1 || documentRequestCacheSize < 1) {
+            throw new IllegalArgumentException("Cache sizes must be at least 1");
+        }
+        this.enabled = enabled;
+        this.residentCacheSize = residentCacheSize;
+        this.voterApplicationCacheSize = voterApplicationCacheSize;
+        this.documentRequestCacheSize = documentRequestCacheSize;
+    }
+
+    /**
+     * Build the configuration from {@code barangay.cache.*} system
+     * properties, falling back to the defaults.
+     */
+    public static EntityCacheConfig fromSystemProperties() {
+        return new EntityCacheConfig(
+                Boolean.parseBoolean(System.getProperty("barangay.cache.enabled", "true")),
+                Integer.getInteger("barangay.cache.residents", DEFAULT_RESIDENT_CACHE_SIZE),
+                Integer.getInteger("barangay.cache.voterApplications", DEFAULT_VOTER_APPLICATION_CACHE_SIZE),
+                Integer.getInteger("barangay.cache.documentRequests", DEFAULT_DOCUMENT_REQUEST_CACHE_SIZE));
+    }
+
+    /**
+     * When false the repositories are used without caching.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getResidentCacheSize() {
+        return residentCacheSize;
+    }
+
+    public int getVoterApplicationCacheSize() {
+        return voterApplicationCacheSize;
+    }
+
+    public int getDocumentRequestCacheSize() {
+        return documentRequestCacheSize;
+    }
+}
@@ -0,0 +1,52 @@
+package com.barangay.infrastructure.cache;
+
+import com.barangay.domain.entities.DocumentRequest;
+import com.barangay.domain.entities.Resident;
+import com.barangay.domain.entities.VoterApplication;
+
+/**
+ * Copies of the cached entities holding the same state a fresh load from
+ * the database would have. Value objects such as Address are immutable and
+ * shared.
+ */
+final class EntityCopies {
+    private EntityCopies() {
+    }
+
+    static Resident copy(Resident source) {
+        Resident copy = new Resident(source.getId(), source.getFirstName(), source.getLastName(),
+                source.getBirthDate(), source.getGender());
+        copy.setMiddleName(source.getMiddleName());
+        copy.setSuffix(source.getSuffix());
+        copy.setBirthPlace(source.getBirthPlace());
+        copy.setCivilStatus(source.getCivilStatus());
+        copy.setNationality(source.getNationality());
+        copy.setContact(source.getContact());
+        copy.setAddress(source.getAddress());
+        copy.setOccupation(source.getOccupation());
+        copy.setEmployment(source.getEmployment());
+        copy.setIncomeBracket(source.getIncomeBracket());
+        copy.setEducationLevel(source.getEducationLevel());
+        copy.setVoter(source.isVoter());
+        if (!source.isActive()) {
+            copy.deactivate(source.getDeactivationReason());
+        }
+        return copy;
+    }
+
+    static VoterApplication copy(VoterApplication source) {
+        return VoterApplication.restoreFromPersistence(source.getId(), source.getResidentId(),
+                source.getApplicationType(), source.getCurrentRegistrationDetails(),
+                source.getValidIdFrontPath(), source.getValidIdBackPath(), source.getStatus(),
+                source.getReviewNotes(), source.getReviewedBy(), source.getAppointmentDateTime(),
+                source.getAppointmentVenue(), source.getAppointmentSlipReference(), source.getSubmittedAt(),
+                source.getReviewedAt(), source.getUpdatedAt());
+    }
+
+    static DocumentRequest copy(DocumentRequest source) {
+        return new DocumentRequest(source.getId(), source.getResidentId(), source.getDocumentType(),
+                source.getPurpose(), source.getRequestedValidUntil(), source.getResidentNotes(),
+                source.getAdditionalInfo(), source.getStatus(), source.getStaffNotes(), source.getHandledBy(),
+                source.getLinkedDocumentReference(), source.getCreatedAt(), source.getUpdatedAt());
+    }
+}
@@ -1,13 +1,31 @@
 package com.barangay.infrastructure.config;
 
+import com.barangay.application.events.DomainEventBus;
 import com.barangay.application.ports.IPasswordHasher;
+import com.barangay.application.ports.IUnitOfWork;
 import com.barangay.application.services.AppointmentSlipGenerator;
+import com.barangay.application.services.BarangayInfoCache;
+import com.barangay.application.services.ImageDataCache;
 import com.barangay.application.services.PasswordValidator;
 import com.barangay.application.services.SessionManager;
+import com.barangay.application.services.UseCaseExecutor;
 import com.barangay.application.usecases.*;
 import com.barangay.domain.repositories.*;
+import com.barangay.infrastructure.cache.CachingDocumentRequestRepository;
+import com.barangay.infrastructure.cache.CachingResidentRepository;
+import com.barangay.infrastructure.cache.CachingVoterApplicationRepository;
+import com.barangay.infrastructure.cache.EntityCache;
+import com.barangay.infrastructure.cache.EntityCacheConfig;
 import com.barangay.infrastructure.persistence.*;
 import com.barangay.infrastructure.security.BCryptPasswordHasher;
+import com.barangay.infrastructure.services.PdfDocumentRenderer;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
 
 /**
  * Dependency Injection Container
@@ -16,6 +34,8 @@ import com.barangay.infrastructure.security.BCryptPasswordHasher;
  * This is where concrete implementations are instantiated and injected.
  */
 public class DIContainer {
+    private static final Logger LOGGER = Logger.getLogger(DIContainer.class.getName());
+
     // Repositories (Infrastructure layer)
     private final IUserRepository userRepository;
     private final IResidentRepository residentRepository;
@@ -24,12 +44,20 @@ public class DIContainer {
     private final IVoterApplicationRepository voterApplicationRepository;
     private final IOfficialRepository officialRepository;
     private final IBarangayInfoRepository barangayInfoRepository;
+    private final IDashboardCounterRepository dashboardCounterRepository;
+    private final IDocumentSearchRepository documentSearchRepository;
+    private final IUnitOfWork unitOfWork;
+    private final List<EntityCache<?, ?>> entityCaches = new ArrayList<>();
 
     // Services (Application layer)
     private final IPasswordHasher passwordHasher;
     private final PasswordValidator passwordValidator;
     private final SessionManager sessionManager;
     private final AppointmentSlipGenerator appointmentSlipGenerator;
+    private final PdfDocumentRenderer documentRenderer;
+    private final BarangayInfoCache barangayInfoCache;
+    private final UseCaseExecutor useCaseExecutor;
+    private final DomainEventBus eventBus;
 
     // Use Cases (Application layer)
     private final SystemSetupUseCase systemSetupUseCase;
@@ -45,8 +73,13 @@ public class DIContainer {
     private final UpdateResidentUseCase updateResidentUseCase;
     private final DeactivateResidentUseCase deactivateResidentUseCase;
     private final ReactivateResidentUseCase reactivateResidentUseCase;
+    private final ImportResidentsUseCase importResidentsUseCase;
+    private final ExportResidentsUseCase exportResidentsUseCase;
     private final IssueDocumentUseCase issueDocumentUseCase;
     private final SearchDocumentsUseCase searchDocumentsUseCase;
+    private final ExportDocumentsUseCase exportDocumentsUseCase;
+    private final RenderDocumentsUseCase renderDocumentsUseCase;
+    private final SearchDocumentRecordsUseCase searchDocumentRecordsUseCase;
     private final SubmitVoterApplicationUseCase submitVoterApplicationUseCase;
     private final ReviewVoterApplicationUseCase reviewVoterApplicationUseCase;
     private final ScheduleVerificationUseCase scheduleVerificationUseCase;
@@ -54,6 +87,7 @@ public class DIContainer {
     private final GenerateAppointmentSlipUseCase generateAppointmentSlipUseCase;
     private final SubmitDocumentRequestUseCase submitDocumentRequestUseCase;
     private final ListDocumentRequestsUseCase listDocumentRequestsUseCase;
+    private final ExportDocumentRequestsUseCase exportDocumentRequestsUseCase;
     private final UpdateDocumentRequestStatusUseCase updateDocumentRequestStatusUseCase;
     private final GetDocumentRequestCountsUseCase documentRequestCountsUseCase;
     private final GetDocumentRequestUseCase documentRequestUseCase;
@@ -68,10 +102,12 @@ public class DIContainer {
     // Module 7: Reports & Analytics
     private final GetResidentStatisticsUseCase getResidentStatisticsUseCase;
     private final GetDocumentStatisticsUseCase getDocumentStatisticsUseCase;
+    private final GetDashboardSummaryUseCase getDashboardSummaryUseCase;
 
     // Module 8: System Administration
     private final GetBarangayInfoUseCase getBarangayInfoUseCase;
     private final UpdateBarangayInfoUseCase updateBarangayInfoUseCase;
+    private final RebuildDashboardCountersUseCase rebuildDashboardCountersUseCase;
 
     // Module 10: Profile Management
     private final UpdateProfileUseCase updateProfileUseCase;
@@ -83,18 +119,43 @@ public class DIContainer {
 
         // Instantiate repositories
         this.userRepository = new UserRepository();
-        this.residentRepository = new ResidentRepository();
         this.documentRepository = new DocumentRepository();
-        this.documentRequestRepository = new DocumentRequestRepository();
-        this.voterApplicationRepository = new VoterApplicationRepository();
+        this.unitOfWork = new SqliteUnitOfWork();
+        EntityCacheConfig cacheConfig = EntityCacheConfig.fromSystemProperties();
+        if (cacheConfig.isEnabled()) {
+            CachingResidentRepository residents = new CachingResidentRepository(
+                    new ResidentRepository(), cacheConfig.getResidentCacheSize(), unitOfWork);
+            CachingDocumentRequestRepository documentRequests = new CachingDocumentRequestRepository(
+                    new DocumentRequestRepository(), cacheConfig.getDocumentRequestCacheSize(), unitOfWork);
+            CachingVoterApplicationRepository voterApplications = new CachingVoterApplicationRepository(
+                    new VoterApplicationRepository(), cacheConfig.getVoterApplicationCacheSize(), unitOfWork);
+            entityCaches.add(residents.getCache());
+            entityCaches.add(documentRequests.getCache());
+            entityCaches.add(voterApplications.getCache());
+            this.residentRepository = residents;
+            this.documentRequestRepository = documentRequests;
+            this.voterApplicationRepository = voterApplications;
+        } else {
+            this.residentRepository = new ResidentRepository();
+            this.documentRequestRepository = new DocumentRequestRepository();
+            this.voterApplicationRepository = new VoterApplicationRepository();
+        }
         this.officialRepository = new OfficialRepository();
         this.barangayInfoRepository = new BarangayInfoRepository();
+        this.dashboardCounterRepository = new DashboardCounterRepository();
+        this.documentSearchRepository = new DocumentSearchRepository();
 
         // Instantiate services
         this.passwordHasher = new BCryptPasswordHasher();
         this.passwordValidator = new PasswordValidator();
         this.sessionManager = SessionManager.getInstance();
-        this.appointmentSlipGenerator = new AppointmentSlipGenerator();
+        ImageDataCache sealImages = new ImageDataCache();
+        this.appointmentSlipGenerator = new AppointmentSlipGenerator(sealImages);
+        this.documentRenderer = PdfDocumentRenderer.fromSystemProperties(sealImages);
+        this.barangayInfoCache = new BarangayInfoCache(barangayInfoRepository);
+        barangayInfoCache.addInvalidationListener(sealImages::clear);
+        this.useCaseExecutor = UseCaseExecutor.fromSystemProperties(Platform::runLater);
+        this.eventBus = new DomainEventBus(unitOfWork);
 
         // Instantiate use cases with dependency injection
         this.systemSetupUseCase = new SystemSetupUseCase(
@@ -103,11 +164,11 @@ public class DIContainer {
         this.loginUseCase = new LoginUseCase(userRepository, passwordHasher);
 
         this.createUserUseCase = new CreateUserUseCase(
-                userRepository, residentRepository, passwordHasher, passwordValidator, sessionManager);
+                userRepository, residentRepository, passwordHasher, passwordValidator, sessionManager, eventBus);
 
-        this.deactivateUserUseCase = new DeactivateUserUseCase(userRepository, sessionManager);
-        this.reactivateUserUseCase = new ReactivateUserUseCase(userRepository, sessionManager);
-        this.changeUserRoleUseCase = new ChangeUserRoleUseCase(userRepository, sessionManager);
+        this.deactivateUserUseCase = new DeactivateUserUseCase(userRepository, sessionManager, eventBus);
+        this.reactivateUserUseCase = new ReactivateUserUseCase(userRepository, sessionManager, eventBus);
+        this.changeUserRoleUseCase = new ChangeUserRoleUseCase(userRepository, sessionManager, eventBus);
 
         this.resetPasswordUseCase = new ResetPasswordUseCase(
                 userRepository, passwordHasher, passwordValidator, sessionManager);
@@ -115,49 +176,65 @@ public class DIContainer {
         this.listUsersUseCase = new ListUsersUseCase(userRepository);
 
         this.registerResidentUseCase = new RegisterResidentUseCase(
-                residentRepository, sessionManager);
+                residentRepository, sessionManager, eventBus, unitOfWork);
 
         this.searchResidentsUseCase = new SearchResidentsUseCase(residentRepository);
 
         this.updateResidentUseCase = new UpdateResidentUseCase(
-                residentRepository, sessionManager);
+                residentRepository, sessionManager, eventBus);
 
         this.deactivateResidentUseCase = new DeactivateResidentUseCase(
-                residentRepository, sessionManager);
+                residentRepository, sessionManager, eventBus);
 
         this.reactivateResidentUseCase = new ReactivateResidentUseCase(
-                residentRepository, sessionManager);
+                residentRepository, sessionManager, eventBus);
+
+        this.importResidentsUseCase = new ImportResidentsUseCase(
+                residentRepository, new ImportCheckpointRepository(), barangayInfoCache, sessionManager,
+                eventBus, unitOfWork,
+                Integer.getInteger("barangay.import.batchSize", ImportResidentsUseCase.DEFAULT_BATCH_SIZE));
+
+        this.exportResidentsUseCase = new ExportResidentsUseCase(residentRepository, sessionManager);
 
         this.issueDocumentUseCase = new IssueDocumentUseCase(
-                documentRepository, residentRepository, sessionManager, documentRequestRepository);
+                documentRepository, residentRepository, sessionManager, documentRequestRepository, eventBus,
+                unitOfWork);
 
         this.searchDocumentsUseCase = new SearchDocumentsUseCase(documentRepository);
+        this.exportDocumentsUseCase = new ExportDocumentsUseCase(documentRepository, sessionManager);
+        this.renderDocumentsUseCase = new RenderDocumentsUseCase(documentRepository, residentRepository,
+                barangayInfoCache, sessionManager, documentRenderer);
+        this.searchDocumentRecordsUseCase = new SearchDocumentRecordsUseCase(documentSearchRepository,
+                sessionManager);
 
         this.submitVoterApplicationUseCase = new SubmitVoterApplicationUseCase(
-                voterApplicationRepository, residentRepository, sessionManager);
+                voterApplicationRepository, residentRepository, sessionManager, eventBus, unitOfWork);
 
         this.reviewVoterApplicationUseCase = new ReviewVoterApplicationUseCase(
-                voterApplicationRepository, sessionManager);
+                voterApplicationRepository, sessionManager, eventBus);
 
         this.scheduleVerificationUseCase = new ScheduleVerificationUseCase(
-                voterApplicationRepository, sessionManager);
+                voterApplicationRepository, sessionManager, eventBus);
 
         this.verifyVoterApplicationUseCase = new VerifyVoterApplicationUseCase(
-                voterApplicationRepository, residentRepository, sessionManager);
+                voterApplicationRepository, residentRepository, sessionManager, eventBus, unitOfWork);
 
         this.generateAppointmentSlipUseCase = new GenerateAppointmentSlipUseCase(
-                voterApplicationRepository, residentRepository, barangayInfoRepository,
+                voterApplicationRepository, residentRepository, barangayInfoCache,
                 sessionManager, appointmentSlipGenerator);
 
         this.submitDocumentRequestUseCase = new SubmitDocumentRequestUseCase(
-                documentRequestRepository, residentRepository, sessionManager);
+                documentRequestRepository, residentRepository, sessionManager, eventBus, unitOfWork);
 
         this.listDocumentRequestsUseCase = new ListDocumentRequestsUseCase(
                 documentRequestRepository, sessionManager);
 
-        this.updateDocumentRequestStatusUseCase = new UpdateDocumentRequestStatusUseCase(
+        this.exportDocumentRequestsUseCase = new ExportDocumentRequestsUseCase(
                 documentRequestRepository, sessionManager);
 
+        this.updateDocumentRequestStatusUseCase = new UpdateDocumentRequestStatusUseCase(
+                documentRequestRepository, sessionManager, eventBus, unitOfWork);
+
         this.documentRequestCountsUseCase = new GetDocumentRequestCountsUseCase(
                 documentRequestRepository, sessionManager);
 
@@ -166,29 +243,33 @@ public class DIContainer {
 
         // Module 6: Barangay Officials Management
         this.registerOfficialUseCase = new RegisterOfficialUseCase(
-                officialRepository, residentRepository, sessionManager);
+                officialRepository, residentRepository, sessionManager, eventBus, unitOfWork);
 
         this.updateOfficialUseCase = new UpdateOfficialUseCase(
-                officialRepository, sessionManager);
+                officialRepository, sessionManager, eventBus);
 
         this.updateOfficialPhotoUseCase = new UpdateOfficialPhotoUseCase(
-            officialRepository, sessionManager);
+            officialRepository, sessionManager, eventBus);
 
         this.endTermUseCase = new EndTermUseCase(
-                officialRepository, sessionManager);
+                officialRepository, sessionManager, eventBus, unitOfWork);
 
         this.listOfficialsUseCase = new ListOfficialsUseCase(officialRepository);
 
         // Module 7: Reports & Analytics
         this.getResidentStatisticsUseCase = new GetResidentStatisticsUseCase(residentRepository);
         this.getDocumentStatisticsUseCase = new GetDocumentStatisticsUseCase(documentRepository);
+        this.getDashboardSummaryUseCase = new GetDashboardSummaryUseCase(dashboardCounterRepository, sessionManager);
 
         // Module 8: System Administration
-        this.getBarangayInfoUseCase = new GetBarangayInfoUseCase(barangayInfoRepository);
-        this.updateBarangayInfoUseCase = new UpdateBarangayInfoUseCase(barangayInfoRepository, sessionManager);
+        this.getBarangayInfoUseCase = new GetBarangayInfoUseCase(barangayInfoCache);
+        this.updateBarangayInfoUseCase = new UpdateBarangayInfoUseCase(barangayInfoRepository, barangayInfoCache,
+                sessionManager, eventBus);
+        this.rebuildDashboardCountersUseCase = new RebuildDashboardCountersUseCase(dashboardCounterRepository);
 
         // Module 10: Profile Management
-        this.updateProfileUseCase = new UpdateProfileUseCase(userRepository, residentRepository, sessionManager);
+        this.updateProfileUseCase = new UpdateProfileUseCase(userRepository, residentRepository, sessionManager,
+                eventBus);
         this.changePasswordUseCase = new ChangePasswordUseCase(
                 userRepository, passwordHasher, passwordValidator, sessionManager);
     }
@@ -246,6 +327,14 @@ public class DIContainer {
         return reactivateResidentUseCase;
     }
 
+    public ImportResidentsUseCase getImportResidentsUseCase() {
+        return importResidentsUseCase;
+    }
+
+    public ExportResidentsUseCase getExportResidentsUseCase() {
+        return exportResidentsUseCase;
+    }
+
     public IssueDocumentUseCase getIssueDocumentUseCase() {
         return issueDocumentUseCase;
     }
@@ -254,6 +343,18 @@ public class DIContainer {
         return searchDocumentsUseCase;
     }
 
+    public ExportDocumentsUseCase getExportDocumentsUseCase() {
+        return exportDocumentsUseCase;
+    }
+
+    public RenderDocumentsUseCase getRenderDocumentsUseCase() {
+        return renderDocumentsUseCase;
+    }
+
+    public SearchDocumentRecordsUseCase getSearchDocumentRecordsUseCase() {
+        return searchDocumentRecordsUseCase;
+    }
+
     public SubmitVoterApplicationUseCase getSubmitVoterApplicationUseCase() {
         return submitVoterApplicationUseCase;
     }
@@ -282,6 +383,10 @@ public class DIContainer {
         return listDocumentRequestsUseCase;
     }
 
+    public ExportDocumentRequestsUseCase getExportDocumentRequestsUseCase() {
+        return exportDocumentRequestsUseCase;
+    }
+
     public UpdateDocumentRequestStatusUseCase getUpdateDocumentRequestStatusUseCase() {
         return updateDocumentRequestStatusUseCase;
     }
@@ -324,6 +429,10 @@ public class DIContainer {
         return getDocumentStatisticsUseCase;
     }
 
+    public GetDashboardSummaryUseCase getDashboardSummaryUseCase() {
+        return getDashboardSummaryUseCase;
+    }
+
     // Module 8: System Administration
     public GetBarangayInfoUseCase getGetBarangayInfoUseCase() {
         return getBarangayInfoUseCase;
@@ -333,6 +442,10 @@ public class DIContainer {
         return updateBarangayInfoUseCase;
     }
 
+    public RebuildDashboardCountersUseCase getRebuildDashboardCountersUseCase() {
+        return rebuildDashboardCountersUseCase;
+    }
+
     // Module 10: Profile Management
     public UpdateProfileUseCase getUpdateProfileUseCase() {
         return updateProfileUseCase;
@@ -371,7 +484,48 @@ public class DIContainer {
         return barangayInfoRepository;
     }
 
+    public BarangayInfoCache getBarangayInfoCache() {
+        return barangayInfoCache;
+    }
+
     public SessionManager getSessionManager() {
         return sessionManager;
     }
+
+    public UseCaseExecutor getUseCaseExecutor() {
+        return useCaseExecutor;
+    }
+
+    public DomainEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public IUnitOfWork getUnitOfWork() {
+        return unitOfWork;
+    }
+
+    /**
+     * Hit and miss counts of the entity caches by name; empty when caching
+     * is disabled.
+     */
+    public Map<String, EntityCache.Stats> getCacheStats() {
+        Map<String, EntityCache.Stats> stats = new LinkedHashMap<>();
+        for (EntityCache<?, ?> cache : entityCaches) {
+            stats.put(cache.getName(), cache.getStats());
+        }
+        return stats;
+    }
+
+    /**
+     * Stop background work and release pooled database connections when the
+     * application exits.
+     */
+    public void shutdown() {
+        useCaseExecutor.shutdown();
+        documentRenderer.shutdown();
+        if (!entityCaches.isEmpty()) {
+            LOGGER.info(() -> "Entity caches: " + getCacheStats());
+        }
+        DatabaseConnection.closeConnection();
+    }
 }
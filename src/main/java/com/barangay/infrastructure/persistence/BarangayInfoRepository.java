@@ -71,7 +71,7 @@ public class BarangayInfoRepository implements IBarangayInfoRepository {
     public Optional<BarangayInfo> get() {
         String sql = "SELECT * FROM barangay_info WHERE id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, INFO_ID);
@@ -0,0 +1,395 @@
+package com.barangay.infrastructure.persistence;
+
+import org.sqlite.SQLiteConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small bounded pool of long-lived SQLite connections.
+ * SQLite allows a single writer at a time, so the pool keeps exactly one
+ * writer connection plus a configurable number of read-only connections.
+ * Borrowed connections are handed out as proxies whose {@code close()}
+ * returns the physical connection to the pool instead of closing the file.
+ * Each physical connection keeps its own {@link StatementCache}.
+ */
+public class ConnectionPool {
+    private final ConnectionPoolConfig config;
+
+    private final Semaphore writerPermit = new Semaphore(1, true);
+    private PooledConnection writer;
+
+    private final Semaphore readerPermits;
+    private final BlockingQueue<PooledConnection> idleReaders;
+    private final List<PooledConnection> openReaders = new ArrayList<>();
+    private final StatementCache.Counters statementCounters = new StatementCache.Counters();
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public ConnectionPool(ConnectionPoolConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Pool configuration is required");
+        }
+        this.config = config;
+        this.readerPermits = new Semaphore(config.getReaderCount(), true);
+        this.idleReaders = new ArrayBlockingQueue<>(config.getReaderCount());
+    }
+
+    /**
+     * Borrow the writer connection. Blocks until the current holder closes it.
+     */
+    public Connection borrowWriter() throws SQLException {
+        long waited = acquire(writerPermit, "writer");
+        try {
+            synchronized (this) {
+                if (writer == null || writer.isClosed()) {
+                    writer = new PooledConnection(openConnection(false));
+                }
+            }
+            return lend(writer, this::returnWriter, waited);
+        } catch (SQLException | RuntimeException ex) {
+            writerPermit.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Borrow a read-only connection, opening a new one while the pool is
+     * below its configured size.
+     */
+    public Connection borrowReader() throws SQLException {
+        long waited = acquire(readerPermits, "reader");
+        try {
+            PooledConnection reader = idleReaders.poll();
+            if (reader == null || reader.isClosed()) {
+                reader = new PooledConnection(openConnection(true));
+                synchronized (openReaders) {
+                    openReaders.add(reader);
+                }
+            }
+            PooledConnection borrowed = reader;
+            return lend(borrowed, () -> returnReader(borrowed), waited);
+        } catch (SQLException | RuntimeException ex) {
+            readerPermits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Snapshot of pool usage for diagnostics.
+     */
+    public Stats getStats() {
+        int openConnections;
+        synchronized (openReaders) {
+            openConnections = openReaders.size();
+        }
+        synchronized (this) {
+            if (writer != null) {
+                openConnections++;
+            }
+        }
+        long borrows = borrowCount.get();
+        return new Stats(
+                borrows,
+                activeCount.get(),
+                idleReaders.size(),
+                openConnections,
+                timeoutCount.get(),
+                borrows == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.get() / borrows),
+                TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()),
+                statementCounters.getHits(),
+                statementCounters.getMisses(),
+                statementCounters.getEvictions());
+    }
+
+    /**
+     * Close every physical connection. Connections still borrowed are closed
+     * as well; further borrows fail.
+     */
+    public void shutdown() {
+        closed = true;
+        synchronized (this) {
+            if (writer != null) {
+                writer.closeQuietly();
+                writer = null;
+            }
+        }
+        synchronized (openReaders) {
+            openReaders.forEach(PooledConnection::closeQuietly);
+            openReaders.clear();
+        }
+        idleReaders.clear();
+    }
+
+    public ConnectionPoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Open a physical connection and apply the configured PRAGMA profile.
+     */
+    protected Connection openConnection(boolean readOnly) throws SQLException {
+        SQLiteConfig sqliteConfig = new SQLiteConfig();
+        sqliteConfig.setReadOnly(readOnly);
+        Connection conn = DriverManager.getConnection(config.getUrl(), sqliteConfig.toProperties());
+        try {
+            config.getProfile().apply(conn, readOnly);
+        } catch (SQLException ex) {
+            closeQuietly(conn);
+            throw ex;
+        }
+        return conn;
+    }
+
+    private long acquire(Semaphore permits, String kind) throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.getBorrowTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLException("Timed out waiting for a " + kind + " connection after "
+                        + config.getBorrowTimeoutMillis() + " ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a " + kind + " connection", ex);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private Connection lend(PooledConnection pooled, Runnable onReturn, long waitedNanos) {
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitedNanos);
+        maxWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+        activeCount.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new BorrowedConnectionHandler(pooled, onReturn));
+    }
+
+    private void returnWriter() {
+        synchronized (this) {
+            if (writer != null) {
+                writer.resetQuietly();
+            }
+        }
+        activeCount.decrementAndGet();
+        writerPermit.release();
+    }
+
+    private void returnReader(PooledConnection reader) {
+        // A reader left in a transaction would pin its snapshot for the next borrower
+        reader.resetQuietly();
+        try {
+            if (closed || reader.isClosed() || !idleReaders.offer(reader)) {
+                discardReader(reader);
+            }
+        } catch (SQLException ex) {
+            discardReader(reader);
+        } finally {
+            activeCount.decrementAndGet();
+            readerPermits.release();
+        }
+    }
+
+    private void discardReader(PooledConnection reader) {
+        synchronized (openReaders) {
+            openReaders.remove(reader);
+        }
+        reader.closeQuietly();
+    }
+
+    private static void closeQuietly(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // Nothing left to release.
+        }
+    }
+
+    /**
+     * A physical connection together with its statement cache.
+     */
+    private class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statements;
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statements = new StatementCache(physical, config.getStatementCacheSize(), statementCounters);
+        }
+
+        boolean isClosed() throws SQLException {
+            return physical.isClosed();
+        }
+
+        void resetQuietly() {
+            try {
+                if (!physical.isClosed() && !physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+            } catch (SQLException ex) {
+                closeQuietly();
+            }
+        }
+
+        void closeQuietly() {
+            statements.clear();
+            ConnectionPool.closeQuietly(physical);
+        }
+    }
+
+    /**
+     * Routes calls to the physical connection until the borrower closes it.
+     * Single-argument {@code prepareStatement} calls go through the cache.
+     */
+    private static class BorrowedConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        private final StatementCache statements;
+        private final Runnable onReturn;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        BorrowedConnectionHandler(PooledConnection pooled, Runnable onReturn) {
+            this.physical = pooled.physical;
+            this.statements = pooled.statements;
+            this.onReturn = onReturn;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        onReturn.run();
+                    }
+                    return null;
+                case "isClosed":
+                    return returned.get() || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + physical;
+                default:
+                    break;
+            }
+            if (returned.get()) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if ("prepareStatement".equals(method.getName()) && args.length == 1) {
+                return statements.prepare((String) args[0]);
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    /**
+     * Immutable snapshot of pool counters.
+     */
+    public static class Stats {
+        private final long totalBorrows;
+        private final int activeCount;
+        private final int idleReaders;
+        private final int openConnections;
+        private final long timeouts;
+        private final long averageWaitMicros;
+        private final long maxWaitMicros;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+        private final long statementCacheEvictions;
+
+        public Stats(long totalBorrows, int activeCount, int idleReaders, int openConnections,
+                long timeouts, long averageWaitMicros, long maxWaitMicros,
+                long statementCacheHits, long statementCacheMisses, long statementCacheEvictions) {
+            this.totalBorrows = totalBorrows;
+            this.activeCount = activeCount;
+            this.idleReaders = idleReaders;
+            this.openConnections = openConnections;
+            this.timeouts = timeouts;
+            this.averageWaitMicros = averageWaitMicros;
+            this.maxWaitMicros = maxWaitMicros;
+            this.statementCacheHits = statementCacheHits;
+            this.statementCacheMisses = statementCacheMisses;
+            this.statementCacheEvictions = statementCacheEvictions;
+        }
+
+        public long getTotalBorrows() {
+            return totalBorrows;
+        }
+
+        public int getActiveCount() {
+            return activeCount;
+        }
+
+        public int getIdleReaders() {
+            return idleReaders;
+        }
+
+        public int getOpenConnections() {
+            return openConnections;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getAverageWaitMicros() {
+            return averageWaitMicros;
+        }
+
+        public long getMaxWaitMicros() {
+            return maxWaitMicros;
+        }
+
+        public long getStatementCacheHits() {
+            return statementCacheHits;
+        }
+
+        public long getStatementCacheMisses() {
+            return statementCacheMisses;
+        }
+
+        public long getStatementCacheEvictions() {
+            return statementCacheEvictions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "borrows=%d, active=%d, idleReaders=%d, open=%d, timeouts=%d, avgWait=%dus, maxWait=%dus, "
+                            + "statementHits=%d, statementMisses=%d, statementEvictions=%d",
+                    totalBorrows, activeCount, idleReaders, openConnections, timeouts,
+                    averageWaitMicros, maxWaitMicros,
+                    statementCacheHits, statementCacheMisses, statementCacheEvictions);
+        }
+    }
+}
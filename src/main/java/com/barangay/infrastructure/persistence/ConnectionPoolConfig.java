@@ -0,0 +1,85 @@
+package com.barangay.infrastructure.persistence;
+
+/**
+ * Settings for {@link ConnectionPool}.
+ * Values can be overridden with system properties so a workstation can be
+ * tuned without rebuilding, e.g. {@code -Dbarangay.db.readers=4}.
+ */
+public class ConnectionPoolConfig {
+    public static final String DEFAULT_URL = "jdbc:sqlite:barangay.db";
+    public static final int DEFAULT_READER_COUNT = 3;
+    public static final long DEFAULT_BORROW_TIMEOUT_MILLIS = 30_000L;
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    private final String url;
+    private final int readerCount;
+    private final long borrowTimeoutMillis;
+    private final ConnectionProfile profile;
+    private final int statementCacheSize;
+
+    public ConnectionPoolConfig(String url, int readerCount, long borrowTimeoutMillis,
+            ConnectionProfile profile, int statementCacheSize) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("Database URL is required");
+        }
+        if (readerCount < 1) {
+            throw new IllegalArgumentException("Reader count must be at least 1");
+        }
+        if (borrowTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Borrow timeout must be positive");
+        }
+        if (profile == null) {
+            throw new IllegalArgumentException("Connection profile is required");
+        }
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Statement cache size must not be negative");
+        }
+        this.url = url;
+        this.readerCount = readerCount;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.profile = profile;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Build the configuration from {@code barangay.db.*} system properties,
+     * falling back to the defaults.
+     */
+    public static ConnectionPoolConfig fromSystemProperties() {
+        return new ConnectionPoolConfig(
+                System.getProperty("barangay.db.url", DEFAULT_URL),
+                Integer.getInteger("barangay.db.readers", DEFAULT_READER_COUNT),
+                Long.getLong("barangay.db.borrowTimeoutMillis", DEFAULT_BORROW_TIMEOUT_MILLIS),
+                ConnectionProfile.fromSystemProperties(),
+                Integer.getInteger("barangay.db.statementCacheSize", DEFAULT_STATEMENT_CACHE_SIZE));
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Number of read-only connections kept alongside the single writer.
+     */
+    public int getReaderCount() {
+        return readerCount;
+    }
+
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+
+    /**
+     * PRAGMA settings applied to each connection as it is opened.
+     */
+    public ConnectionProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Prepared statements kept per connection; 0 disables caching.
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+}
@@ -0,0 +1,171 @@
+package com.barangay.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * PRAGMA settings applied to every pooled connection when it is opened.
+ * WAL journaling lets readers keep going while a clerk writes; the preset
+ * decides how much durability is traded for commit speed.
+ */
+public class ConnectionProfile {
+
+    /**
+     * Named starting points for the PRAGMA values.
+     */
+    public enum Preset {
+        /** synchronous=FULL; every commit is fsynced, modest caches. */
+        DURABILITY_FIRST,
+        /** synchronous=NORMAL with larger page cache and memory mapping. */
+        THROUGHPUT_FIRST
+    }
+
+    private static final String[] SYNCHRONOUS_NAMES = { "OFF", "NORMAL", "FULL", "EXTRA" };
+    private static final String[] TEMP_STORE_NAMES = { "DEFAULT", "FILE", "MEMORY" };
+
+    private final Preset preset;
+    private final String journalMode;
+    private final String synchronous;
+    private final int busyTimeoutMillis;
+    private final String tempStore;
+    private final long mmapSizeBytes;
+    private final int cacheSizeKib;
+
+    public ConnectionProfile(Preset preset, String journalMode, String synchronous, int busyTimeoutMillis,
+            String tempStore, long mmapSizeBytes, int cacheSizeKib) {
+        if (busyTimeoutMillis < 0 || mmapSizeBytes < 0 || cacheSizeKib <= 0) {
+            throw new IllegalArgumentException("Connection profile values must not be negative");
+        }
+        this.preset = preset;
+        this.journalMode = journalMode.toUpperCase(Locale.ROOT);
+        this.synchronous = synchronous.toUpperCase(Locale.ROOT);
+        this.busyTimeoutMillis = busyTimeoutMillis;
+        this.tempStore = tempStore.toUpperCase(Locale.ROOT);
+        this.mmapSizeBytes = mmapSizeBytes;
+        this.cacheSizeKib = cacheSizeKib;
+    }
+
+    public static ConnectionProfile forPreset(Preset preset) {
+        switch (preset) {
+            case DURABILITY_FIRST:
+                return new ConnectionProfile(preset, "WAL", "FULL", 5_000, "MEMORY", 0L, 8 * 1024);
+            case THROUGHPUT_FIRST:
+                return new ConnectionProfile(preset, "WAL", "NORMAL", 5_000, "MEMORY", 256L * 1024 * 1024,
+                        64 * 1024);
+            default:
+                throw new IllegalArgumentException("Unknown connection preset: " + preset);
+        }
+    }
+
+    /**
+     * Preset from {@code barangay.db.profile} (defaults to throughput-first),
+     * with optional {@code barangay.db.busyTimeoutMillis},
+     * {@code barangay.db.cacheSizeKib} and {@code barangay.db.mmapSizeBytes}
+     * overrides.
+     */
+    public static ConnectionProfile fromSystemProperties() {
+        String presetName = System.getProperty("barangay.db.profile", Preset.THROUGHPUT_FIRST.name());
+        ConnectionProfile base = forPreset(Preset.valueOf(presetName.trim().toUpperCase(Locale.ROOT)));
+        return new ConnectionProfile(
+                base.preset,
+                base.journalMode,
+                base.synchronous,
+                Integer.getInteger("barangay.db.busyTimeoutMillis", base.busyTimeoutMillis),
+                base.tempStore,
+                Long.getLong("barangay.db.mmapSizeBytes", base.mmapSizeBytes),
+                Integer.getInteger("barangay.db.cacheSizeKib", base.cacheSizeKib));
+    }
+
+    /**
+     * Apply the profile to a freshly opened connection. The journal mode is
+     * persistent in the database file, so only the writer sets it.
+     */
+    public void apply(Connection conn, boolean readOnly) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = " + busyTimeoutMillis);
+            if (!readOnly) {
+                stmt.execute("PRAGMA journal_mode = " + journalMode);
+                // INSERT OR REPLACE only fires delete triggers with this on; the
+                // dashboard counter triggers rely on it to avoid double counting
+                stmt.execute("PRAGMA recursive_triggers = ON");
+            }
+            stmt.execute("PRAGMA synchronous = " + synchronous);
+            stmt.execute("PRAGMA temp_store = " + tempStore);
+            stmt.execute("PRAGMA mmap_size = " + mmapSizeBytes);
+            // Negative cache_size is interpreted by SQLite as KiB rather than pages
+            stmt.execute("PRAGMA cache_size = -" + cacheSizeKib);
+        }
+    }
+
+    /**
+     * Read back the settings SQLite actually uses on the given connection.
+     */
+    public static Map<String, String> readEffectiveSettings(Connection conn) throws SQLException {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("journal_mode", queryPragma(conn, "journal_mode").toUpperCase(Locale.ROOT));
+        settings.put("synchronous", nameFor(SYNCHRONOUS_NAMES, queryPragma(conn, "synchronous")));
+        settings.put("busy_timeout", queryPragma(conn, "busy_timeout"));
+        settings.put("temp_store", nameFor(TEMP_STORE_NAMES, queryPragma(conn, "temp_store")));
+        settings.put("mmap_size", queryPragma(conn, "mmap_size"));
+        settings.put("cache_size", queryPragma(conn, "cache_size"));
+        return settings;
+    }
+
+    /**
+     * True when the connection reports the journal mode and synchronous level
+     * this profile asked for.
+     */
+    public boolean matches(Map<String, String> effective) {
+        return journalMode.equals(effective.get("journal_mode"))
+                && synchronous.equals(effective.get("synchronous"));
+    }
+
+    private static String queryPragma(Connection conn, String pragma) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("PRAGMA " + pragma)) {
+            return rs.next() ? String.valueOf(rs.getString(1)) : "";
+        }
+    }
+
+    private static String nameFor(String[] names, String value) {
+        try {
+            int index = Integer.parseInt(value);
+            return index >= 0 && index < names.length ? names[index] : value;
+        } catch (NumberFormatException ex) {
+            return value;
+        }
+    }
+
+    public Preset getPreset() {
+        return preset;
+    }
+
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    public int getBusyTimeoutMillis() {
+        return busyTimeoutMillis;
+    }
+
+    public String getTempStore() {
+        return tempStore;
+    }
+
+    public long getMmapSizeBytes() {
+        return mmapSizeBytes;
+    }
+
+    public int getCacheSizeKib() {
+        return cacheSizeKib;
+    }
+}
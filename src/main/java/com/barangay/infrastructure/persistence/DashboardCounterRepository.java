@@ -0,0 +1,260 @@
+package com.barangay.infrastructure.persistence;
+
+import com.barangay.domain.entities.ApplicationStatus;
+import com.barangay.domain.entities.DocumentRequestStatus;
+import com.barangay.domain.entities.DocumentType;
+import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.repositories.IDashboardCounterRepository;
+import com.barangay.domain.valueobjects.DashboardCounters;
+import com.barangay.domain.valueobjects.DocumentStatistics;
+import com.barangay.domain.valueobjects.ResidentStatistics;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * SQLite implementation of IDashboardCounterRepository.
+ * <p>
+ * {@code dashboard_counters} holds one row per named counter. Triggers on
+ * each source table add a row's contribution on insert, subtract it on delete
+ * and move it on update, so the dashboard reads a handful of rows instead of
+ * scanning five tables. The triggers are created by schema migration 6;
+ * {@link Source} describes the same counters for the from-scratch recount
+ * used by verify and rebuild, and must be kept in step with them.
+ */
+public class DashboardCounterRepository implements IDashboardCounterRepository {
+    private static final String RESIDENTS_TOTAL = "residents.total";
+    private static final String RESIDENTS_ACTIVE = "residents.active";
+    private static final String RESIDENTS_MALE = "residents.male";
+    private static final String RESIDENTS_FEMALE = "residents.female";
+    private static final String RESIDENTS_VOTERS = "residents.voters";
+    private static final String DOCUMENTS_TOTAL = "documents.total";
+    private static final String DOCUMENT_TYPE = "documents.type:";
+    private static final String DOCUMENT_DAY = "documents.day:";
+    private static final String DOCUMENT_MONTH = "documents.month:";
+    private static final String REQUEST_STATUS = "document_requests.status:";
+    private static final String APPLICATION_STATUS = "voter_applications.status:";
+    private static final String USER_ROLE = "users.role:";
+
+    private static final List<Source> SOURCES = Arrays.asList(
+            new Source("residents",
+                    new Counter(literal(RESIDENTS_TOTAL), "1"),
+                    new Counter(literal(RESIDENTS_ACTIVE), "{r}.is_active = 1"),
+                    new Counter(literal(RESIDENTS_MALE), "{r}.is_active = 1 AND {r}.gender = 'MALE'"),
+                    new Counter(literal(RESIDENTS_FEMALE), "{r}.is_active = 1 AND {r}.gender = 'FEMALE'"),
+                    new Counter(literal(RESIDENTS_VOTERS), "{r}.is_active = 1 AND {r}.is_voter = 1")),
+            new Source("documents",
+                    new Counter(literal(DOCUMENTS_TOTAL), "1"),
+                    new Counter(keyed(DOCUMENT_TYPE, "{r}.type"), "1"),
+                    new Counter(keyed(DOCUMENT_DAY, "{r}.issued_date"), "1"),
+                    new Counter(keyed(DOCUMENT_MONTH, "SUBSTR({r}.issued_date, 1, 7)"), "1")),
+            new Source("document_requests",
+                    new Counter(keyed(REQUEST_STATUS, "{r}.status"), "1")),
+            new Source("voter_applications",
+                    new Counter(keyed(APPLICATION_STATUS, "{r}.status"), "1")),
+            new Source("users",
+                    new Counter(keyed(USER_ROLE, "{r}.role"), "1")));
+
+    @Override
+    public DashboardCounters load() {
+        LocalDate today = LocalDate.now();
+        String todayKey = DOCUMENT_DAY + today;
+        String monthKey = DOCUMENT_MONTH + today.toString().substring(0, 7);
+        // Day and month rows accumulate over time; only the current ones are read
+        String sql = "SELECT name, value FROM dashboard_counters " +
+                "WHERE name NOT GLOB 'documents.day:*' AND name NOT GLOB 'documents.month:*' " +
+                "OR name IN (?, ?)";
+
+        Map<String, Long> values = new HashMap<>();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, todayKey);
+            pstmt.setString(2, monthKey);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                values.put(rs.getString("name"), rs.getLong("value"));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load dashboard counters", e);
+        }
+
+        ResidentStatistics residents = new ResidentStatistics(
+                count(values, RESIDENTS_TOTAL),
+                count(values, RESIDENTS_ACTIVE),
+                count(values, RESIDENTS_MALE),
+                count(values, RESIDENTS_FEMALE),
+                count(values, RESIDENTS_VOTERS),
+                Collections.emptyMap(),
+                Collections.emptyMap());
+
+        DocumentStatistics documents = new DocumentStatistics(
+                count(values, DOCUMENTS_TOTAL),
+                count(values, todayKey),
+                count(values, monthKey),
+                counts(DocumentType.class, values, DOCUMENT_TYPE));
+
+        return new DashboardCounters(residents, documents,
+                counts(ApplicationStatus.class, values, APPLICATION_STATUS),
+                counts(DocumentRequestStatus.class, values, REQUEST_STATUS),
+                counts(UserRole.class, values, USER_ROLE));
+    }
+
+    @Override
+    public List<String> verify() {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            conn.setAutoCommit(false);
+            // One read transaction so stored and recounted values share a snapshot
+            return diff(readStored(conn), recount(conn));
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to verify dashboard counters", e);
+        }
+    }
+
+    @Override
+    public List<String> rebuild() {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                List<String> drift = rebuild(conn);
+                conn.commit();
+                return drift;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to rebuild dashboard counters", e);
+        }
+    }
+
+    /**
+     * Replace the stored counters with a full recount. Runs in the caller's
+     * transaction.
+     */
+    private static List<String> rebuild(Connection conn) throws SQLException {
+        Map<String, Long> stored = readStored(conn);
+        Map<String, Long> actual = recount(conn);
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM dashboard_counters");
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO dashboard_counters (name, value) VALUES (?, ?)")) {
+            for (Map.Entry<String, Long> entry : actual.entrySet()) {
+                pstmt.setString(1, entry.getKey());
+                pstmt.setLong(2, entry.getValue());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+        return diff(stored, actual);
+    }
+
+    private static Map<String, Long> readStored(Connection conn) throws SQLException {
+        Map<String, Long> stored = new HashMap<>();
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT name, value FROM dashboard_counters");
+                ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                stored.put(rs.getString(1), rs.getLong(2));
+            }
+        }
+        return stored;
+    }
+
+    private static Map<String, Long> recount(Connection conn) throws SQLException {
+        Map<String, Long> actual = new HashMap<>();
+        for (Source source : SOURCES) {
+            try (PreparedStatement pstmt = conn.prepareStatement(source.recountSql());
+                    ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    long value = rs.getLong(2);
+                    if (value != 0) {
+                        actual.merge(rs.getString(1), value, Long::sum);
+                    }
+                }
+            }
+        }
+        return actual;
+    }
+
+    private static List<String> diff(Map<String, Long> stored, Map<String, Long> actual) {
+        List<String> drift = new ArrayList<>();
+        TreeSet<String> names = new TreeSet<>(stored.keySet());
+        names.addAll(actual.keySet());
+        for (String name : names) {
+            long storedValue = stored.getOrDefault(name, 0L);
+            long actualValue = actual.getOrDefault(name, 0L);
+            if (storedValue != actualValue) {
+                drift.add(name + ": stored " + storedValue + ", actual " + actualValue);
+            }
+        }
+        return drift;
+    }
+
+    private static int count(Map<String, Long> values, String name) {
+        return values.getOrDefault(name, 0L).intValue();
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> counts(Class<E> type, Map<String, Long> values,
+            String prefix) {
+        Map<E, Integer> counts = new EnumMap<>(type);
+        for (E key : type.getEnumConstants()) {
+            counts.put(key, count(values, prefix + key.name()));
+        }
+        return counts;
+    }
+
+    private static String literal(String name) {
+        return "'" + name + "'";
+    }
+
+    private static String keyed(String prefix, String column) {
+        // Same keys as the triggers, which map NULL to '' to satisfy the primary key
+        return "'" + prefix + "' || IFNULL(" + column + ", '')";
+    }
+
+    /**
+     * One counter: a key expression and a per-row contribution, both written
+     * against the row placeholder {@code {r}}.
+     */
+    private static class Counter {
+        private final String key;
+        private final String value;
+
+        Counter(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The counters fed by one table.
+     */
+    private static class Source {
+        private final String table;
+        private final List<Counter> counters;
+
+        Source(String table, Counter... counters) {
+            this.table = table;
+            this.counters = Arrays.asList(counters);
+        }
+
+        String recountSql() {
+            return counters.stream()
+                    .map(c -> "SELECT " + c.key.replace("{r}", "r") + ", SUM(" + c.value.replace("{r}", "r")
+                            + ") FROM " + table + " r GROUP BY 1")
+                    .collect(Collectors.joining(" UNION ALL "));
+        }
+    }
+}
@@ -4,19 +4,29 @@ import com.barangay.domain.entities.Document;
 import com.barangay.domain.entities.DocumentType;
 import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.repositories.IDocumentRepository;
+import com.barangay.domain.valueobjects.DocumentFilter;
+import com.barangay.domain.valueobjects.DocumentPageCursor;
 import com.barangay.domain.valueobjects.DocumentReference;
+import com.barangay.domain.valueobjects.DocumentStatistics;
+import com.barangay.domain.valueobjects.DocumentSummary;
+import com.barangay.domain.valueobjects.Page;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * SQLite implementation of IDocumentRepository.
  */
 public class DocumentRepository implements IDocumentRepository {
+    private static final String SUMMARY_COLUMNS = "d.reference, d.resident_id, d.type, d.purpose, d.issued_date, " +
+            "d.valid_until, d.issued_by, d.photo_path";
 
     @Override
     public void save(Document document) {
@@ -51,7 +61,7 @@ public class DocumentRepository implements IDocumentRepository {
     public Optional<Document> findByReference(DocumentReference reference) {
         String sql = "SELECT * FROM documents WHERE reference = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, reference.getValue());
@@ -73,7 +83,7 @@ public class DocumentRepository implements IDocumentRepository {
         String sql = "SELECT * FROM documents WHERE resident_id = ? ORDER BY issued_date DESC";
         List<Document> documents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, residentId.getValue());
@@ -95,7 +105,7 @@ public class DocumentRepository implements IDocumentRepository {
         String sql = "SELECT * FROM documents WHERE type = ? ORDER BY issued_date DESC";
         List<Document> documents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, type.name());
@@ -117,7 +127,7 @@ public class DocumentRepository implements IDocumentRepository {
         String sql = "SELECT * FROM documents WHERE issued_date = ? ORDER BY created_at DESC";
         List<Document> documents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, date.toString());
@@ -140,7 +150,7 @@ public class DocumentRepository implements IDocumentRepository {
                 "ORDER BY issued_date DESC";
         List<Document> documents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, startDate.toString());
@@ -160,16 +170,20 @@ public class DocumentRepository implements IDocumentRepository {
 
     @Override
     public List<Document> search(String query) {
-        String sql = "SELECT * FROM documents WHERE reference LIKE ? OR purpose LIKE ? " +
-                "ORDER BY issued_date DESC";
+        String match = FullTextQuery.prefixTerms(query);
+        if (match == null) {
+            return findAllNewestFirst();
+        }
+        String fragment = FullTextQuery.referenceFragment(query);
         List<Document> documents = new ArrayList<>();
-        String searchPattern = "%" + query + "%";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(searchSql("d.*", fragment != null))) {
 
-            pstmt.setString(1, searchPattern);
-            pstmt.setString(2, searchPattern);
+            pstmt.setString(1, match);
+            if (fragment != null) {
+                pstmt.setString(2, fragment);
+            }
             ResultSet rs = pstmt.executeQuery();
 
             while (rs.next()) {
@@ -183,12 +197,88 @@ public class DocumentRepository implements IDocumentRepository {
         return documents;
     }
 
+    @Override
+    public List<DocumentSummary> searchSummaries(String query) {
+        String match = FullTextQuery.prefixTerms(query);
+        if (match == null) {
+            return querySummaries("SELECT " + SUMMARY_COLUMNS + " FROM documents d ORDER BY d.issued_date DESC",
+                    "Failed to find documents");
+        }
+        String fragment = FullTextQuery.referenceFragment(query);
+        String sql = searchSql(SUMMARY_COLUMNS, fragment != null);
+        return fragment == null
+                ? querySummaries(sql, "Failed to search documents", match)
+                : querySummaries(sql, "Failed to search documents", match, fragment);
+    }
+
+    /**
+     * Ranked full-text matches; with {@code referenceFragment} also documents
+     * whose reference contains it, after the ranked ones.
+     */
+    private static String searchSql(String columns, boolean referenceFragment) {
+        if (!referenceFragment) {
+            return "SELECT " + columns + " FROM document_search f " +
+                    "JOIN document_search_entries e ON e.id = f.rowid " +
+                    "JOIN documents d ON d.reference = e.record_key " +
+                    "WHERE document_search MATCH ? AND e.kind = '" + DocumentSearchRepository.DOCUMENT + "' " +
+                    "ORDER BY f.rank, d.issued_date DESC";
+        }
+        return "SELECT " + columns + " FROM documents d " +
+                "LEFT JOIN (SELECT e.record_key, f.rank FROM document_search f " +
+                "JOIN document_search_entries e ON e.id = f.rowid " +
+                "WHERE document_search MATCH ? AND e.kind = '" + DocumentSearchRepository.DOCUMENT + "') m " +
+                "ON m.record_key = d.reference " +
+                "WHERE m.record_key IS NOT NULL OR d.reference LIKE ? " +
+                "ORDER BY m.rank IS NULL, m.rank, d.issued_date DESC";
+    }
+
+    @Override
+    public List<DocumentSummary> findSummariesByResidentId(ResidentId residentId) {
+        return querySummaries("SELECT " + SUMMARY_COLUMNS + " FROM documents d WHERE d.resident_id = ? " +
+                "ORDER BY d.issued_date DESC", "Failed to find documents by resident ID", residentId.getValue());
+    }
+
+    @Override
+    public Page<Document, DocumentPageCursor> findPage(DocumentPageCursor after, int limit) {
+        // Walks idx_documents_issued_reference backwards; the extra row only tells whether another page exists
+        String sql = "SELECT * FROM documents" +
+                (after == null ? "" : " WHERE (issued_date, reference) < (?, ?)") +
+                " ORDER BY issued_date DESC, reference DESC LIMIT ?";
+        List<Document> documents = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (after != null) {
+                pstmt.setString(index++, after.getIssuedDate().toString());
+                pstmt.setString(index++, after.getReference().getValue());
+            }
+            pstmt.setInt(index, limit + 1);
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                documents.add(mapResultSetToDocument(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find document page", e);
+        }
+
+        if (documents.size() <= limit) {
+            return new Page<>(documents, null);
+        }
+        documents.remove(limit);
+        Document last = documents.get(limit - 1);
+        return new Page<>(documents, new DocumentPageCursor(last.getIssuedDate(), last.getReference()));
+    }
+
     @Override
     public int countIssuedToday() {
         String today = LocalDate.now().toString();
         String sql = "SELECT COUNT(*) FROM documents WHERE issued_date = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, today);
@@ -213,7 +303,7 @@ public class DocumentRepository implements IDocumentRepository {
 
         String sql = "SELECT COUNT(*) FROM documents WHERE issued_date >= ? AND issued_date <= ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, startOfMonth);
@@ -231,11 +321,55 @@ public class DocumentRepository implements IDocumentRepository {
         return 0;
     }
 
+    @Override
+    public int count(DocumentFilter filter) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM documents d WHERE 1 = 1");
+        appendFilter(sql, params, filter);
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            bind(pstmt, params);
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count documents", e);
+        }
+
+        return 0;
+    }
+
+    @Override
+    public void forEach(DocumentFilter filter, Consumer<? super Document> action) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT d.* FROM documents d WHERE 1 = 1");
+        appendFilter(sql, params, filter);
+        sql.append(" ORDER BY d.issued_date DESC, d.reference DESC");
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = DatabaseConnection.prepareCursor(conn, sql.toString())) {
+
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(mapResultSetToDocument(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read documents", e);
+        }
+    }
+
     @Override
     public int countByType(DocumentType type) {
         String sql = "SELECT COUNT(*) FROM documents WHERE type = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, type.name());
@@ -252,6 +386,43 @@ public class DocumentRepository implements IDocumentRepository {
         return 0;
     }
 
+    @Override
+    public DocumentStatistics getStatistics() {
+        LocalDate today = LocalDate.now();
+        // Covered by idx_documents_type_issued: ordered by type, no table lookups
+        String sql = "SELECT type, COUNT(*) AS total, " +
+                "SUM(CASE WHEN issued_date = ? THEN 1 ELSE 0 END) AS today, " +
+                "SUM(CASE WHEN issued_date >= ? AND issued_date <= ? THEN 1 ELSE 0 END) AS this_month " +
+                "FROM documents GROUP BY type";
+
+        int total = 0;
+        int issuedToday = 0;
+        int issuedThisMonth = 0;
+        Map<DocumentType, Integer> byType = new EnumMap<>(DocumentType.class);
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, today.toString());
+            pstmt.setString(2, today.withDayOfMonth(1).toString());
+            pstmt.setString(3, today.withDayOfMonth(today.lengthOfMonth()).toString());
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                int count = rs.getInt("total");
+                total += count;
+                issuedToday += rs.getInt("today");
+                issuedThisMonth += rs.getInt("this_month");
+                byType.put(DocumentType.valueOf(rs.getString("type")), count);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to compute document statistics", e);
+        }
+
+        return new DocumentStatistics(total, issuedToday, issuedThisMonth, byType);
+    }
+
     @Override
     public DocumentReference generateNextReference(DocumentType type) {
         String prefix;
@@ -269,26 +440,99 @@ public class DocumentRepository implements IDocumentRepository {
                 throw new IllegalArgumentException("Unknown document type");
         }
 
-        String year = String.valueOf(LocalDate.now().getYear());
-        String sql = "SELECT MAX(CAST(SUBSTR(reference, LENGTH(reference) - 9, 10) AS INTEGER)) FROM documents " +
-                "WHERE reference LIKE ?";
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return DocumentReference.fromString(SequenceGenerator.nextId(conn, SequenceGenerator.DOCUMENT, prefix));
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to generate document reference", e);
+        }
+    }
+
+    private List<Document> findAllNewestFirst() {
+        String sql = "SELECT * FROM documents ORDER BY issued_date DESC";
+        List<Document> documents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                documents.add(mapResultSetToDocument(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find documents", e);
+        }
+
+        return documents;
+    }
+
+    private List<DocumentSummary> querySummaries(String sql, String failure, String... parameters) {
+        List<DocumentSummary> summaries = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, prefix + "-" + year + "-%");
+            for (int i = 0; i < parameters.length; i++) {
+                pstmt.setString(i + 1, parameters[i]);
+            }
             ResultSet rs = pstmt.executeQuery();
 
-            int nextSequence = 1;
-            if (rs.next()) {
-                nextSequence = rs.getInt(1) + 1;
+            while (rs.next()) {
+                summaries.add(mapResultSetToSummary(rs));
             }
 
-            String reference = String.format("%s-%s-%010d", prefix, year, nextSequence);
-            return DocumentReference.fromString(reference);
-
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to generate document reference", e);
+            throw new RuntimeException(failure, e);
+        }
+
+        return summaries;
+    }
+
+    private DocumentSummary mapResultSetToSummary(ResultSet rs) throws SQLException {
+        String validUntil = rs.getString("valid_until");
+        return new DocumentSummary(
+                DocumentReference.fromString(rs.getString("reference")),
+                ResidentId.fromString(rs.getString("resident_id")),
+                DocumentType.valueOf(rs.getString("type")),
+                rs.getString("purpose"),
+                LocalDate.parse(rs.getString("issued_date")),
+                validUntil != null ? LocalDate.parse(validUntil) : null,
+                rs.getString("issued_by"),
+                rs.getString("photo_path"));
+    }
+
+    /**
+     * Shared WHERE terms for filtered document queries; the search term goes
+     * through the same full-text index as {@link #search}.
+     */
+    private static void appendFilter(StringBuilder sql, List<Object> params, DocumentFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getType() != null) {
+            sql.append(" AND d.type = ?");
+            params.add(filter.getType().name());
+        }
+        if (filter.getIssuedFrom() != null) {
+            sql.append(" AND d.issued_date >= ?");
+            params.add(filter.getIssuedFrom().toString());
+        }
+        if (filter.getIssuedTo() != null) {
+            sql.append(" AND d.issued_date <= ?");
+            params.add(filter.getIssuedTo().toString());
+        }
+        String match = FullTextQuery.prefixTerms(filter.getSearchText());
+        if (match != null) {
+            sql.append(" AND d.reference IN (SELECT e.record_key FROM document_search f " +
+                    "JOIN document_search_entries e ON e.id = f.rowid " +
+                    "WHERE document_search MATCH ? AND e.kind = '" + DocumentSearchRepository.DOCUMENT + "')");
+            params.add(match);
+        }
+    }
+
+    private static void bind(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            pstmt.setObject(i + 1, params.get(i));
         }
     }
 
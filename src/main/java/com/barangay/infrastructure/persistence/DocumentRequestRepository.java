@@ -5,20 +5,33 @@ import com.barangay.domain.entities.DocumentRequestStatus;
 import com.barangay.domain.entities.DocumentType;
 import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.repositories.IDocumentRequestRepository;
+import com.barangay.domain.valueobjects.DocumentRequestSummary;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.TimestampPageCursor;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * SQLite implementation of IDocumentRequestRepository.
  */
 public class DocumentRequestRepository implements IDocumentRequestRepository {
+    private static final String SUMMARY_COLUMNS = "q.id, q.resident_id, q.document_type, q.purpose, q.status, " +
+            "q.linked_document_reference, q.created_at, q.updated_at";
+    private static final String UPDATE_SQL = "UPDATE document_requests SET purpose = ?, requested_valid_until = ?, " +
+            "notes = ?, additional_info = ?, status = ?, staff_notes = ?, handled_by = ?, " +
+            "linked_document_reference = ?, updated_at = ? WHERE id = ?";
+    // One parameter per ID, well under SQLite's variable limit
+    private static final int ID_CHUNK_SIZE = 500;
 
     @Override
     public void save(DocumentRequest request) {
@@ -51,34 +64,57 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
 
     @Override
     public void update(DocumentRequest request) {
-        String sql = "UPDATE document_requests SET purpose = ?, requested_valid_until = ?, notes = ?, additional_info = ?, "
-                +
-                "status = ?, staff_notes = ?, handled_by = ?, linked_document_reference = ?, updated_at = ? WHERE id = ?";
-
         try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, request.getPurpose());
-            pstmt.setString(2,
-                    request.getRequestedValidUntil() != null ? request.getRequestedValidUntil().toString() : null);
-            pstmt.setString(3, request.getResidentNotes());
-            pstmt.setString(4, request.getAdditionalInfo());
-            pstmt.setString(5, request.getStatus().name());
-            pstmt.setString(6, request.getStaffNotes());
-            pstmt.setString(7, request.getHandledBy());
-            pstmt.setString(8, request.getLinkedDocumentReference());
-            pstmt.setString(9, request.getUpdatedAt().toString());
-            pstmt.setString(10, request.getId());
+                PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            bindUpdate(pstmt, request);
             pstmt.executeUpdate();
         } catch (SQLException ex) {
             throw new RuntimeException("Failed to update document request", ex);
         }
     }
 
+    @Override
+    public void updateAll(List<DocumentRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+                for (DocumentRequest request : requests) {
+                    bindUpdate(pstmt, request);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException ex) {
+            throw new RuntimeException("Failed to update document requests", ex);
+        }
+    }
+
+    private void bindUpdate(PreparedStatement pstmt, DocumentRequest request) throws SQLException {
+        pstmt.setString(1, request.getPurpose());
+        pstmt.setString(2,
+                request.getRequestedValidUntil() != null ? request.getRequestedValidUntil().toString() : null);
+        pstmt.setString(3, request.getResidentNotes());
+        pstmt.setString(4, request.getAdditionalInfo());
+        pstmt.setString(5, request.getStatus().name());
+        pstmt.setString(6, request.getStaffNotes());
+        pstmt.setString(7, request.getHandledBy());
+        pstmt.setString(8, request.getLinkedDocumentReference());
+        pstmt.setString(9, request.getUpdatedAt().toString());
+        pstmt.setString(10, request.getId());
+    }
+
     @Override
     public Optional<DocumentRequest> findById(String id) {
         String sql = "SELECT * FROM document_requests WHERE id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, id);
             ResultSet rs = pstmt.executeQuery();
@@ -91,6 +127,31 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
         return Optional.empty();
     }
 
+    @Override
+    public List<DocumentRequest> findByIds(Collection<String> ids) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<DocumentRequest> results = new ArrayList<>(distinct.size());
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            for (int from = 0; from < distinct.size(); from += ID_CHUNK_SIZE) {
+                List<String> chunk = distinct.subList(from, Math.min(from + ID_CHUNK_SIZE, distinct.size()));
+                String sql = "SELECT * FROM document_requests WHERE id IN (" +
+                        chunk.stream().map(id -> "?").collect(Collectors.joining(",")) + ")";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        pstmt.setString(i + 1, chunk.get(i));
+                    }
+                    ResultSet rs = pstmt.executeQuery();
+                    while (rs.next()) {
+                        results.add(mapRow(rs));
+                    }
+                }
+            }
+        } catch (SQLException ex) {
+            throw new RuntimeException("Failed to find document requests", ex);
+        }
+        return results;
+    }
+
     @Override
     public List<DocumentRequest> findAll() {
         return query("SELECT * FROM document_requests ORDER BY created_at DESC");
@@ -99,7 +160,7 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
     @Override
     public List<DocumentRequest> findByStatus(DocumentRequestStatus status) {
         String sql = "SELECT * FROM document_requests WHERE status = ? ORDER BY created_at DESC";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, status.name());
             ResultSet rs = pstmt.executeQuery();
@@ -116,7 +177,7 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
     @Override
     public List<DocumentRequest> findByResidentId(ResidentId residentId) {
         String sql = "SELECT * FROM document_requests WHERE resident_id = ? ORDER BY created_at DESC";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, residentId.getValue());
             ResultSet rs = pstmt.executeQuery();
@@ -132,13 +193,17 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
 
     @Override
     public List<DocumentRequest> search(String term) {
-        String sql = "SELECT * FROM document_requests WHERE id LIKE ? OR resident_id LIKE ? OR purpose LIKE ? ORDER BY created_at DESC";
-        String like = "%" + term + "%";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, like);
-            pstmt.setString(2, like);
-            pstmt.setString(3, like);
+        String match = FullTextQuery.prefixTerms(term);
+        if (match == null) {
+            return findAll();
+        }
+        String fragment = FullTextQuery.referenceFragment(term);
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(searchSql("q.*", fragment != null))) {
+            pstmt.setString(1, match);
+            if (fragment != null) {
+                pstmt.setString(2, fragment);
+            }
             ResultSet rs = pstmt.executeQuery();
             List<DocumentRequest> results = new ArrayList<>();
             while (rs.next()) {
@@ -150,6 +215,85 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
         }
     }
 
+    @Override
+    public List<DocumentRequestSummary> findSummaries(DocumentRequestStatus status) {
+        if (status == null) {
+            return querySummaries("SELECT " + SUMMARY_COLUMNS + " FROM document_requests q " +
+                    "ORDER BY q.created_at DESC");
+        }
+        return querySummaries("SELECT " + SUMMARY_COLUMNS + " FROM document_requests q WHERE q.status = ? " +
+                "ORDER BY q.created_at DESC", status.name());
+    }
+
+    @Override
+    public List<DocumentRequestSummary> findSummariesByResidentId(ResidentId residentId) {
+        return querySummaries("SELECT " + SUMMARY_COLUMNS + " FROM document_requests q WHERE q.resident_id = ? " +
+                "ORDER BY q.created_at DESC", residentId.getValue());
+    }
+
+    @Override
+    public List<DocumentRequestSummary> searchSummaries(String term) {
+        String match = FullTextQuery.prefixTerms(term);
+        if (match == null) {
+            return findSummaries(null);
+        }
+        String fragment = FullTextQuery.referenceFragment(term);
+        String sql = searchSql(SUMMARY_COLUMNS, fragment != null);
+        return fragment == null ? querySummaries(sql, match) : querySummaries(sql, match, fragment);
+    }
+
+    /**
+     * Ranked full-text matches; with {@code idFragment} also requests whose
+     * ID contains it, after the ranked ones.
+     */
+    private static String searchSql(String columns, boolean idFragment) {
+        if (!idFragment) {
+            return "SELECT " + columns + " FROM document_search f " +
+                    "JOIN document_search_entries e ON e.id = f.rowid " +
+                    "JOIN document_requests q ON q.id = e.record_key " +
+                    "WHERE document_search MATCH ? AND e.kind = '" + DocumentSearchRepository.REQUEST + "' " +
+                    "ORDER BY f.rank, q.created_at DESC";
+        }
+        return "SELECT " + columns + " FROM document_requests q " +
+                "LEFT JOIN (SELECT e.record_key, f.rank FROM document_search f " +
+                "JOIN document_search_entries e ON e.id = f.rowid " +
+                "WHERE document_search MATCH ? AND e.kind = '" + DocumentSearchRepository.REQUEST + "') m " +
+                "ON m.record_key = q.id " +
+                "WHERE m.record_key IS NOT NULL OR q.id LIKE ? " +
+                "ORDER BY m.rank IS NULL, m.rank, q.created_at DESC";
+    }
+
+    @Override
+    public Page<DocumentRequest, TimestampPageCursor> findPage(TimestampPageCursor after, int limit) {
+        // Walks idx_document_requests_created backwards; the extra row only tells whether another page exists
+        String sql = "SELECT * FROM document_requests" +
+                (after == null ? "" : " WHERE (created_at, id) < (?, ?)") +
+                " ORDER BY created_at DESC, id DESC LIMIT ?";
+        List<DocumentRequest> results = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (after != null) {
+                pstmt.setString(index++, after.getTimestamp().toString());
+                pstmt.setString(index++, after.getId());
+            }
+            pstmt.setInt(index, limit + 1);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                results.add(mapRow(rs));
+            }
+        } catch (SQLException ex) {
+            throw new RuntimeException("Failed to find document request page", ex);
+        }
+
+        if (results.size() <= limit) {
+            return new Page<>(results, null);
+        }
+        results.remove(limit);
+        DocumentRequest last = results.get(limit - 1);
+        return new Page<>(results, new TimestampPageCursor(last.getCreatedAt(), last.getId()));
+    }
+
     @Override
     public int countByStatuses(DocumentRequestStatus... statuses) {
         if (statuses == null || statuses.length == 0) {
@@ -158,7 +302,7 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
         String placeholders = Arrays.stream(statuses).map(s -> "?").collect(Collectors.joining(","));
         String sql = "SELECT COUNT(*) FROM document_requests WHERE status IN (" + placeholders + ")";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
             for (int i = 0; i < statuses.length; i++) {
                 pstmt.setString(i + 1, statuses[i].name());
@@ -174,25 +318,38 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
     }
 
     @Override
-    public String generateNextId() {
-        String year = String.valueOf(LocalDate.now().getYear());
-        String sql = "SELECT MAX(CAST(SUBSTR(id, LENGTH(id) - 9, 10) AS INTEGER)) FROM document_requests WHERE id LIKE ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, "DR-" + year + "-%");
-            ResultSet rs = pstmt.executeQuery();
-            int next = 1;
-            if (rs.next()) {
-                next = rs.getInt(1) + 1;
+    public void forEach(DocumentRequestStatus status, Consumer<? super DocumentRequest> action) {
+        String sql = "SELECT * FROM document_requests" + (status == null ? "" : " WHERE status = ?") +
+                " ORDER BY created_at DESC, id DESC";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = DatabaseConnection.prepareCursor(conn, sql)) {
+
+            if (status != null) {
+                pstmt.setString(1, status.name());
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(mapRow(rs));
+                }
             }
-            return String.format("DR-%s-%010d", year, next);
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read document requests", e);
+        }
+    }
+
+    @Override
+    public String generateNextId() {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SequenceGenerator.nextId(conn, SequenceGenerator.DOCUMENT_REQUEST, "DR");
         } catch (SQLException ex) {
             throw new RuntimeException("Failed to generate next document request id", ex);
         }
     }
 
     private List<DocumentRequest> query(String sql) {
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
             ResultSet rs = pstmt.executeQuery();
             List<DocumentRequest> results = new ArrayList<>();
@@ -205,6 +362,31 @@ public class DocumentRequestRepository implements IDocumentRequestRepository {
         }
     }
 
+    private List<DocumentRequestSummary> querySummaries(String sql, String... parameters) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                pstmt.setString(i + 1, parameters[i]);
+            }
+            ResultSet rs = pstmt.executeQuery();
+            List<DocumentRequestSummary> results = new ArrayList<>();
+            while (rs.next()) {
+                results.add(new DocumentRequestSummary(
+                        rs.getString("id"),
+                        ResidentId.fromString(rs.getString("resident_id")),
+                        DocumentType.valueOf(rs.getString("document_type")),
+                        rs.getString("purpose"),
+                        DocumentRequestStatus.valueOf(rs.getString("status")),
+                        rs.getString("linked_document_reference"),
+                        LocalDateTime.parse(rs.getString("created_at")),
+                        LocalDateTime.parse(rs.getString("updated_at"))));
+            }
+            return results;
+        } catch (SQLException ex) {
+            throw new RuntimeException("Failed to query document request summaries", ex);
+        }
+    }
+
     private DocumentRequest mapRow(ResultSet rs) throws SQLException {
         ResidentId residentId = ResidentId.fromString(rs.getString("resident_id"));
         DocumentType type = DocumentType.valueOf(rs.getString("document_type"));
@@ -0,0 +1,151 @@
+package com.barangay.infrastructure.persistence;
+
+import com.barangay.domain.entities.DocumentType;
+import com.barangay.domain.entities.ResidentId;
+import com.barangay.domain.repositories.IDocumentSearchRepository;
+import com.barangay.domain.valueobjects.DocumentSearchHit;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQLite implementation of IDocumentSearchRepository.
+ * <p>
+ * {@code document_search_entries} gives every document and request a stable
+ * integer key plus its owning resident; {@code document_search} is the FTS5
+ * table over the searchable text, keyed by the same integer. Triggers on
+ * documents and document_requests add, replace and remove entries, and
+ * triggers on residents rewrite the resident column of that resident's
+ * entries, so a name change is searchable without touching the source rows.
+ * The tables and triggers are created by schema migration 8; the rebuild
+ * here must index rows the same way.
+ */
+public class DocumentSearchRepository implements IDocumentSearchRepository {
+    static final String DOCUMENT = DocumentSearchHit.Kind.DOCUMENT.name();
+    static final String REQUEST = DocumentSearchHit.Kind.REQUEST.name();
+
+    private static final String SEARCH_SQL = "SELECT e.kind, e.record_key, e.resident_id, e.occurred_on, " +
+            "f.type, r.first_name, r.middle_name, r.last_name, r.suffix, " +
+            "snippet(document_search, -1, '[', ']', '...', 12) AS excerpt " +
+            "FROM document_search f " +
+            "JOIN document_search_entries e ON e.id = f.rowid " +
+            "LEFT JOIN residents r ON r.id = e.resident_id " +
+            "WHERE document_search MATCH ? ORDER BY f.rank LIMIT ?";
+
+    @Override
+    public List<DocumentSearchHit> search(String query, int limit) {
+        String match = FullTextQuery.prefixTerms(query);
+        List<DocumentSearchHit> hits = new ArrayList<>();
+        if (match == null) {
+            return hits;
+        }
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(SEARCH_SQL)) {
+
+            pstmt.setString(1, match);
+            pstmt.setInt(2, limit);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                hits.add(mapHit(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to search documents and requests", e);
+        }
+
+        return hits;
+    }
+
+    @Override
+    public void rebuild() {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                rebuild(conn);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to rebuild document search index", e);
+        }
+    }
+
+    /**
+     * Re-index every document and request. Runs in the caller's transaction.
+     */
+    private static void rebuild(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM document_search");
+            stmt.executeUpdate("DELETE FROM document_search_entries");
+            stmt.executeUpdate("INSERT INTO document_search_entries (kind, record_key, resident_id, occurred_on) " +
+                    "SELECT '" + DOCUMENT + "', reference, resident_id, issued_date FROM documents " +
+                    "UNION ALL SELECT '" + REQUEST + "', id, resident_id, SUBSTR(created_at, 1, 10) " +
+                    "FROM document_requests");
+            stmt.executeUpdate("INSERT INTO document_search (rowid, reference, type, details, resident) " +
+                    "SELECT e.id, d.reference, d.type, " + details("d", "purpose", "additional_info", "issued_by") +
+                    ", " + residentText("r") + " FROM document_search_entries e " +
+                    "JOIN documents d ON d.reference = e.record_key " +
+                    "LEFT JOIN residents r ON r.id = d.resident_id " +
+                    "WHERE e.kind = '" + DOCUMENT + "'");
+            stmt.executeUpdate("INSERT INTO document_search (rowid, reference, type, details, resident) " +
+                    "SELECT e.id, q.id, q.document_type, " + details("q", "purpose", "notes", "staff_notes") +
+                    ", " + residentText("r") + " FROM document_search_entries e " +
+                    "JOIN document_requests q ON q.id = e.record_key " +
+                    "LEFT JOIN residents r ON r.id = q.resident_id " +
+                    "WHERE e.kind = '" + REQUEST + "'");
+        }
+    }
+
+    private static String details(String row, String... columns) {
+        StringBuilder text = new StringBuilder();
+        for (String column : columns) {
+            if (text.length() > 0) {
+                text.append(" || ' ' || ");
+            }
+            text.append("IFNULL(").append(row).append('.').append(column).append(", '')");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Full name followed by the resident ID, so either finds the resident's records.
+     */
+    private static String residentText(String row) {
+        return "TRIM(IFNULL(" + row + ".first_name || ' ', '') || IFNULL(" + row + ".middle_name || ' ', '') || " +
+                "IFNULL(" + row + ".last_name || ' ', '') || IFNULL(" + row + ".suffix || ' ', '') || " +
+                "IFNULL(" + row + ".id, ''))";
+    }
+
+    private DocumentSearchHit mapHit(ResultSet rs) throws SQLException {
+        String residentId = rs.getString("resident_id");
+        String occurredOn = rs.getString("occurred_on");
+        String type = rs.getString("type");
+        return new DocumentSearchHit(
+                DocumentSearchHit.Kind.valueOf(rs.getString("kind")),
+                rs.getString("record_key"),
+                type != null ? DocumentType.valueOf(type) : null,
+                ResidentId.fromString(residentId),
+                fullName(rs),
+                occurredOn != null && !occurredOn.isEmpty() ? LocalDate.parse(occurredOn) : null,
+                rs.getString("excerpt"));
+    }
+
+    private static String fullName(ResultSet rs) throws SQLException {
+        StringBuilder name = new StringBuilder();
+        for (String column : new String[] { "first_name", "middle_name", "last_name", "suffix" }) {
+            String part = rs.getString(column);
+            if (part != null && !part.isBlank()) {
+                if (name.length() > 0) {
+                    name.append(' ');
+                }
+                name.append(part.trim());
+            }
+        }
+        return name.length() > 0 ? name.toString() : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.barangay.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Turns free text typed into a search box into an FTS5 MATCH expression.
+ * Every word becomes a quoted prefix term and all terms must match, so
+ * "dela cru" finds "Dela Cruz" and "BR-2024-00" finds resident IDs. Quoting
+ * keeps FTS5 operators such as OR, NOT and column filters in user input from
+ * being interpreted. Prefix terms cannot find the trailing digits of a
+ * reference or ID, so callers also match {@link #referenceFragment} anywhere
+ * in those columns.
+ */
+final class FullTextQuery {
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * The MATCH expression for {@code input}, or {@code null} when it holds no
+     * searchable characters.
+     */
+    static String prefixTerms(String input) {
+        if (input == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        // Split where the unicode61 tokenizer would; diacritics are folded by the index
+        for (String word : input.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}\\p{M}]+")) {
+            if (!word.isEmpty()) {
+                terms.add("\"" + word + "\"*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+
+    /**
+     * A LIKE pattern matching {@code input} anywhere in a reference or ID,
+     * e.g. "123" or "2024-00001", or {@code null} unless the input is a single
+     * run of letters, digits and dashes holding at least one digit.
+     */
+    static String referenceFragment(String input) {
+        if (input == null) {
+            return null;
+        }
+        String trimmed = input.trim();
+        // The character class leaves out LIKE's % and _, so nothing needs escaping
+        if (!trimmed.matches("[A-Za-z0-9-]+") || !trimmed.matches(".*[0-9].*")) {
+            return null;
+        }
+        return "%" + trimmed + "%";
+    }
+}
@@ -0,0 +1,81 @@
+package com.barangay.infrastructure.persistence;
+
+import com.barangay.application.ports.IImportCheckpointStore;
+import com.barangay.application.ports.ImportCheckpoint;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * SQLite implementation of {@link IImportCheckpointStore}.
+ */
+public class ImportCheckpointRepository implements IImportCheckpointStore {
+
+    @Override
+    public Optional<ImportCheckpoint> find(String sourceKey) {
+        String sql = "SELECT * FROM import_checkpoints WHERE source_key = ?";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, sourceKey);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new ImportCheckpoint(
+                            rs.getString("source_key"),
+                            rs.getLong("rows_committed"),
+                            rs.getLong("imported"),
+                            rs.getLong("duplicates"),
+                            rs.getLong("rejected"),
+                            LocalDateTime.parse(rs.getString("updated_at"))));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find import checkpoint", e);
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(ImportCheckpoint checkpoint) {
+        String sql = "INSERT OR REPLACE INTO import_checkpoints " +
+                "(source_key, rows_committed, imported, duplicates, rejected, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, checkpoint.getSourceKey());
+            pstmt.setLong(2, checkpoint.getRowsCommitted());
+            pstmt.setLong(3, checkpoint.getImported());
+            pstmt.setLong(4, checkpoint.getDuplicates());
+            pstmt.setLong(5, checkpoint.getRejected());
+            pstmt.setString(6, checkpoint.getUpdatedAt().toString());
+            pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save import checkpoint", e);
+        }
+    }
+
+    @Override
+    public void delete(String sourceKey) {
+        String sql = "DELETE FROM import_checkpoints WHERE source_key = ?";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, sourceKey);
+            pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete import checkpoint", e);
+        }
+    }
+}
@@ -73,7 +73,7 @@ public class OfficialRepository implements IOfficialRepository {
     public Optional<BarangayOfficial> findById(String id) {
         String sql = "SELECT * FROM barangay_officials WHERE id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, id);
@@ -95,9 +95,9 @@ public class OfficialRepository implements IOfficialRepository {
         String sql = "SELECT * FROM barangay_officials WHERE is_current = 1 ORDER BY position";
         List<BarangayOfficial> officials = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             while (rs.next()) {
                 officials.add(mapResultSetToOfficial(rs));
@@ -114,7 +114,7 @@ public class OfficialRepository implements IOfficialRepository {
     public BarangayOfficial findCurrentByPosition(OfficialPosition position) {
         String sql = "SELECT * FROM barangay_officials WHERE position = ? AND is_current = 1";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, position.name());
@@ -136,7 +136,7 @@ public class OfficialRepository implements IOfficialRepository {
         String sql = "SELECT * FROM barangay_officials WHERE position = ? AND is_current = 1 ORDER BY term_start DESC";
         List<BarangayOfficial> officials = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, position.name());
@@ -157,7 +157,7 @@ public class OfficialRepository implements IOfficialRepository {
     public int countCurrentByPosition(OfficialPosition position) {
         String sql = "SELECT COUNT(*) FROM barangay_officials WHERE position = ? AND is_current = 1";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, position.name());
@@ -179,7 +179,7 @@ public class OfficialRepository implements IOfficialRepository {
         String sql = "SELECT * FROM barangay_officials WHERE position = ? ORDER BY term_start DESC";
         List<BarangayOfficial> officials = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, position.name());
@@ -201,7 +201,7 @@ public class OfficialRepository implements IOfficialRepository {
         String sql = "SELECT * FROM barangay_officials WHERE resident_id = ? ORDER BY term_start DESC";
         List<BarangayOfficial> officials = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, residentId.getValue());
@@ -223,9 +223,9 @@ public class OfficialRepository implements IOfficialRepository {
         String sql = "SELECT * FROM barangay_officials ORDER BY term_start DESC";
         List<BarangayOfficial> officials = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             while (rs.next()) {
                 officials.add(mapResultSetToOfficial(rs));
@@ -3,70 +3,54 @@ package com.barangay.infrastructure.persistence;
 import com.barangay.domain.entities.*;
 import com.barangay.domain.repositories.IResidentRepository;
 import com.barangay.domain.valueobjects.Address;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.ResidentFilter;
+import com.barangay.domain.valueobjects.ResidentIdentity;
+import com.barangay.domain.valueobjects.ResidentPageCursor;
+import com.barangay.domain.valueobjects.ResidentStatistics;
+import com.barangay.domain.valueobjects.ResidentSummary;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * SQLite implementation of IResidentRepository.
  */
 public class ResidentRepository implements IResidentRepository {
+    private static final String SAVE_SQL = "INSERT OR REPLACE INTO residents " +
+            "(id, first_name, middle_name, last_name, suffix, birth_date, birth_place, " +
+            "gender, civil_status, nationality, contact, house_number, street, purok, " +
+            "barangay, city, province, occupation, employment, income_bracket, " +
+            "education_level, is_voter, is_active, deactivation_reason, " +
+            "registered_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Three parameters per candidate, well under SQLite's variable limit
+    private static final int IDENTITY_CHUNK_SIZE = 300;
+    private static final String STATISTICS_SQL = buildStatisticsSql();
+    private static final String SUMMARY_COLUMNS = "id, first_name, middle_name, last_name, suffix, gender, " +
+            "birth_date, contact, is_active";
+    private static final String SEARCH_SQL = "SELECT r.* FROM residents_fts f " +
+            "JOIN residents r ON r.rowid = f.rowid " +
+            "WHERE residents_fts MATCH ? AND r.is_active = 1 " +
+            "ORDER BY f.rank, r.last_name, r.first_name";
 
     @Override
     public void save(Resident resident) {
-        String sql = "INSERT OR REPLACE INTO residents " +
-                "(id, first_name, middle_name, last_name, suffix, birth_date, birth_place, " +
-                "gender, civil_status, nationality, contact, house_number, street, purok, " +
-                "barangay, city, province, occupation, employment, income_bracket, " +
-                "education_level, is_voter, is_active, deactivation_reason, " +
-                "registered_at, updated_at) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
         try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, resident.getId().getValue());
-            pstmt.setString(2, resident.getFirstName());
-            pstmt.setString(3, resident.getMiddleName());
-            pstmt.setString(4, resident.getLastName());
-            pstmt.setString(5, resident.getSuffix());
-            pstmt.setString(6, resident.getBirthDate().toString());
-            pstmt.setString(7, resident.getBirthPlace());
-            pstmt.setString(8, resident.getGender().name());
-            pstmt.setString(9, resident.getCivilStatus() != null ? resident.getCivilStatus().name() : null);
-            pstmt.setString(10, resident.getNationality());
-            pstmt.setString(11, resident.getContact());
-
-            Address address = resident.getAddress();
-            if (address != null) {
-                pstmt.setString(12, address.getHouseNumber());
-                pstmt.setString(13, address.getStreet());
-                pstmt.setString(14, address.getPurok());
-                pstmt.setString(15, address.getBarangay());
-                pstmt.setString(16, address.getCity());
-                pstmt.setString(17, address.getProvince());
-            } else {
-                pstmt.setString(12, null);
-                pstmt.setString(13, null);
-                pstmt.setString(14, null);
-                pstmt.setString(15, null);
-                pstmt.setString(16, null);
-                pstmt.setString(17, null);
-            }
-
-            pstmt.setString(18, resident.getOccupation());
-            pstmt.setString(19, resident.getEmployment());
-            pstmt.setString(20, resident.getIncomeBracket() != null ? resident.getIncomeBracket().name() : null);
-            pstmt.setString(21, resident.getEducationLevel() != null ? resident.getEducationLevel().name() : null);
-            pstmt.setInt(22, resident.isVoter() ? 1 : 0);
-            pstmt.setInt(23, resident.isActive() ? 1 : 0);
-            pstmt.setString(24, resident.getDeactivationReason());
-            pstmt.setString(25, resident.getRegisteredAt().toString());
-            pstmt.setString(26, resident.getUpdatedAt().toString());
+                PreparedStatement pstmt = conn.prepareStatement(SAVE_SQL)) {
 
+            bindResident(pstmt, resident);
             pstmt.executeUpdate();
 
         } catch (SQLException e) {
@@ -74,11 +58,34 @@ public class ResidentRepository implements IResidentRepository {
         }
     }
 
+    @Override
+    public void saveAll(List<Resident> residents) {
+        if (residents.isEmpty()) {
+            return;
+        }
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(SAVE_SQL)) {
+                for (Resident resident : residents) {
+                    bindResident(pstmt, resident);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save residents", e);
+        }
+    }
+
     @Override
     public Optional<Resident> findById(ResidentId id) {
         String sql = "SELECT * FROM residents WHERE id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, id.getValue());
@@ -109,30 +116,11 @@ public class ResidentRepository implements IResidentRepository {
 
     @Override
     public List<Resident> searchByName(String name) {
-        String sql = "SELECT * FROM residents WHERE " +
-                "(first_name LIKE ? OR middle_name LIKE ? OR last_name LIKE ?) " +
-                "AND is_active = 1 ORDER BY last_name, first_name";
-
-        List<Resident> residents = new ArrayList<>();
-        String searchPattern = "%" + name + "%";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, searchPattern);
-            pstmt.setString(2, searchPattern);
-            pstmt.setString(3, searchPattern);
-
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                residents.add(mapResultSetToResident(rs));
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to search residents by name", e);
+        String match = FullTextQuery.prefixTerms(name);
+        if (match == null) {
+            return findActiveResidents();
         }
-
-        return residents;
+        return searchFullText(match);
     }
 
     @Override
@@ -142,7 +130,7 @@ public class ResidentRepository implements IResidentRepository {
 
         List<Resident> residents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, gender.name());
@@ -170,7 +158,7 @@ public class ResidentRepository implements IResidentRepository {
 
         List<Resident> residents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, minBirthDate.toString());
@@ -194,7 +182,7 @@ public class ResidentRepository implements IResidentRepository {
 
         List<Resident> residents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, firstName);
@@ -213,6 +201,49 @@ public class ResidentRepository implements IResidentRepository {
         return residents;
     }
 
+    @Override
+    public Set<ResidentIdentity> findExistingIdentities(Collection<ResidentIdentity> candidates) {
+        Set<ResidentIdentity> existing = new HashSet<>();
+        if (candidates.isEmpty()) {
+            return existing;
+        }
+        List<ResidentIdentity> pending = new ArrayList<>(new LinkedHashSet<>(candidates));
+
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            for (int from = 0; from < pending.size(); from += IDENTITY_CHUNK_SIZE) {
+                List<ResidentIdentity> chunk = pending.subList(from,
+                        Math.min(from + IDENTITY_CHUNK_SIZE, pending.size()));
+                // Joined on the name index, one seek per candidate
+                StringBuilder sql = new StringBuilder("WITH c(first_name, last_name, birth_date) AS (VALUES ");
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+                }
+                sql.append(") SELECT DISTINCT r.first_name, r.last_name, r.birth_date FROM c " +
+                        "JOIN residents r ON r.last_name = c.last_name AND r.first_name = c.first_name " +
+                        "AND r.birth_date = c.birth_date");
+
+                try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                    int index = 1;
+                    for (ResidentIdentity identity : chunk) {
+                        pstmt.setString(index++, identity.getFirstName());
+                        pstmt.setString(index++, identity.getLastName());
+                        pstmt.setString(index++, identity.getBirthDate().toString());
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            existing.add(new ResidentIdentity(rs.getString(1), rs.getString(2),
+                                    LocalDate.parse(rs.getString(3))));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find existing residents", e);
+        }
+
+        return existing;
+    }
+
     @Override
     public int countTotal() {
         return executeCount("SELECT COUNT(*) FROM residents WHERE is_active = 1");
@@ -222,7 +253,7 @@ public class ResidentRepository implements IResidentRepository {
     public int countByGender(Gender gender) {
         String sql = "SELECT COUNT(*) FROM residents WHERE gender = ? AND is_active = 1";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, gender.name());
@@ -245,29 +276,77 @@ public class ResidentRepository implements IResidentRepository {
     }
 
     @Override
-    public ResidentId generateNextId() {
-        String year = String.valueOf(LocalDate.now().getYear());
-        String sql = "SELECT MAX(CAST(SUBSTR(id, LENGTH(id) - 9, 10) AS INTEGER)) FROM residents WHERE id LIKE ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    public ResidentStatistics getStatistics() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int active = 0;
+        int male = 0;
+        int female = 0;
+        int voters = 0;
+        Map<String, Integer> byPurok = new LinkedHashMap<>();
+        Map<AgeBracket, Integer> byAge = new EnumMap<>(AgeBracket.class);
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(STATISTICS_SQL)) {
+
+            int index = 1;
+            for (AgeBracket bracket : AgeBracket.values()) {
+                // age >= min  <=>  born on or before today - min years
+                pstmt.setString(index++, today.minusYears(bracket.getMinAge()).toString());
+                if (bracket.getMaxAge() != Integer.MAX_VALUE) {
+                    // age <= max  <=>  born after today - (max + 1) years
+                    pstmt.setString(index++, today.minusYears(bracket.getMaxAge() + 1L).toString());
+                }
+            }
 
-            pstmt.setString(1, "BR-" + year + "-%");
             ResultSet rs = pstmt.executeQuery();
-
-            int nextSequence = 1;
-            if (rs.next()) {
-                nextSequence = rs.getInt(1) + 1;
+            while (rs.next()) {
+                int purokActive = rs.getInt("active");
+                total += rs.getInt("total");
+                active += purokActive;
+                male += rs.getInt("male");
+                female += rs.getInt("female");
+                voters += rs.getInt("voters");
+
+                if (purokActive > 0) {
+                    String purok = rs.getString("purok");
+                    byPurok.merge(purok == null ? ResidentStatistics.UNASSIGNED_PUROK : purok,
+                            purokActive, Integer::sum);
+                }
+                for (AgeBracket bracket : AgeBracket.values()) {
+                    byAge.merge(bracket, rs.getInt("age_" + bracket.name().toLowerCase()), Integer::sum);
+                }
             }
 
-            String id = String.format("BR-%s-%010d", year, nextSequence);
-            return ResidentId.fromString(id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to compute resident statistics", e);
+        }
 
+        return new ResidentStatistics(total, active, male, female, voters, byPurok, byAge);
+    }
+
+    @Override
+    public ResidentId generateNextId() {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return ResidentId.fromString(SequenceGenerator.nextId(conn, SequenceGenerator.RESIDENT, "BR"));
         } catch (SQLException e) {
             throw new RuntimeException("Failed to generate resident ID", e);
         }
     }
 
+    @Override
+    public List<ResidentId> generateNextIds(int count) {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            List<ResidentId> ids = new ArrayList<>(count);
+            for (String id : SequenceGenerator.nextIds(conn, SequenceGenerator.RESIDENT, "BR", count)) {
+                ids.add(ResidentId.fromString(id));
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to generate resident IDs", e);
+        }
+    }
+
     @Override
     public List<Resident> findWithPagination(int offset, int limit) {
         String sql = "SELECT * FROM residents WHERE is_active = 1 " +
@@ -275,7 +354,7 @@ public class ResidentRepository implements IResidentRepository {
 
         List<Resident> residents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, limit);
@@ -293,12 +372,194 @@ public class ResidentRepository implements IResidentRepository {
         return residents;
     }
 
+    private List<Resident> searchFullText(String match) {
+        List<Resident> residents = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(SEARCH_SQL)) {
+
+            pstmt.setString(1, match);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                residents.add(mapResultSetToResident(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to search residents", e);
+        }
+
+        return residents;
+    }
+
+    @Override
+    public Page<ResidentSummary, ResidentPageCursor> findPage(ResidentFilter filter, ResidentPageCursor after,
+            int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(SUMMARY_COLUMNS).append(" FROM residents WHERE 1 = 1");
+        appendFilter(sql, params, filter);
+        if (after != null) {
+            sql.append(" AND (last_name, first_name, id) > (?, ?, ?)");
+            params.add(after.getLastName());
+            params.add(after.getFirstName());
+            params.add(after.getResidentId().getValue());
+        }
+        // Seeks along idx_residents_name_id; the extra row only tells whether another page exists
+        sql.append(" ORDER BY last_name, first_name, id LIMIT ?");
+        params.add(limit + 1);
+
+        List<ResidentSummary> residents = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            bind(pstmt, params);
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                residents.add(mapResultSetToSummary(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find resident page", e);
+        }
+
+        if (residents.size() <= limit) {
+            return new Page<>(residents, null);
+        }
+        residents.remove(limit);
+        ResidentSummary last = residents.get(limit - 1);
+        return new Page<>(residents, new ResidentPageCursor(last.getLastName(), last.getFirstName(), last.getId()));
+    }
+
+    @Override
+    public ResidentPageCursor findCursorBefore(ResidentFilter filter, int position) {
+        if (position <= 0) {
+            return null;
+        }
+        List<Object> params = new ArrayList<>();
+        // Only the sort key is read, so an unfiltered jump stays inside idx_residents_name_id
+        StringBuilder sql = new StringBuilder("SELECT last_name, first_name, id FROM residents WHERE 1 = 1");
+        appendFilter(sql, params, filter);
+        sql.append(" ORDER BY last_name, first_name, id LIMIT 1 OFFSET ?");
+        params.add(position - 1);
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            bind(pstmt, params);
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return new ResidentPageCursor(rs.getString("last_name"), rs.getString("first_name"),
+                        ResidentId.fromString(rs.getString("id")));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to position resident cursor", e);
+        }
+
+        return null;
+    }
+
+    @Override
+    public int count(ResidentFilter filter) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM residents WHERE 1 = 1");
+        appendFilter(sql, params, filter);
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            bind(pstmt, params);
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count residents", e);
+        }
+
+        return 0;
+    }
+
+    @Override
+    public void forEach(ResidentFilter filter, Consumer<? super Resident> action) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM residents WHERE 1 = 1");
+        appendFilter(sql, params, filter);
+        sql.append(" ORDER BY last_name, first_name, id");
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = DatabaseConnection.prepareCursor(conn, sql.toString())) {
+
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(mapResultSetToResident(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read residents", e);
+        }
+    }
+
+    /**
+     * Shared WHERE terms for the browse queries. The unary + on the gender and
+     * status columns keeps the planner on the name index, which already gives
+     * the required order, instead of a low-selectivity index plus a sort.
+     */
+    private static void appendFilter(StringBuilder sql, List<Object> params, ResidentFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getGender() != null) {
+            sql.append(" AND +gender = ?");
+            params.add(filter.getGender().name());
+        }
+        if (filter.getActive() != null) {
+            sql.append(" AND +is_active = ?");
+            params.add(filter.getActive() ? 1 : 0);
+        }
+        String match = FullTextQuery.prefixTerms(filter.getSearchText());
+        if (match != null) {
+            sql.append(" AND rowid IN (SELECT rowid FROM residents_fts WHERE residents_fts MATCH ?)");
+            params.add(match);
+        }
+    }
+
+    private static void bind(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            pstmt.setObject(i + 1, params.get(i));
+        }
+    }
+
+    /**
+     * One grouped pass over residents; totals are summed across puroks.
+     * Served from idx_residents_stats without touching the table rows.
+     */
+    private static String buildStatisticsSql() {
+        StringBuilder sql = new StringBuilder("SELECT NULLIF(TRIM(purok), '') AS purok, COUNT(*) AS total, ")
+                .append("SUM(CASE WHEN is_active = 1 THEN 1 ELSE 0 END) AS active, ")
+                .append("SUM(CASE WHEN is_active = 1 AND gender = 'MALE' THEN 1 ELSE 0 END) AS male, ")
+                .append("SUM(CASE WHEN is_active = 1 AND gender = 'FEMALE' THEN 1 ELSE 0 END) AS female, ")
+                .append("SUM(CASE WHEN is_active = 1 AND is_voter = 1 THEN 1 ELSE 0 END) AS voters");
+        for (AgeBracket bracket : AgeBracket.values()) {
+            sql.append(", SUM(CASE WHEN is_active = 1 AND birth_date <= ?");
+            if (bracket.getMaxAge() != Integer.MAX_VALUE) {
+                sql.append(" AND birth_date > ?");
+            }
+            sql.append(" THEN 1 ELSE 0 END) AS age_").append(bracket.name().toLowerCase());
+        }
+        return sql.append(" FROM residents GROUP BY 1 ORDER BY 1").toString();
+    }
+
     private List<Resident> executeQuery(String sql) {
         List<Resident> residents = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             while (rs.next()) {
                 residents.add(mapResultSetToResident(rs));
@@ -312,9 +573,9 @@ public class ResidentRepository implements IResidentRepository {
     }
 
     private int executeCount(String sql) {
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             if (rs.next()) {
                 return rs.getInt(1);
@@ -327,6 +588,47 @@ public class ResidentRepository implements IResidentRepository {
         return 0;
     }
 
+    private static void bindResident(PreparedStatement pstmt, Resident resident) throws SQLException {
+        pstmt.setString(1, resident.getId().getValue());
+        pstmt.setString(2, resident.getFirstName());
+        pstmt.setString(3, resident.getMiddleName());
+        pstmt.setString(4, resident.getLastName());
+        pstmt.setString(5, resident.getSuffix());
+        pstmt.setString(6, resident.getBirthDate().toString());
+        pstmt.setString(7, resident.getBirthPlace());
+        pstmt.setString(8, resident.getGender().name());
+        pstmt.setString(9, resident.getCivilStatus() != null ? resident.getCivilStatus().name() : null);
+        pstmt.setString(10, resident.getNationality());
+        pstmt.setString(11, resident.getContact());
+
+        Address address = resident.getAddress();
+        if (address != null) {
+            pstmt.setString(12, address.getHouseNumber());
+            pstmt.setString(13, address.getStreet());
+            pstmt.setString(14, address.getPurok());
+            pstmt.setString(15, address.getBarangay());
+            pstmt.setString(16, address.getCity());
+            pstmt.setString(17, address.getProvince());
+        } else {
+            pstmt.setString(12, null);
+            pstmt.setString(13, null);
+            pstmt.setString(14, null);
+            pstmt.setString(15, null);
+            pstmt.setString(16, null);
+            pstmt.setString(17, null);
+        }
+
+        pstmt.setString(18, resident.getOccupation());
+        pstmt.setString(19, resident.getEmployment());
+        pstmt.setString(20, resident.getIncomeBracket() != null ? resident.getIncomeBracket().name() : null);
+        pstmt.setString(21, resident.getEducationLevel() != null ? resident.getEducationLevel().name() : null);
+        pstmt.setInt(22, resident.isVoter() ? 1 : 0);
+        pstmt.setInt(23, resident.isActive() ? 1 : 0);
+        pstmt.setString(24, resident.getDeactivationReason());
+        pstmt.setString(25, resident.getRegisteredAt().toString());
+        pstmt.setString(26, resident.getUpdatedAt().toString());
+    }
+
     private Resident mapResultSetToResident(ResultSet rs) throws SQLException {
         ResidentId id = ResidentId.fromString(rs.getString("id"));
         String firstName = rs.getString("first_name");
@@ -383,4 +685,17 @@ public class ResidentRepository implements IResidentRepository {
 
         return resident;
     }
+
+    private ResidentSummary mapResultSetToSummary(ResultSet rs) throws SQLException {
+        return new ResidentSummary(
+                ResidentId.fromString(rs.getString("id")),
+                rs.getString("first_name"),
+                rs.getString("middle_name"),
+                rs.getString("last_name"),
+                rs.getString("suffix"),
+                Gender.valueOf(rs.getString("gender")),
+                LocalDate.parse(rs.getString("birth_date")),
+                rs.getString("contact"),
+                rs.getInt("is_active") == 1);
+    }
 }
@@ -0,0 +1,47 @@
+package com.barangay.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * One ordered schema change. {@link SchemaMigrator} runs it inside a
+ * transaction and records {@link #getVersion()} in {@code PRAGMA user_version}.
+ */
+public class SchemaMigration {
+
+    /**
+     * DDL/DML executed for the migration.
+     */
+    @FunctionalInterface
+    public interface Step {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    private final int version;
+    private final String description;
+    private final Step step;
+
+    public SchemaMigration(int version, String description, Step step) {
+        if (version < 1) {
+            throw new IllegalArgumentException("Migration version must be at least 1");
+        }
+        if (step == null) {
+            throw new IllegalArgumentException("Migration step is required");
+        }
+        this.version = version;
+        this.description = description;
+        this.step = step;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void apply(Connection conn) throws SQLException {
+        step.apply(conn);
+    }
+}
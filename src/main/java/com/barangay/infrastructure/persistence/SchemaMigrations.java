@@ -0,0 +1,583 @@
+package com.barangay.infrastructure.persistence;
+
+import com.barangay.domain.entities.BarangayInfo;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ordered registry of schema migrations. Append new steps at the end with the
+ * next version number; never edit a step that has already shipped.
+ */
+public final class SchemaMigrations {
+
+    private SchemaMigrations() {
+    }
+
+    public static List<SchemaMigration> all() {
+        return Arrays.asList(
+                new SchemaMigration(1, "baseline tables", SchemaMigrations::createBaselineTables),
+                new SchemaMigration(2, "baseline indexes", SchemaMigrations::createBaselineIndexes),
+                new SchemaMigration(3, "id sequences", SchemaMigrations::createSequences),
+                new SchemaMigration(4, "resident statistics index", SchemaMigrations::createResidentStatisticsIndex),
+                new SchemaMigration(5, "document date indexes", SchemaMigrations::createDocumentDateIndexes),
+                new SchemaMigration(6, "dashboard counters", SchemaMigrations::createDashboardCounters),
+                new SchemaMigration(7, "resident full-text index", SchemaMigrations::createResidentSearchIndex),
+                new SchemaMigration(8, "document full-text index", SchemaMigrations::createDocumentSearchIndex),
+                new SchemaMigration(9, "keyset pagination indexes", SchemaMigrations::createKeysetIndexes),
+                new SchemaMigration(10, "import checkpoints", SchemaMigrations::createImportCheckpoints));
+    }
+
+    /**
+     * Creates the original tables on a fresh database, and brings databases
+     * created before versioning up to the same shape.
+     */
+    private static void createBaselineTables(Connection conn) throws SQLException {
+        rebuildUsersTableIfLegacy(conn);
+
+        try (Statement stmt = conn.createStatement()) {
+
+            // Users table
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS users (" +
+                            "id TEXT PRIMARY KEY, " +
+                            "username TEXT UNIQUE NOT NULL, " +
+                            "password_hash TEXT NOT NULL, " +
+                            "role TEXT NOT NULL, " +
+                            "linked_resident_id TEXT, " +
+                            "is_active INTEGER DEFAULT 1, " +
+                            "created_at TEXT NOT NULL, " +
+                            "last_login_at TEXT, " +
+                            "updated_at TEXT NOT NULL)");
+
+            // Residents table
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS residents (" +
+                            "id TEXT PRIMARY KEY, " +
+                            "first_name TEXT NOT NULL, " +
+                            "middle_name TEXT, " +
+                            "last_name TEXT NOT NULL, " +
+                            "suffix TEXT, " +
+                            "birth_date TEXT NOT NULL, " +
+                            "birth_place TEXT, " +
+                            "gender TEXT NOT NULL, " +
+                            "civil_status TEXT, " +
+                            "nationality TEXT, " +
+                            "contact TEXT, " +
+                            "house_number TEXT, " +
+                            "street TEXT, " +
+                            "purok TEXT, " +
+                            "barangay TEXT, " +
+                            "city TEXT, " +
+                            "province TEXT, " +
+                            "occupation TEXT, " +
+                            "employment TEXT, " +
+                            "income_bracket TEXT, " +
+                            "education_level TEXT, " +
+                            "is_voter INTEGER DEFAULT 0, " +
+                            "is_active INTEGER DEFAULT 1, " +
+                            "deactivation_reason TEXT, " +
+                            "registered_at TEXT NOT NULL, " +
+                            "updated_at TEXT NOT NULL)");
+
+            // Document Requests table
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS document_requests (" +
+                            "id TEXT PRIMARY KEY, " +
+                            "resident_id TEXT NOT NULL, " +
+                            "document_type TEXT NOT NULL, " +
+                            "purpose TEXT, " +
+                            "requested_valid_until TEXT, " +
+                            "notes TEXT, " +
+                            "additional_info TEXT, " +
+                            "status TEXT NOT NULL, " +
+                            "staff_notes TEXT, " +
+                            "handled_by TEXT, " +
+                            "linked_document_reference TEXT, " +
+                            "created_at TEXT NOT NULL, " +
+                            "updated_at TEXT NOT NULL, " +
+                            "FOREIGN KEY (resident_id) REFERENCES residents(id))");
+
+            // Documents table
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS documents (" +
+                            "reference TEXT PRIMARY KEY, " +
+                            "resident_id TEXT NOT NULL, " +
+                            "type TEXT NOT NULL, " +
+                            "purpose TEXT, " +
+                            "issued_date TEXT NOT NULL, " +
+                            "valid_until TEXT, " +
+                            "issued_by TEXT NOT NULL, " +
+                            "additional_info TEXT, " +
+                            "photo_path TEXT, " +
+                            "request_id TEXT, " +
+                            "created_at TEXT NOT NULL, " +
+                            "FOREIGN KEY (resident_id) REFERENCES residents(id), " +
+                            "FOREIGN KEY (request_id) REFERENCES document_requests(id))");
+
+            addColumnIfMissing(conn, "documents", "request_id", "TEXT");
+            addColumnIfMissing(conn, "documents", "photo_path", "TEXT");
+
+            // Voter Applications table
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS voter_applications (" +
+                            "id TEXT PRIMARY KEY, " +
+                            "resident_id TEXT NOT NULL, " +
+                            "application_type TEXT NOT NULL, " +
+                            "current_registration_details TEXT, " +
+                            "valid_id_front_path TEXT, " +
+                            "valid_id_back_path TEXT, " +
+                            "status TEXT NOT NULL, " +
+                            "review_notes TEXT, " +
+                            "reviewed_by TEXT, " +
+                            "appointment_datetime TEXT, " +
+                            "appointment_venue TEXT, " +
+                            "appointment_slip_reference TEXT, " +
+                            "submitted_at TEXT NOT NULL, " +
+                            "reviewed_at TEXT, " +
+                            "updated_at TEXT NOT NULL, " +
+                            "FOREIGN KEY (resident_id) REFERENCES residents(id))");
+
+            // Barangay Officials table
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS barangay_officials (" +
+                            "id TEXT PRIMARY KEY, " +
+                            "resident_id TEXT NOT NULL, " +
+                            "official_name TEXT NOT NULL, " +
+                            "position TEXT NOT NULL, " +
+                            "term_start TEXT NOT NULL, " +
+                            "term_end TEXT NOT NULL, " +
+                            "is_current INTEGER DEFAULT 1, " +
+                            "photo_path TEXT, " +
+                            "created_at TEXT NOT NULL, " +
+                            "updated_at TEXT NOT NULL, " +
+                            "FOREIGN KEY (resident_id) REFERENCES residents(id))");
+
+            addColumnIfMissing(conn, "barangay_officials", "photo_path", "TEXT");
+
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS barangay_info (" +
+                            "id TEXT PRIMARY KEY, " +
+                            "barangay_name TEXT, " +
+                            "city TEXT, " +
+                            "province TEXT, " +
+                            "region TEXT, " +
+                            "address TEXT, " +
+                            "contact_number TEXT, " +
+                            "email TEXT, " +
+                            "seal_path TEXT, " +
+                            "dashboard_images TEXT, " +
+                            "updated_at TEXT)");
+
+            addColumnIfMissing(conn, "barangay_info", "dashboard_images", "TEXT");
+        }
+
+        seedBarangayInfo(conn);
+    }
+
+    private static void createBaselineIndexes(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_users_username ON users(username)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_users_role ON users(role)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_residents_name ON residents(last_name, first_name)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_residents_active ON residents(is_active)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_documents_resident ON documents(resident_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_documents_type ON documents(type)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_documents_request ON documents(request_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_voter_apps_status ON voter_applications(status)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_document_requests_status ON document_requests(status)");
+            stmt.execute(
+                    "CREATE INDEX IF NOT EXISTS idx_document_requests_resident ON document_requests(resident_id)");
+        }
+    }
+
+    /**
+     * Per-(entity, prefix, year) counters used by {@link SequenceGenerator},
+     * seeded from the highest number already issued.
+     */
+    private static void createSequences(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(
+                    "CREATE TABLE IF NOT EXISTS sequences (" +
+                            "entity TEXT NOT NULL, " +
+                            "prefix TEXT NOT NULL, " +
+                            "year INTEGER NOT NULL, " +
+                            "value INTEGER NOT NULL, " +
+                            "PRIMARY KEY (entity, prefix, year)) WITHOUT ROWID");
+        }
+        backfillSequence(conn, SequenceGenerator.RESIDENT, "residents", "id");
+        backfillSequence(conn, SequenceGenerator.DOCUMENT, "documents", "reference");
+        backfillSequence(conn, SequenceGenerator.DOCUMENT_REQUEST, "document_requests", "id");
+        backfillSequence(conn, SequenceGenerator.VOTER_APPLICATION, "voter_applications", "id");
+        // Official IDs went back to random OFF-XXXXXXXX; the seeded row is unused
+        backfillSequence(conn, "official", "barangay_officials", "id");
+    }
+
+    /**
+     * Seed sequences from IDs shaped {@code PREFIX-YYYY-NNNNNNNNNN}; other
+     * shapes (such as the old random official IDs) are ignored.
+     */
+    private static void backfillSequence(Connection conn, String entity, String table, String column)
+            throws SQLException {
+        String sql = String.format(
+                "INSERT OR REPLACE INTO sequences (entity, prefix, year, value) " +
+                        "SELECT ?, SUBSTR(%1$s, 1, LENGTH(%1$s) - 16), " +
+                        "CAST(SUBSTR(%1$s, LENGTH(%1$s) - 14, 4) AS INTEGER), " +
+                        "MAX(CAST(SUBSTR(%1$s, LENGTH(%1$s) - 9) AS INTEGER)) " +
+                        "FROM %2$s WHERE %1$s GLOB '?*-[0-9][0-9][0-9][0-9]-[0-9][0-9][0-9][0-9][0-9][0-9][0-9][0-9][0-9][0-9]' " +
+                        "GROUP BY 2, 3",
+                column, table);
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, entity);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Covering index so resident statistics are answered from the index alone.
+     */
+    private static void createResidentStatisticsIndex(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_residents_stats " +
+                    "ON residents(purok, is_active, gender, is_voter, birth_date)");
+        }
+    }
+
+    /**
+     * Date-range counts use idx_documents_issued; the statistics query is
+     * covered by (type, issued_date), which also replaces the plain type index.
+     */
+    private static void createDocumentDateIndexes(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_documents_issued ON documents(issued_date, created_at)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_documents_type_issued ON documents(type, issued_date)");
+            stmt.execute("DROP INDEX IF EXISTS idx_documents_type");
+        }
+    }
+
+    /**
+     * Trigger-maintained counters read by the dashboard, seeded by a full recount.
+     */
+    private static void createDashboardCounters(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS dashboard_counters (" +
+                    "name TEXT PRIMARY KEY, " +
+                    "value INTEGER NOT NULL DEFAULT 0) WITHOUT ROWID");
+
+            // Rows are (name, value) pairs over the row {r}; {s} is "-" when the row leaves a counter
+            createCounterTriggers(stmt, "residents", "is_active, gender, is_voter",
+                    "('residents.total', {s}(1)), " +
+                    "('residents.active', {s}({r}.is_active = 1)), " +
+                    "('residents.male', {s}({r}.is_active = 1 AND {r}.gender = 'MALE')), " +
+                    "('residents.female', {s}({r}.is_active = 1 AND {r}.gender = 'FEMALE')), " +
+                    "('residents.voters', {s}({r}.is_active = 1 AND {r}.is_voter = 1))");
+            createCounterTriggers(stmt, "documents", "type, issued_date",
+                    "('documents.total', {s}(1)), " +
+                    "('documents.type:' || IFNULL({r}.type, ''), {s}(1)), " +
+                    "('documents.day:' || IFNULL({r}.issued_date, ''), {s}(1)), " +
+                    "('documents.month:' || IFNULL(SUBSTR({r}.issued_date, 1, 7), ''), {s}(1))");
+            createCounterTriggers(stmt, "document_requests", "status",
+                    "('document_requests.status:' || IFNULL({r}.status, ''), {s}(1))");
+            createCounterTriggers(stmt, "voter_applications", "status",
+                    "('voter_applications.status:' || IFNULL({r}.status, ''), {s}(1))");
+            createCounterTriggers(stmt, "users", "role",
+                    "('users.role:' || IFNULL({r}.role, ''), {s}(1))");
+
+            stmt.executeUpdate("INSERT INTO dashboard_counters (name, value) " +
+                    "SELECT name, SUM(value) FROM (" +
+                    "SELECT 'residents.total' AS name, COUNT(*) AS value FROM residents " +
+                    "UNION ALL SELECT 'residents.active', SUM(is_active = 1) FROM residents " +
+                    "UNION ALL SELECT 'residents.male', SUM(is_active = 1 AND gender = 'MALE') FROM residents " +
+                    "UNION ALL SELECT 'residents.female', SUM(is_active = 1 AND gender = 'FEMALE') FROM residents " +
+                    "UNION ALL SELECT 'residents.voters', SUM(is_active = 1 AND is_voter = 1) FROM residents " +
+                    "UNION ALL SELECT 'documents.total', COUNT(*) FROM documents " +
+                    "UNION ALL SELECT 'documents.type:' || IFNULL(type, ''), COUNT(*) FROM documents GROUP BY 1 " +
+                    "UNION ALL SELECT 'documents.day:' || IFNULL(issued_date, ''), COUNT(*) FROM documents GROUP BY 1 " +
+                    "UNION ALL SELECT 'documents.month:' || IFNULL(SUBSTR(issued_date, 1, 7), ''), COUNT(*) " +
+                    "FROM documents GROUP BY 1 " +
+                    "UNION ALL SELECT 'document_requests.status:' || IFNULL(status, ''), COUNT(*) " +
+                    "FROM document_requests GROUP BY 1 " +
+                    "UNION ALL SELECT 'voter_applications.status:' || IFNULL(status, ''), COUNT(*) " +
+                    "FROM voter_applications GROUP BY 1 " +
+                    "UNION ALL SELECT 'users.role:' || IFNULL(role, ''), COUNT(*) FROM users GROUP BY 1) " +
+                    "GROUP BY name HAVING SUM(value) != 0");
+        }
+    }
+
+    /**
+     * Insert, delete and update triggers moving one table's counters. The
+     * update trigger fires only when a watched column actually changes.
+     */
+    private static void createCounterTriggers(Statement stmt, String table, String watchedColumns, String rows)
+            throws SQLException {
+        String upsert = "INSERT INTO dashboard_counters (name, value) VALUES ";
+        String onConflict = " ON CONFLICT(name) DO UPDATE SET value = value + excluded.value;";
+        String added = rows.replace("{r}", "new").replace("{s}", "");
+        String removed = rows.replace("{r}", "old").replace("{s}", "-");
+        StringBuilder changed = new StringBuilder();
+        for (String column : watchedColumns.split(", ")) {
+            if (changed.length() > 0) {
+                changed.append(" OR ");
+            }
+            changed.append("old.").append(column).append(" IS NOT new.").append(column);
+        }
+
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_" + table + "_counters_insert AFTER INSERT ON " + table +
+                " BEGIN " + upsert + added + onConflict + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_" + table + "_counters_delete AFTER DELETE ON " + table +
+                " BEGIN " + upsert + removed + onConflict + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_" + table + "_counters_update AFTER UPDATE OF " +
+                watchedColumns + " ON " + table + " WHEN " + changed +
+                " BEGIN " + upsert + removed + ", " + added + onConflict + " END");
+    }
+
+    /**
+     * FTS5 index over resident names, contact and ID. It reads its text from
+     * the residents table by rowid, so triggers only pass rowids and changed
+     * values; diacritics are folded so "Pena" finds "Peña".
+     */
+    private static void createResidentSearchIndex(Connection conn) throws SQLException {
+        String columns = "first_name, middle_name, last_name, suffix, contact, id";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE VIRTUAL TABLE IF NOT EXISTS residents_fts USING fts5(" + columns + ", " +
+                    "content = 'residents', tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3')");
+            // Surname hits outrank given names, which outrank contact and ID fragments
+            stmt.execute("INSERT INTO residents_fts (residents_fts, rank) " +
+                    "VALUES ('rank', 'bm25(8.0, 4.0, 10.0, 1.0, 2.0, 2.0)')");
+
+            String newValues = "new.rowid, new.first_name, new.middle_name, new.last_name, new.suffix, " +
+                    "new.contact, new.id";
+            String deleteOld = "INSERT INTO residents_fts (residents_fts, rowid, " + columns + ") " +
+                    "VALUES ('delete', old.rowid, old.first_name, old.middle_name, old.last_name, " +
+                    "old.suffix, old.contact, old.id);";
+            String insertNew = "INSERT INTO residents_fts (rowid, " + columns + ") VALUES (" + newValues + ");";
+
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_residents_fts_insert AFTER INSERT ON residents " +
+                    "BEGIN " + insertNew + " END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_residents_fts_delete AFTER DELETE ON residents " +
+                    "BEGIN " + deleteOld + " END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_residents_fts_update AFTER UPDATE OF " + columns +
+                    " ON residents BEGIN " + deleteOld + " " + insertNew + " END");
+            stmt.execute("INSERT INTO residents_fts (residents_fts) VALUES ('rebuild')");
+        }
+    }
+
+    /**
+     * Shared FTS5 index over issued documents and document requests, seeded
+     * from the existing rows.
+     */
+    private static void createDocumentSearchIndex(Connection conn) throws SQLException {
+        // Full name followed by the resident ID, so either finds the resident's records
+        String residentName = "TRIM(IFNULL({r}.first_name || ' ', '') || IFNULL({r}.middle_name || ' ', '') || " +
+                "IFNULL({r}.last_name || ' ', '') || IFNULL({r}.suffix || ' ', '') || IFNULL({r}.id, ''))";
+        String residentText = residentName.replace("{r}", "r");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS document_search_entries (" +
+                    "id INTEGER PRIMARY KEY, " +
+                    "kind TEXT NOT NULL, " +
+                    "record_key TEXT NOT NULL, " +
+                    "resident_id TEXT NOT NULL, " +
+                    "occurred_on TEXT, " +
+                    "UNIQUE (kind, record_key))");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_document_search_entries_resident " +
+                    "ON document_search_entries(resident_id)");
+            stmt.execute("CREATE VIRTUAL TABLE IF NOT EXISTS document_search USING fts5(" +
+                    "reference, type, details, resident, " +
+                    "tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3')");
+            // Reference and resident hits outrank words buried in purpose or notes
+            stmt.execute("INSERT INTO document_search (document_search, rank) " +
+                    "VALUES ('rank', 'bm25(6.0, 1.0, 2.0, 4.0)')");
+
+            createDocumentSearchTriggers(stmt, "documents", "DOCUMENT", "reference", "type",
+                    "new.issued_date",
+                    "IFNULL(new.purpose, '') || ' ' || IFNULL(new.additional_info, '') || ' ' || " +
+                    "IFNULL(new.issued_by, '')",
+                    residentText);
+            createDocumentSearchTriggers(stmt, "document_requests", "REQUEST", "id", "document_type",
+                    "SUBSTR(new.created_at, 1, 10)",
+                    "IFNULL(new.purpose, '') || ' ' || IFNULL(new.notes, '') || ' ' || IFNULL(new.staff_notes, '')",
+                    residentText);
+
+            String renamed = "UPDATE document_search SET resident = " + residentName.replace("{r}", "new") +
+                    " WHERE rowid IN (SELECT id FROM document_search_entries WHERE resident_id = new.id);";
+            // Resident saves are INSERT OR REPLACE, which fires the insert trigger
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_residents_document_search_insert " +
+                    "AFTER INSERT ON residents BEGIN " + renamed + " END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_residents_document_search_update " +
+                    "AFTER UPDATE OF first_name, middle_name, last_name, suffix ON residents " +
+                    "BEGIN " + renamed + " END");
+
+            stmt.executeUpdate("INSERT INTO document_search_entries (kind, record_key, resident_id, occurred_on) " +
+                    "SELECT 'DOCUMENT', reference, resident_id, issued_date FROM documents " +
+                    "UNION ALL SELECT 'REQUEST', id, resident_id, SUBSTR(created_at, 1, 10) FROM document_requests");
+            stmt.executeUpdate("INSERT INTO document_search (rowid, reference, type, details, resident) " +
+                    "SELECT e.id, d.reference, d.type, " +
+                    "IFNULL(d.purpose, '') || ' ' || IFNULL(d.additional_info, '') || ' ' || IFNULL(d.issued_by, ''), " +
+                    residentText + " FROM document_search_entries e " +
+                    "JOIN documents d ON d.reference = e.record_key " +
+                    "LEFT JOIN residents r ON r.id = d.resident_id " +
+                    "WHERE e.kind = 'DOCUMENT'");
+            stmt.executeUpdate("INSERT INTO document_search (rowid, reference, type, details, resident) " +
+                    "SELECT e.id, q.id, q.document_type, " +
+                    "IFNULL(q.purpose, '') || ' ' || IFNULL(q.notes, '') || ' ' || IFNULL(q.staff_notes, ''), " +
+                    residentText + " FROM document_search_entries e " +
+                    "JOIN document_requests q ON q.id = e.record_key " +
+                    "LEFT JOIN residents r ON r.id = q.resident_id " +
+                    "WHERE e.kind = 'REQUEST'");
+        }
+    }
+
+    /**
+     * Entry and FTS rows follow the source row; an update is a remove and re-add.
+     */
+    private static void createDocumentSearchTriggers(Statement stmt, String table, String kind, String keyColumn,
+            String typeColumn, String newDate, String newDetails, String residentText) throws SQLException {
+        String entryId = "(SELECT id FROM document_search_entries WHERE kind = '" + kind + "' AND record_key = ";
+        String added = "INSERT INTO document_search_entries (kind, record_key, resident_id, occurred_on) " +
+                "VALUES ('" + kind + "', new." + keyColumn + ", new.resident_id, " + newDate + "); " +
+                "INSERT INTO document_search (rowid, reference, type, details, resident) " +
+                "SELECT " + entryId + "new." + keyColumn + "), new." + keyColumn + ", new." + typeColumn + ", " +
+                newDetails + ", (SELECT " + residentText + " FROM residents r WHERE r.id = new.resident_id);";
+        String removed = "DELETE FROM document_search WHERE rowid = " + entryId + "old." + keyColumn + "); " +
+                "DELETE FROM document_search_entries WHERE kind = '" + kind + "' AND record_key = old." +
+                keyColumn + ";";
+
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_" + table + "_search_insert AFTER INSERT ON " + table +
+                " BEGIN " + added + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_" + table + "_search_delete AFTER DELETE ON " + table +
+                " BEGIN " + removed + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS trg_" + table + "_search_update AFTER UPDATE ON " + table +
+                " BEGIN " + removed + " " + added + " END");
+    }
+
+    /**
+     * Composite indexes matching each list's full sort key, so a page is a
+     * seek plus a short range scan. The resident name index gains the ID and
+     * replaces the two-column one.
+     */
+    private static void createKeysetIndexes(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_residents_name_id ON residents(last_name, first_name, id)");
+            stmt.execute("DROP INDEX IF EXISTS idx_residents_name");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_documents_issued_reference " +
+                    "ON documents(issued_date, reference)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_document_requests_created " +
+                    "ON document_requests(created_at, id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_voter_apps_submitted ON voter_applications(submitted_at, id)");
+        }
+    }
+
+    /**
+     * One row per unfinished import, keyed by its source, so a failed run
+     * resumes after the last committed batch.
+     */
+    private static void createImportCheckpoints(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS import_checkpoints (" +
+                    "source_key TEXT PRIMARY KEY, " +
+                    "rows_committed INTEGER NOT NULL, " +
+                    "imported INTEGER NOT NULL, " +
+                    "duplicates INTEGER NOT NULL, " +
+                    "rejected INTEGER NOT NULL, " +
+                    "updated_at TEXT NOT NULL) WITHOUT ROWID");
+        }
+    }
+
+    /**
+     * Early builds stored contact and email on users; rebuild the table
+     * without them. Runs inside the migration transaction.
+     */
+    private static void rebuildUsersTableIfLegacy(Connection conn) throws SQLException {
+        if (!columnExists(conn, "users", "contact") && !columnExists(conn, "users", "email")) {
+            return;
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(
+                    "CREATE TABLE users_migrate (" +
+                            "id TEXT PRIMARY KEY, " +
+                            "username TEXT UNIQUE NOT NULL, " +
+                            "password_hash TEXT NOT NULL, " +
+                            "role TEXT NOT NULL, " +
+                            "linked_resident_id TEXT, " +
+                            "is_active INTEGER DEFAULT 1, " +
+                            "created_at TEXT NOT NULL, " +
+                            "last_login_at TEXT, " +
+                            "updated_at TEXT NOT NULL)");
+
+            stmt.execute(
+                    "INSERT INTO users_migrate (id, username, password_hash, role, " +
+                            "linked_resident_id, is_active, created_at, last_login_at, updated_at) " +
+                            "SELECT id, username, password_hash, role, linked_resident_id, " +
+                            "is_active, created_at, last_login_at, updated_at FROM users");
+
+            stmt.execute("DROP TABLE users");
+            stmt.execute("ALTER TABLE users_migrate RENAME TO users");
+        }
+    }
+
+    private static void addColumnIfMissing(Connection conn, String table, String column, String type)
+            throws SQLException {
+        if (columnExists(conn, table, column)) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(String.format("ALTER TABLE %s ADD COLUMN %s %s", table, column, type));
+        }
+    }
+
+    private static boolean columnExists(Connection conn, String tableName, String columnName) throws SQLException {
+        String query = String.format("PRAGMA table_info(%s)", tableName);
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(query)) {
+            while (rs.next()) {
+                String name = rs.getString("name");
+                if (name != null && name.equalsIgnoreCase(columnName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void seedBarangayInfo(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM barangay_info")) {
+            if (rs.next() && rs.getInt(1) > 0) {
+                return;
+            }
+        }
+
+        BarangayInfo defaultInfo = DefaultBarangayInfo.getInfo();
+        String insertSql = "INSERT INTO barangay_info " +
+                "(id, barangay_name, city, province, region, address, contact_number, email, seal_path, dashboard_images, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
+            pstmt.setString(1, defaultInfo.getId());
+            pstmt.setString(2, defaultInfo.getBarangayName());
+            pstmt.setString(3, defaultInfo.getCity());
+            pstmt.setString(4, defaultInfo.getProvince());
+            pstmt.setString(5, defaultInfo.getRegion());
+            pstmt.setString(6, defaultInfo.getAddress());
+            pstmt.setString(7, defaultInfo.getContactNumber());
+            pstmt.setString(8, defaultInfo.getEmail());
+            pstmt.setString(9, defaultInfo.getSealPath());
+            String serializedImages = defaultInfo.getDashboardImages().isEmpty()
+                    ? null
+                    : String.join("\n", defaultInfo.getDashboardImages());
+            pstmt.setString(10, serializedImages);
+            LocalDateTime updatedAt = defaultInfo.getUpdatedAt() != null
+                    ? defaultInfo.getUpdatedAt()
+                    : LocalDateTime.now();
+            pstmt.setString(11, updatedAt.toString());
+            pstmt.executeUpdate();
+        }
+    }
+}
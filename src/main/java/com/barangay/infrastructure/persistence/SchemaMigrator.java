@@ -0,0 +1,92 @@
+package com.barangay.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Applies pending {@link SchemaMigration}s in version order.
+ * The applied version lives in {@code PRAGMA user_version}, so a database
+ * that is already current costs a single pragma read at startup.
+ */
+public class SchemaMigrator {
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigrator.class.getName());
+
+    private final List<SchemaMigration> migrations;
+
+    public SchemaMigrator(List<SchemaMigration> migrations) {
+        List<SchemaMigration> ordered = new ArrayList<>(migrations);
+        for (int i = 0; i < ordered.size(); i++) {
+            if (ordered.get(i).getVersion() != i + 1) {
+                throw new IllegalArgumentException("Migrations must be numbered 1.." + ordered.size()
+                        + " without gaps; found version " + ordered.get(i).getVersion() + " at position " + (i + 1));
+            }
+        }
+        this.migrations = Collections.unmodifiableList(ordered);
+    }
+
+    public int getLatestVersion() {
+        return migrations.size();
+    }
+
+    /**
+     * Bring the database up to the latest version.
+     *
+     * @return the number of migrations applied
+     */
+    public int migrate(Connection conn) throws SQLException {
+        int current = readVersion(conn);
+        int latest = getLatestVersion();
+        if (current == latest) {
+            return 0;
+        }
+        if (current > latest) {
+            LOGGER.warning(() -> "Database schema version " + current
+                    + " is newer than this build supports (" + latest + "); skipping migrations");
+            return 0;
+        }
+
+        int applied = 0;
+        for (SchemaMigration migration : migrations.subList(current, latest)) {
+            applyInTransaction(conn, migration);
+            applied++;
+        }
+        return applied;
+    }
+
+    public static int readVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void applyInTransaction(Connection conn, SchemaMigration migration) throws SQLException {
+        long start = System.nanoTime();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            migration.apply(conn);
+            try (Statement stmt = conn.createStatement()) {
+                // user_version lives in the database header, so it commits with the step
+                stmt.execute("PRAGMA user_version = " + migration.getVersion());
+            }
+            conn.commit();
+        } catch (SQLException | RuntimeException ex) {
+            conn.rollback();
+            throw new SQLException("Schema migration " + migration.getVersion() + " ("
+                    + migration.getDescription() + ") failed", ex);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info(() -> String.format("Applied schema migration %d (%s) in %d ms",
+                migration.getVersion(), migration.getDescription(), elapsedMillis));
+    }
+}
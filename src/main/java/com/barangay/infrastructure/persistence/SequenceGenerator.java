@@ -0,0 +1,87 @@
+package com.barangay.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocates identifiers of the form {@code PREFIX-YYYY-NNNNNNNNNN} from the
+ * {@code sequences} table. Each call is a single keyed upsert, so the cost
+ * does not grow with the number of rows and two callers never receive the
+ * same number. Run it on the connection that performs the insert so both
+ * commit together when a transaction is open.
+ */
+final class SequenceGenerator {
+    static final String RESIDENT = "resident";
+    static final String DOCUMENT = "document";
+    static final String DOCUMENT_REQUEST = "document_request";
+    static final String VOTER_APPLICATION = "voter_application";
+
+    private static final String NEXT_SQL = "INSERT INTO sequences (entity, prefix, year, value) " +
+            "VALUES (?, ?, ?, 1) " +
+            "ON CONFLICT(entity, prefix, year) DO UPDATE SET value = value + 1 " +
+            "RETURNING value";
+
+    private static final String NEXT_BLOCK_SQL = "INSERT INTO sequences (entity, prefix, year, value) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT(entity, prefix, year) DO UPDATE SET value = value + excluded.value " +
+            "RETURNING value";
+
+    private SequenceGenerator() {
+    }
+
+    /**
+     * Reserve the next number for the current year and format it as an ID.
+     */
+    static String nextId(Connection conn, String entity, String prefix) throws SQLException {
+        int year = LocalDate.now().getYear();
+        try (PreparedStatement pstmt = conn.prepareStatement(NEXT_SQL)) {
+            pstmt.setString(1, entity);
+            pstmt.setString(2, prefix);
+            pstmt.setInt(3, year);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Sequence " + entity + "/" + prefix + " returned no value");
+                }
+                return format(prefix, year, rs.getLong(1));
+            }
+        }
+    }
+
+    /**
+     * Reserve the next {@code count} numbers for the current year with one
+     * upsert and format them as IDs, in order.
+     */
+    static List<String> nextIds(Connection conn, String entity, String prefix, int count) throws SQLException {
+        if (count <= 0) {
+            return new ArrayList<>();
+        }
+        int year = LocalDate.now().getYear();
+        long last;
+        try (PreparedStatement pstmt = conn.prepareStatement(NEXT_BLOCK_SQL)) {
+            pstmt.setString(1, entity);
+            pstmt.setString(2, prefix);
+            pstmt.setInt(3, year);
+            pstmt.setLong(4, count);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Sequence " + entity + "/" + prefix + " returned no value");
+                }
+                last = rs.getLong(1);
+            }
+        }
+        List<String> ids = new ArrayList<>(count);
+        for (long value = last - count + 1; value <= last; value++) {
+            ids.add(format(prefix, year, value));
+        }
+        return ids;
+    }
+
+    static String format(String prefix, int year, long value) {
+        return String.format("%s-%d-%010d", prefix, year, value);
+    }
+}
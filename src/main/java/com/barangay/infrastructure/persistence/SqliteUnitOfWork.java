@@ -0,0 +1,184 @@
+package com.barangay.infrastructure.persistence;
+
+import com.barangay.application.ports.IUnitOfWork;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Unit of work over the pooled SQLite writer connection. The writer is
+ * borrowed once per unit and bound to the calling thread; while it is
+ * bound, {@link DatabaseConnection} hands every repository on that thread
+ * the same connection, so reads see the unit's own writes and everything
+ * commits together.
+ * <p>
+ * Repositories keep their usual try-with-resources and transaction calls:
+ * the bound connection ignores {@code close()}, {@code setAutoCommit} and
+ * {@code commit()}, and a {@code rollback()} marks the whole unit to roll
+ * back. Completion hooks run after the writer has gone back to the pool.
+ */
+public class SqliteUnitOfWork implements IUnitOfWork {
+    private static final Logger LOGGER = Logger.getLogger(SqliteUnitOfWork.class.getName());
+    private static final ThreadLocal<Unit> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Connection of the unit active on the calling thread, or {@code null}.
+     */
+    static Connection boundConnection() {
+        Unit unit = CURRENT.get();
+        return unit == null ? null : unit.view;
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        if (CURRENT.get() != null) {
+            return work.get();
+        }
+        Unit unit = new Unit();
+        boolean committed = false;
+        try {
+            T result = runBound(unit, work);
+            committed = true;
+            return result;
+        } finally {
+            if (committed) {
+                runHooks(unit.afterCommit);
+            }
+            runHooks(unit.afterCompletion);
+        }
+    }
+
+    @Override
+    public boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        Unit unit = CURRENT.get();
+        if (unit == null) {
+            action.run();
+        } else {
+            unit.afterCommit.add(action);
+        }
+    }
+
+    @Override
+    public void afterCompletion(Runnable action) {
+        Unit unit = CURRENT.get();
+        if (unit == null) {
+            action.run();
+        } else {
+            unit.afterCompletion.add(action);
+        }
+    }
+
+    private static <T> T runBound(Unit unit, Supplier<T> work) {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            unit.bind(conn);
+            CURRENT.set(unit);
+            try {
+                T result = work.get();
+                if (unit.rollbackOnly) {
+                    throw new IllegalStateException("Transaction was rolled back by one of its steps");
+                }
+                conn.commit();
+                return result;
+            } catch (SQLException e) {
+                rollbackQuietly(conn, e);
+                throw new RuntimeException("Failed to commit transaction", e);
+            } catch (RuntimeException | Error e) {
+                rollbackQuietly(conn, e);
+                throw e;
+            } finally {
+                CURRENT.remove();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to start transaction", e);
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn, Throwable cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+
+    private static void runHooks(List<Runnable> hooks) {
+        for (Runnable hook : hooks) {
+            try {
+                hook.run();
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Transaction completion hook failed", ex);
+            }
+        }
+    }
+
+    private static final class Unit {
+        private final List<Runnable> afterCommit = new ArrayList<>();
+        private final List<Runnable> afterCompletion = new ArrayList<>();
+        private Connection view;
+        private boolean rollbackOnly;
+
+        void bind(Connection conn) {
+            view = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new BoundConnectionHandler(conn, this));
+        }
+    }
+
+    private static final class BoundConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final Unit unit;
+
+        BoundConnectionHandler(Connection target, Unit unit) {
+            this.target = target;
+            this.unit = unit;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                case "setAutoCommit":
+                case "commit":
+                    // The unit owns the transaction and the connection
+                    return null;
+                case "getAutoCommit":
+                    return false;
+                case "rollback":
+                    if (args == null || args.length == 0) {
+                        unit.rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Unit" + target;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
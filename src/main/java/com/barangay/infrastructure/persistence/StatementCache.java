@@ -0,0 +1,195 @@
+package com.barangay.infrastructure.persistence;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of prepared statements for one physical connection, keyed by
+ * SQL text. Repositories keep calling {@code conn.prepareStatement(sql)}
+ * and closing the result; the pooled connection routes those calls here so
+ * SQLite parses and plans each statement once per connection.
+ * <p>
+ * Not thread-safe: the pool lends a connection to one borrower at a time.
+ */
+public class StatementCache {
+    private final Connection connection;
+    private final int maxSize;
+    private final Counters counters;
+    private final Map<String, PreparedStatement> statements;
+    private final Set<PreparedStatement> inUse = new HashSet<>();
+
+    public StatementCache(Connection connection, int maxSize, Counters counters) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.counters = counters;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return a statement for the SQL, reusing a cached one when it is idle.
+     * Closing the returned statement releases it back to the cache.
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        if (maxSize <= 0) {
+            return connection.prepareStatement(sql);
+        }
+        PreparedStatement cached = statements.get(sql);
+        if (cached != null && !cached.isClosed()) {
+            if (inUse.contains(cached)) {
+                // Same SQL already open by this borrower; hand out a throwaway copy
+                counters.misses.incrementAndGet();
+                return connection.prepareStatement(sql);
+            }
+            counters.hits.incrementAndGet();
+            return lease(cached);
+        }
+
+        counters.misses.incrementAndGet();
+        PreparedStatement created = connection.prepareStatement(sql);
+        statements.put(sql, created);
+        evictOverflow();
+        return lease(created);
+    }
+
+    /**
+     * Close every cached statement. Called before the connection is closed.
+     */
+    public void clear() {
+        for (PreparedStatement statement : statements.values()) {
+            closeQuietly(statement);
+        }
+        statements.clear();
+        inUse.clear();
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    private PreparedStatement lease(PreparedStatement statement) {
+        inUse.add(statement);
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                new LeasedStatementHandler(statement));
+    }
+
+    private void release(PreparedStatement statement, ResultSet lastResult) {
+        inUse.remove(statement);
+        try {
+            // An unfinished result set keeps the read snapshot open; closing it resets the statement
+            if (lastResult != null && !lastResult.isClosed()) {
+                lastResult.close();
+            }
+            // A batch abandoned by a failed saveAll must not run for the next borrower
+            statement.clearBatch();
+            statement.clearParameters();
+            if (!statements.containsValue(statement)) {
+                statement.close();
+            }
+        } catch (SQLException ex) {
+            statements.values().remove(statement);
+            closeQuietly(statement);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<PreparedStatement> eldest = statements.values().iterator();
+        while (statements.size() > maxSize && eldest.hasNext()) {
+            PreparedStatement statement = eldest.next();
+            eldest.remove();
+            counters.evictions.incrementAndGet();
+            if (!inUse.contains(statement)) {
+                closeQuietly(statement);
+            }
+        }
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // Statement is being discarded.
+        }
+    }
+
+    /**
+     * Borrower's view of a cached statement: {@code close()} hands it back.
+     */
+    private class LeasedStatementHandler implements InvocationHandler {
+        private final PreparedStatement statement;
+        private ResultSet lastResult;
+        private boolean released;
+
+        LeasedStatementHandler(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!released) {
+                        released = true;
+                        release(statement, lastResult);
+                    }
+                    return null;
+                case "isClosed":
+                    return released || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached" + statement;
+                default:
+                    break;
+            }
+            if (released) {
+                throw new SQLException("Statement has already been closed");
+            }
+            try {
+                Object result = method.invoke(statement, args);
+                if (result instanceof ResultSet) {
+                    lastResult = (ResultSet) result;
+                }
+                return result;
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counts shared by all caches in one pool.
+     */
+    public static class Counters {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+
+        public long getHits() {
+            return hits.get();
+        }
+
+        public long getMisses() {
+            return misses.get();
+        }
+
+        public long getEvictions() {
+            return evictions.get();
+        }
+    }
+}
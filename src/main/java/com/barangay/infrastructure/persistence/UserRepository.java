@@ -50,7 +50,7 @@ public class UserRepository implements IUserRepository {
     public Optional<User> findById(UserId id) {
         String sql = "SELECT * FROM users WHERE id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, id.getValue());
@@ -71,7 +71,7 @@ public class UserRepository implements IUserRepository {
     public Optional<User> findByUsername(String username) {
         String sql = "SELECT * FROM users WHERE username = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, username);
@@ -93,9 +93,9 @@ public class UserRepository implements IUserRepository {
         String sql = "SELECT * FROM users ORDER BY created_at DESC";
         List<User> users = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             while (rs.next()) {
                 users.add(mapResultSetToUser(rs));
@@ -113,7 +113,7 @@ public class UserRepository implements IUserRepository {
         String sql = "SELECT * FROM users WHERE role = ? ORDER BY created_at DESC";
         List<User> users = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, role.name());
@@ -134,7 +134,7 @@ public class UserRepository implements IUserRepository {
     public Optional<User> findByLinkedResidentId(ResidentId residentId) {
         String sql = "SELECT * FROM users WHERE linked_resident_id = ? LIMIT 1";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, residentId.getValue());
@@ -156,9 +156,9 @@ public class UserRepository implements IUserRepository {
         String sql = "SELECT * FROM users WHERE is_active = 1 ORDER BY username";
         List<User> users = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             while (rs.next()) {
                 users.add(mapResultSetToUser(rs));
@@ -175,9 +175,9 @@ public class UserRepository implements IUserRepository {
     public boolean hasSuperAdmin() {
         String sql = "SELECT COUNT(*) FROM users WHERE role = 'SUPER_ADMIN'";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             if (rs.next()) {
                 return rs.getInt(1) > 0;
@@ -194,7 +194,7 @@ public class UserRepository implements IUserRepository {
     public int countByRole(UserRole role) {
         String sql = "SELECT COUNT(*) FROM users WHERE role = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, role.name());
@@ -2,6 +2,8 @@ package com.barangay.infrastructure.persistence;
 
 import com.barangay.domain.entities.*;
 import com.barangay.domain.repositories.IVoterApplicationRepository;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.TimestampPageCursor;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -55,7 +57,7 @@ public class VoterApplicationRepository implements IVoterApplicationRepository {
     public Optional<VoterApplication> findById(String id) {
         String sql = "SELECT * FROM voter_applications WHERE id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, id);
@@ -77,7 +79,7 @@ public class VoterApplicationRepository implements IVoterApplicationRepository {
         String sql = "SELECT * FROM voter_applications WHERE resident_id = ? ORDER BY submitted_at DESC";
         List<VoterApplication> applications = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, residentId.getValue());
@@ -99,7 +101,7 @@ public class VoterApplicationRepository implements IVoterApplicationRepository {
         String sql = "SELECT * FROM voter_applications WHERE status = ? ORDER BY submitted_at DESC";
         List<VoterApplication> applications = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, status.name());
@@ -121,9 +123,9 @@ public class VoterApplicationRepository implements IVoterApplicationRepository {
         String sql = "SELECT * FROM voter_applications ORDER BY submitted_at DESC";
         List<VoterApplication> applications = new ArrayList<>();
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             while (rs.next()) {
                 applications.add(mapResultSetToApplication(rs));
@@ -136,13 +138,48 @@ public class VoterApplicationRepository implements IVoterApplicationRepository {
         return applications;
     }
 
+    @Override
+    public Page<VoterApplication, TimestampPageCursor> findPage(TimestampPageCursor after, int limit) {
+        // Walks idx_voter_apps_submitted backwards; the extra row only tells whether another page exists
+        String sql = "SELECT * FROM voter_applications" +
+                (after == null ? "" : " WHERE (submitted_at, id) < (?, ?)") +
+                " ORDER BY submitted_at DESC, id DESC LIMIT ?";
+        List<VoterApplication> applications = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (after != null) {
+                pstmt.setString(index++, after.getTimestamp().toString());
+                pstmt.setString(index++, after.getId());
+            }
+            pstmt.setInt(index, limit + 1);
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                applications.add(mapResultSetToApplication(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find application page", e);
+        }
+
+        if (applications.size() <= limit) {
+            return new Page<>(applications, null);
+        }
+        applications.remove(limit);
+        VoterApplication last = applications.get(limit - 1);
+        return new Page<>(applications, new TimestampPageCursor(last.getSubmittedAt(), last.getId()));
+    }
+
     @Override
     public int countPending() {
         String sql = "SELECT COUNT(*) FROM voter_applications WHERE status = 'PENDING'";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
 
             if (rs.next()) {
                 return rs.getInt(1);
@@ -157,22 +194,8 @@ public class VoterApplicationRepository implements IVoterApplicationRepository {
 
     @Override
     public String generateNextId() {
-        String year = String.valueOf(LocalDateTime.now().getYear());
-        String sql = "SELECT MAX(CAST(SUBSTR(id, LENGTH(id) - 9, 10) AS INTEGER)) FROM voter_applications WHERE id LIKE ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, "VA-" + year + "-%");
-            ResultSet rs = pstmt.executeQuery();
-
-            int nextSequence = 1;
-            if (rs.next()) {
-                nextSequence = rs.getInt(1) + 1;
-            }
-
-            return String.format("VA-%s-%010d", year, nextSequence);
-
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SequenceGenerator.nextId(conn, SequenceGenerator.VOTER_APPLICATION, "VA");
         } catch (SQLException e) {
             throw new RuntimeException("Failed to generate application ID", e);
         }
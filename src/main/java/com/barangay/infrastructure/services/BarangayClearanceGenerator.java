@@ -1,9 +1,13 @@
 package com.barangay.infrastructure.services;
 
+import com.barangay.application.ports.DocumentContent;
 import com.barangay.application.ports.IDocumentGenerator;
 import com.barangay.domain.entities.Document;
 import com.barangay.domain.entities.Resident;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Strategy implementation for Barangay Clearance generation.
  */
@@ -17,19 +21,13 @@ public class BarangayClearanceGenerator implements IDocumentGenerator {
         content.append("=================================\n\n");
         content.append("Reference No: ").append(document.getReference().getValue()).append("\n\n");
         content.append("TO WHOM IT MAY CONCERN:\n\n");
-        content.append("This is to certify that ").append(resident.getFullName()).append(", ");
-        content.append("of legal age, ");
-        content.append(resident.getGender() == com.barangay.domain.entities.Gender.MALE ? "male" : "female");
-        content.append(", Filipino, and a resident of ");
-        content.append(resident.getAddress() != null ? resident.getAddress().getFullAddress() : "this barangay");
-        content.append(" is personally known to me and is of good moral character.\n\n");
-
-        if (document.getPurpose() != null && !document.getPurpose().isEmpty()) {
-            content.append("This clearance is being issued upon request of the interested party ");
-            content.append("for ").append(document.getPurpose()).append(".\n\n");
+        content.append(certification(resident)).append("\n\n");
+
+        if (hasPurpose(document)) {
+            content.append(purpose(document)).append("\n\n");
         }
 
-        content.append("Issued this ").append(document.getIssuedDate()).append(".\n");
+        content.append(issued(document)).append("\n");
         if (document.getValidUntil() != null) {
             content.append("Valid Until: ").append(document.getValidUntil()).append("\n");
         }
@@ -40,8 +38,47 @@ public class BarangayClearanceGenerator implements IDocumentGenerator {
         return content.toString();
     }
 
+    @Override
+    public DocumentContent compose(Document document, Resident resident) {
+        List<String> paragraphs = new ArrayList<>();
+        paragraphs.add("TO WHOM IT MAY CONCERN:");
+        paragraphs.add(certification(resident));
+        if (hasPurpose(document)) {
+            paragraphs.add(purpose(document));
+        }
+        paragraphs.add(issued(document));
+
+        List<DocumentContent.Field> fields = new ArrayList<>();
+        if (document.getValidUntil() != null) {
+            fields.add(new DocumentContent.Field("Valid Until", document.getValidUntil().toString()));
+        }
+        return new DocumentContent("BARANGAY CLEARANCE", "Reference No", document.getReference().getValue(),
+                paragraphs, fields, document.getIssuedBy(), true);
+    }
+
     @Override
     public boolean validate(Document document, Resident resident) {
         return resident.isActive() && document.getPurpose() != null;
     }
+
+    private String certification(Resident resident) {
+        return "This is to certify that " + resident.getFullName() + ", of legal age, "
+                + (resident.getGender() == com.barangay.domain.entities.Gender.MALE ? "male" : "female")
+                + ", Filipino, and a resident of "
+                + (resident.getAddress() != null ? resident.getAddress().getFullAddress() : "this barangay")
+                + " is personally known to me and is of good moral character.";
+    }
+
+    private boolean hasPurpose(Document document) {
+        return document.getPurpose() != null && !document.getPurpose().isEmpty();
+    }
+
+    private String purpose(Document document) {
+        return "This clearance is being issued upon request of the interested party for "
+                + document.getPurpose() + ".";
+    }
+
+    private String issued(Document document) {
+        return "Issued this " + document.getIssuedDate() + ".";
+    }
 }
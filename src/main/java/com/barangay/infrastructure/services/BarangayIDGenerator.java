@@ -1,9 +1,14 @@
 package com.barangay.infrastructure.services;
 
+import com.barangay.application.ports.DocumentContent;
 import com.barangay.application.ports.IDocumentGenerator;
 import com.barangay.domain.entities.Document;
 import com.barangay.domain.entities.Resident;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Strategy implementation for Barangay ID generation.
  * Following OCP: New document types can be added without modifying existing
@@ -21,8 +26,7 @@ public class BarangayIDGenerator implements IDocumentGenerator {
         content.append("Name: ").append(resident.getFullName()).append("\n");
         content.append("Birth Date: ").append(resident.getBirthDate()).append("\n");
         content.append("Gender: ").append(resident.getGender()).append("\n");
-        content.append("Address: ")
-                .append(resident.getAddress() != null ? resident.getAddress().getFullAddress() : "N/A").append("\n\n");
+        content.append("Address: ").append(address(resident)).append("\n\n");
 
         if (document.getAdditionalInfo() != null) {
             content.append("Emergency Contact: ").append(document.getAdditionalInfo()).append("\n");
@@ -37,8 +41,30 @@ public class BarangayIDGenerator implements IDocumentGenerator {
         return content.toString();
     }
 
+    @Override
+    public DocumentContent compose(Document document, Resident resident) {
+        List<DocumentContent.Field> fields = new ArrayList<>();
+        fields.add(new DocumentContent.Field("Name", resident.getFullName()));
+        fields.add(new DocumentContent.Field("Birth Date", String.valueOf(resident.getBirthDate())));
+        fields.add(new DocumentContent.Field("Gender", String.valueOf(resident.getGender())));
+        fields.add(new DocumentContent.Field("Address", address(resident)));
+        if (document.getAdditionalInfo() != null) {
+            fields.add(new DocumentContent.Field("Emergency Contact", document.getAdditionalInfo()));
+        }
+        fields.add(new DocumentContent.Field("Issued", document.getIssuedDate().toString()));
+        if (document.getValidUntil() != null) {
+            fields.add(new DocumentContent.Field("Valid Until", document.getValidUntil().toString()));
+        }
+        return new DocumentContent("BARANGAY IDENTIFICATION", "ID Number", document.getReference().getValue(),
+                Collections.emptyList(), fields, document.getIssuedBy(), false);
+    }
+
     @Override
     public boolean validate(Document document, Resident resident) {
         return resident.isActive();
     }
+
+    private String address(Resident resident) {
+        return resident.getAddress() != null ? resident.getAddress().getFullAddress() : "N/A";
+    }
 }
@@ -1,11 +1,14 @@
 package com.barangay.infrastructure.services;
 
+import com.barangay.application.ports.DocumentContent;
 import com.barangay.application.ports.IDocumentGenerator;
 import com.barangay.domain.entities.Document;
 import com.barangay.domain.entities.Resident;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Strategy implementation for Certificate of Residency generation.
@@ -20,55 +23,97 @@ public class CertificateOfResidencyGenerator implements IDocumentGenerator {
         content.append("=================================\n\n");
         content.append("Reference No: ").append(document.getReference().getValue()).append("\n\n");
         content.append("TO WHOM IT MAY CONCERN:\n\n");
-        content.append("This is to certify that ").append(resident.getFullName()).append(", ");
-        content.append(resident.getAge()).append(" years old, ");
-        content.append(resident.getGender() == com.barangay.domain.entities.Gender.MALE ? "male" : "female");
-        content.append(", ");
+        content.append(certification(resident)).append("\n\n");
+        content.append(residencyDuration(resident)).append("\n\n");
+
+        if (hasPurpose(document)) {
+            content.append(purpose(document)).append("\n\n");
+        }
+
+        content.append(issued(document)).append("\n");
+        if (document.getValidUntil() != null) {
+            content.append("Valid Until: ").append(document.getValidUntil()).append("\n");
+        }
+        content.append("\n\nIssued By: ").append(document.getIssuedBy()).append("\n");
+        content.append("\n_______________________\n");
+        content.append("Authorized Signature\n");
+
+        return content.toString();
+    }
+
+    @Override
+    public DocumentContent compose(Document document, Resident resident) {
+        List<String> paragraphs = new ArrayList<>();
+        paragraphs.add("TO WHOM IT MAY CONCERN:");
+        paragraphs.add(certification(resident));
+        paragraphs.add(residencyDuration(resident));
+        if (hasPurpose(document)) {
+            paragraphs.add(purpose(document));
+        }
+        paragraphs.add(issued(document));
+
+        List<DocumentContent.Field> fields = new ArrayList<>();
+        if (document.getValidUntil() != null) {
+            fields.add(new DocumentContent.Field("Valid Until", document.getValidUntil().toString()));
+        }
+        return new DocumentContent("CERTIFICATE OF RESIDENCY", "Reference No", document.getReference().getValue(),
+                paragraphs, fields, document.getIssuedBy(), true);
+    }
+
+    @Override
+    public boolean validate(Document document, Resident resident) {
+        return resident.isActive();
+    }
+
+    private String certification(Resident resident) {
+        StringBuilder sentence = new StringBuilder();
+        sentence.append("This is to certify that ").append(resident.getFullName()).append(", ");
+        sentence.append(resident.getAge()).append(" years old, ");
+        sentence.append(resident.getGender() == com.barangay.domain.entities.Gender.MALE ? "male" : "female");
+        sentence.append(", ");
 
         if (resident.getCivilStatus() != null) {
-            content.append(resident.getCivilStatus().toString().toLowerCase()).append(", ");
+            sentence.append(resident.getCivilStatus().toString().toLowerCase()).append(", ");
         }
 
-        content.append("is a bona fide resident of ");
-        content.append(resident.getAddress() != null ? resident.getAddress().getFullAddress() : "this barangay");
-        content.append(".\n\n");
+        sentence.append("is a bona fide resident of ");
+        sentence.append(resident.getAddress() != null ? resident.getAddress().getFullAddress() : "this barangay");
+        sentence.append(".");
+        return sentence.toString();
+    }
 
+    private String residencyDuration(Resident resident) {
         // Calculate residency duration
         Period residencyPeriod = Period.between(resident.getRegisteredAt().toLocalDate(), LocalDate.now());
         int years = residencyPeriod.getYears();
         int months = residencyPeriod.getMonths();
 
-        content.append("The above-named person has been a resident of this barangay for ");
+        StringBuilder sentence = new StringBuilder();
+        sentence.append("The above-named person has been a resident of this barangay for ");
         if (years > 0) {
-            content.append(years).append(years == 1 ? " year" : " years");
+            sentence.append(years).append(years == 1 ? " year" : " years");
             if (months > 0) {
-                content.append(" and ").append(months).append(months == 1 ? " month" : " months");
+                sentence.append(" and ").append(months).append(months == 1 ? " month" : " months");
             }
         } else if (months > 0) {
-            content.append(months).append(months == 1 ? " month" : " months");
+            sentence.append(months).append(months == 1 ? " month" : " months");
         } else {
-            content.append("less than a month");
-        }
-        content.append(".\n\n");
-
-        if (document.getPurpose() != null && !document.getPurpose().isEmpty()) {
-            content.append("This certification is issued upon request of the interested party ");
-            content.append("for ").append(document.getPurpose()).append(".\n\n");
+            sentence.append("less than a month");
         }
+        sentence.append(".");
+        return sentence.toString();
+    }
 
-        content.append("Issued this ").append(document.getIssuedDate()).append(".\n");
-        if (document.getValidUntil() != null) {
-            content.append("Valid Until: ").append(document.getValidUntil()).append("\n");
-        }
-        content.append("\n\nIssued By: ").append(document.getIssuedBy()).append("\n");
-        content.append("\n_______________________\n");
-        content.append("Authorized Signature\n");
+    private boolean hasPurpose(Document document) {
+        return document.getPurpose() != null && !document.getPurpose().isEmpty();
+    }
 
-        return content.toString();
+    private String purpose(Document document) {
+        return "This certification is issued upon request of the interested party for "
+                + document.getPurpose() + ".";
     }
 
-    @Override
-    public boolean validate(Document document, Resident resident) {
-        return resident.isActive();
+    private String issued(Document document) {
+        return "Issued this " + document.getIssuedDate() + ".";
     }
 }
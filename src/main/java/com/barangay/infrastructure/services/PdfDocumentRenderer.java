@@ -0,0 +1,356 @@
+package com.barangay.infrastructure.services;
+
+import com.barangay.application.ports.DocumentContent;
+import com.barangay.application.ports.DocumentRenderJob;
+import com.barangay.application.ports.IDocumentGenerator;
+import com.barangay.application.ports.IDocumentRenderer;
+import com.barangay.application.services.AtomicFileWriter;
+import com.barangay.application.services.ImageDataCache;
+import com.barangay.domain.entities.BarangayInfo;
+import com.barangay.domain.entities.DocumentType;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.borders.Border;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders issued documents to PDF with iText. Everything that does not
+ * depend on the document is prepared once and shared by all renders: the
+ * page template of each document type, the parsed font programs and the
+ * decoded seal image. Only the per-document {@code PdfFont} wrappers and
+ * layout elements are created per render, as iText binds them to a single
+ * PDF.
+ * <p>
+ * Batches render on a bounded pool of worker threads. A merged batch keeps
+ * at most two renders per worker in memory and appends them to the output
+ * in order; a directory batch writes each file as soon as it is rendered.
+ */
+public class PdfDocumentRenderer implements IDocumentRenderer {
+    private static final Map<DocumentType, Template> TEMPLATES = compileTemplates();
+
+    private final FontProgram regularFont;
+    private final FontProgram boldFont;
+    private final ImageDataCache sealImages;
+    private final int workerCount;
+    private final ThreadPoolExecutor workers;
+
+    public PdfDocumentRenderer(ImageDataCache sealImages, int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("At least one render worker is required");
+        }
+        try {
+            this.regularFont = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+            this.boldFont = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to load PDF fonts", ex);
+        }
+        this.sealImages = sealImages;
+        this.workerCount = workerCount;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "pdf-render-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Renderer sized from {@code barangay.pdf.renderThreads}, by default one
+     * worker per processor up to four.
+     */
+    public static PdfDocumentRenderer fromSystemProperties(ImageDataCache sealImages) {
+        int defaultWorkers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        return new PdfDocumentRenderer(sealImages, Integer.getInteger("barangay.pdf.renderThreads", defaultWorkers));
+    }
+
+    @Override
+    public void render(DocumentRenderJob job, BarangayInfo letterhead, OutputStream out) {
+        Template template = TEMPLATES.get(job.getDocument().getType());
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown document type: " + job.getDocument().getType());
+        }
+        DocumentContent content = template.generator.compose(job.getDocument(), job.getResident());
+
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
+        try (PdfDocument pdf = new PdfDocument(writer);
+                Document layout = new Document(pdf, template.pageSize)) {
+            PdfFont regular = PdfFontFactory.createFont(regularFont, PdfEncodings.WINANSI);
+            PdfFont bold = PdfFontFactory.createFont(boldFont, PdfEncodings.WINANSI);
+            layout.setFont(regular).setFontSize(template.bodySize);
+            layout.setMargins(template.margin, template.margin, template.margin, template.margin);
+
+            addLetterhead(layout, template, letterhead, bold);
+            addBody(layout, template, content, bold);
+        }
+    }
+
+    @Override
+    public int renderMerged(List<DocumentRenderJob> jobs, BarangayInfo letterhead, Path target) {
+        if (jobs.isEmpty()) {
+            throw new IllegalArgumentException("Select at least one document to render");
+        }
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        Iterator<DocumentRenderJob> remaining = jobs.iterator();
+        int window = workerCount * 2;
+
+        try {
+            AtomicFileWriter.write(target, out -> {
+                PdfWriter writer = new PdfWriter(out);
+                writer.setCloseStream(false);
+                // Smart mode writes the seal and fonts shared by the sources once
+                writer.setSmartMode(true);
+                try (PdfDocument merged = new PdfDocument(writer)) {
+                    PdfMerger merger = new PdfMerger(merged);
+                    while (pending.size() < window && remaining.hasNext()) {
+                        pending.add(submitToMemory(remaining.next(), letterhead));
+                    }
+                    while (!pending.isEmpty()) {
+                        byte[] rendered = await(pending.poll());
+                        if (remaining.hasNext()) {
+                            pending.add(submitToMemory(remaining.next(), letterhead));
+                        }
+                        try (PdfDocument source = new PdfDocument(
+                                new PdfReader(new ByteArrayInputStream(rendered)))) {
+                            merger.merge(source, 1, source.getNumberOfPages());
+                        }
+                    }
+                }
+            });
+        } catch (IOException ex) {
+            cancelAll(pending);
+            throw new RuntimeException("Failed to write merged PDF", ex);
+        } catch (RuntimeException ex) {
+            cancelAll(pending);
+            throw ex;
+        }
+        return jobs.size();
+    }
+
+    @Override
+    public int renderToDirectory(List<DocumentRenderJob> jobs, BarangayInfo letterhead, Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to create output directory", ex);
+        }
+        List<Future<?>> pending = new ArrayList<>(jobs.size());
+        for (DocumentRenderJob job : jobs) {
+            Path target = directory.resolve(job.getDocument().getReference().getValue() + ".pdf");
+            pending.add(workers.submit(() -> {
+                renderToFile(job, letterhead, target);
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : pending) {
+                await(future);
+            }
+        } catch (RuntimeException ex) {
+            cancelAll(pending);
+            throw ex;
+        }
+        return jobs.size();
+    }
+
+    /**
+     * Stop the render workers; batches in progress fail.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private Future<byte[]> submitToMemory(DocumentRenderJob job, BarangayInfo letterhead) {
+        return workers.submit(() -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            render(job, letterhead, out);
+            return out.toByteArray();
+        });
+    }
+
+    private void renderToFile(DocumentRenderJob job, BarangayInfo letterhead, Path target) {
+        try {
+            AtomicFileWriter.write(target, out -> render(job, letterhead, out));
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to write " + target.getFileName(), ex);
+        }
+    }
+
+    private void addLetterhead(Document layout, Template template, BarangayInfo letterhead, PdfFont bold) {
+        String sealPath = letterhead != null ? letterhead.getSealPath() : null;
+        sealImages.get(sealPath).ifPresent(data -> {
+            Image seal = new Image(data);
+            seal.scaleToFit(template.sealSize, template.sealSize);
+            layout.add(new Paragraph().add(seal).setTextAlignment(TextAlignment.CENTER).setMarginBottom(4));
+        });
+        layout.add(new Paragraph("Republic of the Philippines")
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMargin(0));
+        String name = letterhead != null && !isBlank(letterhead.getBarangayName())
+                ? letterhead.getBarangayName()
+                : "Barangay Management Office";
+        layout.add(new Paragraph(name)
+                .setFont(bold)
+                .setFontSize(template.bodySize + 2)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMargin(0));
+        String location = letterhead != null ? joinNonBlank(letterhead.getCity(), letterhead.getProvince()) : "";
+        if (!location.isEmpty()) {
+            layout.add(new Paragraph(location).setTextAlignment(TextAlignment.CENTER).setMargin(0));
+        }
+    }
+
+    private void addBody(Document layout, Template template, DocumentContent content, PdfFont bold) {
+        layout.add(new Paragraph(content.getTitle())
+                .setFont(bold)
+                .setFontSize(template.titleSize)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginTop(template.sectionSpacing)
+                .setMarginBottom(0));
+        layout.add(new Paragraph(content.getReferenceLabel() + ": " + content.getReference())
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(template.sectionSpacing));
+
+        for (String paragraph : content.getParagraphs()) {
+            layout.add(new Paragraph(paragraph)
+                    .setTextAlignment(template.bodyAlignment)
+                    .setMarginBottom(template.sectionSpacing / 2));
+        }
+
+        if (!content.getFields().isEmpty()) {
+            Table table = new Table(UnitValue.createPercentArray(template.fieldColumns))
+                    .setWidth(UnitValue.createPercentValue(100));
+            for (DocumentContent.Field field : content.getFields()) {
+                table.addCell(new Cell().add(new Paragraph(field.getLabel())).setFont(bold)
+                        .setBorder(Border.NO_BORDER).setPadding(1));
+                table.addCell(new Cell().add(new Paragraph(valueOrDash(field.getValue())))
+                        .setBorder(Border.NO_BORDER).setPadding(1));
+            }
+            layout.add(table);
+        }
+
+        layout.add(new Paragraph("Issued By: " + valueOrDash(content.getIssuedBy()))
+                .setMarginTop(template.sectionSpacing / 2));
+        if (content.hasSignatureLine()) {
+            layout.add(new Paragraph("_______________________\nAuthorized Signature")
+                    .setTextAlignment(TextAlignment.RIGHT)
+                    .setMarginTop(template.sectionSpacing * 2));
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("PDF rendering was interrupted", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Failed to render PDF", cause);
+        }
+    }
+
+    private static void cancelAll(Iterable<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+    private static String joinNonBlank(String first, String second) {
+        if (isBlank(first)) {
+            return isBlank(second) ? "" : second;
+        }
+        return isBlank(second) ? first : first + ", " + second;
+    }
+
+    private static String valueOrDash(String value) {
+        return isBlank(value) ? "--" : value;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Map<DocumentType, Template> compileTemplates() {
+        Map<DocumentType, Template> templates = new EnumMap<>(DocumentType.class);
+        templates.put(DocumentType.BARANGAY_CLEARANCE, Template.certificate(new BarangayClearanceGenerator()));
+        templates.put(DocumentType.CERTIFICATE_OF_RESIDENCY,
+                Template.certificate(new CertificateOfResidencyGenerator()));
+        // Wallet-sized card: landscape A6 keeps the letterhead and all fields on one page
+        templates.put(DocumentType.BARANGAY_ID, new Template(new BarangayIDGenerator(), PageSize.A6.rotate(),
+                18f, 36f, 11f, 8f, 6f, TextAlignment.LEFT, new float[] { 32, 68 }));
+        return templates;
+    }
+
+    /**
+     * Page setup and type sizes for one document type.
+     */
+    private static final class Template {
+        private final IDocumentGenerator generator;
+        private final PageSize pageSize;
+        private final float margin;
+        private final float sealSize;
+        private final float titleSize;
+        private final float bodySize;
+        private final float sectionSpacing;
+        private final TextAlignment bodyAlignment;
+        private final float[] fieldColumns;
+
+        Template(IDocumentGenerator generator, PageSize pageSize, float margin, float sealSize, float titleSize,
+                float bodySize, float sectionSpacing, TextAlignment bodyAlignment, float[] fieldColumns) {
+            this.generator = generator;
+            this.pageSize = pageSize;
+            this.margin = margin;
+            this.sealSize = sealSize;
+            this.titleSize = titleSize;
+            this.bodySize = bodySize;
+            this.sectionSpacing = sectionSpacing;
+            this.bodyAlignment = bodyAlignment;
+            this.fieldColumns = fieldColumns;
+        }
+
+        static Template certificate(IDocumentGenerator generator) {
+            return new Template(generator, PageSize.A4, 54f, 90f, 16f, 12f, 18f, TextAlignment.JUSTIFIED,
+                    new float[] { 30, 70 });
+        }
+    }
+}
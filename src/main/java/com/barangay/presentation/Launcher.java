@@ -1,9 +1,43 @@
 package com.barangay.presentation;
 
+import com.barangay.application.usecases.RebuildDashboardCountersUseCase;
+import com.barangay.infrastructure.config.DIContainer;
 import javafx.application.Application;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class Launcher {
+    private static final String VERIFY_COUNTERS = "--verify-dashboard-counters";
+    private static final String REBUILD_COUNTERS = "--rebuild-dashboard-counters";
+
     public static void main(String[] args) {
+        List<String> options = Arrays.asList(args);
+        if (options.contains(VERIFY_COUNTERS) || options.contains(REBUILD_COUNTERS)) {
+            System.exit(runCounterMaintenance(options.contains(REBUILD_COUNTERS)));
+        }
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Headless maintenance: compare the dashboard counters with a full recount
+     * and optionally rewrite them. Exits non-zero when verify finds drift.
+     */
+    private static int runCounterMaintenance(boolean rebuild) {
+        DIContainer container = new DIContainer();
+        try {
+            RebuildDashboardCountersUseCase useCase = container.getRebuildDashboardCountersUseCase();
+            List<String> drift = rebuild ? useCase.rebuild() : useCase.verify();
+            drift.forEach(System.out::println);
+            if (drift.isEmpty()) {
+                System.out.println("Dashboard counters match the source tables.");
+                return 0;
+            }
+            System.out.println(drift.size() + " dashboard counter(s) "
+                    + (rebuild ? "corrected." : "out of date; run with " + REBUILD_COUNTERS + "."));
+            return rebuild ? 0 : 1;
+        } finally {
+            container.shutdown();
+        }
+    }
 }
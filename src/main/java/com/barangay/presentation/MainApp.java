@@ -10,6 +10,7 @@ import com.barangay.infrastructure.config.DIContainer;
 import com.barangay.presentation.controllers.LoginController;
 import com.barangay.presentation.controllers.MainLayoutController;
 import com.barangay.presentation.controllers.SetupController;
+import com.barangay.presentation.util.BarangayImages;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
@@ -30,6 +31,7 @@ public class MainApp extends Application {
 
     private Stage primaryStage;
     private DIContainer container;
+    private MainLayoutController mainLayoutController;
 
     public MainApp() {
         instance = this;
@@ -46,6 +48,7 @@ public class MainApp extends Application {
         this.primaryStage.setOnCloseRequest(event -> Platform.exit());
 
         this.container = new DIContainer();
+        container.getBarangayInfoCache().addInvalidationListener(BarangayImages::clear);
 
         if (container.getSystemSetupUseCase().needsSetup()) {
             showSetupView();
@@ -54,6 +57,13 @@ public class MainApp extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (container != null) {
+            container.shutdown();
+        }
+    }
+
     /**
      * Display the initial setup view for creating the first Super Admin account.
      */
@@ -92,21 +102,25 @@ public class MainApp extends Application {
      * Authenticate user and redirect to main workspace.
      */
     public void handleLogin(String username, String password, LoginController loginController) {
-        try {
-            LoginInputDto input = new LoginInputDto(username, password);
-            LoginOutputDto result = container.getLoginUseCase().execute(input);
-
-            User user = container.getUserRepository()
-                    .findById(UserId.fromString(result.getUserId()))
-                    .orElseThrow(() -> new IllegalStateException("User not found after login"));
-
-            SessionManager sessionManager = container.getSessionManager();
-            sessionManager.setCurrentUser(user);
-
-            showMainWorkspace(result, user);
-        } catch (Exception ex) {
-            loginController.showError(ex.getMessage());
-        }
+        LoginInputDto input = new LoginInputDto(username, password);
+        // Password hashing is deliberately slow, so verify off the FX thread
+        container.getUseCaseExecutor().submit("Login",
+                () -> container.getLoginUseCase().execute(input),
+                result -> {
+                    try {
+                        User user = container.getUserRepository()
+                                .findById(UserId.fromString(result.getUserId()))
+                                .orElseThrow(() -> new IllegalStateException("User not found after login"));
+
+                        SessionManager sessionManager = container.getSessionManager();
+                        sessionManager.setCurrentUser(user);
+
+                        showMainWorkspace(result, user);
+                    } catch (Exception ex) {
+                        loginController.showError(ex.getMessage());
+                    }
+                },
+                ex -> loginController.showError(ex.getMessage()));
     }
 
     /**
@@ -126,6 +140,10 @@ public class MainApp extends Application {
      * Log out current session and return to login view.
      */
     public void logout() {
+        if (mainLayoutController != null) {
+            mainLayoutController.dispose();
+            mainLayoutController = null;
+        }
         container.getSessionManager().logout();
         showLoginView(Optional.of("You have been logged out."));
     }
@@ -137,6 +155,7 @@ public class MainApp extends Application {
 
             MainLayoutController controller = loader.getController();
             controller.init(this, container, loginResult, currentUser);
+            mainLayoutController = controller;
 
             setScene(root);
         } catch (IOException ex) {
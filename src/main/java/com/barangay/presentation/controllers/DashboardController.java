@@ -1,18 +1,20 @@
 package com.barangay.presentation.controllers;
 
+import com.barangay.application.dto.DashboardSummaryDto;
 import com.barangay.application.dto.DocumentRequestCountsDto;
 import com.barangay.application.dto.DocumentStatisticsDto;
 import com.barangay.application.dto.ResidentStatisticsDto;
-import com.barangay.domain.entities.ApplicationStatus;
-import com.barangay.domain.entities.DocumentRequest;
-import com.barangay.domain.entities.Document;
+import com.barangay.application.events.DomainEvent;
 import com.barangay.domain.entities.Resident;
 import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
 import com.barangay.domain.entities.VoterApplication;
-import com.barangay.domain.repositories.IVoterApplicationRepository;
+import com.barangay.domain.valueobjects.DocumentRequestSummary;
+import com.barangay.domain.valueobjects.DocumentSummary;
 import com.barangay.infrastructure.config.DIContainer;
+import com.barangay.presentation.util.BarangayImages;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -23,16 +25,15 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 
-import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -166,6 +167,13 @@ public class DashboardController implements ModuleController {
     private int currentCarouselIndex;
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm a");
+    private static final String PLACEHOLDER_TEXT = "\u2026";
+    private static final String UNAVAILABLE_TEXT = "--";
+    private static final String LOADING_TEXT = "Loading\u2026";
+
+    private CompletableFuture<DashboardSnapshot> pendingLoad;
+    private volatile long loadGeneration;
+    private boolean loaded;
 
     @Override
     public void init(DIContainer container, MainLayoutController mainLayoutController) {
@@ -179,21 +187,131 @@ public class DashboardController implements ModuleController {
 
     @Override
     public void refresh() {
-        populateCarousel();
+        cancelPendingLoad();
+        long generation = loadGeneration;
+        loaded = false;
+        showPlaceholders();
+
+        CompletableFuture<List<String>> carousel = loadSection(generation, this::loadCarouselImages);
+        CompletableFuture<DashboardSnapshot> snapshot;
         if (residentMode) {
-            populateResidentDashboard();
+            ResidentId residentId = currentUser != null ? currentUser.getLinkedResidentId() : null;
+            CompletableFuture<Resident> resident = loadSection(generation, () -> residentId == null ? null
+                    : container.getResidentRepository().findById(residentId).orElse(null));
+            CompletableFuture<List<String>> documents = loadSection(generation,
+                    () -> loadResidentDocuments(residentId));
+            CompletableFuture<List<String>> applications = loadSection(generation,
+                    () -> loadResidentApplications(residentId));
+            CompletableFuture<List<String>> requests = loadSection(generation,
+                    () -> loadResidentRequests(residentId));
+            snapshot = CompletableFuture.allOf(carousel, resident, documents, applications, requests)
+                    .thenApply(done -> DashboardSnapshot.forResident(carousel.join(), resident.join(),
+                            documents.join(), applications.join(), requests.join()));
+        } else {
+            CompletableFuture<DashboardSummaryDto> summary = loadSection(generation,
+                    () -> container.getDashboardSummaryUseCase().execute());
+            CompletableFuture<Integer> officials = loadSection(generation,
+                    () -> container.getListOfficialsUseCase().getCurrentOfficials().size());
+            snapshot = CompletableFuture.allOf(carousel, summary, officials)
+                    .thenApply(done -> DashboardSnapshot.forStaff(carousel.join(), summary.join(), officials.join()));
+        }
+
+        pendingLoad = snapshot;
+        snapshot.thenAccept(result -> Platform.runLater(() -> {
+            // A newer refresh or a navigation away has superseded this load
+            if (generation == loadGeneration) {
+                pendingLoad = null;
+                loaded = true;
+                applySnapshot(result);
+            }
+        }));
+    }
+
+    /**
+     * Counts and recent activity draw on every module, so any change
+     * makes the dashboard stale.
+     */
+    @Override
+    public Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Set.of(DomainEvent.class);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Override
+    public void onHide() {
+        cancelPendingLoad();
+    }
+
+    /**
+     * Run one dashboard section on the shared use case executor. A failing
+     * section yields {@code null} so the rest of the dashboard still loads.
+     */
+    private <T> CompletableFuture<T> loadSection(long generation, Supplier<T> loader) {
+        return container.getUseCaseExecutor().supply("Dashboard section", () -> {
+            if (generation != loadGeneration) {
+                return null;
+            }
+            return loader.get();
+        }).exceptionally(ex -> null);
+    }
+
+    private void cancelPendingLoad() {
+        loadGeneration++;
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
+            pendingLoad = null;
+        }
+    }
+
+    private void showPlaceholders() {
+        if (residentMode) {
+            setEntries(residentDocumentsListView, Collections.emptyList(), LOADING_TEXT, LOADING_TEXT);
+            setEntries(residentApplicationsListView, Collections.emptyList(), LOADING_TEXT, LOADING_TEXT);
+            setEntries(residentRequestsListView, Collections.emptyList(), LOADING_TEXT, LOADING_TEXT);
+            return;
+        }
+        setCardText(PLACEHOLDER_TEXT);
+        usersSummaryLabel.setText(LOADING_TEXT);
+        insights.setAll("\u2022 " + LOADING_TEXT);
+    }
+
+    private void applySnapshot(DashboardSnapshot snapshot) {
+        applyCarousel(snapshot.getCarouselImages());
+        if (residentMode) {
+            applyResidentDashboard(snapshot);
             return;
         }
-        populateResidentCards();
-        populateDocumentCards();
-        populateApplicationCards();
-        populateDocumentRequestCards();
-        populateUserSummary();
-        populateInsights();
+        DashboardSummaryDto summary = snapshot.getSummary();
+        if (summary == null) {
+            setCardText(UNAVAILABLE_TEXT);
+            usersSummaryLabel.setText("User counts unavailable");
+        } else {
+            populateResidentCards(summary.getResidents());
+            populateDocumentCards(summary.getDocuments());
+            populateApplicationCards(summary);
+            populateDocumentRequestCards(summary.getDocumentRequests());
+            populateUserSummary(summary);
+        }
+        populateInsights(summary, snapshot.getCurrentOfficials());
+    }
+
+    private void setCardText(String text) {
+        for (Label label : new Label[] { totalResidentsLabel, activeResidentsLabel, maleResidentsLabel,
+                femaleResidentsLabel, registeredVotersLabel, totalDocumentsLabel, documentsTodayLabel,
+                documentsMonthLabel, barangayIdCountLabel, clearanceCountLabel, residencyCountLabel,
+                pendingApplicationsLabel, scheduledApplicationsLabel, verifiedApplicationsLabel,
+                pendingRequestsLabel, underReviewRequestsLabel, approvedRequestsLabel }) {
+            if (label != null) {
+                label.setText(text);
+            }
+        }
     }
 
-    private void populateResidentCards() {
-        ResidentStatisticsDto stats = container.getResidentStatisticsUseCase().execute();
+    private void populateResidentCards(ResidentStatisticsDto stats) {
         totalResidentsLabel.setText(String.valueOf(stats.getTotalResidents()));
         activeResidentsLabel.setText(String.valueOf(stats.getActiveResidents()));
         maleResidentsLabel.setText(String.valueOf(stats.getMaleCount()));
@@ -201,8 +319,7 @@ public class DashboardController implements ModuleController {
         registeredVotersLabel.setText(String.valueOf(stats.getRegisteredVoters()));
     }
 
-    private void populateDocumentCards() {
-        DocumentStatisticsDto stats = container.getDocumentStatisticsUseCase().execute();
+    private void populateDocumentCards(DocumentStatisticsDto stats) {
         totalDocumentsLabel.setText(String.valueOf(stats.getTotalDocuments()));
         documentsTodayLabel.setText(String.valueOf(stats.getDocumentsToday()));
         documentsMonthLabel.setText(String.valueOf(stats.getDocumentsThisMonth()));
@@ -211,93 +328,85 @@ public class DashboardController implements ModuleController {
         residencyCountLabel.setText(String.valueOf(stats.getResidencyCertificates()));
     }
 
-    private void populateApplicationCards() {
-        IVoterApplicationRepository repository = container.getVoterApplicationRepository();
-        pendingApplicationsLabel.setText(String.valueOf(repository.countPending()));
-        scheduledApplicationsLabel.setText(String.valueOf(
-                repository.findByStatus(ApplicationStatus.SCHEDULED).size()));
-        verifiedApplicationsLabel.setText(String.valueOf(
-                repository.findByStatus(ApplicationStatus.VERIFIED).size()));
+    private void populateApplicationCards(DashboardSummaryDto summary) {
+        pendingApplicationsLabel.setText(String.valueOf(summary.getPendingApplications()));
+        scheduledApplicationsLabel.setText(String.valueOf(summary.getScheduledApplications()));
+        verifiedApplicationsLabel.setText(String.valueOf(summary.getVerifiedApplications()));
     }
 
-    private void populateDocumentRequestCards() {
+    private void populateDocumentRequestCards(DocumentRequestCountsDto counts) {
         if (pendingRequestsLabel == null) {
             return;
         }
-        try {
-            DocumentRequestCountsDto counts = container.getDocumentRequestCountsUseCase().execute();
-            pendingRequestsLabel.setText(String.valueOf(counts.getPending()));
-            underReviewRequestsLabel.setText(String.valueOf(counts.getUnderReview()));
-            approvedRequestsLabel.setText(String.valueOf(counts.getApproved()));
-        } catch (Exception ex) {
-            pendingRequestsLabel.setText("--");
-            underReviewRequestsLabel.setText("--");
-            approvedRequestsLabel.setText("--");
-        }
+        pendingRequestsLabel.setText(String.valueOf(counts.getPending()));
+        underReviewRequestsLabel.setText(String.valueOf(counts.getUnderReview()));
+        approvedRequestsLabel.setText(String.valueOf(counts.getApproved()));
     }
 
-    private void populateUserSummary() {
-        int superAdmins = container.getUserRepository().countByRole(UserRole.SUPER_ADMIN);
-        int admins = container.getUserRepository().countByRole(UserRole.ADMIN);
-        int clerks = container.getUserRepository().countByRole(UserRole.CLERK);
-        int residents = container.getUserRepository().countByRole(UserRole.RESIDENT);
+    private void populateUserSummary(DashboardSummaryDto summary) {
+        int superAdmins = summary.getUserCount(UserRole.SUPER_ADMIN);
+        int admins = summary.getUserCount(UserRole.ADMIN);
+        int clerks = summary.getUserCount(UserRole.CLERK);
+        int residents = summary.getUserCount(UserRole.RESIDENT);
         usersSummaryLabel.setText(String.format("Super Admins: %d  |  Admins: %d  |  Clerks: %d  |  Residents: %d",
                 superAdmins, admins, clerks, residents));
     }
 
-    private void populateInsights() {
+    private void populateInsights(DashboardSummaryDto summary, Integer currentOfficials) {
         insights.clear();
-        int pending = Integer.parseInt(pendingApplicationsLabel.getText());
-        if (pending > 0) {
-            insights.add("\u2022 " + pending + " voter applications require review.");
+        if (summary == null) {
+            insights.add("\u2022 Dashboard counters unavailable.");
         } else {
-            insights.add("\u2022 All voter applications are up to date.");
-        }
+            int pending = summary.getPendingApplications();
+            if (pending > 0) {
+                insights.add("\u2022 " + pending + " voter applications require review.");
+            } else {
+                insights.add("\u2022 All voter applications are up to date.");
+            }
 
-        int todayDocs = Integer.parseInt(documentsTodayLabel.getText());
-        if (todayDocs == 0) {
-            insights.add("\u2022 No documents issued today yet.");
-        } else {
-            insights.add("\u2022 " + todayDocs + " documents issued today.");
-        }
+            int todayDocs = summary.getDocuments().getDocumentsToday();
+            if (todayDocs == 0) {
+                insights.add("\u2022 No documents issued today yet.");
+            } else {
+                insights.add("\u2022 " + todayDocs + " documents issued today.");
+            }
 
-        insights.add("\u2022 Registered voters make up " + percentage(
-                Integer.parseInt(registeredVotersLabel.getText()),
-                Integer.parseInt(totalResidentsLabel.getText())) + "% of residents.");
+            insights.add("\u2022 Registered voters make up " + percentage(
+                    summary.getResidents().getRegisteredVoters(),
+                    summary.getResidents().getTotalResidents()) + "% of residents.");
 
-        if (pendingRequestsLabel != null && underReviewRequestsLabel != null) {
-            try {
-                int pendingRequests = Integer.parseInt(pendingRequestsLabel.getText());
-                int underReview = Integer.parseInt(underReviewRequestsLabel.getText());
-                int awaiting = pendingRequests + underReview;
+            if (pendingRequestsLabel != null && underReviewRequestsLabel != null) {
+                DocumentRequestCountsDto requests = summary.getDocumentRequests();
+                int awaiting = requests.getPending() + requests.getUnderReview();
                 if (awaiting > 0) {
                     insights.add("\u2022 " + awaiting + " online document request(s) awaiting review.");
                 } else {
                     insights.add("\u2022 No pending online document requests.");
                 }
-            } catch (NumberFormatException ignored) {
-                insights.add("\u2022 Document request counters unavailable.");
             }
         }
 
         insights.add("\u2022 Active officials on record: " +
-                container.getListOfficialsUseCase().getCurrentOfficials().size());
+                (currentOfficials == null ? UNAVAILABLE_TEXT : currentOfficials));
 
         insights.add("\u2022 Welcome back, " +
                 mainLayoutController.getCurrentUser().getUsername() + "!");
     }
 
-    private void populateCarousel() {
+    private List<String> loadCarouselImages() {
         if (carouselSection == null) {
-            return;
-        }
-        try {
-            carouselImages = container.getGetBarangayInfoUseCase().execute().getDashboardImages();
-        } catch (Exception ex) {
-            carouselImages = Collections.emptyList();
+            return Collections.emptyList();
         }
+        List<String> images = container.getGetBarangayInfoUseCase().execute().getDashboardImages();
+        return images == null ? Collections.emptyList() : new ArrayList<>(images);
+    }
 
-        if (carouselImages == null || carouselImages.isEmpty()) {
+    private void applyCarousel(List<String> images) {
+        if (carouselSection == null) {
+            return;
+        }
+        carouselImages = images;
+        if (carouselImages.isEmpty()) {
             setCarouselVisibility(false);
             return;
         }
@@ -324,8 +433,8 @@ public class DashboardController implements ModuleController {
         }
 
         String path = carouselImages.get(currentCarouselIndex);
-        Image image = tryLoadImage(path);
-        boolean hasImage = image != null && !image.isError();
+        Image image = BarangayImages.get(path);
+        boolean hasImage = image != null;
         carouselImageView.setImage(hasImage ? image : null);
 
         if (carouselStatusLabel != null) {
@@ -364,55 +473,13 @@ public class DashboardController implements ModuleController {
         updateCarouselImage();
     }
 
-    private Image tryLoadImage(String path) {
-        if (path == null || path.isBlank()) {
-            return null;
-        }
-        String trimmed = path.trim();
-        try {
-            if (trimmed.startsWith("http://") || trimmed.startsWith("https://")) {
-                return new Image(trimmed, true);
-            }
-
-            if (trimmed.startsWith("classpath:")) {
-                String resourcePath = trimmed.substring("classpath:".length());
-                InputStream stream = getClass().getResourceAsStream(resourcePath.startsWith("/")
-                        ? resourcePath : "/" + resourcePath);
-                if (stream != null) {
-                    return new Image(stream);
-                }
-            }
-
-            if (trimmed.startsWith("/")) {
-                URL resource = getClass().getResource(trimmed);
-                if (resource != null) {
-                    return new Image(resource.toExternalForm(), true);
-                }
-            }
-
-            Path filePath = Path.of(trimmed);
-            if (Files.exists(filePath)) {
-                return new Image(filePath.toUri().toString(), true);
-            }
-
-            try {
-                URL url = new URL(trimmed);
-                return new Image(url.toExternalForm(), true);
-            } catch (MalformedURLException ignored) {
-                return null;
-            }
-        } catch (Exception ex) {
-            return null;
-        }
-    }
-
     private void configureDashboardVisibility() {
         setVisible(adminDashboardContainer, !residentMode);
         setVisible(residentDashboardContainer, residentMode);
     }
 
-    private void populateResidentDashboard() {
-        loadLinkedResident();
+    private void applyResidentDashboard(DashboardSnapshot snapshot) {
+        linkedResident = snapshot.getResident();
         if (linkedResident == null) {
             showMissingResidentLinkState();
             return;
@@ -431,34 +498,46 @@ public class DashboardController implements ModuleController {
                 ? "Need a document? Request one online or visit the Documents section for downloads."
                 : "Track or submit voter applications from the Voter Applications module.");
 
-        populateResidentDocuments();
-        populateResidentApplications();
-        populateResidentRequests();
+        setEntries(residentDocumentsListView, snapshot.getResidentDocuments(),
+                "No documents issued yet.", "Unable to load documents.");
+        setEntries(residentApplicationsListView, snapshot.getResidentApplications(),
+                "No voter applications submitted yet.", "Unable to load voter applications.");
+        setEntries(residentRequestsListView, snapshot.getResidentRequests(),
+                "No document requests submitted yet.", "Unable to load document requests.");
     }
 
-    private void populateResidentDocuments() {
-        if (residentDocumentsListView == null) {
+    private void setEntries(ListView<String> listView, List<String> entries, String emptyText, String errorText) {
+        if (listView == null) {
             return;
         }
-        List<Document> documents = container.getDocumentRepository()
-                .findByResidentId(linkedResident.getId());
-        List<String> entries = documents.stream()
-                .sorted(Comparator.comparing(Document::getIssuedDate).reversed())
+        if (entries == null) {
+            listView.setItems(FXCollections.observableArrayList(errorText));
+        } else if (entries.isEmpty()) {
+            listView.setItems(FXCollections.observableArrayList(emptyText));
+        } else {
+            listView.setItems(FXCollections.observableArrayList(entries));
+        }
+    }
+
+    private List<String> loadResidentDocuments(ResidentId residentId) {
+        if (residentId == null || residentDocumentsListView == null) {
+            return Collections.emptyList();
+        }
+        return container.getSearchDocumentsUseCase()
+                .findSummariesByResident(residentId)
+                .stream()
+                .sorted(Comparator.comparing(DocumentSummary::getIssuedDate).reversed())
                 .map(doc -> String.format("%s • %s • Issued %s", doc.getReference().getValue(),
                         doc.getType(), doc.getIssuedDate()))
                 .collect(Collectors.toList());
-        if (entries.isEmpty()) {
-            entries.add("No documents issued yet.");
-        }
-        residentDocumentsListView.setItems(FXCollections.observableArrayList(entries));
     }
 
-    private void populateResidentApplications() {
-        if (residentApplicationsListView == null) {
-            return;
+    private List<String> loadResidentApplications(ResidentId residentId) {
+        if (residentId == null || residentApplicationsListView == null) {
+            return Collections.emptyList();
         }
-        List<String> entries = container.getVoterApplicationRepository()
-                .findByResidentId(linkedResident.getId())
+        return container.getVoterApplicationRepository()
+                .findByResidentId(residentId)
                 .stream()
                 .sorted(Comparator.comparing(VoterApplication::getSubmittedAt).reversed())
                 .map(app -> {
@@ -470,50 +549,28 @@ public class DashboardController implements ModuleController {
                     return base + " • Submitted " + date;
                 })
                 .collect(Collectors.toList());
-        if (entries.isEmpty()) {
-            entries.add("No voter applications submitted yet.");
-        }
-        residentApplicationsListView.setItems(FXCollections.observableArrayList(entries));
-    }
-
-    private void populateResidentRequests() {
-        if (residentRequestsListView == null) {
-            return;
-        }
-        try {
-            List<DocumentRequest> requests = container.getListDocumentRequestsUseCase()
-                    .execute(null, null);
-            List<String> entries = requests.stream()
-                    .sorted(Comparator.comparing(DocumentRequest::getCreatedAt).reversed())
-                    .map(req -> {
-                        String status = req.getStatus().toString();
-                        if (req.getLinkedDocumentReference() != null) {
-                            status += " • Issued: " + req.getLinkedDocumentReference();
-                        }
-                        return String.format("%s • %s • %s (updated %s)",
-                                req.getId(),
-                                req.getDocumentType(),
-                                status,
-                                formatDateTime(req.getUpdatedAt()));
-                    })
-                    .collect(Collectors.toList());
-            if (entries.isEmpty()) {
-                entries.add("No document requests submitted yet.");
-            }
-            residentRequestsListView.setItems(FXCollections.observableArrayList(entries));
-        } catch (Exception ex) {
-            residentRequestsListView.setItems(
-                    FXCollections.observableArrayList("Unable to load document requests."));
-        }
     }
 
-    private void loadLinkedResident() {
-        ResidentId residentId = currentUser != null ? currentUser.getLinkedResidentId() : null;
-        if (residentId == null) {
-            linkedResident = null;
-            return;
-        }
-        linkedResident = container.getResidentRepository().findById(residentId).orElse(null);
+    private List<String> loadResidentRequests(ResidentId residentId) {
+        if (residentId == null || residentRequestsListView == null) {
+            return Collections.emptyList();
+        }
+        List<DocumentRequestSummary> requests = container.getListDocumentRequestsUseCase()
+                .execute(null, null);
+        return requests.stream()
+                .sorted(Comparator.comparing(DocumentRequestSummary::getCreatedAt).reversed())
+                .map(req -> {
+                    String status = req.getStatus().toString();
+                    if (req.getLinkedDocumentReference() != null) {
+                        status += " • Issued: " + req.getLinkedDocumentReference();
+                    }
+                    return String.format("%s • %s • %s (updated %s)",
+                            req.getId(),
+                            req.getDocumentType(),
+                            status,
+                            formatDateTime(req.getUpdatedAt()));
+                })
+                .collect(Collectors.toList());
     }
 
     private void showMissingResidentLinkState() {
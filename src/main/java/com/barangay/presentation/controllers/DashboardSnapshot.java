@@ -0,0 +1,76 @@
+package com.barangay.presentation.controllers;
+
+import com.barangay.application.dto.DashboardSummaryDto;
+import com.barangay.domain.entities.Resident;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything the dashboard shows, gathered off the FX thread and applied in
+ * one pass. A {@code null} section failed to load and is shown as unavailable.
+ */
+final class DashboardSnapshot {
+    private final List<String> carouselImages;
+    private final DashboardSummaryDto summary;
+    private final Integer currentOfficials;
+    private final Resident resident;
+    private final List<String> residentDocuments;
+    private final List<String> residentApplications;
+    private final List<String> residentRequests;
+
+    private DashboardSnapshot(List<String> carouselImages, DashboardSummaryDto summary, Integer currentOfficials,
+            Resident resident, List<String> residentDocuments, List<String> residentApplications,
+            List<String> residentRequests) {
+        this.carouselImages = carouselImages == null ? Collections.emptyList()
+                : Collections.unmodifiableList(carouselImages);
+        this.summary = summary;
+        this.currentOfficials = currentOfficials;
+        this.resident = resident;
+        this.residentDocuments = immutable(residentDocuments);
+        this.residentApplications = immutable(residentApplications);
+        this.residentRequests = immutable(residentRequests);
+    }
+
+    static DashboardSnapshot forStaff(List<String> carouselImages, DashboardSummaryDto summary,
+            Integer currentOfficials) {
+        return new DashboardSnapshot(carouselImages, summary, currentOfficials, null, null, null, null);
+    }
+
+    static DashboardSnapshot forResident(List<String> carouselImages, Resident resident,
+            List<String> documents, List<String> applications, List<String> requests) {
+        return new DashboardSnapshot(carouselImages, null, null, resident, documents, applications, requests);
+    }
+
+    List<String> getCarouselImages() {
+        return carouselImages;
+    }
+
+    DashboardSummaryDto getSummary() {
+        return summary;
+    }
+
+    Integer getCurrentOfficials() {
+        return currentOfficials;
+    }
+
+    Resident getResident() {
+        return resident;
+    }
+
+    List<String> getResidentDocuments() {
+        return residentDocuments;
+    }
+
+    List<String> getResidentApplications() {
+        return residentApplications;
+    }
+
+    List<String> getResidentRequests() {
+        return residentRequests;
+    }
+
+    private static List<String> immutable(List<String> entries) {
+        return entries == null ? null : Collections.unmodifiableList(entries);
+    }
+}
@@ -1,7 +1,12 @@
 package com.barangay.presentation.controllers;
 
+import com.barangay.application.dto.BulkStatusUpdateResultDto;
 import com.barangay.application.dto.SubmitDocumentRequestInputDto;
 import com.barangay.application.dto.UpdateDocumentRequestStatusInputDto;
+import com.barangay.application.events.DocumentIssuedEvent;
+import com.barangay.application.events.DocumentRequestChangedEvent;
+import com.barangay.application.events.DomainEvent;
+import com.barangay.application.services.UseCaseExecutor;
 import com.barangay.application.usecases.GetDocumentRequestUseCase;
 import com.barangay.application.usecases.ListDocumentRequestsUseCase;
 import com.barangay.application.usecases.SubmitDocumentRequestUseCase;
@@ -11,6 +16,7 @@ import com.barangay.domain.entities.DocumentRequestStatus;
 import com.barangay.domain.entities.DocumentType;
 import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.valueobjects.DocumentRequestSummary;
 import com.barangay.infrastructure.config.DIContainer;
 import com.barangay.presentation.util.DialogUtil;
 import com.barangay.presentation.util.FormDialogUtil;
@@ -21,6 +27,8 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javafx.util.StringConverter;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -33,6 +41,7 @@ import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.DatePicker;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
+import javafx.scene.control.SelectionMode;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextArea;
@@ -47,28 +56,28 @@ import javafx.scene.layout.Priority;
 public class DocumentRequestsController implements ModuleController {
 
     @FXML
-    private TableView<DocumentRequest> requestsTable;
+    private TableView<DocumentRequestSummary> requestsTable;
 
     @FXML
-    private TableColumn<DocumentRequest, String> requestIdColumn;
+    private TableColumn<DocumentRequestSummary, String> requestIdColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, String> residentColumn;
+    private TableColumn<DocumentRequestSummary, String> residentColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, DocumentType> documentTypeColumn;
+    private TableColumn<DocumentRequestSummary, DocumentType> documentTypeColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, String> purposeColumn;
+    private TableColumn<DocumentRequestSummary, String> purposeColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, DocumentRequestStatus> statusColumn;
+    private TableColumn<DocumentRequestSummary, DocumentRequestStatus> statusColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, String> createdColumn;
+    private TableColumn<DocumentRequestSummary, String> createdColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, String> updatedColumn;
+    private TableColumn<DocumentRequestSummary, String> updatedColumn;
 
     @FXML
     private TextField searchField;
@@ -109,12 +118,15 @@ public class DocumentRequestsController implements ModuleController {
     @FXML
     private HBox filterBar;
 
-    private final ObservableList<DocumentRequest> backingList = FXCollections.observableArrayList();
+    private final ObservableList<DocumentRequestSummary> backingList = FXCollections.observableArrayList();
 
     private DIContainer container;
+    private UseCaseExecutor.Call<List<DocumentRequestSummary>> loadCall;
+    private boolean loaded;
     private boolean residentMode;
     private ResidentId currentResidentId;
 
+    private static final int MAX_LISTED_SKIPS = 15;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MMM d, yyyy HH:mm");
 
     @Override
@@ -132,6 +144,23 @@ public class DocumentRequestsController implements ModuleController {
         loadRequests();
     }
 
+    @Override
+    public Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Set.of(DocumentRequestChangedEvent.class, DocumentIssuedEvent.class);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Override
+    public void onHide() {
+        if (loadCall != null) {
+            loadCall.cancel();
+        }
+    }
+
     @FXML
     private void handleApplyFilters() {
         loadRequests();
@@ -217,26 +246,32 @@ public class DocumentRequestsController implements ModuleController {
 
         Optional<SubmitDocumentRequestInputDto> result = dialog.showAndWait();
         result.ifPresent(input -> {
-            try {
-                SubmitDocumentRequestUseCase useCase = container.getSubmitDocumentRequestUseCase();
-                String requestId = useCase.execute(input);
-                DialogUtil.showInfo("Document Requests", "Request submitted. Tracking ID: " + requestId);
-                loadRequests();
-            } catch (Exception ex) {
-                DialogUtil.showError("Document Requests", ex.getMessage());
-            }
+            SubmitDocumentRequestUseCase useCase = container.getSubmitDocumentRequestUseCase();
+            container.getUseCaseExecutor().submit("Submit document request",
+                    () -> useCase.execute(input),
+                    requestId -> {
+                        DialogUtil.showInfo("Document Requests", "Request submitted. Tracking ID: " + requestId);
+                        loadRequests();
+                    },
+                    ex -> DialogUtil.showError("Document Requests", ex.getMessage()));
         });
     }
 
     @FXML
     private void handleViewDetails() {
-        DocumentRequest selected = requestsTable.getSelectionModel().getSelectedItem();
+        DocumentRequestSummary selected = requestsTable.getSelectionModel().getSelectedItem();
         if (selected == null) {
             DialogUtil.showWarning("Document Requests", "Select a request first.");
             return;
         }
         GetDocumentRequestUseCase useCase = container.getDocumentRequestUseCase();
-        Optional<DocumentRequest> latest = useCase.execute(selected.getId());
+        container.getUseCaseExecutor().submit("Load document request",
+                () -> useCase.execute(selected.getId()),
+                this::showRequestDetails,
+                ex -> DialogUtil.showError("Document Requests", ex.getMessage()));
+    }
+
+    private void showRequestDetails(Optional<DocumentRequest> latest) {
         if (latest.isEmpty()) {
             DialogUtil.showWarning("Document Requests", "The request no longer exists.");
             loadRequests();
@@ -279,15 +314,17 @@ public class DocumentRequestsController implements ModuleController {
             DialogUtil.showWarning("Document Requests", "Only staff users can change statuses.");
             return;
         }
-        DocumentRequest selected = requestsTable.getSelectionModel().getSelectedItem();
-        if (selected == null) {
+        List<String> selectedIds = requestsTable.getSelectionModel().getSelectedItems().stream()
+                .map(DocumentRequestSummary::getId)
+                .collect(Collectors.toList());
+        if (selectedIds.isEmpty()) {
             DialogUtil.showWarning("Document Requests", "Select a request first.");
             return;
         }
 
         Dialog<String> notesDialog = new Dialog<>();
         FormDialogUtil.applyAppStyles(notesDialog);
-        notesDialog.setTitle(title);
+        notesDialog.setTitle(selectedIds.size() > 1 ? title + " (" + selectedIds.size() + " requests)" : title);
         notesDialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
         TextArea notesArea = new TextArea();
         notesArea.setPromptText("Staff notes (optional)");
@@ -300,16 +337,49 @@ public class DocumentRequestsController implements ModuleController {
             return;
         }
 
-        try {
-            UpdateDocumentRequestStatusUseCase useCase = container.getUpdateDocumentRequestStatusUseCase();
-            useCase.execute(new UpdateDocumentRequestStatusInputDto(
-                    selected.getId(),
-                    status,
-                    notesResult.get()));
-            DialogUtil.showInfo("Document Requests", "Request status updated.");
-            loadRequests();
-        } catch (Exception ex) {
-            DialogUtil.showError("Document Requests", ex.getMessage());
+        UpdateDocumentRequestStatusUseCase useCase = container.getUpdateDocumentRequestStatusUseCase();
+        if (selectedIds.size() > 1) {
+            container.getUseCaseExecutor().submit("Update document request statuses",
+                    () -> useCase.executeBatch(selectedIds, status, notesResult.get()),
+                    result -> {
+                        showBulkResult(result);
+                        loadRequests();
+                    },
+                    ex -> DialogUtil.showError("Document Requests", ex.getMessage()));
+            return;
+        }
+        UpdateDocumentRequestStatusInputDto input = new UpdateDocumentRequestStatusInputDto(
+                selectedIds.get(0),
+                status,
+                notesResult.get());
+        container.getUseCaseExecutor().execute("Update document request status",
+                () -> useCase.execute(input),
+                () -> {
+                    DialogUtil.showInfo("Document Requests", "Request status updated.");
+                    loadRequests();
+                },
+                ex -> DialogUtil.showError("Document Requests", ex.getMessage()));
+    }
+
+    private void showBulkResult(BulkStatusUpdateResultDto result) {
+        StringBuilder message = new StringBuilder(String.format("%d request(s) updated, %d skipped.",
+                result.getUpdatedCount(), result.getSkippedCount()));
+        // Keep the dialog readable when a large selection is mostly skipped
+        int shown = 0;
+        for (BulkStatusUpdateResultDto.Item item : result.getItems()) {
+            if (item.isUpdated()) {
+                continue;
+            }
+            if (shown++ == MAX_LISTED_SKIPS) {
+                message.append("\n...");
+                break;
+            }
+            message.append('\n').append(item.getRequestId()).append(": ").append(item.getMessage());
+        }
+        if (result.getSkippedCount() == 0) {
+            DialogUtil.showInfo("Document Requests", message.toString());
+        } else {
+            DialogUtil.showWarning("Document Requests", message.toString());
         }
     }
 
@@ -325,6 +395,9 @@ public class DocumentRequestsController implements ModuleController {
         updatedColumn.setCellValueFactory(cell -> new SimpleStringProperty(
                 formatDateTime(cell.getValue().getUpdatedAt())));
         requestsTable.setItems(backingList);
+        if (!residentMode) {
+            requestsTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        }
         requestsTable.getSelectionModel().selectedItemProperty()
             .addListener((obs, oldVal, newVal) -> updateSelectionDependentActions(newVal));
         updateSelectionDependentActions(null);
@@ -395,14 +468,21 @@ public class DocumentRequestsController implements ModuleController {
         ListDocumentRequestsUseCase useCase = container.getListDocumentRequestsUseCase();
         DocumentRequestStatus status = statusFilter.getSelectionModel().getSelectedItem();
         String searchTerm = (!residentMode && searchField != null) ? searchField.getText() : null;
-        List<DocumentRequest> requests = useCase.execute(status, searchTerm);
-        backingList.setAll(requests);
-        requestCountLabel.setText(String.format(residentMode ? "You have %d request(s)" : "%d request(s) found",
-                requests.size()));
-        if (requestsTable != null) {
-            requestsTable.getSelectionModel().clearSelection();
-        }
-        updateSelectionDependentActions(null);
+        // Keyed by controller: each keystroke supersedes the previous search
+        loaded = false;
+        loadCall = container.getUseCaseExecutor().submit(this, "Load document requests",
+                () -> useCase.execute(status, searchTerm),
+                requests -> {
+                    loaded = true;
+                    backingList.setAll(requests);
+                    requestCountLabel.setText(String.format(
+                            residentMode ? "You have %d request(s)" : "%d request(s) found", requests.size()));
+                    if (requestsTable != null) {
+                        requestsTable.getSelectionModel().clearSelection();
+                    }
+                    updateSelectionDependentActions(null);
+                },
+                ex -> DialogUtil.showError("Document Requests", "Unable to load requests: " + ex.getMessage()));
     }
 
     private void setVisible(javafx.scene.Node node, boolean visible) {
@@ -424,7 +504,7 @@ public class DocumentRequestsController implements ModuleController {
         return DATE_TIME_FORMATTER.format(dateTime);
     }
 
-    private void updateSelectionDependentActions(DocumentRequest selected) {
+    private void updateSelectionDependentActions(DocumentRequestSummary selected) {
         boolean hasSelection = selected != null;
         if (viewDetailsButton != null) {
             viewDetailsButton.setDisable(!hasSelection);
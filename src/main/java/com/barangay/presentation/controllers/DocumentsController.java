@@ -1,7 +1,15 @@
 package com.barangay.presentation.controllers;
 
 import com.barangay.application.dto.IssueDocumentInputDto;
+import com.barangay.application.events.DocumentIssuedEvent;
+import com.barangay.application.events.DocumentRequestChangedEvent;
+import com.barangay.application.events.DomainEvent;
+import com.barangay.application.export.TableExporter;
+import com.barangay.application.services.UseCaseExecutor;
+import com.barangay.application.usecases.ExportDocumentRequestsUseCase;
+import com.barangay.application.usecases.ExportDocumentsUseCase;
 import com.barangay.application.usecases.ListDocumentRequestsUseCase;
+import com.barangay.application.usecases.RenderDocumentsUseCase;
 import com.barangay.application.usecases.SearchDocumentsUseCase;
 import com.barangay.domain.entities.Document;
 import com.barangay.domain.entities.DocumentRequest;
@@ -9,22 +17,31 @@ import com.barangay.domain.entities.DocumentRequestStatus;
 import com.barangay.domain.entities.DocumentType;
 import com.barangay.domain.entities.ResidentId;
 import com.barangay.domain.entities.UserRole;
+import com.barangay.domain.valueobjects.DocumentFilter;
+import com.barangay.domain.valueobjects.DocumentRequestSummary;
+import com.barangay.domain.valueobjects.DocumentSummary;
 import com.barangay.infrastructure.config.DIContainer;
 import com.barangay.presentation.util.DialogUtil;
+import com.barangay.presentation.util.ExportDialog;
 import com.barangay.presentation.util.FormDialogUtil;
 import com.barangay.presentation.util.FormFieldIndicator;
+import com.barangay.presentation.util.ListFilter;
 import com.barangay.presentation.util.TableCopyUtil;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.DatePicker;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.SelectionMode;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.Tab;
@@ -32,6 +49,7 @@ import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
 import javafx.stage.Window;
 import javafx.util.StringConverter;
@@ -44,6 +62,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
@@ -57,28 +78,28 @@ import java.nio.file.StandardCopyOption;
 public class DocumentsController implements ModuleController {
 
     @FXML
-    private TableView<Document> documentsTable;
+    private TableView<DocumentSummary> documentsTable;
 
     @FXML
-    private TableColumn<Document, String> referenceColumn;
+    private TableColumn<DocumentSummary, String> referenceColumn;
 
     @FXML
-    private TableColumn<Document, String> residentColumn;
+    private TableColumn<DocumentSummary, String> residentColumn;
 
     @FXML
-    private TableColumn<Document, DocumentType> typeColumn;
+    private TableColumn<DocumentSummary, DocumentType> typeColumn;
 
     @FXML
-    private TableColumn<Document, String> purposeColumn;
+    private TableColumn<DocumentSummary, String> purposeColumn;
 
     @FXML
-    private TableColumn<Document, LocalDate> issuedDateColumn;
+    private TableColumn<DocumentSummary, LocalDate> issuedDateColumn;
 
     @FXML
-    private TableColumn<Document, LocalDate> validUntilColumn;
+    private TableColumn<DocumentSummary, LocalDate> validUntilColumn;
 
     @FXML
-    private TableColumn<Document, String> issuedByColumn;
+    private TableColumn<DocumentSummary, String> issuedByColumn;
 
     @FXML
     private TextField searchField;
@@ -110,26 +131,35 @@ public class DocumentsController implements ModuleController {
     @FXML
     private Button downloadPhotoButton;
 
+    @FXML
+    private Button exportDocumentsButton;
+
+    @FXML
+    private Button savePdfButton;
+
+    @FXML
+    private ProgressBar exportProgressBar;
+
     @FXML
     private Tab fromRequestsTab;
 
     @FXML
-    private TableView<DocumentRequest> requestQueueTable;
+    private TableView<DocumentRequestSummary> requestQueueTable;
 
     @FXML
-    private TableColumn<DocumentRequest, String> queueRequestIdColumn;
+    private TableColumn<DocumentRequestSummary, String> queueRequestIdColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, String> queueResidentColumn;
+    private TableColumn<DocumentRequestSummary, String> queueResidentColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, DocumentType> queueTypeColumn;
+    private TableColumn<DocumentRequestSummary, DocumentType> queueTypeColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, String> queuePurposeColumn;
+    private TableColumn<DocumentRequestSummary, String> queuePurposeColumn;
 
     @FXML
-    private TableColumn<DocumentRequest, DocumentRequestStatus> queueStatusColumn;
+    private TableColumn<DocumentRequestSummary, DocumentRequestStatus> queueStatusColumn;
 
     @FXML
     private Label requestQueueLabel;
@@ -137,12 +167,23 @@ public class DocumentsController implements ModuleController {
     @FXML
     private Button issueFromRequestButton;
 
-    private final ObservableList<Document> backingList = FXCollections.observableArrayList();
-    private final ObservableList<DocumentRequest> requestQueueList = FXCollections.observableArrayList();
+    @FXML
+    private Button exportRequestsButton;
+
+    @FXML
+    private ProgressBar requestExportProgressBar;
+
+    private final ObservableList<DocumentRequestSummary> requestQueueList = FXCollections.observableArrayList();
 
     private DIContainer container;
     private boolean residentMode;
     private ResidentId currentResidentId;
+    private UseCaseExecutor.Call<List<DocumentSummary>> documentsCall;
+    private ListFilter<DocumentSummary> documentFilter;
+    private UseCaseExecutor.Call<List<DocumentRequestSummary>> requestQueueCall;
+    private boolean documentsLoaded;
+    private boolean requestQueueLoaded;
+    private boolean savingPdf;
 
     @Override
     public void init(DIContainer container, MainLayoutController mainLayoutController) {
@@ -159,17 +200,32 @@ public class DocumentsController implements ModuleController {
     public void refresh() {
         if (residentMode) {
             loadResidentDocuments();
-            documentsTable.setItems(FXCollections.observableArrayList(backingList));
-            documentCountLabel.setText(String.format("You have %d document(s)", backingList.size()));
         } else {
             loadAllDocuments();
-            applyFilters();
             loadRequestQueue();
         }
-        if (documentsTable != null) {
-            documentsTable.getSelectionModel().clearSelection();
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Set.of(DocumentIssuedEvent.class, DocumentRequestChangedEvent.class);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        boolean queueLoaded = residentMode || requestQueueTable == null || requestQueueLoaded;
+        return documentsLoaded && queueLoaded && !documentFilter.isPending();
+    }
+
+    @Override
+    public void onHide() {
+        if (documentsCall != null) {
+            documentsCall.cancel();
         }
-        updateDocumentSelectionActions(null);
+        if (requestQueueCall != null) {
+            requestQueueCall.cancel();
+        }
+        documentFilter.cancel();
     }
 
     @FXML
@@ -197,6 +253,144 @@ public class DocumentsController implements ModuleController {
         applyFilters();
     }
 
+    @FXML
+    private void handleExportDocuments() {
+        if (residentMode) {
+            return;
+        }
+        Optional<ExportDialog.Selection<Document>> selection = ExportDialog.show(ownerWindow(documentsTable),
+                "Export Documents", ExportDocumentsUseCase.COLUMNS, "documents");
+        selection.ifPresent(export -> {
+            DocumentFilter filter = new DocumentFilter(typeFilter.getSelectionModel().getSelectedItem(),
+                    startDatePicker.getValue(), endDatePicker.getValue(), searchField.getText());
+            runExport("Export Documents", "document(s)", exportDocumentsButton, exportProgressBar,
+                    export.getTarget(), progress -> container.getExportDocumentsUseCase().execute(filter,
+                            export.getColumns(), export.getTarget(), export.getFormat(), progress));
+        });
+    }
+
+    @FXML
+    private void handleExportRequests() {
+        Optional<ExportDialog.Selection<DocumentRequest>> selection = ExportDialog.show(
+                ownerWindow(requestQueueTable), "Export Approved Requests", ExportDocumentRequestsUseCase.COLUMNS,
+                "approved-requests");
+        selection.ifPresent(export -> runExport("Export Approved Requests", "request(s)", exportRequestsButton,
+                requestExportProgressBar, export.getTarget(),
+                progress -> container.getExportDocumentRequestsUseCase().execute(DocumentRequestStatus.APPROVED,
+                        export.getColumns(), export.getTarget(), export.getFormat(), progress)));
+    }
+
+    private void runExport(String title, String rowLabel, Button button, ProgressBar progressBar, Path target,
+            Function<TableExporter.ProgressListener, Long> export) {
+        button.setDisable(true);
+        progressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        setNodeVisible(progressBar, true);
+        TableExporter.ProgressListener progress = (written, total) -> Platform.runLater(
+                () -> progressBar.setProgress(total == 0 ? 1 : (double) written / total));
+        container.getUseCaseExecutor().submit(title,
+                () -> export.apply(progress),
+                count -> {
+                    button.setDisable(false);
+                    setNodeVisible(progressBar, false);
+                    DialogUtil.showInfo(title, String.format("Exported %,d %s to %s", count, rowLabel, target));
+                },
+                ex -> {
+                    button.setDisable(false);
+                    setNodeVisible(progressBar, false);
+                    DialogUtil.showError(title, ex.getMessage());
+                });
+    }
+
+    @FXML
+    private void handleSavePdf() {
+        if (residentMode) {
+            return;
+        }
+        List<String> references = documentsTable.getSelectionModel().getSelectedItems().stream()
+                .map(document -> document.getReference().getValue())
+                .collect(Collectors.toList());
+        if (savingPdf) {
+            return;
+        }
+        if (references.isEmpty()) {
+            DialogUtil.showWarning("Save PDF", "Select one or more documents first.");
+            return;
+        }
+
+        Window owner = ownerWindow(documentsTable);
+        boolean separateFiles = false;
+        if (references.size() > 1) {
+            ButtonType merged = new ButtonType("One PDF");
+            ButtonType separate = new ButtonType("Separate Files");
+            Alert choice = new Alert(Alert.AlertType.CONFIRMATION,
+                    "Save the " + references.size() + " documents as one PDF for printing, or one file each?",
+                    merged, separate, ButtonType.CANCEL);
+            choice.setTitle("Save PDF");
+            choice.setHeaderText(null);
+            choice.initOwner(owner);
+            FormDialogUtil.applyAppStyles(choice);
+            Optional<ButtonType> answer = choice.showAndWait();
+            if (answer.isEmpty() || answer.get() == ButtonType.CANCEL) {
+                return;
+            }
+            separateFiles = answer.get() == separate;
+        }
+
+        RenderDocumentsUseCase useCase = container.getRenderDocumentsUseCase();
+        Callable<Integer> render;
+        if (separateFiles) {
+            DirectoryChooser chooser = new DirectoryChooser();
+            chooser.setTitle("Save PDFs To");
+            File directory = chooser.showDialog(owner);
+            if (directory == null) {
+                return;
+            }
+            render = () -> useCase.renderToDirectory(references, directory.toPath());
+        } else {
+            FileChooser chooser = new FileChooser();
+            chooser.setTitle("Save PDF");
+            chooser.getExtensionFilters().setAll(new FileChooser.ExtensionFilter("PDF Files", "*.pdf"));
+            chooser.setInitialFileName(references.size() == 1 ? references.get(0) + ".pdf" : "documents.pdf");
+            File file = chooser.showSaveDialog(owner);
+            if (file == null) {
+                return;
+            }
+            Path target = file.getName().toLowerCase().endsWith(".pdf")
+                    ? file.toPath()
+                    : file.toPath().resolveSibling(file.getName() + ".pdf");
+            render = () -> useCase.renderMerged(references, target);
+        }
+
+        setSavingPdf(true);
+        container.getUseCaseExecutor().submit("Save documents as PDF", render,
+                count -> {
+                    setSavingPdf(false);
+                    DialogUtil.showInfo("Save PDF", String.format("Saved %,d document(s) as PDF.", count));
+                },
+                ex -> {
+                    setSavingPdf(false);
+                    DialogUtil.showError("Save PDF", ex.getMessage());
+                });
+    }
+
+    private void setSavingPdf(boolean saving) {
+        savingPdf = saving;
+        updateSavePdfButton(documentsTable.getSelectionModel().getSelectedItem() != null);
+    }
+
+    /**
+     * One render at a time: a second batch could target the same file.
+     */
+    private void updateSavePdfButton(boolean hasSelection) {
+        if (savePdfButton != null) {
+            savePdfButton.setDisable(savingPdf || !hasSelection);
+        }
+    }
+
+    private Window ownerWindow(TableView<?> table) {
+        return table != null && table.getScene() != null ? table.getScene().getWindow() : null;
+    }
+
     @FXML
     private void handleIssueDocument() {
         if (residentMode) {
@@ -209,27 +403,42 @@ public class DocumentsController implements ModuleController {
 
     @FXML
     private void handleViewDetails() {
-        Document selected = documentsTable.getSelectionModel().getSelectedItem();
+        DocumentSummary selected = documentsTable.getSelectionModel().getSelectedItem();
         if (selected == null) {
             DialogUtil.showWarning("Document Details", "Please select a document first.");
             return;
         }
+        // The list holds summaries; additional info is only on the full record
+        SearchDocumentsUseCase useCase = container.getSearchDocumentsUseCase();
+        container.getUseCaseExecutor().submit("Load document",
+                () -> useCase.findByReference(selected.getReference().getValue()),
+                this::showDocumentDetails,
+                ex -> DialogUtil.showError("Document Details", ex.getMessage()));
+    }
+
+    private void showDocumentDetails(Optional<Document> loaded) {
+        if (loaded.isEmpty()) {
+            DialogUtil.showWarning("Document Details", "The document no longer exists.");
+            refresh();
+            return;
+        }
+        Document document = loaded.get();
         String details = String.format(
                 "Reference: %s\nResident ID: %s\nType: %s\nPurpose: %s\nIssued: %s\nValid Until: %s\nIssued By: %s\nAdditional Info: %s",
-                selected.getReference().getValue(),
-                selected.getResidentId().getValue(),
-                selected.getType(),
-                optionalString(selected.getPurpose()),
-                selected.getIssuedDate(),
-                selected.getValidUntil(),
-                optionalString(selected.getIssuedBy()),
-                optionalString(selected.getAdditionalInfo()));
+                document.getReference().getValue(),
+                document.getResidentId().getValue(),
+                document.getType(),
+                optionalString(document.getPurpose()),
+                document.getIssuedDate(),
+                document.getValidUntil(),
+                optionalString(document.getIssuedBy()),
+                optionalString(document.getAdditionalInfo()));
         DialogUtil.showInfo("Document Details", details);
     }
 
     @FXML
     private void handleDownloadPhoto() {
-        Document selected = documentsTable.getSelectionModel().getSelectedItem();
+        DocumentSummary selected = documentsTable.getSelectionModel().getSelectedItem();
         if (selected == null) {
             DialogUtil.showWarning("Download Photo", "Please select a document first.");
             return;
@@ -262,7 +471,16 @@ public class DocumentsController implements ModuleController {
         validUntilColumn.setCellValueFactory(cell -> new SimpleObjectProperty<>(cell.getValue().getValidUntil()));
         issuedByColumn
                 .setCellValueFactory(cell -> new SimpleStringProperty(optionalString(cell.getValue().getIssuedBy())));
-        documentsTable.setItems(FXCollections.observableArrayList());
+        documentFilter = new ListFilter<>(container.getUseCaseExecutor(),
+                doc -> ListFilter.fields(doc.getReference().getValue(), doc.getResidentId().getValue(),
+                        doc.getPurpose()),
+                (shown, total) -> {
+                    documentCountLabel.setText(residentMode
+                            ? String.format("You have %d document(s)", total)
+                            : String.format("Showing %d of %d documents", shown, total));
+                    clearDocumentSelection();
+                });
+        documentFilter.bindTo(documentsTable);
         documentsTable.getSelectionModel().selectedItemProperty()
             .addListener((obs, oldVal, newVal) -> updateDocumentSelectionActions(newVal));
         updateDocumentSelectionActions(null);
@@ -290,6 +508,7 @@ public class DocumentsController implements ModuleController {
             }
         });
         typeFilter.getSelectionModel().selectFirst();
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> documentFilter.setQuery(newVal));
     }
 
     private void configureRequestQueueTable() {
@@ -311,13 +530,20 @@ public class DocumentsController implements ModuleController {
 
     private void loadAllDocuments() {
         SearchDocumentsUseCase searchDocumentsUseCase = container.getSearchDocumentsUseCase();
-        List<Document> results = new ArrayList<>(searchDocumentsUseCase.search(""));
-        backingList.setAll(results);
+        documentsLoaded = false;
+        documentsCall = container.getUseCaseExecutor().submit(documentsTable, "Load documents",
+                () -> new ArrayList<>(searchDocumentsUseCase.searchSummaries("")),
+                documents -> {
+                    documentsLoaded = true;
+                    documentFilter.setItems(documents);
+                },
+                ex -> DialogUtil.showError("Documents", "Unable to load documents: " + ex.getMessage()));
     }
 
     private void loadResidentDocuments() {
         if (currentResidentId == null) {
-            backingList.clear();
+            documentsLoaded = true;
+            documentFilter.setItems(List.of());
             if (residentInfoLabel != null) {
                 residentInfoLabel.setText(
                         "Your account is not yet linked to a resident profile. Please contact the barangay office.");
@@ -326,42 +552,44 @@ public class DocumentsController implements ModuleController {
             }
             return;
         }
-        List<Document> docs = container.getDocumentRepository().findByResidentId(currentResidentId);
-        backingList.setAll(docs);
-        if (residentInfoLabel != null) {
-            residentInfoLabel
-                    .setText("Below are the documents issued to you. Visit the office for reprints if needed.");
-            residentInfoLabel.setManaged(true);
-            residentInfoLabel.setVisible(true);
+        documentsLoaded = false;
+        documentsCall = container.getUseCaseExecutor().submit(documentsTable, "Load resident documents",
+                () -> container.getSearchDocumentsUseCase().findSummariesByResident(currentResidentId),
+                docs -> {
+                    documentsLoaded = true;
+                    documentFilter.setItems(docs);
+                    if (residentInfoLabel != null) {
+                        residentInfoLabel.setText(
+                                "Below are the documents issued to you. Visit the office for reprints if needed.");
+                        residentInfoLabel.setManaged(true);
+                        residentInfoLabel.setVisible(true);
+                    }
+                },
+                ex -> DialogUtil.showError("Documents", "Unable to load your documents: " + ex.getMessage()));
+    }
+
+    private void clearDocumentSelection() {
+        if (documentsTable != null) {
+            documentsTable.getSelectionModel().clearSelection();
         }
+        updateDocumentSelectionActions(null);
     }
 
     private void applyFilters() {
-        String term = searchField.getText() != null ? searchField.getText().trim().toLowerCase() : "";
         DocumentType type = typeFilter.getSelectionModel().getSelectedItem();
         LocalDate start = startDatePicker.getValue();
         LocalDate end = endDatePicker.getValue();
 
-        List<Document> filtered = backingList.stream()
-                .filter(doc -> type == null || doc.getType() == type)
-                .filter(doc -> term.isEmpty() ||
-                        doc.getReference().getValue().toLowerCase().contains(term) ||
-                        doc.getResidentId().getValue().toLowerCase().contains(term) ||
-                        (doc.getPurpose() != null && doc.getPurpose().toLowerCase().contains(term)))
-                .filter(doc -> {
-                    LocalDate issued = doc.getIssuedDate();
-                    if (start != null && issued.isBefore(start)) {
-                        return false;
-                    }
-                    if (end != null && issued.isAfter(end)) {
-                        return false;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
-
-        documentsTable.setItems(FXCollections.observableArrayList(filtered));
-        documentCountLabel.setText(String.format("Showing %d of %d documents", filtered.size(), backingList.size()));
+        documentFilter.setCriteria(doc -> {
+            if (type != null && doc.getType() != type) {
+                return false;
+            }
+            LocalDate issued = doc.getIssuedDate();
+            if (start != null && issued.isBefore(start)) {
+                return false;
+            }
+            return end == null || !issued.isAfter(end);
+        });
     }
 
     private String optionalString(String value) {
@@ -372,6 +600,8 @@ public class DocumentsController implements ModuleController {
         if (residentMode) {
             setNodeVisible(filterBar, false);
             setNodeVisible(issueDocumentButton, false);
+            setNodeVisible(exportDocumentsButton, false);
+            setNodeVisible(savePdfButton, false);
             if (fromRequestsTab != null) {
                 fromRequestsTab.setDisable(true);
                 fromRequestsTab.setText("From Requests (staff only)");
@@ -380,9 +610,12 @@ public class DocumentsController implements ModuleController {
                 residentInfoLabel.setManaged(true);
                 residentInfoLabel.setVisible(true);
             }
-        } else if (residentInfoLabel != null) {
-            residentInfoLabel.setVisible(false);
-            residentInfoLabel.setManaged(false);
+        } else {
+            documentsTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+            if (residentInfoLabel != null) {
+                residentInfoLabel.setVisible(false);
+                residentInfoLabel.setManaged(false);
+            }
         }
     }
 
@@ -396,7 +629,7 @@ public class DocumentsController implements ModuleController {
             DialogUtil.showWarning("Document Issuance", "Request queue is not available.");
             return;
         }
-        DocumentRequest selected = requestQueueTable.getSelectionModel().getSelectedItem();
+        DocumentRequestSummary selected = requestQueueTable.getSelectionModel().getSelectedItem();
         if (selected == null) {
             DialogUtil.showWarning("From Requests", "Select a request to issue.");
             return;
@@ -405,7 +638,20 @@ public class DocumentsController implements ModuleController {
             DialogUtil.showWarning("From Requests", "Only approved requests can be issued from this tab.");
             return;
         }
-        Optional<IssueDocumentFormResult> result = showIssueDocumentDialog(selected);
+        // The form is prefilled from fields the queue summary does not carry
+        container.getUseCaseExecutor().submit("Load document request",
+                () -> container.getDocumentRequestUseCase().execute(selected.getId()),
+                this::showIssueFromRequestDialog,
+                ex -> DialogUtil.showError("From Requests", ex.getMessage()));
+    }
+
+    private void showIssueFromRequestDialog(Optional<DocumentRequest> loaded) {
+        if (loaded.isEmpty() || loaded.get().getStatus() != DocumentRequestStatus.APPROVED) {
+            DialogUtil.showWarning("From Requests", "The request is no longer approved for issuance.");
+            loadRequestQueue();
+            return;
+        }
+        Optional<IssueDocumentFormResult> result = showIssueDocumentDialog(loaded.get());
         result.ifPresent(this::processDocumentIssuance);
     }
 
@@ -419,15 +665,22 @@ public class DocumentsController implements ModuleController {
             return;
         }
         ListDocumentRequestsUseCase requestUseCase = container.getListDocumentRequestsUseCase();
-        List<DocumentRequest> requests = requestUseCase.execute(DocumentRequestStatus.APPROVED, null);
-        requestQueueList.setAll(requests);
-        if (requestQueueLabel != null) {
-            requestQueueLabel.setText(String.format("%d approved request(s) ready for issuance", requests.size()));
-        }
-        if (requestQueueTable != null) {
-            requestQueueTable.getSelectionModel().clearSelection();
-        }
-        updateRequestQueueButtonState(null);
+        requestQueueLoaded = false;
+        requestQueueCall = container.getUseCaseExecutor().submit(requestQueueList, "Load approved requests",
+                () -> requestUseCase.execute(DocumentRequestStatus.APPROVED, null),
+                requests -> {
+                    requestQueueLoaded = true;
+                    requestQueueList.setAll(requests);
+                    if (requestQueueLabel != null) {
+                        requestQueueLabel.setText(
+                                String.format("%d approved request(s) ready for issuance", requests.size()));
+                    }
+                    if (requestQueueTable != null) {
+                        requestQueueTable.getSelectionModel().clearSelection();
+                    }
+                    updateRequestQueueButtonState(null);
+                },
+                ex -> DialogUtil.showError("From Requests", "Unable to load approved requests: " + ex.getMessage()));
     }
 
     private void setNodeVisible(javafx.scene.Node node, boolean visible) {
@@ -438,11 +691,12 @@ public class DocumentsController implements ModuleController {
         node.setManaged(visible);
     }
 
-    private void updateDocumentSelectionActions(Document selected) {
+    private void updateDocumentSelectionActions(DocumentSummary selected) {
         boolean hasSelection = selected != null;
         if (viewDetailsButton != null) {
             viewDetailsButton.setDisable(!hasSelection);
         }
+        updateSavePdfButton(hasSelection);
         if (downloadPhotoButton == null) {
             return;
         }
@@ -451,7 +705,7 @@ public class DocumentsController implements ModuleController {
         downloadPhotoButton.setDisable(!canDownload);
     }
 
-    private void updateRequestQueueButtonState(DocumentRequest selected) {
+    private void updateRequestQueueButtonState(DocumentRequestSummary selected) {
         if (issueFromRequestButton == null) {
             return;
         }
@@ -570,13 +824,13 @@ public class DocumentsController implements ModuleController {
                 baseInput.getRequestId(),
                 storedPhotoPath);
 
-        try {
-            String reference = container.getIssueDocumentUseCase().execute(payload);
-            DialogUtil.showInfo("Issue Document", "Document issued with reference: " + reference);
-            refresh();
-        } catch (Exception ex) {
-            DialogUtil.showError("Issue Document", ex.getMessage());
-        }
+        container.getUseCaseExecutor().submit("Issue document",
+                () -> container.getIssueDocumentUseCase().execute(payload),
+                reference -> {
+                    DialogUtil.showInfo("Issue Document", "Document issued with reference: " + reference);
+                    refresh();
+                },
+                ex -> DialogUtil.showError("Issue Document", ex.getMessage()));
     }
 
     private File chooseImageFile(Window owner) {
@@ -587,7 +841,7 @@ public class DocumentsController implements ModuleController {
         return chooser.showOpenDialog(owner);
     }
 
-    private File choosePhotoDestination(Document document) {
+    private File choosePhotoDestination(DocumentSummary document) {
         Path sourcePath = resolvePhotoPath(document.getPhotoPath());
         if (sourcePath == null || !Files.exists(sourcePath)) {
             return null;
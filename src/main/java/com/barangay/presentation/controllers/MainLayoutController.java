@@ -1,12 +1,16 @@
 package com.barangay.presentation.controllers;
 
 import com.barangay.application.dto.LoginOutputDto;
+import com.barangay.application.events.DomainEvent;
+import com.barangay.application.events.DomainEventBus;
 import com.barangay.domain.entities.BarangayInfo;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
 import com.barangay.infrastructure.config.DIContainer;
 import com.barangay.presentation.MainApp;
+import com.barangay.presentation.util.BarangayImages;
 import com.barangay.presentation.util.DialogUtil;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -19,14 +23,12 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Controller for the main workspace shell and navigation.
@@ -58,10 +60,18 @@ public class MainLayoutController {
     private static class LoadedModule {
         private final Node node;
         private final ModuleController controller;
+        private final Set<Class<? extends DomainEvent>> refreshEvents;
+        // Relevant events published while the module was hidden
+        private final List<DomainEvent> pendingEvents = new ArrayList<>();
 
         LoadedModule(Node node, ModuleController controller) {
             this.node = node;
             this.controller = controller;
+            this.refreshEvents = controller.getRefreshEvents();
+        }
+
+        boolean isAffectedBy(DomainEvent event) {
+            return refreshEvents.stream().anyMatch(type -> type.isInstance(event));
         }
 
         Node node() {
@@ -125,12 +135,14 @@ public class MainLayoutController {
     private StackPane contentPane;
 
     private final Map<NavigationTarget, LoadedModule> moduleCache = new EnumMap<>(NavigationTarget.class);
+    private LoadedModule visibleModule;
     private final Map<NavigationTarget, Button> navigationButtons = new EnumMap<>(NavigationTarget.class);
 
     private MainApp mainApp;
     private DIContainer container;
     private LoginOutputDto loginInfo;
     private User currentUser;
+    private DomainEventBus.Subscription eventSubscription;
 
     @FXML
     private void initialize() {
@@ -154,6 +166,8 @@ public class MainLayoutController {
         currentUserLabel.setText(currentUser.getUsername());
         currentRoleLabel.setText(currentUser.getRole().toString());
         loadBarangayDetails();
+        eventSubscription = container.getEventBus().subscribe(DomainEvent.class,
+                event -> Platform.runLater(() -> queueEvent(event)));
         configureNavigationForRole(currentUser.getRole());
         showModule(defaultTargetForRole(currentUser.getRole()));
     }
@@ -162,6 +176,21 @@ public class MainLayoutController {
         loadBarangayDetails();
     }
 
+    /**
+     * Stop listening for changes and background work when the workspace is
+     * closed, e.g. on logout.
+     */
+    public void dispose() {
+        if (eventSubscription != null) {
+            eventSubscription.cancel();
+            eventSubscription = null;
+        }
+        if (visibleModule != null) {
+            visibleModule.controller().onHide();
+            visibleModule = null;
+        }
+    }
+
     public MainApp getMainApp() {
         return mainApp;
     }
@@ -231,12 +260,37 @@ public class MainLayoutController {
     }
 
     private void showModule(NavigationTarget target) {
+        boolean firstShow = !moduleCache.containsKey(target);
         LoadedModule loaded = moduleCache.computeIfAbsent(target, this::loadModule);
+        if (visibleModule != null) {
+            visibleModule.controller().onHide();
+        }
+        visibleModule = loaded;
         contentPane.getChildren().setAll(loaded.node());
-        loaded.controller().refresh();
+
+        ModuleController controller = loaded.controller();
+        List<DomainEvent> pending = new ArrayList<>(loaded.pendingEvents);
+        loaded.pendingEvents.clear();
+        if (firstShow || loaded.refreshEvents.isEmpty() || !controller.isLoaded()) {
+            controller.refresh();
+        } else if (!pending.isEmpty()) {
+            controller.applyChanges(pending);
+        }
         highlightNavigation(target);
     }
 
+    /**
+     * Remember {@code event} for the hidden modules it affects. The visible
+     * module reloads after its own actions, so it is skipped.
+     */
+    private void queueEvent(DomainEvent event) {
+        for (LoadedModule module : moduleCache.values()) {
+            if (module != visibleModule && module.isAffectedBy(event)) {
+                module.pendingEvents.add(event);
+            }
+        }
+    }
+
     private LoadedModule loadModule(NavigationTarget target) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/" + target.getFxml()));
@@ -308,8 +362,8 @@ public class MainLayoutController {
             return;
         }
 
-        Image image = tryLoadImage(sealPath.trim());
-        if (image != null && !image.isError()) {
+        Image image = BarangayImages.get(sealPath);
+        if (image != null) {
             barangaySealImage.setImage(image);
             setSealVisibility(true);
         } else {
@@ -317,45 +371,6 @@ public class MainLayoutController {
         }
     }
 
-    private Image tryLoadImage(String sealPath) {
-        try {
-            if (sealPath.startsWith("http://") || sealPath.startsWith("https://")) {
-                return new Image(sealPath, true);
-            }
-
-            if (sealPath.startsWith("classpath:")) {
-                String resourcePath = sealPath.substring("classpath:".length());
-                InputStream stream = getClass()
-                        .getResourceAsStream(resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath);
-                if (stream != null) {
-                    return new Image(stream);
-                }
-            }
-
-            if (sealPath.startsWith("/")) {
-                URL resource = getClass().getResource(sealPath);
-                if (resource != null) {
-                    return new Image(resource.toExternalForm(), true);
-                }
-            }
-
-            Path filePath = Path.of(sealPath);
-            if (Files.exists(filePath)) {
-                return new Image(filePath.toUri().toString(), true);
-            }
-
-            // Fallback: attempt to treat as URL even if not prefixed
-            try {
-                URL url = new URL(sealPath);
-                return new Image(url.toExternalForm(), true);
-            } catch (MalformedURLException ignored) {
-                return null;
-            }
-        } catch (Exception ex) {
-            return null;
-        }
-    }
-
     private void setSealVisibility(boolean visible) {
         if (barangaySealImage != null) {
             barangaySealImage.setVisible(visible);
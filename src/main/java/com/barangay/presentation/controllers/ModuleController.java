@@ -1,7 +1,12 @@
 package com.barangay.presentation.controllers;
 
+import com.barangay.application.events.DomainEvent;
 import com.barangay.infrastructure.config.DIContainer;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Contract for module screens within the main workspace.
  */
@@ -15,4 +20,38 @@ public interface ModuleController {
      * Refresh data when the module becomes visible.
      */
     void refresh();
+
+    /**
+     * Called when the user navigates to another module; stop any work
+     * started by {@link #refresh()}.
+     */
+    default void onHide() {
+    }
+
+    /**
+     * Event types that make this module's data out of date. A module that
+     * declares some is shown again without reloading unless one of them was
+     * published while it was hidden; with none (the default) it refreshes
+     * every time it is shown.
+     */
+    default Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Whether the last load finished and the rows match the current search
+     * and filters. False after {@link #onHide()} cut a load short or a load
+     * failed, so the module is refreshed when shown again.
+     */
+    default boolean isLoaded() {
+        return true;
+    }
+
+    /**
+     * Catch up with {@code events}, published while the module was hidden,
+     * in publication order. The default reloads everything.
+     */
+    default void applyChanges(List<DomainEvent> events) {
+        refresh();
+    }
 }
@@ -2,6 +2,9 @@ package com.barangay.presentation.controllers;
 
 import com.barangay.application.dto.RegisterOfficialInputDto;
 import com.barangay.application.dto.UpdateOfficialInputDto;
+import com.barangay.application.events.DomainEvent;
+import com.barangay.application.events.OfficialChangedEvent;
+import com.barangay.application.services.UseCaseExecutor;
 import com.barangay.domain.entities.BarangayOfficial;
 import com.barangay.domain.entities.OfficialPosition;
 import com.barangay.domain.entities.UserRole;
@@ -9,6 +12,7 @@ import com.barangay.infrastructure.config.DIContainer;
 import com.barangay.presentation.util.DialogUtil;
 import com.barangay.presentation.util.FormDialogUtil;
 import com.barangay.presentation.util.FormFieldIndicator;
+import com.barangay.presentation.util.ListFilter;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -43,6 +47,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -109,9 +114,10 @@ public class OfficialsController implements ModuleController {
     @FXML
     private Button refreshButton;
 
-    private final ObservableList<BarangayOfficial> backingList = FXCollections.observableArrayList();
-
     private DIContainer container;
+    private ListFilter<BarangayOfficial> officialFilter;
+    private UseCaseExecutor.Call<List<BarangayOfficial>> loadCall;
+    private boolean loaded;
     private boolean canManageOfficials;
 
     @Override
@@ -128,7 +134,24 @@ public class OfficialsController implements ModuleController {
     @Override
     public void refresh() {
         loadOfficials();
-        applyFilters();
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Set.of(OfficialChangedEvent.class);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded && !officialFilter.isPending();
+    }
+
+    @Override
+    public void onHide() {
+        if (loadCall != null) {
+            loadCall.cancel();
+        }
+        officialFilter.cancel();
     }
 
     @FXML
@@ -157,13 +180,13 @@ public class OfficialsController implements ModuleController {
         }
         Optional<RegisterOfficialInputDto> result = showRegisterDialog();
         result.ifPresent(input -> {
-            try {
-                container.getRegisterOfficialUseCase().execute(input);
-                DialogUtil.showInfo("Register Official", "Official registered successfully.");
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Register Official", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Register official",
+                    () -> container.getRegisterOfficialUseCase().execute(input),
+                    () -> {
+                        DialogUtil.showInfo("Register Official", "Official registered successfully.");
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Register Official", ex.getMessage()));
         });
     }
 
@@ -179,13 +202,13 @@ public class OfficialsController implements ModuleController {
         }
         Optional<UpdateOfficialInputDto> result = showUpdateDialog(selected);
         result.ifPresent(input -> {
-            try {
-                container.getUpdateOfficialUseCase().execute(input);
-                DialogUtil.showInfo("Update Official", "Official updated successfully.");
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Update Official", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Update official",
+                    () -> container.getUpdateOfficialUseCase().execute(input),
+                    () -> {
+                        DialogUtil.showInfo("Update Official", "Official updated successfully.");
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Update Official", ex.getMessage()));
         });
     }
 
@@ -207,13 +230,13 @@ public class OfficialsController implements ModuleController {
                 "Mark the term of " + selected.getOfficialName() + " as finished?")) {
             return;
         }
-        try {
-            container.getEndTermUseCase().execute(selected.getOfficialId());
-            DialogUtil.showInfo("End Term", "Official term updated.");
-            refresh();
-        } catch (Exception ex) {
-            DialogUtil.showError("End Term", ex.getMessage());
-        }
+        container.getUseCaseExecutor().execute("End official term",
+                () -> container.getEndTermUseCase().execute(selected.getOfficialId()),
+                () -> {
+                    DialogUtil.showInfo("End Term", "Official term updated.");
+                    refresh();
+                },
+                ex -> DialogUtil.showError("End Term", ex.getMessage()));
     }
 
     @FXML
@@ -263,14 +286,15 @@ public class OfficialsController implements ModuleController {
         if (chosen == null) {
             return;
         }
-        try {
-            container.getUpdateOfficialPhotoUseCase().execute(selected.getOfficialId(), chosen.getAbsolutePath());
-            selected.setPhotoPath(chosen.getAbsolutePath());
-            DialogUtil.showInfo("Update Photo", "Photo updated successfully.");
-            updateSelectionDependentActions(selected);
-        } catch (Exception ex) {
-            DialogUtil.showError("Update Photo", ex.getMessage());
-        }
+        container.getUseCaseExecutor().execute("Update official photo",
+                () -> container.getUpdateOfficialPhotoUseCase()
+                        .execute(selected.getOfficialId(), chosen.getAbsolutePath()),
+                () -> {
+                    selected.setPhotoPath(chosen.getAbsolutePath());
+                    DialogUtil.showInfo("Update Photo", "Photo updated successfully.");
+                    updateSelectionDependentActions(selected);
+                },
+                ex -> DialogUtil.showError("Update Photo", ex.getMessage()));
     }
 
     private void configureTable() {
@@ -283,7 +307,14 @@ public class OfficialsController implements ModuleController {
         termEndColumn.setCellValueFactory(cell -> new SimpleObjectProperty<>(cell.getValue().getTermEnd()));
         currentColumn.setCellValueFactory(cell -> new SimpleBooleanProperty(cell.getValue().isCurrent()));
 
-        officialsTable.setItems(FXCollections.observableArrayList());
+        officialFilter = new ListFilter<>(container.getUseCaseExecutor(),
+                official -> ListFilter.fields(official.getOfficialName(), official.getResidentId().getValue()),
+                (shown, total) -> {
+                    officialCountLabel.setText(String.format("Showing %d of %d officials", shown, total));
+                    officialsTable.getSelectionModel().clearSelection();
+                    updateSelectionDependentActions(null);
+                });
+        officialFilter.bindTo(officialsTable);
         officialsTable.getSelectionModel().selectedItemProperty()
             .addListener((obs, oldVal, newVal) -> updateSelectionDependentActions(newVal));
         updateSelectionDependentActions(null);
@@ -312,43 +343,31 @@ public class OfficialsController implements ModuleController {
 
         positionFilter.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> applyFilters());
         currentFilter.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> applyFilters());
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> applyFilters());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> officialFilter.setQuery(newVal));
     }
 
     private void loadOfficials() {
-        List<BarangayOfficial> officials = container.getListOfficialsUseCase().getAllOfficials()
-                .stream()
-                .sorted(Comparator.comparing(BarangayOfficial::getTermStart).reversed())
-                .collect(Collectors.toList());
-        backingList.setAll(officials);
+        loaded = false;
+        loadCall = container.getUseCaseExecutor().submit(this, "Load officials",
+                () -> container.getListOfficialsUseCase().getAllOfficials()
+                        .stream()
+                        .sorted(Comparator.comparing(BarangayOfficial::getTermStart).reversed())
+                        .collect(Collectors.toList()),
+                officials -> {
+                    loaded = true;
+                    officialFilter.setItems(officials);
+                },
+                ex -> DialogUtil.showError("Officials", "Unable to load officials: " + ex.getMessage()));
     }
 
     private void applyFilters() {
-        String term = searchField.getText() != null ? searchField.getText().trim().toLowerCase() : "";
         OfficialPosition position = positionFilter.getSelectionModel().getSelectedItem();
         String currentValue = currentFilter.getSelectionModel().getSelectedItem();
+        boolean anyTerm = currentValue == null || ALL_LABEL.equals(currentValue);
+        boolean current = "Current".equals(currentValue);
 
-        List<BarangayOfficial> filtered = backingList.stream()
-                .filter(official -> position == null || official.getPosition() == position)
-                .filter(official -> {
-                    if (currentValue == null || ALL_LABEL.equals(currentValue)) {
-                        return true;
-                    }
-                    if ("Current".equals(currentValue)) {
-                        return official.isCurrent();
-                    }
-                    return !official.isCurrent();
-                })
-                .filter(official -> term.isEmpty() ||
-                        (official.getOfficialName() != null && official.getOfficialName().toLowerCase().contains(term))
-                        ||
-                        official.getResidentId().getValue().toLowerCase().contains(term))
-                .collect(Collectors.toList());
-
-        officialsTable.setItems(FXCollections.observableArrayList(filtered));
-        officialCountLabel.setText(String.format("Showing %d of %d officials", filtered.size(), backingList.size()));
-        officialsTable.getSelectionModel().clearSelection();
-        updateSelectionDependentActions(null);
+        officialFilter.setCriteria(official -> (position == null || official.getPosition() == position)
+                && (anyTerm || official.isCurrent() == current));
     }
 
     private BarangayOfficial getSelectedOfficial() {
@@ -1,17 +1,32 @@
 package com.barangay.presentation.controllers;
 
 import com.barangay.application.dto.RegisterResidentInputDto;
+import com.barangay.application.dto.ResidentImportProgressDto;
+import com.barangay.application.events.DomainEvent;
+import com.barangay.application.events.ResidentChangedEvent;
+import com.barangay.application.events.ResidentsImportedEvent;
+import com.barangay.application.services.UseCaseExecutor;
+import com.barangay.application.usecases.ExportResidentsUseCase;
+import com.barangay.application.usecases.SearchResidentsUseCase;
 import com.barangay.domain.entities.BarangayInfo;
 import com.barangay.domain.entities.CivilStatus;
 import com.barangay.domain.entities.EducationLevel;
 import com.barangay.domain.entities.Gender;
 import com.barangay.domain.entities.IncomeBracket;
 import com.barangay.domain.entities.Resident;
+import com.barangay.domain.valueobjects.Page;
+import com.barangay.domain.valueobjects.ResidentFilter;
+import com.barangay.domain.valueobjects.ResidentPageCursor;
+import com.barangay.domain.valueobjects.ResidentSummary;
 import com.barangay.infrastructure.config.DIContainer;
+import com.barangay.presentation.util.Debouncer;
 import com.barangay.presentation.util.DialogUtil;
+import com.barangay.presentation.util.ExportDialog;
 import com.barangay.presentation.util.FormDialogUtil;
 import com.barangay.presentation.util.FormFieldIndicator;
+import com.barangay.presentation.util.PagedList;
 import com.barangay.presentation.util.TableCopyUtil;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -21,25 +36,33 @@ import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.DatePicker;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.control.TextInputDialog;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.GridPane;
+import javafx.stage.FileChooser;
+import javafx.stage.Window;
 import javafx.util.StringConverter;
 
+import java.io.File;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Module controller for resident management operations.
  */
 public class ResidentsController implements ModuleController {
 
+    private static final int PAGE_SIZE = 100;
+    private static final int PREFETCH_PAGES = 1;
+    private static final int MAX_CACHED_PAGES = 8;
+
     private static final String EMPLOYMENT_OTHER = "Others";
     private static final List<String> EMPLOYMENT_OPTIONS = List.of(
             "Employed (full-time)",
@@ -52,25 +75,25 @@ public class ResidentsController implements ModuleController {
             EMPLOYMENT_OTHER);
 
     @FXML
-    private TableView<Resident> residentsTable;
+    private TableView<ResidentSummary> residentsTable;
 
     @FXML
-    private TableColumn<Resident, String> residentIdColumn;
+    private TableColumn<ResidentSummary, String> residentIdColumn;
 
     @FXML
-    private TableColumn<Resident, String> fullNameColumn;
+    private TableColumn<ResidentSummary, String> fullNameColumn;
 
     @FXML
-    private TableColumn<Resident, Gender> genderColumn;
+    private TableColumn<ResidentSummary, Gender> genderColumn;
 
     @FXML
-    private TableColumn<Resident, LocalDate> birthDateColumn;
+    private TableColumn<ResidentSummary, LocalDate> birthDateColumn;
 
     @FXML
-    private TableColumn<Resident, String> contactColumn;
+    private TableColumn<ResidentSummary, String> contactColumn;
 
     @FXML
-    private TableColumn<Resident, Boolean> activeColumn;
+    private TableColumn<ResidentSummary, Boolean> activeColumn;
 
     @FXML
     private TextField searchField;
@@ -93,9 +116,24 @@ public class ResidentsController implements ModuleController {
     @FXML
     private Button reactivateButton;
 
-    private final ObservableList<Resident> backingList = FXCollections.observableArrayList();
+    @FXML
+    private Button importButton;
+
+    @FXML
+    private Label importStatusLabel;
+
+    @FXML
+    private Button exportButton;
+
+    @FXML
+    private ProgressBar exportProgressBar;
 
     private DIContainer container;
+    private PagedList<ResidentSummary, ResidentPageCursor> residentPages;
+    private UseCaseExecutor.Call<ResidentCounts> loadCall;
+    // False from a filter change until the matching rows are shown
+    private boolean loaded;
+    private final Debouncer searchDebouncer = new Debouncer(Debouncer.TYPING_DELAY, this::applyFilters);
 
     @Override
     public void init(DIContainer container, MainLayoutController mainLayoutController) {
@@ -106,12 +144,25 @@ public class ResidentsController implements ModuleController {
 
     @Override
     public void refresh() {
-        backingList.setAll(container.getResidentRepository().findAll());
         applyFilters();
-        if (residentsTable != null) {
-            residentsTable.getSelectionModel().clearSelection();
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Set.of(ResidentChangedEvent.class, ResidentsImportedEvent.class);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Override
+    public void onHide() {
+        searchDebouncer.cancel();
+        if (loadCall != null) {
+            loadCall.cancel();
         }
-        updateSelectionDependentActions(null);
     }
 
     @FXML
@@ -123,38 +174,140 @@ public class ResidentsController implements ModuleController {
     private void handleRegisterResident() {
         Optional<RegisterResidentInputDto> result = showResidentDialog(null);
         result.ifPresent(input -> {
-            try {
-                String residentId = container.getRegisterResidentUseCase().execute(input);
-                DialogUtil.showInfo("Register Resident", "Resident registered with ID: " + residentId);
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Register Resident", ex.getMessage());
-            }
+            container.getUseCaseExecutor().submit("Register resident",
+                    () -> container.getRegisterResidentUseCase().execute(input),
+                    residentId -> {
+                        DialogUtil.showInfo("Register Resident", "Resident registered with ID: " + residentId);
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Register Resident", ex.getMessage()));
         });
     }
 
+    @FXML
+    private void handleImportResidents() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Import Residents");
+        chooser.getExtensionFilters().setAll(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+        Window owner = residentsTable.getScene() != null ? residentsTable.getScene().getWindow() : null;
+        File file = chooser.showOpenDialog(owner);
+        if (file == null) {
+            return;
+        }
+        importButton.setDisable(true);
+        importStatusLabel.setText("Importing...");
+        container.getUseCaseExecutor().submit("Import residents",
+                () -> container.getImportResidentsUseCase().execute(file.toPath(),
+                        progress -> Platform.runLater(() -> showImportProgress(progress)),
+                        () -> false),
+                result -> {
+                    importButton.setDisable(false);
+                    showImportProgress(result);
+                    showImportSummary(result);
+                    refresh();
+                },
+                ex -> {
+                    importButton.setDisable(false);
+                    importStatusLabel.setText("");
+                    DialogUtil.showError("Import Residents", ex.getMessage()
+                            + "\n\nImporting the same file again resumes after the last saved batch.");
+                    refresh();
+                });
+    }
+
+    private void showImportProgress(ResidentImportProgressDto progress) {
+        importStatusLabel.setText(String.format("%,d rows, %,d imported (%,.0f rows/s)",
+                progress.getRowsProcessed(), progress.getImported(), progress.getRowsPerSecond()));
+    }
+
+    private void showImportSummary(ResidentImportProgressDto result) {
+        StringBuilder message = new StringBuilder();
+        if (result.getResumedFromRow() > 0) {
+            message.append(String.format("Resumed after row %,d.%n", result.getResumedFromRow()));
+        }
+        message.append(String.format("Imported: %,d%nSkipped duplicates: %,d%nRejected: %,d",
+                result.getImported(), result.getDuplicates(), result.getRejected()));
+        if (!result.getErrors().isEmpty()) {
+            message.append("\n\n").append(String.join("\n", result.getErrors()));
+        }
+        DialogUtil.showInfo("Import Residents", message.toString());
+    }
+
+    @FXML
+    private void handleExportResidents() {
+        Window owner = residentsTable.getScene() != null ? residentsTable.getScene().getWindow() : null;
+        Optional<ExportDialog.Selection<Resident>> selection = ExportDialog.show(owner, "Export Residents",
+                ExportResidentsUseCase.COLUMNS, "residents");
+        if (selection.isEmpty()) {
+            return;
+        }
+        ExportDialog.Selection<Resident> export = selection.get();
+        ResidentFilter filter = currentFilter();
+        exportButton.setDisable(true);
+        exportProgressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        setNodeVisible(exportProgressBar, true);
+        container.getUseCaseExecutor().submit("Export residents",
+                () -> container.getExportResidentsUseCase().execute(filter, export.getColumns(),
+                        export.getTarget(), export.getFormat(),
+                        (written, total) -> Platform.runLater(() -> exportProgressBar.setProgress(
+                                total == 0 ? 1 : (double) written / total))),
+                count -> {
+                    finishExport();
+                    DialogUtil.showInfo("Export Residents",
+                            String.format("Exported %,d resident(s) to %s", count, export.getTarget()));
+                },
+                ex -> {
+                    finishExport();
+                    DialogUtil.showError("Export Residents", ex.getMessage());
+                });
+    }
+
+    private void finishExport() {
+        exportButton.setDisable(false);
+        setNodeVisible(exportProgressBar, false);
+    }
+
+    private void setNodeVisible(javafx.scene.Node node, boolean visible) {
+        node.setVisible(visible);
+        node.setManaged(visible);
+    }
+
     @FXML
     private void handleUpdateResident() {
-        Resident selected = residentsTable.getSelectionModel().getSelectedItem();
+        ResidentSummary selected = residentsTable.getSelectionModel().getSelectedItem();
         if (selected == null) {
             DialogUtil.showWarning("Update Resident", "Please select a resident first.");
             return;
         }
-        Optional<RegisterResidentInputDto> result = showResidentDialog(selected);
+        // The list holds summaries; the form needs every field of the record
+        container.getUseCaseExecutor().submit("Load resident",
+                () -> container.getSearchResidentsUseCase().findById(selected.getId()),
+                this::showUpdateDialog,
+                ex -> DialogUtil.showError("Update Resident", ex.getMessage()));
+    }
+
+    private void showUpdateDialog(Optional<Resident> loaded) {
+        if (loaded.isEmpty()) {
+            DialogUtil.showWarning("Update Resident", "The resident no longer exists.");
+            refresh();
+            return;
+        }
+        Resident resident = loaded.get();
+        Optional<RegisterResidentInputDto> result = showResidentDialog(resident);
         result.ifPresent(input -> {
-            try {
-                container.getUpdateResidentUseCase().execute(selected.getId().getValue(), input);
-                DialogUtil.showInfo("Update Resident", "Resident record updated successfully.");
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Update Resident", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Update resident",
+                    () -> container.getUpdateResidentUseCase().execute(resident.getId().getValue(), input),
+                    () -> {
+                        DialogUtil.showInfo("Update Resident", "Resident record updated successfully.");
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Update Resident", ex.getMessage()));
         });
     }
 
     @FXML
     private void handleDeactivateResident() {
-        Resident selected = residentsTable.getSelectionModel().getSelectedItem();
+        ResidentSummary selected = residentsTable.getSelectionModel().getSelectedItem();
         if (selected == null) {
             DialogUtil.showWarning("Deactivate Resident", "Please select a resident first.");
             return;
@@ -168,18 +321,16 @@ public class ResidentsController implements ModuleController {
         dialog.setHeaderText("Provide reason for deactivation");
         Optional<String> reasonOpt = dialog.showAndWait();
         reasonOpt.ifPresent(reason -> {
-            try {
-                container.getDeactivateResidentUseCase().execute(selected.getId().getValue(), reason);
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Deactivate Resident", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Deactivate resident",
+                    () -> container.getDeactivateResidentUseCase().execute(selected.getId().getValue(), reason),
+                    this::refresh,
+                    ex -> DialogUtil.showError("Deactivate Resident", ex.getMessage()));
         });
     }
 
     @FXML
     private void handleReactivateResident() {
-        Resident selected = residentsTable.getSelectionModel().getSelectedItem();
+        ResidentSummary selected = residentsTable.getSelectionModel().getSelectedItem();
         if (selected == null) {
             DialogUtil.showWarning("Reactivate Resident", "Please select a resident first.");
             return;
@@ -188,12 +339,10 @@ public class ResidentsController implements ModuleController {
             DialogUtil.showWarning("Reactivate Resident", "Resident is already active.");
             return;
         }
-        try {
-            container.getReactivateResidentUseCase().execute(selected.getId().getValue());
-            refresh();
-        } catch (Exception ex) {
-            DialogUtil.showError("Reactivate Resident", ex.getMessage());
-        }
+        container.getUseCaseExecutor().execute("Reactivate resident",
+                () -> container.getReactivateResidentUseCase().execute(selected.getId().getValue()),
+                this::refresh,
+                ex -> DialogUtil.showError("Reactivate Resident", ex.getMessage()));
     }
 
     private void configureTable() {
@@ -204,6 +353,8 @@ public class ResidentsController implements ModuleController {
         contactColumn.setCellValueFactory(new PropertyValueFactory<>("contact"));
         activeColumn.setCellValueFactory(new PropertyValueFactory<>("active"));
         residentsTable.setItems(FXCollections.observableArrayList());
+        // Rows arrive in name order page by page; client-side sorting would need every row
+        residentsTable.getColumns().forEach(column -> column.setSortable(false));
         residentsTable.getSelectionModel().selectedItemProperty()
             .addListener((obs, oldVal, newVal) -> updateSelectionDependentActions(newVal));
         updateSelectionDependentActions(null);
@@ -235,32 +386,66 @@ public class ResidentsController implements ModuleController {
         statusFilter.getSelectionModel().selectFirst();
         statusFilter.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> applyFilters());
 
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> applyFilters());
+        // Matching runs in the database, so wait for a pause instead of counting per keystroke
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> {
+            loaded = false;
+            searchDebouncer.trigger();
+        });
     }
 
+    /**
+     * Count the matching residents, then bind a paged list of that size so
+     * the table fetches only the rows it shows.
+     */
     private void applyFilters() {
-        String term = searchField.getText() != null ? searchField.getText().trim().toLowerCase() : "";
+        searchDebouncer.cancel();
+        loaded = false;
+        ResidentFilter filter = currentFilter();
+        SearchResidentsUseCase useCase = container.getSearchResidentsUseCase();
+        loadCall = container.getUseCaseExecutor().submit(this, "Count residents",
+                () -> new ResidentCounts(useCase.count(filter), useCase.count(ResidentFilter.all())),
+                counts -> showResidents(filter, counts),
+                ex -> DialogUtil.showError("Residents", "Unable to load residents: " + ex.getMessage()));
+    }
+
+    private ResidentFilter currentFilter() {
         Gender gender = genderFilter.getSelectionModel().getSelectedItem();
         String statusValue = statusFilter.getSelectionModel().getSelectedItem();
+        Boolean active = "Active".equals(statusValue) ? Boolean.TRUE
+                : "Inactive".equals(statusValue) ? Boolean.FALSE : null;
+        return new ResidentFilter(gender, active, searchField.getText());
+    }
+
+    private void showResidents(ResidentFilter filter, ResidentCounts counts) {
+        loaded = true;
+        if (residentPages != null) {
+            residentPages.dispose();
+        }
+        SearchResidentsUseCase useCase = container.getSearchResidentsUseCase();
+        residentPages = new PagedList<>(new PagedList.PageSource<>() {
+            @Override
+            public Page<ResidentSummary, ResidentPageCursor> fetch(ResidentPageCursor after, int limit) {
+                return useCase.getPage(filter, after, limit);
+            }
+
+            @Override
+            public ResidentPageCursor cursorBefore(int position) {
+                return useCase.getCursorBefore(filter, position);
+            }
+        }, container.getUseCaseExecutor(), counts.matching, PAGE_SIZE, PREFETCH_PAGES, MAX_CACHED_PAGES);
+        residentPages.setOnLoadFailed(this::handlePageLoadFailure);
 
-        List<Resident> filtered = backingList.stream()
-                .filter(resident -> gender == null || resident.getGender() == gender)
-                .filter(resident -> {
-                    if ("Active".equals(statusValue)) {
-                        return resident.isActive();
-                    }
-                    if ("Inactive".equals(statusValue)) {
-                        return !resident.isActive();
-                    }
-                    return true;
-                })
-                .filter(resident -> term.isEmpty() || resident.getFullName().toLowerCase().contains(term)
-                        || (resident.getContact() != null && resident.getContact().toLowerCase().contains(term))
-                        || resident.getId().getValue().toLowerCase().contains(term))
-                .collect(Collectors.toList());
-
-        residentsTable.setItems(FXCollections.observableArrayList(filtered));
-        residentCountLabel.setText(String.format("Showing %d of %d residents", filtered.size(), backingList.size()));
+        residentsTable.setItems(residentPages);
+        residentsTable.getSelectionModel().clearSelection();
+        updateSelectionDependentActions(null);
+        residentCountLabel.setText(String.format("Showing %d of %d residents", counts.matching, counts.total));
+    }
+
+    private void handlePageLoadFailure(Throwable ex) {
+        if (DialogUtil.showConfirmation("Residents",
+                "Some residents could not be loaded: " + ex.getMessage() + "\n\nReload the list?")) {
+            applyFilters();
+        }
     }
 
     private Optional<RegisterResidentInputDto> showResidentDialog(Resident existing) {
@@ -465,7 +650,7 @@ public class ResidentsController implements ModuleController {
         field.setFocusTraversable(false);
     }
 
-    private void updateSelectionDependentActions(Resident selected) {
+    private void updateSelectionDependentActions(ResidentSummary selected) {
         boolean hasSelection = selected != null;
         if (updateButton != null) {
             updateButton.setDisable(!hasSelection);
@@ -479,4 +664,14 @@ public class ResidentsController implements ModuleController {
             reactivateButton.setDisable(disable);
         }
     }
+
+    private static final class ResidentCounts {
+        private final int matching;
+        private final int total;
+
+        private ResidentCounts(int matching, int total) {
+            this.matching = matching;
+            this.total = total;
+        }
+    }
 }
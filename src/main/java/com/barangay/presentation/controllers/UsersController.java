@@ -1,8 +1,11 @@
 package com.barangay.presentation.controllers;
 
 import com.barangay.application.dto.CreateUserInputDto;
+import com.barangay.application.events.DomainEvent;
+import com.barangay.application.events.UserChangedEvent;
 import com.barangay.application.services.PasswordValidator;
 import com.barangay.application.services.SessionManager;
+import com.barangay.application.services.UseCaseExecutor;
 import com.barangay.application.usecases.ListUsersUseCase;
 import com.barangay.domain.entities.User;
 import com.barangay.domain.entities.UserRole;
@@ -10,6 +13,7 @@ import com.barangay.infrastructure.config.DIContainer;
 import com.barangay.presentation.util.DialogUtil;
 import com.barangay.presentation.util.FormDialogUtil;
 import com.barangay.presentation.util.FormFieldIndicator;
+import com.barangay.presentation.util.ListFilter;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -29,6 +33,7 @@ import javafx.util.StringConverter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -72,9 +77,10 @@ public class UsersController implements ModuleController {
     @FXML
     private Button resetPasswordButton;
 
-    private final ObservableList<User> backingList = FXCollections.observableArrayList();
-
     private DIContainer container;
+    private ListFilter<User> userFilter;
+    private UseCaseExecutor.Call<List<User>> loadCall;
+    private boolean loaded;
 
     @Override
     public void init(DIContainer container, MainLayoutController mainLayoutController) {
@@ -88,6 +94,24 @@ public class UsersController implements ModuleController {
         loadUsers();
     }
 
+    @Override
+    public Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Set.of(UserChangedEvent.class);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded && !userFilter.isPending();
+    }
+
+    @Override
+    public void onHide() {
+        if (loadCall != null) {
+            loadCall.cancel();
+        }
+        userFilter.cancel();
+    }
+
     @FXML
     private void handleRefreshUsers() {
         refresh();
@@ -158,13 +182,14 @@ public class UsersController implements ModuleController {
 
         Optional<CreateUserInputDto> result = dialog.showAndWait();
         result.ifPresent(input -> {
-            try {
-                container.getCreateUserUseCase().execute(input);
-                DialogUtil.showInfo("Create User", "User account created successfully.");
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Create User", ex.getMessage());
-            }
+            // Hashing the password is deliberately slow; keep it off the FX thread
+            container.getUseCaseExecutor().execute("Create user",
+                    () -> container.getCreateUserUseCase().execute(input),
+                    () -> {
+                        DialogUtil.showInfo("Create User", "User account created successfully.");
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Create User", ex.getMessage()));
         });
     }
 
@@ -183,12 +208,10 @@ public class UsersController implements ModuleController {
                 "Deactivate user " + selected.getUsername() + "?")) {
             return;
         }
-        try {
-            container.getDeactivateUserUseCase().execute(selected.getId().getValue());
-            refresh();
-        } catch (Exception ex) {
-            DialogUtil.showError("Deactivate User", ex.getMessage());
-        }
+        container.getUseCaseExecutor().execute("Deactivate user",
+                () -> container.getDeactivateUserUseCase().execute(selected.getId().getValue()),
+                this::refresh,
+                ex -> DialogUtil.showError("Deactivate User", ex.getMessage()));
     }
 
     @FXML
@@ -202,12 +225,10 @@ public class UsersController implements ModuleController {
             DialogUtil.showWarning("Reactivate User", "User is already active.");
             return;
         }
-        try {
-            container.getReactivateUserUseCase().execute(selected.getId().getValue());
-            refresh();
-        } catch (Exception ex) {
-            DialogUtil.showError("Reactivate User", ex.getMessage());
-        }
+        container.getUseCaseExecutor().execute("Reactivate user",
+                () -> container.getReactivateUserUseCase().execute(selected.getId().getValue()),
+                this::refresh,
+                ex -> DialogUtil.showError("Reactivate User", ex.getMessage()));
     }
 
     @FXML
@@ -247,12 +268,10 @@ public class UsersController implements ModuleController {
 
         Optional<String> result = dialog.showAndWait();
         result.ifPresent(newPassword -> {
-            try {
-                container.getResetPasswordUseCase().execute(selected.getId().getValue(), newPassword);
-                DialogUtil.showInfo("Reset Password", "Password updated successfully.");
-            } catch (Exception ex) {
-                DialogUtil.showError("Reset Password", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Reset password",
+                    () -> container.getResetPasswordUseCase().execute(selected.getId().getValue(), newPassword),
+                    () -> DialogUtil.showInfo("Reset Password", "Password updated successfully."),
+                    ex -> DialogUtil.showError("Reset Password", ex.getMessage()));
         });
     }
 
@@ -303,14 +322,14 @@ public class UsersController implements ModuleController {
 
         Optional<UserRole> result = dialog.showAndWait();
         result.ifPresent(newRole -> {
-            try {
-                container.getChangeUserRoleUseCase().execute(selected.getId().getValue(), newRole);
-                DialogUtil.showInfo("Change Role",
-                        String.format("Updated %s to %s", selected.getUsername(), newRole.name()));
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Change Role", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Change user role",
+                    () -> container.getChangeUserRoleUseCase().execute(selected.getId().getValue(), newRole),
+                    () -> {
+                        DialogUtil.showInfo("Change Role",
+                                String.format("Updated %s to %s", selected.getUsername(), newRole.name()));
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Change Role", ex.getMessage()));
         });
     }
 
@@ -318,14 +337,16 @@ public class UsersController implements ModuleController {
         usernameColumn.setCellValueFactory(new PropertyValueFactory<>("username"));
         roleColumn.setCellValueFactory(new PropertyValueFactory<>("role"));
         activeColumn.setCellValueFactory(new PropertyValueFactory<>("active"));
-        usersTable.setItems(backingList);
+        userFilter = new ListFilter<>(container.getUseCaseExecutor(), User::getUsername,
+                (shown, total) -> userCountLabel.setText(String.format("Showing %d of %d users", shown, total)));
+        userFilter.bindTo(usersTable);
         usersTable.getSelectionModel().selectedItemProperty()
                 .addListener((obs, oldVal, newVal) -> updateSelectionDependentActions(newVal));
         updateSelectionDependentActions(null);
     }
 
     private void configureFilters() {
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> applyFilters());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> userFilter.setQuery(newVal));
         ObservableList<UserRole> roles = FXCollections.observableArrayList();
         roles.add(null);
         roles.addAll(Arrays.asList(UserRole.values()));
@@ -347,25 +368,23 @@ public class UsersController implements ModuleController {
 
     private void loadUsers() {
         ListUsersUseCase listUsersUseCase = container.getListUsersUseCase();
-        backingList.setAll(listUsersUseCase.execute());
-        applyFilters();
-        if (usersTable != null) {
-            usersTable.getSelectionModel().clearSelection();
-        }
-        updateSelectionDependentActions(null);
+        loaded = false;
+        loadCall = container.getUseCaseExecutor().submit(this, "Load users",
+                listUsersUseCase::execute,
+                users -> {
+                    loaded = true;
+                    userFilter.setItems(users);
+                    if (usersTable != null) {
+                        usersTable.getSelectionModel().clearSelection();
+                    }
+                    updateSelectionDependentActions(null);
+                },
+                ex -> DialogUtil.showError("Users", "Unable to load users: " + ex.getMessage()));
     }
 
     private void applyFilters() {
-        String term = searchField.getText() != null ? searchField.getText().toLowerCase().trim() : "";
         UserRole role = roleFilter.getSelectionModel().getSelectedItem();
-
-        List<User> filtered = backingList.stream()
-                .filter(user -> role == null || user.getRole() == role)
-                .filter(user -> term.isEmpty() || user.getUsername().toLowerCase().contains(term))
-                .collect(Collectors.toList());
-
-        usersTable.setItems(FXCollections.observableArrayList(filtered));
-        userCountLabel.setText(String.format("Showing %d of %d users", filtered.size(), backingList.size()));
+        userFilter.setCriteria(role == null ? null : user -> user.getRole() == role);
     }
 
     private void updateSelectionDependentActions(User selected) {
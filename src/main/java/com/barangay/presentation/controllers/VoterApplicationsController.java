@@ -1,7 +1,11 @@
 package com.barangay.presentation.controllers;
 
-import com.barangay.application.dto.AppointmentSlipOutputDto;
 import com.barangay.application.dto.SubmitVoterApplicationInputDto;
+import com.barangay.application.events.DomainEvent;
+import com.barangay.application.events.VoterApplicationChangedEvent;
+import com.barangay.application.services.AtomicFileWriter;
+import com.barangay.application.services.UseCaseExecutor;
+import com.barangay.application.usecases.GenerateAppointmentSlipUseCase;
 import com.barangay.domain.entities.ApplicationStatus;
 import com.barangay.domain.entities.ApplicationType;
 import com.barangay.domain.entities.Resident;
@@ -13,6 +17,7 @@ import com.barangay.infrastructure.config.DIContainer;
 import com.barangay.presentation.util.DialogUtil;
 import com.barangay.presentation.util.FormDialogUtil;
 import com.barangay.presentation.util.FormFieldIndicator;
+import com.barangay.presentation.util.ListFilter;
 import com.barangay.presentation.util.TableCopyUtil;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -44,7 +49,6 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -52,8 +56,12 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -63,6 +71,8 @@ public class VoterApplicationsController implements ModuleController {
 
     private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy HH:mm");
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy");
+    private static final Comparator<VoterApplication> NEWEST_FIRST =
+            Comparator.comparing(VoterApplication::getSubmittedAt).reversed();
 
     @FXML
     private TableView<VoterApplication> applicationsTable;
@@ -142,11 +152,13 @@ public class VoterApplicationsController implements ModuleController {
     @FXML
     private Button residentDownloadSlipButton;
 
-    private final ObservableList<VoterApplication> backingList = FXCollections.observableArrayList();
 
     private DIContainer container;
+    private UseCaseExecutor.Call<List<VoterApplication>> loadCall;
+    private ListFilter<VoterApplication> applicationFilter;
     private boolean residentMode;
     private ResidentId currentResidentId;
+    private boolean loaded;
 
     @Override
     public void init(DIContainer container, MainLayoutController mainLayoutController) {
@@ -162,8 +174,58 @@ public class VoterApplicationsController implements ModuleController {
     @Override
     public void refresh() {
         loadApplications();
-        applyFilters();
-        updateActionButtons();
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> getRefreshEvents() {
+        return Set.of(VoterApplicationChangedEvent.class);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded && !applicationFilter.isPending();
+    }
+
+    /**
+     * Reload only the applications named by the events and merge them into
+     * the current rows; lookups by ID are usually served from the cache.
+     */
+    @Override
+    public void applyChanges(List<DomainEvent> events) {
+        Set<String> changedIds = new LinkedHashSet<>();
+        for (DomainEvent event : events) {
+            if (event instanceof VoterApplicationChangedEvent) {
+                VoterApplicationChangedEvent changed = (VoterApplicationChangedEvent) event;
+                if (!residentMode || changed.getResidentId().equals(currentResidentId)) {
+                    changedIds.add(changed.getApplicationId());
+                }
+            }
+        }
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        List<VoterApplication> current = applicationFilter.getItems();
+        loaded = false;
+        loadCall = container.getUseCaseExecutor().submit(this, "Update voter applications",
+                () -> {
+                    Map<String, VoterApplication> byId = new LinkedHashMap<>();
+                    current.forEach(application -> byId.put(application.getId(), application));
+                    for (String id : changedIds) {
+                        container.getVoterApplicationRepository().findById(id)
+                                .ifPresent(application -> byId.put(id, application));
+                    }
+                    return byId.values().stream().sorted(NEWEST_FIRST).collect(Collectors.toList());
+                },
+                this::showApplications,
+                ex -> DialogUtil.showError("Voter Applications", "Unable to load applications: " + ex.getMessage()));
+    }
+
+    @Override
+    public void onHide() {
+        if (loadCall != null) {
+            loadCall.cancel();
+        }
+        applicationFilter.cancel();
     }
 
     @FXML
@@ -200,13 +262,13 @@ public class VoterApplicationsController implements ModuleController {
         if (selected == null) {
             return;
         }
-        try {
-            container.getReviewVoterApplicationUseCase().setUnderReview(selected.getId());
-            DialogUtil.showInfo("Voter Application", "Application marked as under review.");
-            refresh();
-        } catch (Exception ex) {
-            DialogUtil.showError("Voter Application", ex.getMessage());
-        }
+        container.getUseCaseExecutor().execute("Set application under review",
+                () -> container.getReviewVoterApplicationUseCase().setUnderReview(selected.getId()),
+                () -> {
+                    DialogUtil.showInfo("Voter Application", "Application marked as under review.");
+                    refresh();
+                },
+                ex -> DialogUtil.showError("Voter Application", ex.getMessage()));
     }
 
     @FXML
@@ -227,13 +289,13 @@ public class VoterApplicationsController implements ModuleController {
 
         Optional<String> notes = promptForNotes("Approval Notes");
         notes.ifPresent(value -> {
-            try {
-                container.getReviewVoterApplicationUseCase().approve(selected.getId(), value);
-                DialogUtil.showInfo("Approve Application", "Application approved successfully.");
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Approve Application", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Approve voter application",
+                    () -> container.getReviewVoterApplicationUseCase().approve(selected.getId(), value),
+                    () -> {
+                        DialogUtil.showInfo("Approve Application", "Application approved successfully.");
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Approve Application", ex.getMessage()));
         });
     }
 
@@ -254,13 +316,13 @@ public class VoterApplicationsController implements ModuleController {
 
         Optional<String> notes = promptForNotes("Rejection Notes");
         notes.ifPresent(value -> {
-            try {
-                container.getReviewVoterApplicationUseCase().reject(selected.getId(), value);
-                DialogUtil.showInfo("Reject Application", "Application rejected.");
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Reject Application", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Reject voter application",
+                    () -> container.getReviewVoterApplicationUseCase().reject(selected.getId(), value),
+                    () -> {
+                        DialogUtil.showInfo("Reject Application", "Application rejected.");
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Reject Application", ex.getMessage()));
         });
     }
 
@@ -281,13 +343,14 @@ public class VoterApplicationsController implements ModuleController {
 
         Optional<ScheduleInput> scheduleInput = promptForSchedule();
         scheduleInput.ifPresent(input -> {
-            try {
-                container.getScheduleVerificationUseCase().execute(selected.getId(), input.dateTime(), input.venue());
-                DialogUtil.showInfo("Schedule Verification", "Verification schedule saved.");
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Schedule Verification", ex.getMessage());
-            }
+            container.getUseCaseExecutor().execute("Schedule verification",
+                    () -> container.getScheduleVerificationUseCase()
+                            .execute(selected.getId(), input.dateTime(), input.venue()),
+                    () -> {
+                        DialogUtil.showInfo("Schedule Verification", "Verification schedule saved.");
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Schedule Verification", ex.getMessage()));
         });
     }
 
@@ -305,13 +368,13 @@ public class VoterApplicationsController implements ModuleController {
             DialogUtil.showWarning("Mark Verified", "Only scheduled applications can be marked as verified.");
             return;
         }
-        try {
-            container.getVerifyVoterApplicationUseCase().execute(selected.getId());
-            DialogUtil.showInfo("Mark Verified", "Application marked as verified.");
-            refresh();
-        } catch (Exception ex) {
-            DialogUtil.showError("Mark Verified", ex.getMessage());
-        }
+        container.getUseCaseExecutor().execute("Verify voter application",
+                () -> container.getVerifyVoterApplicationUseCase().execute(selected.getId()),
+                () -> {
+                    DialogUtil.showInfo("Mark Verified", "Application marked as verified.");
+                    refresh();
+                },
+                ex -> DialogUtil.showError("Mark Verified", ex.getMessage()));
     }
 
     @FXML
@@ -325,13 +388,13 @@ public class VoterApplicationsController implements ModuleController {
         }
         Optional<SubmitVoterApplicationInputDto> result = showSubmitDialog();
         result.ifPresent(input -> {
-            try {
-                String applicationId = container.getSubmitVoterApplicationUseCase().execute(input);
-                DialogUtil.showInfo("Submit Application", "Application submitted. Reference: " + applicationId);
-                refresh();
-            } catch (Exception ex) {
-                DialogUtil.showError("Submit Application", ex.getMessage());
-            }
+            container.getUseCaseExecutor().submit("Submit voter application",
+                    () -> container.getSubmitVoterApplicationUseCase().execute(input),
+                    applicationId -> {
+                        DialogUtil.showInfo("Submit Application", "Application submitted. Reference: " + applicationId);
+                        refresh();
+                    },
+                    ex -> DialogUtil.showError("Submit Application", ex.getMessage()));
         });
     }
 
@@ -347,19 +410,27 @@ public class VoterApplicationsController implements ModuleController {
             return;
         }
 
-        try {
-            AppointmentSlipOutputDto slip = container.getGenerateAppointmentSlipUseCase()
-                    .execute(selected.getId());
-            File destination = chooseSlipDestination(slip.getSuggestedFileName());
-            if (destination == null) {
-                return;
-            }
-            Files.write(destination.toPath(), slip.getFileContent(),
-                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-            DialogUtil.showInfo("Appointment Slip", "Slip saved to:\n" + destination.getAbsolutePath());
-        } catch (Exception ex) {
-            DialogUtil.showError("Appointment Slip", ex.getMessage());
+        GenerateAppointmentSlipUseCase useCase = container.getGenerateAppointmentSlipUseCase();
+        container.getUseCaseExecutor().submit("Check appointment slip",
+                () -> useCase.checkAvailable(selected.getId()),
+                fileName -> saveSlip(selected.getId(), fileName),
+                ex -> DialogUtil.showError("Appointment Slip", ex.getMessage()));
+    }
+
+    private void saveSlip(String applicationId, String suggestedFileName) {
+        File destination = chooseSlipDestination(suggestedFileName);
+        if (destination == null) {
+            return;
         }
+        Path target = destination.toPath().toAbsolutePath();
+        GenerateAppointmentSlipUseCase useCase = container.getGenerateAppointmentSlipUseCase();
+        container.getUseCaseExecutor().submit("Generate appointment slip",
+                () -> {
+                    AtomicFileWriter.write(target, out -> useCase.writeTo(applicationId, out));
+                    return target;
+                },
+                saved -> DialogUtil.showInfo("Appointment Slip", "Slip saved to:\n" + saved),
+                ex -> DialogUtil.showError("Appointment Slip", ex.getMessage()));
     }
 
     @FXML
@@ -373,10 +444,13 @@ public class VoterApplicationsController implements ModuleController {
             return;
         }
 
-        Resident resident = container.getResidentRepository()
-                .findById(selected.getResidentId())
-                .orElse(null);
+        container.getUseCaseExecutor().submit("Load applicant",
+                () -> container.getResidentRepository().findById(selected.getResidentId()),
+                resident -> showApplicationDetails(selected, resident.orElse(null)),
+                ex -> DialogUtil.showError("Voter Application", ex.getMessage()));
+    }
 
+    private void showApplicationDetails(VoterApplication selected, Resident resident) {
         Dialog<ButtonType> dialog = new Dialog<>();
         FormDialogUtil.applyAppStyles(dialog);
         dialog.setTitle("Voter Application Details");
@@ -445,7 +519,15 @@ public class VoterApplicationsController implements ModuleController {
         updatedColumn.setCellValueFactory(cell -> new SimpleStringProperty(
                 formatDateTime(cell.getValue().getUpdatedAt())));
 
-        applicationsTable.setItems(FXCollections.observableArrayList());
+        applicationFilter = new ListFilter<>(container.getUseCaseExecutor(),
+                app -> ListFilter.fields(app.getId(), app.getResidentId().getValue()),
+                (shown, total) -> {
+                    applicationCountLabel.setText(residentMode
+                            ? String.format("Showing %d application(s)", total)
+                            : String.format("Showing %d of %d applications", shown, total));
+                    updateActionButtons();
+                });
+        applicationFilter.bindTo(applicationsTable);
         TableCopyUtil.attachCopyContextMenu(applicationsTable,
                 application -> application != null ? application.getId() : null,
                 "Copy Application ID");
@@ -491,53 +573,39 @@ public class VoterApplicationsController implements ModuleController {
 
         statusFilter.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> applyFilters());
         typeFilter.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> applyFilters());
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> applyFilters());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> applicationFilter.setQuery(newVal));
     }
 
     private void loadApplications() {
-        List<VoterApplication> all;
-        if (residentMode) {
-            if (currentResidentId == null) {
-                backingList.clear();
-                return;
-            }
-            all = container.getVoterApplicationRepository()
-                    .findByResidentId(currentResidentId)
-                    .stream()
-                    .sorted(Comparator.comparing(VoterApplication::getSubmittedAt).reversed())
-                    .collect(Collectors.toList());
-        } else {
-            all = container.getVoterApplicationRepository()
-                    .findAll()
-                    .stream()
-                    .sorted(Comparator.comparing(VoterApplication::getSubmittedAt).reversed())
-                    .collect(Collectors.toList());
+        if (residentMode && currentResidentId == null) {
+            showApplications(List.of());
+            return;
         }
-        backingList.setAll(all);
+        loaded = false;
+        loadCall = container.getUseCaseExecutor().submit(this, "Load voter applications",
+                () -> (residentMode
+                        ? container.getVoterApplicationRepository().findByResidentId(currentResidentId)
+                        : container.getVoterApplicationRepository().findAll())
+                        .stream()
+                        .sorted(NEWEST_FIRST)
+                        .collect(Collectors.toList()),
+                this::showApplications,
+                ex -> DialogUtil.showError("Voter Applications", "Unable to load applications: " + ex.getMessage()));
+    }
+
+    private void showApplications(List<VoterApplication> applications) {
+        loaded = true;
+        applicationFilter.setItems(applications);
     }
 
     private void applyFilters() {
         if (residentMode) {
-            applicationsTable.setItems(FXCollections.observableArrayList(backingList));
-            applicationCountLabel.setText(String.format("Showing %d application(s)", backingList.size()));
             return;
         }
-        String term = searchField.getText() != null ? searchField.getText().trim().toLowerCase() : "";
         ApplicationStatus status = statusFilter.getSelectionModel().getSelectedItem();
         ApplicationType type = typeFilter.getSelectionModel().getSelectedItem();
-
-        List<VoterApplication> filtered = backingList.stream()
-                .filter(app -> status == null || app.getStatus() == status)
-                .filter(app -> type == null || app.getApplicationType() == type)
-                .filter(app -> term.isEmpty() ||
-                        app.getId().toLowerCase().contains(term) ||
-                        app.getResidentId().getValue().toLowerCase().contains(term))
-                .collect(Collectors.toList());
-
-        applicationsTable.setItems(FXCollections.observableArrayList(filtered));
-        applicationCountLabel
-                .setText(String.format("Showing %d of %d applications", filtered.size(), backingList.size()));
-        updateActionButtons();
+        applicationFilter.setCriteria(app -> (status == null || app.getStatus() == status)
+                && (type == null || app.getApplicationType() == type));
     }
 
     private void updateActionButtons() {
@@ -0,0 +1,98 @@
+package com.barangay.presentation.util;
+
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded seal and dashboard images configured in the barangay information,
+ * kept by path so switching screens or carousel slides does not reload them.
+ * {@link #clear()} is registered as a barangay information invalidation
+ * listener.
+ */
+public final class BarangayImages {
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private BarangayImages() {
+    }
+
+    /**
+     * The image at {@code path}: an http(s) URL, a {@code classpath:} or
+     * absolute resource path, or a file. {@code null} when it cannot be
+     * found or fails to decode.
+     */
+    public static Image get(String path) {
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        String trimmed = path.trim();
+        Image image = IMAGES.get(trimmed);
+        if (image != null && image.isError()) {
+            // Retry failed background loads, e.g. a URL that was offline
+            IMAGES.remove(trimmed, image);
+            image = null;
+        }
+        if (image == null) {
+            image = load(trimmed);
+            if (image == null) {
+                return null;
+            }
+            IMAGES.put(trimmed, image);
+        }
+        return image.isError() ? null : image;
+    }
+
+    /**
+     * Forget all images; safe to call from any thread.
+     */
+    public static void clear() {
+        IMAGES.clear();
+    }
+
+    private static Image load(String path) {
+        try {
+            if (path.startsWith("http://") || path.startsWith("https://")) {
+                return new Image(path, true);
+            }
+
+            if (path.startsWith("classpath:")) {
+                String resourcePath = path.substring("classpath:".length());
+                InputStream stream = BarangayImages.class.getResourceAsStream(resourcePath.startsWith("/")
+                        ? resourcePath : "/" + resourcePath);
+                if (stream != null) {
+                    try (InputStream in = stream) {
+                        return new Image(in);
+                    }
+                }
+            }
+
+            if (path.startsWith("/")) {
+                URL resource = BarangayImages.class.getResource(path);
+                if (resource != null) {
+                    return new Image(resource.toExternalForm(), true);
+                }
+            }
+
+            Path filePath = Path.of(path);
+            if (Files.exists(filePath)) {
+                return new Image(filePath.toUri().toString(), true);
+            }
+
+            // Fallback: attempt to treat as URL even if not prefixed
+            try {
+                URL url = new URL(path);
+                return new Image(url.toExternalForm(), true);
+            } catch (MalformedURLException ignored) {
+                return null;
+            }
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
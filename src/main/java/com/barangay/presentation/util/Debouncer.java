@@ -0,0 +1,34 @@
+package com.barangay.presentation.util;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+/**
+ * Runs an action once input has been quiet for a delay, e.g. after the user
+ * stops typing. Each {@link #trigger()} restarts the delay. Must be used on
+ * the FX thread; the action runs there too.
+ */
+public class Debouncer {
+    /**
+     * Short enough to feel immediate, long enough to skip most keystrokes.
+     */
+    public static final Duration TYPING_DELAY = Duration.millis(200);
+
+    private final PauseTransition pause;
+
+    public Debouncer(Duration delay, Runnable action) {
+        this.pause = new PauseTransition(delay);
+        this.pause.setOnFinished(event -> action.run());
+    }
+
+    public void trigger() {
+        pause.playFromStart();
+    }
+
+    /**
+     * Drop a pending run, e.g. when the action is about to run directly.
+     */
+    public void cancel() {
+        pause.stop();
+    }
+}
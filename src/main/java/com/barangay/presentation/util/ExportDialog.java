@@ -0,0 +1,119 @@
+package com.barangay.presentation.util;
+
+import com.barangay.application.export.ExportColumn;
+import com.barangay.application.export.ExportFormat;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Window;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Asks which columns to export and where to save the file; the format
+ * follows the chosen file type.
+ */
+public final class ExportDialog {
+
+    private ExportDialog() {
+    }
+
+    /**
+     * The columns, target and format chosen by the user.
+     */
+    public static final class Selection<T> {
+        private final List<ExportColumn<T>> columns;
+        private final Path target;
+        private final ExportFormat format;
+
+        Selection(List<ExportColumn<T>> columns, Path target, ExportFormat format) {
+            this.columns = columns;
+            this.target = target;
+            this.format = format;
+        }
+
+        public List<ExportColumn<T>> getColumns() {
+            return columns;
+        }
+
+        public Path getTarget() {
+            return target;
+        }
+
+        public ExportFormat getFormat() {
+            return format;
+        }
+    }
+
+    /**
+     * Empty when the user cancels either step.
+     */
+    public static <T> Optional<Selection<T>> show(Window owner, String title, List<ExportColumn<T>> columns,
+            String fileName) {
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle(title);
+        dialog.setHeaderText("Columns to export");
+        dialog.initOwner(owner);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        FormDialogUtil.applyAppStyles(dialog);
+
+        List<CheckBox> checkBoxes = new ArrayList<>();
+        VBox box = new VBox(6);
+        box.setPadding(new Insets(8));
+        for (ExportColumn<T> column : columns) {
+            CheckBox checkBox = new CheckBox(column.getHeader());
+            checkBox.setSelected(true);
+            checkBoxes.add(checkBox);
+            box.getChildren().add(checkBox);
+        }
+        ScrollPane scroll = new ScrollPane(box);
+        scroll.setFitToWidth(true);
+        scroll.setPrefViewportHeight(320);
+        dialog.getDialogPane().setContent(scroll);
+        FormDialogUtil.keepOpenOnValidationFailure(dialog,
+                () -> checkBoxes.stream().anyMatch(CheckBox::isSelected)
+                        ? Optional.empty()
+                        : Optional.of("Select at least one column."),
+                title);
+
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isEmpty() || result.get() != ButtonType.OK) {
+            return Optional.empty();
+        }
+        List<ExportColumn<T>> selected = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            if (checkBoxes.get(i).isSelected()) {
+                selected.add(columns.get(i));
+            }
+        }
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        FileChooser.ExtensionFilter csv = new FileChooser.ExtensionFilter("CSV Files", "*.csv");
+        FileChooser.ExtensionFilter xlsx = new FileChooser.ExtensionFilter("Excel Workbooks", "*.xlsx");
+        chooser.getExtensionFilters().setAll(csv, xlsx);
+        chooser.setInitialFileName(fileName + ".csv");
+        File file = chooser.showSaveDialog(owner);
+        if (file == null) {
+            return Optional.empty();
+        }
+
+        String name = file.getName();
+        ExportFormat format = ExportFormat.fromFileName(name);
+        if (!name.contains(".") && chooser.getSelectedExtensionFilter() == xlsx) {
+            format = ExportFormat.XLSX;
+        }
+        if (!name.toLowerCase().endsWith("." + format.getExtension())) {
+            file = new File(file.getParentFile(), name + "." + format.getExtension());
+        }
+        return Optional.of(new Selection<>(selected, file.toPath(), format));
+    }
+}
@@ -0,0 +1,311 @@
+package com.barangay.presentation.util;
+
+import com.barangay.application.services.UseCaseExecutor;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.TableView;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Search-as-you-type filtering for an in-memory table. Each row's search
+ * text is normalized once when the rows are set (lower case, accents
+ * removed); a query matches a row when every word of it occurs in that text.
+ * <p>
+ * Typing is debounced, matching runs on the use case executor, and the
+ * result is applied by swapping the predicate of a {@link FilteredList}
+ * rather than copying rows. When a query only extends the previous one,
+ * e.g. "dela" to "dela c", only the previous matches are rescanned.
+ * All methods must be called on the FX thread.
+ *
+ * @param <T> row type
+ */
+public class ListFilter<T> {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String[] NO_TERMS = new String[0];
+
+    private final UseCaseExecutor executor;
+    private final Function<T, String> searchText;
+    private final BiConsumer<Integer, Integer> onApplied;
+    private final ObservableList<T> source = FXCollections.observableArrayList();
+    private final FilteredList<T> filtered = new FilteredList<>(source);
+    private final SortedList<T> sorted = new SortedList<>(filtered);
+    private final Debouncer debouncer = new Debouncer(Debouncer.TYPING_DELAY, this::run);
+
+    private List<T> rows = Collections.emptyList();
+    private List<T> shownRows;
+    private SearchIndex<T> index;
+    private Result<T> applied;
+    private String query = "";
+    private Predicate<T> criteria;
+    private UseCaseExecutor.Call<Result<T>> call;
+    // Bumped by every change; the filter is pending until a run that saw
+    // the latest change is applied
+    private long version;
+    private long appliedVersion;
+
+    /**
+     * @param searchText text a row is searched by; see {@link #fields(String...)}
+     * @param onApplied  receives the shown and total row counts after each filter
+     */
+    public ListFilter(UseCaseExecutor executor, Function<T, String> searchText,
+            BiConsumer<Integer, Integer> onApplied) {
+        this.executor = executor;
+        this.searchText = searchText;
+        this.onApplied = onApplied;
+    }
+
+    /**
+     * Search text made of several fields. Fields are kept apart so a word
+     * cannot match across two of them; {@code null} fields are skipped.
+     */
+    public static String fields(String... values) {
+        StringBuilder text = new StringBuilder();
+        for (String value : values) {
+            if (value != null) {
+                text.append(value).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Show the filtered rows in {@code table}, keeping column sorting.
+     */
+    public void bindTo(TableView<T> table) {
+        sorted.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sorted);
+    }
+
+    /**
+     * Replace the rows. Search text is indexed in the background and the
+     * current query and criteria are applied before the rows are shown.
+     */
+    public void setItems(Collection<? extends T> items) {
+        rows = Collections.unmodifiableList(new ArrayList<>(items));
+        debouncer.cancel();
+        run();
+    }
+
+    /**
+     * Filter by {@code text} once typing pauses.
+     */
+    public void setQuery(String text) {
+        query = text == null ? "" : text;
+        version++;
+        debouncer.trigger();
+    }
+
+    /**
+     * Filter by structured criteria, such as a status choice, right away.
+     * The predicate runs on a worker thread, so it must capture the values
+     * it compares against instead of reading controls. {@code null} accepts
+     * every row.
+     */
+    public void setCriteria(Predicate<T> criteria) {
+        this.criteria = criteria;
+        debouncer.cancel();
+        run();
+    }
+
+    public int getTotalCount() {
+        return rows.size();
+    }
+
+    /**
+     * The rows last set, unfiltered and read-only.
+     */
+    public List<T> getItems() {
+        return rows;
+    }
+
+    /**
+     * True while the rows, query or criteria last set are not yet applied,
+     * including after {@link #cancel()} dropped them.
+     */
+    public boolean isPending() {
+        return appliedVersion != version;
+    }
+
+    /**
+     * Drop a pending or running filter, e.g. when the screen is hidden.
+     */
+    public void cancel() {
+        debouncer.cancel();
+        if (call != null) {
+            call.cancel();
+        }
+    }
+
+    private void run() {
+        List<T> target = rows;
+        SearchIndex<T> knownIndex = index != null && index.rows == target ? index : null;
+        Result<T> previous = applied;
+        String[] terms = terms(query);
+        Predicate<T> currentCriteria = criteria;
+
+        long runVersion = ++version;
+        call = executor.submit(this, "Filter list",
+                () -> {
+                    SearchIndex<T> searchIndex = knownIndex != null ? knownIndex
+                            : SearchIndex.build(target, searchText);
+                    return match(searchIndex, previous, terms, currentCriteria);
+                },
+                result -> apply(result, runVersion),
+                ex -> DialogUtil.showError("Filter", "Unable to filter the list: " + ex.getMessage()));
+    }
+
+    private void apply(Result<T> result, long runVersion) {
+        appliedVersion = runVersion;
+        index = result.index;
+        applied = result;
+        // Swap the predicate before the rows so new rows are tested only once
+        filtered.setPredicate(result.matches == null ? null : result.matches::contains);
+        if (shownRows != result.index.rows) {
+            shownRows = result.index.rows;
+            source.setAll(shownRows);
+        }
+        if (onApplied != null) {
+            onApplied.accept(filtered.size(), result.index.rows.size());
+        }
+    }
+
+    private static <T> Result<T> match(SearchIndex<T> index, Result<T> previous, String[] terms,
+            Predicate<T> criteria) {
+        int[] candidates = previous != null && previous.index == index && refines(terms, previous.terms)
+                ? previous.textMatches : null;
+        int candidateCount = candidates != null ? candidates.length : index.keys.length;
+
+        int[] textMatches = new int[candidateCount];
+        int textMatchCount = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            int row = candidates != null ? candidates[c] : c;
+            if (containsAll(index.keys[row], terms)) {
+                textMatches[textMatchCount++] = row;
+            }
+        }
+        textMatches = Arrays.copyOf(textMatches, textMatchCount);
+
+        if (criteria == null && textMatchCount == index.keys.length) {
+            return new Result<>(index, terms, textMatches, null);
+        }
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int row : textMatches) {
+            T item = index.rows.get(row);
+            if (criteria == null || criteria.test(item)) {
+                matches.add(item);
+            }
+        }
+        return new Result<>(index, terms, textMatches, matches);
+    }
+
+    /**
+     * True when every row matching {@code terms} also matches {@code previous}:
+     * each previous word is contained in one of the new words.
+     */
+    private static boolean refines(String[] terms, String[] previous) {
+        for (String old : previous) {
+            boolean covered = false;
+            for (String term : terms) {
+                if (term.contains(old)) {
+                    covered = true;
+                    break;
+                }
+            }
+            if (!covered) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAll(String key, String[] terms) {
+        for (String term : terms) {
+            if (!key.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] terms(String query) {
+        String normalized = normalize(query).trim();
+        return normalized.isEmpty() ? NO_TERMS : WHITESPACE.split(normalized);
+    }
+
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        if (isAscii(text)) {
+            // Most rows; decomposing them would find no accents to strip
+            return text.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rows with their normalized search text, built once per {@link #setItems}.
+     */
+    private static final class SearchIndex<T> {
+        private final List<T> rows;
+        private final String[] keys;
+
+        private SearchIndex(List<T> rows, String[] keys) {
+            this.rows = rows;
+            this.keys = keys;
+        }
+
+        static <T> SearchIndex<T> build(List<T> rows, Function<T, String> searchText) {
+            String[] keys = new String[rows.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = normalize(searchText.apply(rows.get(i)));
+            }
+            return new SearchIndex<>(rows, keys);
+        }
+    }
+
+    /**
+     * Outcome of one filter run. {@code textMatches} are the rows matching
+     * the words alone, kept for narrowing; {@code matches} also passed the
+     * criteria and is {@code null} when every row did.
+     */
+    private static final class Result<T> {
+        private final SearchIndex<T> index;
+        private final String[] terms;
+        private final int[] textMatches;
+        private final Set<T> matches;
+
+        private Result(SearchIndex<T> index, String[] terms, int[] textMatches, Set<T> matches) {
+            this.index = index;
+            this.terms = terms;
+            this.textMatches = textMatches;
+            this.matches = matches;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.barangay.presentation.util;
+
+import com.barangay.application.services.UseCaseExecutor;
+import com.barangay.domain.valueobjects.Page;
+import javafx.animation.PauseTransition;
+import javafx.collections.ObservableListBase;
+import javafx.util.Duration;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Read-only list of a known size whose rows are fetched in keyset pages as a
+ * virtualized control asks for them. A row that is not loaded yet reads as
+ * {@code null}; the page holding it, plus a prefetch margin on each side, is
+ * fetched in the background and announced as replaced once it arrives. Pages
+ * far from the current viewport are dropped and fetched again if revisited.
+ * <p>
+ * A page normally starts from the cursor left by the page before it. When
+ * that cursor is unknown, e.g. after dragging the scrollbar, the source is
+ * asked for a cursor at the page's position first. A page that fails to
+ * load is retried with a doubling delay; once the automatic retries run out
+ * the failure is reported and the page is only tried again when next shown.
+ * All methods must be called on the FX thread.
+ *
+ * @param <T> row type
+ * @param <C> cursor type of the source
+ */
+public class PagedList<T, C> extends ObservableListBase<T> {
+    private static final Logger LOGGER = Logger.getLogger(PagedList.class.getName());
+    private static final long FIRST_RETRY_DELAY_MS = 1_000;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+    private static final int MAX_AUTOMATIC_RETRIES = 4;
+
+    /**
+     * Where pages come from. Called on a background thread.
+     */
+    public interface PageSource<T, C> {
+        Page<T, C> fetch(C after, int limit);
+
+        C cursorBefore(int position);
+    }
+
+    private final PageSource<T, C> source;
+    private final UseCaseExecutor executor;
+    private final int size;
+    private final int pageSize;
+    private final int prefetchPages;
+    private final int maxCachedPages;
+
+    private final Map<Integer, List<T>> pages = new HashMap<>();
+    private final Map<Integer, C> startCursors = new HashMap<>();
+    private final Set<Integer> loading = new HashSet<>();
+    private final Map<Integer, Integer> failedAttempts = new HashMap<>();
+    private final Map<Integer, Long> retryNotBefore = new HashMap<>();
+    private Consumer<Throwable> onLoadFailed = ex -> {
+    };
+    private int lastRequestedPage;
+    private boolean failureReported;
+    private boolean disposed;
+
+    public PagedList(PageSource<T, C> source, UseCaseExecutor executor, int size, int pageSize, int prefetchPages,
+            int maxCachedPages) {
+        if (size < 0 || pageSize < 1 || prefetchPages < 0 || maxCachedPages < 2 * prefetchPages + 1) {
+            throw new IllegalArgumentException("Invalid paged list sizing");
+        }
+        this.source = source;
+        this.executor = executor;
+        this.size = size;
+        this.pageSize = pageSize;
+        this.prefetchPages = prefetchPages;
+        this.maxCachedPages = maxCachedPages;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        int pageIndex = index / pageSize;
+        if (pageIndex != lastRequestedPage || !pages.containsKey(pageIndex)) {
+            lastRequestedPage = pageIndex;
+            requestAround(pageIndex);
+        }
+        List<T> page = pages.get(pageIndex);
+        int offsetInPage = index - pageIndex * pageSize;
+        return page != null && offsetInPage < page.size() ? page.get(offsetInPage) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of pages currently held in memory.
+     */
+    public int getCachedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Called when a page has failed to load and its automatic retries are
+     * used up, e.g. to tell the user and offer a reload. Not called again
+     * until some page loads.
+     */
+    public void setOnLoadFailed(Consumer<Throwable> onLoadFailed) {
+        this.onLoadFailed = Objects.requireNonNull(onLoadFailed);
+    }
+
+    /**
+     * Ignore fetches still in flight and release loaded pages and cursors.
+     * Call when the list is replaced.
+     */
+    public void dispose() {
+        disposed = true;
+        pages.clear();
+        startCursors.clear();
+        loading.clear();
+        failedAttempts.clear();
+        retryNotBefore.clear();
+    }
+
+    /**
+     * The page itself first, then the pages after it, which can usually
+     * follow its cursor, then the pages before it.
+     */
+    private void requestAround(int pageIndex) {
+        for (int offset = 0; offset <= prefetchPages; offset++) {
+            request(pageIndex + offset);
+        }
+        for (int offset = 1; offset <= prefetchPages; offset++) {
+            request(pageIndex - offset);
+        }
+    }
+
+    private void request(int pageIndex) {
+        if (disposed || pageIndex < 0 || pageIndex * pageSize >= size || pages.containsKey(pageIndex)
+                || loading.contains(pageIndex) || isBackingOff(pageIndex)) {
+            return;
+        }
+        boolean cursorKnown = pageIndex == 0 || startCursors.containsKey(pageIndex);
+        if (!cursorKnown && loading.contains(pageIndex - 1)) {
+            // The page before will hand over its cursor shortly; cheaper than jumping
+            return;
+        }
+        loading.add(pageIndex);
+        C knownCursor = startCursors.get(pageIndex);
+        int position = pageIndex * pageSize;
+
+        executor.submit("Load list page",
+                () -> source.fetch(cursorKnown ? knownCursor : source.cursorBefore(position), pageSize),
+                page -> onPageLoaded(pageIndex, page),
+                ex -> onPageFailed(pageIndex, ex));
+    }
+
+    private boolean isBackingOff(int pageIndex) {
+        Long notBefore = retryNotBefore.get(pageIndex);
+        return notBefore != null && System.currentTimeMillis() < notBefore;
+    }
+
+    private void onPageFailed(int pageIndex, Throwable ex) {
+        if (disposed) {
+            return;
+        }
+        loading.remove(pageIndex);
+        int attempts = failedAttempts.merge(pageIndex, 1, Integer::sum);
+        long delay = Math.min(MAX_RETRY_DELAY_MS, FIRST_RETRY_DELAY_MS << Math.min(attempts - 1, 16));
+        retryNotBefore.put(pageIndex, System.currentTimeMillis() + delay);
+        evictDistantPages();
+        LOGGER.log(Level.WARNING, "Unable to load page " + pageIndex + " (attempt " + attempts + ")", ex);
+
+        if (attempts > MAX_AUTOMATIC_RETRIES) {
+            if (!failureReported) {
+                failureReported = true;
+                onLoadFailed.accept(ex);
+            }
+            return;
+        }
+        PauseTransition retry = new PauseTransition(Duration.millis(delay));
+        retry.setOnFinished(event -> {
+            if (!disposed) {
+                requestAround(lastRequestedPage);
+            }
+        });
+        retry.play();
+    }
+
+    private void onPageLoaded(int pageIndex, Page<T, C> page) {
+        if (disposed) {
+            return;
+        }
+        loading.remove(pageIndex);
+        failedAttempts.remove(pageIndex);
+        retryNotBefore.remove(pageIndex);
+        failureReported = false;
+        pages.put(pageIndex, page.getItems());
+        if (page.getNextCursor() != null) {
+            startCursors.put(pageIndex + 1, page.getNextCursor());
+        }
+        evictDistantPages();
+        requestAround(lastRequestedPage);
+
+        int from = pageIndex * pageSize;
+        int to = Math.min(size, from + pageSize);
+        beginChange();
+        for (int index = from; index < to; index++) {
+            // Placeholders were null; the table re-renders the replaced rows
+            nextSet(index, null);
+        }
+        endChange();
+    }
+
+    /**
+     * Drop the pages farthest from the viewport beyond the cache limit, and
+     * the cursors and retry state of pages further away than the cache
+     * could reach, so long scrolls do not accumulate them.
+     */
+    private void evictDistantPages() {
+        startCursors.keySet().removeIf(this::isOutOfReach);
+        failedAttempts.keySet().removeIf(this::isOutOfReach);
+        retryNotBefore.keySet().removeIf(this::isOutOfReach);
+
+        while (pages.size() > maxCachedPages) {
+            int farthest = lastRequestedPage;
+            for (int pageIndex : pages.keySet()) {
+                if (Math.abs(pageIndex - lastRequestedPage) > Math.abs(farthest - lastRequestedPage)) {
+                    farthest = pageIndex;
+                }
+            }
+            if (farthest == lastRequestedPage) {
+                return;
+            }
+            pages.remove(farthest);
+        }
+    }
+
+    private boolean isOutOfReach(int pageIndex) {
+        return Math.abs(pageIndex - lastRequestedPage) > maxCachedPages;
+    }
+}
@@ -3,6 +3,7 @@ module barangay.management {
     requires javafx.fxml;
     requires javafx.graphics;
     requires transitive java.sql;
+    requires java.logging;
     requires jbcrypt;
     requires org.xerial.sqlitejdbc;
     requires kernel;